@@ -0,0 +1,123 @@
+package com.example.cgroove.controller;
+
+import com.example.cgroove.config.FileProperties;
+import com.example.cgroove.service.UploadFileService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.HttpRequestHandler;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// /uploads 서빙 비교: 기존 ResourceHttpRequestHandler vs UploadFileHandler (작은 파일 전체 / 304 / 큰 파일 Range)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class UploadServingBenchmark {
+    private static final String SMALL = "users/profile.jpg";
+    private static final String LARGE = "posts/photo.jpg";
+
+    private Path baseDir;
+    private ResourceHttpRequestHandler legacyHandler;
+    private UploadFileHandler uploadFileHandler;
+    private String smallEtag;
+
+    @Setup
+    public void setUp() throws Exception {
+        baseDir = Files.createTempDirectory("upload-serving-bench");
+        Random random = new Random(42);
+        byte[] small = new byte[48 * 1024];
+        byte[] large = new byte[2 * 1024 * 1024];
+        random.nextBytes(small);
+        random.nextBytes(large);
+        Files.createDirectories(baseDir.resolve("users"));
+        Files.createDirectories(baseDir.resolve("posts"));
+        Files.write(baseDir.resolve(SMALL), small);
+        Files.write(baseDir.resolve(LARGE), large);
+
+        // 변경 전 WebConfig 의 addResourceHandlers("/uploads/**") 와 같은 구성
+        legacyHandler = new ResourceHttpRequestHandler();
+        legacyHandler.setLocations(List.of(new FileSystemResource(baseDir.toString() + "/")));
+        legacyHandler.setCacheSeconds(60 * 60 * 24 * 365);
+        legacyHandler.setServletContext(new MockServletContext());
+        legacyHandler.afterPropertiesSet();
+
+        FileProperties fileProperties = new FileProperties();
+        fileProperties.setBaseDir(baseDir.toString());
+        uploadFileHandler = new UploadFileHandler(new UploadFileService(fileProperties, new SimpleMeterRegistry(),
+                DataSize.ofMegabytes(32), DataSize.ofKilobytes(256)));
+        smallEtag = serve(uploadFileHandler, request(SMALL)).getHeader(HttpHeaders.ETAG);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (var paths = Files.walk(baseDir)) {
+            paths.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public int legacySmallFull() throws Exception {
+        return serve(legacyHandler, request(SMALL)).getContentLength();
+    }
+
+    @Benchmark
+    public int cachedSmallFull() throws Exception {
+        return serve(uploadFileHandler, request(SMALL)).getContentLength();
+    }
+
+    @Benchmark
+    public int legacyNotModified() throws Exception {
+        MockHttpServletRequest request = request(SMALL);
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, Files.getLastModifiedTime(baseDir.resolve(SMALL)).toMillis());
+        return serve(legacyHandler, request).getStatus();
+    }
+
+    @Benchmark
+    public int etagNotModified() throws Exception {
+        MockHttpServletRequest request = request(SMALL);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, smallEtag);
+        return serve(uploadFileHandler, request).getStatus();
+    }
+
+    @Benchmark
+    public int legacyLargeRange() throws Exception {
+        return serve(legacyHandler, rangeRequest()).getContentLength();
+    }
+
+    @Benchmark
+    public int transferLargeRange() throws Exception {
+        return serve(uploadFileHandler, rangeRequest()).getContentLength();
+    }
+
+    private MockHttpServletRequest rangeRequest() {
+        MockHttpServletRequest request = request(LARGE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=1048576-1310719");
+        return request;
+    }
+
+    private MockHttpServletRequest request(String relativePath) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/uploads/" + relativePath);
+        request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, relativePath);
+        return request;
+    }
+
+    private MockHttpServletResponse serve(HttpRequestHandler handler,
+                                          MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        handler.handleRequest(request, response);
+        return response;
+    }
+}
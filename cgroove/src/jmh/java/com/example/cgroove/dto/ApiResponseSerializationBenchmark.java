@@ -0,0 +1,61 @@
+package com.example.cgroove.dto;
+
+import com.example.cgroove.dto.image.ImageVariants;
+import com.example.cgroove.dto.post.PostResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 목록 응답 직렬화: ApiResponse<List<PostResponse>> -> JSON 바이트 (컨트롤러 응답 쓰기 단계)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"20", "50", "1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter typedWriter;
+    private ApiResponse<List<PostResponse>> response;
+
+    @Setup
+    public void setUp() {
+        // Spring Boot 기본 설정과 동일하게 날짜는 ISO 문자열로
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        typedWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructParametricType(ApiResponse.class,
+                objectMapper.getTypeFactory().constructCollectionType(List.class, PostResponse.class)));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<PostResponse> posts = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            List<String> images = List.of("/uploads/blobs/" + id + "a.jpg", "/uploads/blobs/" + id + "b.jpg");
+            posts.add(new PostResponse(id, 1L, "Bench", null, "GLOBAL", null, null,
+                    "Title " + id, "Content " + id, List.of("hiphop", "battle"), images, ImageVariants.ofAll(images),
+                    100L, 42L, 10L, id % 3 == 0, 3, now, now));
+        }
+        response = new ApiResponse<>("게시물 전체 조회 성공", posts);
+    }
+
+    // MappingJackson2HttpMessageConverter 와 같이 런타임 타입으로 직렬화
+    @Benchmark
+    public byte[] writeValueAsBytes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    // 제네릭 타입을 미리 고정한 ObjectWriter (직렬화기 조회 비용 비교)
+    @Benchmark
+    public byte[] typedWriter() throws JsonProcessingException {
+        return typedWriter.writeValueAsBytes(response);
+    }
+}
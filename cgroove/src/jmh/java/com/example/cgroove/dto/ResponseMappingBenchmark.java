@@ -0,0 +1,101 @@
+package com.example.cgroove.dto;
+
+import com.example.cgroove.dto.event.EventResponse;
+import com.example.cgroove.dto.event.EventSummary;
+import com.example.cgroove.dto.post.PostResponse;
+import com.example.cgroove.dto.post.PostSummary;
+import com.example.cgroove.entity.Post;
+import com.example.cgroove.entity.User;
+import com.example.cgroove.enums.EventType;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// 목록 응답 변환: PostService/EventService.convertToResponses 의 매핑 단계 (조회 결과 -> 응답 DTO)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ResponseMappingBenchmark {
+    // JMH 의 Scope 와 이름이 겹쳐 상수로 둠
+    private static final com.example.cgroove.enums.Scope GLOBAL = com.example.cgroove.enums.Scope.GLOBAL;
+
+    // 한 페이지(20), 최대 페이지(50), 대량 변환
+    @Param({"20", "50", "1000"})
+    private int size;
+
+    private List<PostSummary> postSummaries;
+    private List<EventSummary> eventSummaries;
+    private List<Post> posts;
+    private Map<Long, List<String>> tagsById;
+    private Map<Long, List<String>> imagesById;
+    private Set<Long> likedIds;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        User author = User.builder().userId(1L).email("bench@test.com").password("pw").nickname("Bench").build();
+
+        postSummaries = new ArrayList<>(size);
+        eventSummaries = new ArrayList<>(size);
+        posts = new ArrayList<>(size);
+        tagsById = new HashMap<>();
+        imagesById = new HashMap<>();
+        likedIds = new HashSet<>();
+        for (long id = 1; id <= size; id++) {
+            postSummaries.add(new PostSummary(id, 1L, "Bench", null, GLOBAL, null, null,
+                    "Title " + id, "Content " + id, 100L, 10L, 3L, now, now));
+            eventSummaries.add(new EventSummary(id, 1L, "Bench", null, GLOBAL, null, null,
+                    EventType.JAM, "Title " + id, "Content " + id, "Seoul", "Address", "https://example.com",
+                    50L, 10L, now.plusDays(1), now.plusDays(2), 100L, 10L, 3L, now, now));
+            List<String> tags = List.of("hiphop", "battle");
+            List<String> images = List.of("/uploads/blobs/" + id + "a.jpg", "/uploads/blobs/" + id + "b.jpg");
+            posts.add(Post.builder().postId(id).author(author).scope(GLOBAL)
+                    .title("Title " + id).content("Content " + id)
+                    .tags(new ArrayList<>(tags)).images(new ArrayList<>(images)).build());
+            tagsById.put(id, tags);
+            imagesById.put(id, images);
+            if (id % 3 == 0) {
+                likedIds.add(id);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<PostResponse> postResponsesFromSummaries() {
+        return postSummaries.stream()
+                .map(post -> PostResponse.from(post,
+                        tagsById.getOrDefault(post.postId(), List.of()),
+                        imagesById.getOrDefault(post.postId(), List.of()),
+                        likedIds.contains(post.postId()))
+                        .withPendingViews(post.postId() % 2)
+                        .withUniqueViewers(42L))
+                .toList();
+    }
+
+    @Benchmark
+    public List<EventResponse> eventResponsesFromSummaries() {
+        return eventSummaries.stream()
+                .map(event -> EventResponse.from(event,
+                        tagsById.getOrDefault(event.eventId(), List.of()),
+                        imagesById.getOrDefault(event.eventId(), List.of()),
+                        likedIds.contains(event.eventId()))
+                        .withPendingViews(event.eventId() % 2)
+                        .withUniqueViewers(42L))
+                .toList();
+    }
+
+    // 상세 조회 경로 (엔티티 -> 응답, 연관 객체는 이미 로딩된 상태)
+    @Benchmark
+    public List<PostResponse> postResponsesFromEntities() {
+        return posts.stream()
+                .map(post -> PostResponse.from(post, likedIds.contains(post.getPostId())))
+                .toList();
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.cgroove.repository.impl;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPQLSerializer;
+import com.querydsl.jpa.JPQLTemplates;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+// 게시글 목록 공개 범위 조건(accessiblePostCondition) 생성 / JPQL 렌더링 비용 (가입 클럽 수별)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class FeedPredicateBenchmark {
+
+    @Param({"0", "5", "50"})
+    private int clubCount;
+
+    private List<Long> myClubIds;
+
+    @Setup
+    public void setUp() {
+        myClubIds = LongStream.rangeClosed(1, clubCount).boxed().toList();
+    }
+
+    @Benchmark
+    public BooleanExpression build() {
+        return PostRepositoryImpl.accessiblePostCondition(myClubIds);
+    }
+
+    // 요청마다 쿼리 문자열로 바뀌는 단계까지 포함
+    @Benchmark
+    public String buildAndSerialize() {
+        JPQLSerializer serializer = new JPQLSerializer(JPQLTemplates.DEFAULT);
+        serializer.handle(PostRepositoryImpl.accessiblePostCondition(myClubIds));
+        return serializer.toString();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.cgroove.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+// JwtFilter 토큰 처리 비교: 기존(검증 / 유형 / 사용자 ID 각각 파싱) vs 단일 파싱 vs 캐시 적중
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtFilterBenchmark {
+    private static final String SECRET = "benchmarkSecretKeyForJwtFilterMustBeLongEnough123";
+
+    private Key key;
+    private JwtUtil cachedJwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        cachedJwtUtil = new JwtUtil(SECRET, 10_000);
+        uncachedJwtUtil = new JwtUtil(SECRET, 0);
+        token = cachedJwtUtil.generateAccessToken(1L);
+        cachedJwtUtil.verify(token);
+    }
+
+    // 변경 전 JwtFilter: validateToken -> isAccessToken -> getUserId (매번 파서 생성 + 서명 검증)
+    @Benchmark
+    public Long legacyThreeParses() {
+        if (!legacyValidate(token) || !"ACCESS".equals(legacyClaims(token).get("type"))) {
+            return null;
+        }
+        return Long.valueOf(legacyClaims(token).getSubject());
+    }
+
+    @Benchmark
+    public Long singleParse() {
+        return uncachedJwtUtil.verify(token)
+                .filter(VerifiedToken::isAccessToken)
+                .map(VerifiedToken::userId)
+                .orElse(null);
+    }
+
+    @Benchmark
+    public Long cachedVerify() {
+        return cachedJwtUtil.verify(token)
+                .filter(VerifiedToken::isAccessToken)
+                .map(VerifiedToken::userId)
+                .orElse(null);
+    }
+
+    private boolean legacyValidate(String token) {
+        try {
+            legacyClaims(token);
+            return true;
+        } catch (JwtException e) {
+            return false;
+        }
+    }
+
+    private Claims legacyClaims(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.config.FileProperties;
+import com.example.cgroove.entity.ImageHolder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 게시글/행사 수정 시 이미지 목록 갱신(processImageUpdate): 유지 목록 대조 + 삭제 예약 + 새 이미지 추가
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ImageUpdateBenchmark {
+
+    @Param({"10", "50"})
+    private int imageCount;
+
+    private ImageVariantGenerator imageVariantGenerator;
+    private FileStorageService fileStorageService;
+    private List<String> currentImages;
+    private List<String> keepImages;
+    private List<String> newImages;
+
+    @Setup
+    public void setUp() {
+        // 목록 갱신만 측정 (파일 시스템은 건드리지 않음)
+        imageVariantGenerator = new ImageVariantGenerator(new SimpleMeterRegistry(), 1, 16, 0.8f);
+        fileStorageService = new FileStorageService(new FileProperties(), imageVariantGenerator, new ImageBlobRefs(null),
+                new NoOpDeletionOutbox());
+
+        currentImages = new ArrayList<>(imageCount);
+        keepImages = new ArrayList<>();
+        for (int i = 0; i < imageCount; i++) {
+            String image = "/uploads/blobs/" + i + ".jpg";
+            currentImages.add(image);
+            // 절반 유지, 절반 삭제
+            if (i % 2 == 0) {
+                keepImages.add(image);
+            }
+        }
+        newImages = List.of("/uploads/blobs/new-a.jpg", "/uploads/blobs/new-b.jpg");
+    }
+
+    @TearDown
+    public void tearDown() {
+        imageVariantGenerator.shutdown();
+    }
+
+    // 호출마다 원본 목록이 바뀌므로 새 엔티티에 복사해 사용 (복사 비용은 세 경우 동일)
+    @Benchmark
+    public List<String> keepHalfAndAppend() {
+        InMemoryHolder holder = new InMemoryHolder(new ArrayList<>(currentImages));
+        fileStorageService.processImageUpdate(holder, newImages, keepImages);
+        return holder.getImages();
+    }
+
+    @Benchmark
+    public List<String> appendOnly() {
+        InMemoryHolder holder = new InMemoryHolder(new ArrayList<>(currentImages));
+        fileStorageService.processImageUpdate(holder, newImages, null);
+        return holder.getImages();
+    }
+
+    @Benchmark
+    public List<String> replaceAll() {
+        InMemoryHolder holder = new InMemoryHolder(new ArrayList<>(currentImages));
+        fileStorageService.processImageUpdate(holder, newImages, List.of());
+        return holder.getImages();
+    }
+
+    // 삭제 예약 INSERT 는 측정 대상이 아니므로 생략
+    private static class NoOpDeletionOutbox extends FileDeletionOutbox {
+        NoOpDeletionOutbox() {
+            super(null);
+        }
+
+        @Override
+        public void enqueue(String filePath) {
+        }
+    }
+
+    private static class InMemoryHolder implements ImageHolder {
+        private List<String> images;
+
+        InMemoryHolder(List<String> images) {
+            this.images = images;
+        }
+
+        @Override
+        public List<String> getImages() {
+            return images;
+        }
+
+        @Override
+        public void updateImages(List<String> images) {
+            this.images = images;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.config.FileProperties;
+import com.example.cgroove.enums.ImageType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// 게시글 이미지 10장 업로드 벽시계 시간: 기존 컨트롤러 루프(Files.copy 순차) vs saveImages(가상 스레드 + transferFrom)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ImageUploadBenchmark {
+    private static final int IMAGE_COUNT = 10;
+
+    // 20MB 요청 한도 기준으로 장당 최대 2MB
+    @Param({"256", "2048"})
+    private int imageKb;
+
+    private Path baseDir;
+    private Path postDir;
+    private ImageVariantGenerator imageVariantGenerator;
+    private FileStorageService fileStorageService;
+    private List<MultipartFile> images;
+
+    @Setup
+    public void setUp() throws IOException {
+        baseDir = Files.createTempDirectory("upload-bench");
+        postDir = baseDir.resolve(ImageType.POST.getDirectory());
+        Files.createDirectories(postDir);
+
+        FileProperties fileProperties = new FileProperties();
+        fileProperties.setBaseDir(baseDir.toString());
+        // 무작위 바이트라 리사이즈는 디코딩 단계에서 바로 건너뜀
+        imageVariantGenerator = new ImageVariantGenerator(new SimpleMeterRegistry(), 1, 256, 0.8f);
+        fileStorageService = new FileStorageService(fileProperties, imageVariantGenerator, new NoOpBlobRefs(), new FileDeletionOutbox(null));
+
+        images = new ArrayList<>(IMAGE_COUNT);
+        for (int i = 0; i < IMAGE_COUNT; i++) {
+            byte[] content = new byte[imageKb * 1024];
+            ThreadLocalRandom.current().nextBytes(content);
+            images.add(new InMemoryPart("image" + i + ".jpg", content));
+        }
+    }
+
+    // 측정마다 디스크가 차지 않고 blob 중복 제거에 걸리지 않도록 기록한 파일 정리
+    // (호출당 수 ms 이상이라 Invocation 레벨 오버헤드는 무시 가능)
+    @TearDown(Level.Invocation)
+    public void cleanUp() throws IOException {
+        try (Stream<Path> files = Files.walk(baseDir)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        imageVariantGenerator.shutdown();
+        try (Stream<Path> paths = Files.walk(baseDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    // 변경 전 PostController: 요청 스레드에서 한 장씩 Files.copy (해시 계산 없음)
+    @Benchmark
+    public List<String> legacySerialCopy() throws IOException {
+        List<String> paths = new ArrayList<>(IMAGE_COUNT);
+        for (MultipartFile image : images) {
+            String filename = UUID.randomUUID() + "_" + image.getOriginalFilename();
+            Files.copy(image.getInputStream(), postDir.resolve(filename), StandardCopyOption.REPLACE_EXISTING);
+            paths.add("/uploads/posts/" + filename);
+        }
+        return paths;
+    }
+
+    // 가상 스레드 + transferFrom + 스트리밍 SHA-256
+    @Benchmark
+    public List<String> parallelTransfer() {
+        return fileStorageService.saveImages(images, ImageType.POST);
+    }
+
+    // 참조 수 DB 갱신은 측정 대상이 아니므로 생략
+    private static class NoOpBlobRefs extends ImageBlobRefs {
+        NoOpBlobRefs() {
+            super(null);
+        }
+
+        @Override
+        public void acquire(String blobKey, long sizeBytes) {
+        }
+
+        @Override
+        public long release(String blobKey) {
+            return 0;
+        }
+    }
+
+    // jmh 클래스패스에는 spring-test 가 없어 MockMultipartFile 대신 사용
+    private record InMemoryPart(String filename, byte[] content) implements MultipartFile {
+        @Override public String getName() { return "images"; }
+        @Override public String getOriginalFilename() { return filename; }
+        @Override public String getContentType() { return "image/jpeg"; }
+        @Override public boolean isEmpty() { return content.length == 0; }
+        @Override public long getSize() { return content.length; }
+        @Override public byte[] getBytes() { return content; }
+        @Override public InputStream getInputStream() { return new ByteArrayInputStream(content); }
+        @Override public void transferTo(File dest) throws IOException { Files.write(dest.toPath(), content); }
+    }
+}
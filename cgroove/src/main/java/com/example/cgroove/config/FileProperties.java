@@ -17,6 +17,7 @@ public class FileProperties {
     private String clubDir = "clubs";
     private String postDir = "posts";
     private String eventDir = "events";
+    private String blobDir = "blobs";
 
     public String getUploadDir() {
         return Paths.get(baseDir).toAbsolutePath().toString();
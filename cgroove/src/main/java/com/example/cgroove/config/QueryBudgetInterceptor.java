@@ -0,0 +1,57 @@
+package com.example.cgroove.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+// 요청당 SQL 실행 수를 엔드포인트별 분포로 기록하고, 한도를 넘거나 같은 SQL 이 반복되면(N+1) 경고
+@Slf4j
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final int maxQueries;
+    private final int maxRepeats;
+
+    public QueryBudgetInterceptor(MeterRegistry meterRegistry, int maxQueries, int maxRepeats) {
+        this.meterRegistry = meterRegistry;
+        this.maxQueries = maxQueries;
+        this.maxRepeats = maxRepeats;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryCounter.start(request.getMethod() + " " + uriOf(request));
+        return true;
+    }
+
+    // 응답 직렬화(지연 로딩 포함)까지 끝난 뒤 집계
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        QueryCounter.Scope scope = QueryCounter.stop();
+
+        DistributionSummary.builder("http.server.requests.queries")
+                .description("요청당 SQL 실행 수")
+                .tag("method", request.getMethod())
+                .tag("uri", uriOf(request))
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(scope.total());
+
+        Map.Entry<String, Integer> repeated = scope.mostRepeated().orElse(null);
+        if (scope.total() > maxQueries || (repeated != null && repeated.getValue() > maxRepeats)) {
+            log.warn("SQL 실행 수 초과: {} - 총 {}회, 최다 반복 {}회: {}",
+                    scope.name(), scope.total(), repeated.getValue(), repeated.getKey());
+        }
+    }
+
+    private String uriOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.cgroove.config;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+// p6spy 로 감싼 DataSource 의 모든 실행을 집계 (JPA/QueryDSL/JdbcTemplate 공통, 배치는 1회)
+@Component
+public class QueryCountListener extends SimpleJdbcEventListener {
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        QueryCounter.record(statementInformation.getSql());
+    }
+}
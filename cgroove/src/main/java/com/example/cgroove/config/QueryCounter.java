@@ -0,0 +1,102 @@
+package com.example.cgroove.config;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+// 스레드별 SQL 실행 수 집계 (QueryCountListener 가 기록, 범위는 요청 인터셉터/테스트 확장이 열고 닫음)
+public final class QueryCounter {
+
+    private static final ThreadLocal<Deque<Scope>> SCOPES = new ThreadLocal<>();
+    // IN (?, ?, ?) 처럼 개수만 다른 SQL 은 같은 형태로 묶음
+    private static final Pattern IN_LIST = Pattern.compile("\\?(\\s*,\\s*\\?)+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private QueryCounter() {
+    }
+
+    public static void start(String name) {
+        Deque<Scope> scopes = SCOPES.get();
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            SCOPES.set(scopes);
+        }
+        scopes.push(new Scope(name));
+    }
+
+    // 닫힌 범위는 바깥 범위의 completed 에 남김 (테스트에서 요청별로 검사)
+    public static Scope stop() {
+        Deque<Scope> scopes = SCOPES.get();
+        if (scopes == null || scopes.isEmpty()) {
+            throw new IllegalStateException("열린 SQL 집계 범위가 없습니다.");
+        }
+        Scope scope = scopes.pop();
+        if (scopes.isEmpty()) {
+            SCOPES.remove();
+        } else {
+            scopes.peek().completed.add(scope);
+        }
+        return scope;
+    }
+
+    // 열린 범위가 없는 스레드(스케줄러/비동기 작업)는 무시
+    public static void record(String sql) {
+        Deque<Scope> scopes = SCOPES.get();
+        if (scopes == null || sql == null) {
+            return;
+        }
+        String shape = shapeOf(sql);
+        for (Scope scope : scopes) {
+            scope.add(shape);
+        }
+    }
+
+    static String shapeOf(String sql) {
+        String collapsed = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        return IN_LIST.matcher(collapsed).replaceAll("?, ...");
+    }
+
+    public static final class Scope {
+        private final String name;
+        private final Map<String, Integer> countsByShape = new LinkedHashMap<>();
+        private final List<Scope> completed = new ArrayList<>();
+        private int total;
+
+        private Scope(String name) {
+            this.name = name;
+        }
+
+        private void add(String shape) {
+            countsByShape.merge(shape, 1, Integer::sum);
+            total++;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public int total() {
+            return total;
+        }
+
+        public List<Scope> completed() {
+            return Collections.unmodifiableList(completed);
+        }
+
+        public Optional<Map.Entry<String, Integer>> mostRepeated() {
+            return countsByShape.entrySet().stream().max(Map.Entry.comparingByValue());
+        }
+
+        public String summary() {
+            StringBuilder summary = new StringBuilder(name).append(" - ").append(total).append(" queries");
+            countsByShape.forEach((shape, count) -> summary.append("\n  ").append(count).append("x ").append(shape));
+            return summary.toString();
+        }
+    }
+}
@@ -1,26 +1,38 @@
 package com.example.cgroove.config;
 
-import lombok.RequiredArgsConstructor;
-import org.jetbrains.annotations.NotNull;
+import com.example.cgroove.controller.UploadFileHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.*;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.handler.SimpleUrlHandlerMapping;
+
+import java.util.Map;
 
 @Configuration
-@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
-    private final FileProperties fileProperties;
 
-    @Override
-    public void addResourceHandlers(@NotNull ResourceHandlerRegistry registry) {
-        String uploadPath = fileProperties.getUploadDir();
+    private final QueryBudgetInterceptor queryBudgetInterceptor;
+
+    public WebConfig(MeterRegistry meterRegistry,
+                     @Value("${query-budget.max-queries:20}") int maxQueries,
+                     @Value("${query-budget.max-repeats:5}") int maxRepeats) {
+        this.queryBudgetInterceptor = new QueryBudgetInterceptor(meterRegistry, maxQueries, maxRepeats);
+    }
 
-        if (!uploadPath.endsWith("/")) {
-            uploadPath += "/";
-        }
+    // 업로드 파일은 리소스 체인 대신 UploadFileHandler 가 직접 서빙 (ETag/Range/메모리 캐시/sendfile)
+    @Bean
+    public SimpleUrlHandlerMapping uploadHandlerMapping(UploadFileHandler uploadFileHandler) {
+        SimpleUrlHandlerMapping mapping = new SimpleUrlHandlerMapping(Map.of("/uploads/**", uploadFileHandler));
+        mapping.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return mapping;
+    }
 
-        registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:" + uploadPath)
-                .setCachePeriod(60 * 60 * 24 * 365)
-                .resourceChain(true);
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(queryBudgetInterceptor);
     }
-}
\ No newline at end of file
+}
@@ -4,6 +4,7 @@ import com.example.cgroove.dto.ApiResponse;
 import com.example.cgroove.dto.club.ClubCreateRequest;
 import com.example.cgroove.dto.club.ClubResponse;
 import com.example.cgroove.dto.club.ClubUpdateRequest;
+import com.example.cgroove.dto.deletion.DeletionJobResponse;
 import com.example.cgroove.security.UserDetail;
 import com.example.cgroove.service.ClubService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,6 +18,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
 
 @RestController
@@ -77,13 +79,15 @@ public class ClubController {
     }
 
 
-    @Operation(summary = "클럽 삭제", description = "클럽 id를 통해 정보를 삭제합니다.")
+    @Operation(summary = "클럽 삭제", description = "클럽을 삭제하고, 게시글/행사/가입 정보 정리 작업을 등록합니다. 진행 상황은 Location 의 작업 조회로 확인합니다.")
     @DeleteMapping("/{clubId}")
-    public ResponseEntity<Void> deleteClub(
+    public ResponseEntity<ApiResponse<DeletionJobResponse>> deleteClub(
             @AuthenticationPrincipal UserDetail userDetail,
             @PathVariable Long clubId
     ) {
-        clubService.deleteClub(userDetail.getUserId(), clubId);
-        return ResponseEntity.noContent().build();
+        DeletionJobResponse deletionJobResponse = clubService.deleteClub(userDetail.getUserId(), clubId);
+        return ResponseEntity.accepted()
+                .location(URI.create("/deletion-jobs/" + deletionJobResponse.jobId()))
+                .body(new ApiResponse<>("클럽 삭제 요청 성공", deletionJobResponse));
     }
 }
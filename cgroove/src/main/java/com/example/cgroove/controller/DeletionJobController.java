@@ -0,0 +1,33 @@
+package com.example.cgroove.controller;
+
+import com.example.cgroove.dto.ApiResponse;
+import com.example.cgroove.dto.deletion.DeletionJobResponse;
+import com.example.cgroove.security.UserDetail;
+import com.example.cgroove.service.DeletionJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/deletion-jobs")
+@RequiredArgsConstructor
+@Tag(name = "9_DeletionJob", description = "삭제 작업 관련 API")
+public class DeletionJobController {
+    private final DeletionJobService deletionJobService;
+
+    @Operation(summary = "삭제 작업 조회", description = "클럽 삭제 후 연관 데이터 정리 진행 상황을 조회합니다.")
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<DeletionJobResponse>> getJob(
+            @AuthenticationPrincipal UserDetail userDetail,
+            @PathVariable Long jobId
+    ) {
+        DeletionJobResponse deletionJobResponse = deletionJobService.getJob(userDetail.getUserId(), jobId);
+        return ResponseEntity.ok(new ApiResponse<>("삭제 작업 조회 성공", deletionJobResponse));
+    }
+}
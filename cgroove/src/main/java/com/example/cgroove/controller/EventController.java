@@ -1,6 +1,7 @@
 package com.example.cgroove.controller;
 
 import com.example.cgroove.dto.ApiResponse;
+import com.example.cgroove.dto.CursorPage;
 import com.example.cgroove.dto.event.EventCreateRequest;
 import com.example.cgroove.dto.event.EventResponse;
 import com.example.cgroove.dto.event.EventUpdateRequest;
@@ -23,7 +24,6 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 
 @RestController
@@ -42,13 +42,7 @@ public class EventController {
             @RequestPart("request") @Valid EventCreateRequest request,
             @RequestPart(value = "images", required = false) List<MultipartFile> images
     ) {
-        List<String> imagePaths = new ArrayList<>();
-        if (images != null && !images.isEmpty()) {
-            for (MultipartFile image : images) {
-                String path = fileStorageService.saveImage(image, ImageType.EVENT);
-                imagePaths.add(path);
-            }
-        }
+        List<String> imagePaths = fileStorageService.saveImages(images, ImageType.EVENT);
 
         EventCreateRequest eventCreateRequest = EventCreateRequest.builder()
                 .scope(request.getScope())
@@ -81,12 +75,14 @@ public class EventController {
         return ResponseEntity.ok(new ApiResponse<>("행사 조회 성공", eventResponse));
     }
 
-    @Operation(summary = "전체 행사 조회", description = "전체 행사 정보를 불러옵니다.")
+    @Operation(summary = "전체 행사 조회", description = "행사 목록을 최신순으로 불러옵니다. 다음 페이지는 응답의 nextCursor 로 조회합니다.")
     @GetMapping
-    public ResponseEntity<ApiResponse<List<EventResponse>>> getEvents(
-            @AuthenticationPrincipal UserDetail userDetail
+    public ResponseEntity<ApiResponse<CursorPage<EventResponse>>> getEvents(
+            @AuthenticationPrincipal UserDetail userDetail,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
     ) {
-        List<EventResponse> eventResponseList = eventService.getEvents(userDetail.getUserId());
+        CursorPage<EventResponse> eventResponseList = eventService.getEvents(userDetail.getUserId(), cursor, size);
         return ResponseEntity.ok(new ApiResponse<>("행사 전체 조회 성공", eventResponseList));
     }
 
@@ -107,13 +103,7 @@ public class EventController {
             @RequestPart("request") @Valid EventUpdateRequest request,
             @RequestPart(value = "images", required = false) List<MultipartFile> images
     ) {
-        List<String> newImagePaths = new ArrayList<>();
-        if (images != null && !images.isEmpty()) {
-            for (MultipartFile image : images) {
-                String path = fileStorageService.saveImage(image, ImageType.EVENT);
-                newImagePaths.add(path);
-            }
-        }
+        List<String> newImagePaths = fileStorageService.saveImages(images, ImageType.EVENT);
 
         EventUpdateRequest eventUpdateRequest = EventUpdateRequest.builder()
                 .title(request.getTitle())
@@ -1,8 +1,10 @@
 package com.example.cgroove.controller;
 
 import com.example.cgroove.dto.ApiResponse;
+import com.example.cgroove.dto.eventJoin.AdmissionTicketResponse;
 import com.example.cgroove.dto.eventJoin.EventJoinResponse;
 import com.example.cgroove.security.UserDetail;
+import com.example.cgroove.service.EventAdmissionQueue;
 import com.example.cgroove.service.EventJoinService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -20,17 +22,41 @@ import java.util.List;
 @Tag(name = "7_EventJoin", description = "행사 신청 관련 API")
 public class EventJoinController {
     private final EventJoinService eventJoinService;
+    private final EventAdmissionQueue admissionQueue;
 
     // 일반 사용자용
-    @Operation(summary = "행사 신청", description = "행사에 신청합니다.")
+    @Operation(summary = "행사 신청", description = "행사에 신청합니다. 정원이 찼으면 대기자 명단에 등록됩니다.")
     @PostMapping("/{eventId}/apply")
     public ResponseEntity<ApiResponse<EventJoinResponse>> applyEvent(
             @AuthenticationPrincipal UserDetail userDetail,
             @PathVariable Long eventId
     ) {
         EventJoinResponse response = eventJoinService.applyEvent(userDetail.getUserId(), eventId);
+        String message = response.waitlistPosition() != null ? "대기자 명단 등록 성공" : "행사 신청 성공";
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(new ApiResponse<>("행사 신청 성공", response));
+                .body(new ApiResponse<>(message, response));
+    }
+
+    @Operation(summary = "행사 신청 대기열 등록", description = "신청을 대기열에 등록하고 대기 토큰을 발급합니다. 결과는 토큰으로 조회합니다.")
+    @PostMapping("/{eventId}/apply/queue")
+    public ResponseEntity<ApiResponse<AdmissionTicketResponse>> enqueueApplication(
+            @AuthenticationPrincipal UserDetail userDetail,
+            @PathVariable Long eventId
+    ) {
+        AdmissionTicketResponse response = admissionQueue.enqueue(userDetail.getUserId(), eventId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(new ApiResponse<>("대기열 등록 성공", response));
+    }
+
+    @Operation(summary = "행사 신청 대기 상태 조회", description = "대기 순번 또는 신청 처리 결과를 조회합니다.")
+    @GetMapping("/{eventId}/apply/queue/{token}")
+    public ResponseEntity<ApiResponse<AdmissionTicketResponse>> getQueueTicket(
+            @AuthenticationPrincipal UserDetail userDetail,
+            @PathVariable Long eventId,
+            @PathVariable String token
+    ) {
+        AdmissionTicketResponse response = admissionQueue.getTicket(userDetail.getUserId(), eventId, token);
+        return ResponseEntity.ok(new ApiResponse<>("대기 상태 조회 성공", response));
     }
 
     @Operation(summary = "행사 신청 취소", description = "신청했던 행사를 취소합니다.")
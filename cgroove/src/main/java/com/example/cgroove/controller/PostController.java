@@ -1,6 +1,7 @@
 package com.example.cgroove.controller;
 
 import com.example.cgroove.dto.ApiResponse;
+import com.example.cgroove.dto.CursorPage;
 import com.example.cgroove.dto.like.PostLikeResponse;
 import com.example.cgroove.dto.post.PostCreateRequest;
 import com.example.cgroove.dto.post.PostResponse;
@@ -21,7 +22,6 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @RestController
@@ -40,13 +40,7 @@ public class PostController {
             @RequestPart("request") @Valid PostCreateRequest request,
             @RequestPart(value = "images", required = false) List<MultipartFile> images
     ) {
-        List<String> imagePaths = new ArrayList<>();
-        if (images != null && !images.isEmpty()) {
-            for (MultipartFile image : images) {
-                String path = fileStorageService.saveImage(image, ImageType.POST);
-                imagePaths.add(path);
-            }
-        }
+        List<String> imagePaths = fileStorageService.saveImages(images, ImageType.POST);
 
         PostCreateRequest postCreateRequest = PostCreateRequest.builder()
                 .scope(request.getScope())
@@ -72,16 +66,18 @@ public class PostController {
         return ResponseEntity.ok(new ApiResponse<>("게시물 조회 성공", postResponse));
     }
 
-    @Operation(summary = "전체 게시물 조회", description = "전체 게시물의 정보를 불러옵니다.")
+    @Operation(summary = "전체 게시물 조회", description = "게시글 목록을 최신순으로 불러옵니다. 다음 페이지는 응답의 nextCursor 로 조회합니다.")
     @GetMapping
-    public ResponseEntity<ApiResponse<List<PostResponse>>> getPosts(
-            @AuthenticationPrincipal UserDetail userDetail
+    public ResponseEntity<ApiResponse<CursorPage<PostResponse>>> getPosts(
+            @AuthenticationPrincipal UserDetail userDetail,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
     ) {
-        List<PostResponse> postResponses = postService.getPosts(userDetail.getUserId());
+        CursorPage<PostResponse> postResponses = postService.getPosts(userDetail.getUserId(), cursor, size);
         return ResponseEntity.ok(new ApiResponse<>("게시글 전체 조회 성공", postResponses));
     }
 
-    @Operation(summary = "[Hot Groove] ", description = "최근 7일간 작성된 글 중 좋아요 순 상위 10개")
+    @Operation(summary = "[Hot Groove] ", description = "최근 14일간 작성된 전체 공개 글 중 좋아요/조회/댓글을 시간 감쇠해 매긴 점수 상위 10개")
     @GetMapping("/hot")
     public ResponseEntity<ApiResponse<List<PostResponse>>> getHotPosts(
             @AuthenticationPrincipal UserDetail userDetail
@@ -107,13 +103,7 @@ public class PostController {
             @RequestPart("request") @Valid PostUpdateRequest request,
             @RequestPart(value = "images", required = false) List<MultipartFile> images
     ) {
-        List<String> newImagePaths = new ArrayList<>();
-        if (images != null && !images.isEmpty()) {
-            for (MultipartFile image : images) {
-                String path = fileStorageService.saveImage(image, ImageType.POST);
-                newImagePaths.add(path);
-            }
-        }
+        List<String> newImagePaths = fileStorageService.saveImages(images, ImageType.POST);
 
         PostUpdateRequest postUpdateRequest = PostUpdateRequest.builder()
                 .title(request.getTitle())
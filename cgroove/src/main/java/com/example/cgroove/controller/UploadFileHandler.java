@@ -0,0 +1,208 @@
+package com.example.cgroove.controller;
+
+import com.example.cgroove.enums.ImageVariant;
+import com.example.cgroove.service.UploadFileService;
+import com.example.cgroove.service.UploadFileService.StoredFile;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Component;
+import org.springframework.web.HttpRequestHandler;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// /uploads/** 파일 서빙: ETag/Last-Modified 조건부 요청(304), 단일 Range(206), 작은 파일 메모리 캐시,
+// 큰 파일은 Tomcat sendfile(커널 zero-copy), 지원하지 않으면 FileChannel.transferTo 로 전송
+@Component
+@RequiredArgsConstructor
+public class UploadFileHandler implements HttpRequestHandler {
+    private static final String UPLOAD_PREFIX = "/uploads/";
+    private static final String CACHE_ONE_YEAR = "public, max-age=31536000";
+    private static final String CACHE_IMMUTABLE = CACHE_ONE_YEAR + ", immutable";
+    private static final String CACHE_REVALIDATE = "no-cache";
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final UploadFileService uploadFileService;
+
+    @Override
+    public void handleRequest(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean head = HttpMethod.HEAD.matches(request.getMethod());
+        if (!head && !HttpMethod.GET.matches(request.getMethod())) {
+            response.setHeader(HttpHeaders.ALLOW, "GET, HEAD");
+            response.setStatus(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
+            return;
+        }
+
+        String path = relativePath(request);
+        StoredFile file = uploadFileService.find(path).orElse(null);
+        boolean fallback = false;
+        if (file == null) {
+            // 리사이즈본이 없으면(생성 전/큐 초과/디코딩 불가 형식/생성 실패) 원본으로 대신 응답
+            String originalPath = path == null ? null : ImageVariant.originalPathOf(path);
+            file = originalPath == null ? null : uploadFileService.find(originalPath).orElse(null);
+            fallback = file != null;
+        }
+        if (file == null) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ETAG, file.etag());
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, file.lastModified());
+        // 대신 보낸 원본은 나중에 리사이즈본이 생기면 바뀌므로 매번 재검증
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                fallback ? CACHE_REVALIDATE : file.immutable() ? CACHE_IMMUTABLE : CACHE_ONE_YEAR);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (isNotModified(request, file)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = file.size() - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && ifRangeMatches(request, file)) {
+            long[] bounds = parseSingleRange(range, file.size());
+            if (bounds == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + file.size());
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            // 여러 구간 요청은 전체 응답으로 대신함 (RFC 9110 허용)
+            if (bounds.length == 2) {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + file.size());
+            }
+        }
+
+        long length = end - start + 1;
+        response.setContentType(file.contentType().toString());
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setContentLengthLong(length);
+        if (head || length == 0) {
+            return;
+        }
+        write(request, response, file, start, length);
+    }
+
+    private void write(HttpServletRequest request, HttpServletResponse response, StoredFile file,
+                       long start, long length) throws IOException {
+        if (file.content() != null) {
+            response.getOutputStream().write(file.content(), (int) start, (int) length);
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.path().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        } catch (NoSuchFileException e) {
+            // 조회와 전송 사이에 삭제된 경우
+            if (!response.isCommitted()) {
+                response.reset();
+                response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            }
+        }
+    }
+
+    private String relativePath(HttpServletRequest request) {
+        Object pathWithinMapping = request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE);
+        if (pathWithinMapping instanceof String path) {
+            // 매핑 경로는 인코딩된 그대로 전달되므로 한글 파일명 등을 위해 디코딩 (상위 경로 탈출은 서비스에서 차단)
+            String decoded = UriUtils.decode(path, StandardCharsets.UTF_8);
+            return decoded.startsWith(UPLOAD_PREFIX) ? decoded.substring(UPLOAD_PREFIX.length()) : decoded;
+        }
+        return null;
+    }
+
+    // If-None-Match 가 있으면 그것만 보고, 없을 때만 If-Modified-Since 비교
+    private boolean isNotModified(HttpServletRequest request, StoredFile file) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            return matchesAny(ifNoneMatch, file.etag());
+        }
+        long ifModifiedSince = dateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince >= 0 && file.lastModified() / 1000 <= ifModifiedSince / 1000;
+    }
+
+    // If-Range 가 현재 파일과 다르면 Range 를 무시하고 전체 응답
+    private boolean ifRangeMatches(HttpServletRequest request, StoredFile file) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(file.etag());
+        }
+        long date = dateHeader(request, HttpHeaders.IF_RANGE);
+        return date >= 0 && file.lastModified() / 1000 == date / 1000;
+    }
+
+    // 단일 구간이면 {start, end}, 여러 구간이면 빈 배열, 형식 오류나 범위 밖이면 null
+    private long[] parseSingleRange(String header, long size) {
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(header);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (ranges.size() != 1) {
+            return ranges.isEmpty() ? null : new long[0];
+        }
+        try {
+            long start = ranges.getFirst().getRangeStart(size);
+            long end = ranges.getFirst().getRangeEnd(size);
+            return start < size && start <= end ? new long[]{start, end} : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private boolean matchesAny(String header, String etag) {
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+}
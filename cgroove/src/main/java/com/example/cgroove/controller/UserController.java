@@ -67,7 +67,7 @@ public class UserController {
         return ResponseEntity.ok(new ApiResponse<>("프로필 이미지 삭제 성공", userResponse));
     }
 
-    @Operation(summary = "탈퇴", description = "사용자 정보를 삭제합니다.")
+    @Operation(summary = "탈퇴", description = "사용자 정보를 삭제합니다. 작성 글/행사/가입 정보는 이후 순차적으로 정리됩니다.")
     @DeleteMapping()
     public ResponseEntity<Void> deleteUser(
             @AuthenticationPrincipal UserDetail userDetail) {
@@ -0,0 +1,27 @@
+package com.example.cgroove.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPage<T>(List<T> items, String nextCursor, boolean hasNext) {
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 50;
+
+    // 요청 페이지 크기 보정 (미입력/0 이하 -> 기본값, 최대값 제한)
+    public static int sizeOf(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    // size + 1 건 조회 결과를 잘라 다음 페이지 여부와 커서를 만든다
+    public static <E, T> CursorPage<T> slice(List<E> rows, int size,
+                                             Function<E, PageCursor> cursorOf,
+                                             Function<List<E>, List<T>> converter) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.getLast()).encode() : null;
+        return new CursorPage<>(converter.apply(page), nextCursor, hasNext);
+    }
+}
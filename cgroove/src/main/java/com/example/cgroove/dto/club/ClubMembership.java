@@ -0,0 +1,10 @@
+package com.example.cgroove.dto.club;
+
+import com.example.cgroove.enums.ClubRole;
+
+// 권한 확인용 활동 중 가입 정보 (클럽 ID + 역할만)
+public record ClubMembership(
+        Long clubId,
+        ClubRole role
+) {
+}
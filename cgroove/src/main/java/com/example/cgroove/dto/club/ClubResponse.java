@@ -1,5 +1,6 @@
 package com.example.cgroove.dto.club;
 
+import com.example.cgroove.dto.image.ImageVariants;
 import com.example.cgroove.entity.Club;
 import com.example.cgroove.enums.ClubType;
 
@@ -14,6 +15,7 @@ public record ClubResponse (
     String locationName,
     ClubType clubType,
     String clubImage,
+    ImageVariants clubImageVariants,
     List<String> tags,
     Long memberCount,
     LocalDateTime createdAt
@@ -27,6 +29,7 @@ public record ClubResponse (
                 club.getLocationName(),
                 club.getClubType(),
                 club.getClubImage(),
+                ImageVariants.of(club.getClubImage()),
                 club.getTags(),
                 (long) club.getMemberCount(),
                 club.getCreatedAt()
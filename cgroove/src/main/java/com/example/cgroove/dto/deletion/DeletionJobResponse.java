@@ -0,0 +1,31 @@
+package com.example.cgroove.dto.deletion;
+
+import com.example.cgroove.entity.DeletionJob;
+
+import java.time.LocalDateTime;
+
+public record DeletionJobResponse(
+        Long jobId,
+        String target,
+        Long targetId,
+        String status,
+        String step,
+        Long processedRows,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        LocalDateTime completedAt
+) {
+    public static DeletionJobResponse from(DeletionJob job) {
+        return new DeletionJobResponse(
+                job.getJobId(),
+                job.getTarget().name(),
+                job.getTargetId(),
+                job.getStatus().name(),
+                job.getStep() != null ? job.getStep().name() : null,
+                job.getProcessedRows(),
+                job.getCreatedAt(),
+                job.getUpdatedAt(),
+                job.getCompletedAt()
+        );
+    }
+}
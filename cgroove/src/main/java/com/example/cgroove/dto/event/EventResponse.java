@@ -1,5 +1,6 @@
 package com.example.cgroove.dto.event;
 
+import com.example.cgroove.dto.image.ImageVariants;
 import com.example.cgroove.entity.Event;
 
 public record EventResponse(
@@ -15,6 +16,7 @@ public record EventResponse(
         String content,
         java.util.List<String> tags,
         java.util.List<String> images,
+        java.util.List<ImageVariants> imageVariants,
         String locationName,
         String locationAddress,
         String locationLink,
@@ -23,6 +25,7 @@ public record EventResponse(
         java.time.LocalDateTime startsAt,
         java.time.LocalDateTime endsAt,
         Long viewCount,
+        Long uniqueViewers,
         Long likeCount,
         Boolean isLiked,
         Integer commentCount,
@@ -43,14 +46,16 @@ public record EventResponse(
                 event.getContent(),
                 event.getTags(),
                 event.getImages(),
+                ImageVariants.ofAll(event.getImages()),
                 event.getLocationName(),
                 event.getLocationAddress(),
                 event.getLocationLink(),
                 event.getCapacity(),
-                (long) event.getParticipantCount(),
+                event.getConfirmedCount(),
                 event.getStartsAt(),
                 event.getEndsAt(),
                 event.getViewCount(),
+                0L,
                 event.getLikeCount(),
                 isLiked,
                 event.getComments().size(),
@@ -58,4 +63,63 @@ public record EventResponse(
                 event.getUpdatedAt()
         );
     }
-}
\ No newline at end of file
+
+    public static EventResponse from(EventSummary summary, java.util.List<String> tags, java.util.List<String> images, Boolean isLiked) {
+        return new EventResponse(
+                summary.eventId(),
+                summary.hostId(),
+                summary.hostNickname(),
+                summary.hostProfileImage(),
+                summary.scope().name(),
+                summary.clubId(),
+                summary.clubName(),
+                summary.type().name(),
+                summary.title(),
+                summary.content(),
+                tags,
+                images,
+                ImageVariants.ofAll(images),
+                summary.locationName(),
+                summary.locationAddress(),
+                summary.locationLink(),
+                summary.capacity(),
+                summary.confirmedCount(),
+                summary.startsAt(),
+                summary.endsAt(),
+                summary.viewCount(),
+                0L,
+                summary.likeCount(),
+                isLiked,
+                summary.commentCount().intValue(),
+                summary.createdAt(),
+                summary.updatedAt()
+        );
+    }
+
+    // 버퍼에 쌓인 미반영 조회수를 더한 응답
+    public EventResponse withPendingViews(long pendingViews) {
+        if (pendingViews == 0) {
+            return this;
+        }
+        return new EventResponse(eventId, hostId, hostNickname, hostProfileImage, scope, clubId, clubName, type,
+                title, content, tags, images, imageVariants, locationName, locationAddress, locationLink, capacity,
+                currentParticipants, startsAt, endsAt, viewCount + pendingViews, uniqueViewers, likeCount, isLiked,
+                commentCount, createdAt, updatedAt);
+    }
+
+    // 고유 조회자 추정치를 채운 응답
+    public EventResponse withUniqueViewers(long uniqueViewers) {
+        return new EventResponse(eventId, hostId, hostNickname, hostProfileImage, scope, clubId, clubName, type,
+                title, content, tags, images, imageVariants, locationName, locationAddress, locationLink, capacity,
+                currentParticipants, startsAt, endsAt, viewCount, uniqueViewers, likeCount, isLiked,
+                commentCount, createdAt, updatedAt);
+    }
+
+    // 조건부 UPDATE 이후 DB 에서 다시 읽은 확정 인원을 채운 응답
+    public EventResponse withCurrentParticipants(Long currentParticipants) {
+        return new EventResponse(eventId, hostId, hostNickname, hostProfileImage, scope, clubId, clubName, type,
+                title, content, tags, images, imageVariants, locationName, locationAddress, locationLink, capacity,
+                currentParticipants, startsAt, endsAt, viewCount, uniqueViewers, likeCount, isLiked,
+                commentCount, createdAt, updatedAt);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.cgroove.dto.event;
+
+import com.example.cgroove.enums.EventType;
+import com.example.cgroove.enums.Scope;
+
+import java.time.LocalDateTime;
+
+// 목록 조회용 프로젝션 (댓글은 엔티티 대신 개수만 집계)
+public record EventSummary(
+        Long eventId,
+        Long hostId,
+        String hostNickname,
+        String hostProfileImage,
+        Scope scope,
+        Long clubId,
+        String clubName,
+        EventType type,
+        String title,
+        String content,
+        String locationName,
+        String locationAddress,
+        String locationLink,
+        Long capacity,
+        Long confirmedCount,
+        LocalDateTime startsAt,
+        LocalDateTime endsAt,
+        Long viewCount,
+        Long likeCount,
+        Long commentCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
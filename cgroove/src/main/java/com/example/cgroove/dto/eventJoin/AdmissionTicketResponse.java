@@ -0,0 +1,11 @@
+package com.example.cgroove.dto.eventJoin;
+
+public record AdmissionTicketResponse(
+        String token,
+        Long eventId,
+        String status,
+        Long position,
+        EventJoinResponse result,
+        String message
+) {
+}
@@ -12,9 +12,14 @@ public record EventJoinResponse(
         String profileImage,
         Long eventId,
         String status,
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+        Long waitlistPosition
 ) {
     public static EventJoinResponse from(EventJoin eventJoin) {
+        return from(eventJoin, null);
+    }
+
+    public static EventJoinResponse from(EventJoin eventJoin, Long waitlistPosition) {
         return new EventJoinResponse(
                 eventJoin.getEventJoinId(),
                 eventJoin.getParticipant().getUserId(),
@@ -23,7 +28,8 @@ public record EventJoinResponse(
                 eventJoin.getParticipant().getProfileImage(),
                 eventJoin.getEvent().getEventId(),
                 eventJoin.getStatus().name(),
-                eventJoin.getCreatedAt()
+                eventJoin.getCreatedAt(),
+                waitlistPosition
         );
     }
 }
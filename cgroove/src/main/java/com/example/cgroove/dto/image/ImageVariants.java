@@ -0,0 +1,34 @@
+package com.example.cgroove.dto.image;
+
+import com.example.cgroove.enums.ImageVariant;
+
+import java.util.List;
+
+// 원본 이미지와 리사이즈 이미지 URL. 리사이즈본이 아직 없거나 만들 수 없으면 /uploads 서빙에서 원본으로 대신 응답
+public record ImageVariants(
+        String original,
+        String small,
+        String medium,
+        String large
+) {
+    public static ImageVariants of(String original) {
+        if (original == null || original.isBlank()) {
+            return null;
+        }
+        return new ImageVariants(
+                original,
+                ImageVariant.SMALL.pathOf(original),
+                ImageVariant.MEDIUM.pathOf(original),
+                ImageVariant.LARGE.pathOf(original)
+        );
+    }
+
+    public static List<ImageVariants> ofAll(List<String> originals) {
+        if (originals == null) {
+            return List.of();
+        }
+        return originals.stream()
+                .map(ImageVariants::of)
+                .toList();
+    }
+}
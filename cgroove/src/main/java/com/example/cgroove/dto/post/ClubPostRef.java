@@ -0,0 +1,11 @@
+package com.example.cgroove.dto.post;
+
+import java.time.LocalDateTime;
+
+// 타임라인용 클럽 게시글 참조 (본문 없이 정렬 키만)
+public record ClubPostRef(
+        Long postId,
+        Long clubId,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,13 @@
+package com.example.cgroove.dto.post;
+
+import java.time.LocalDateTime;
+
+// Hot Groove 랭킹 재구성용 게시글 반응 수 (댓글은 엔티티 로딩 없이 개수만)
+public record HotPostSeed(
+        Long postId,
+        LocalDateTime createdAt,
+        Long likeCount,
+        Long viewCount,
+        Long commentCount
+) {
+}
@@ -1,5 +1,6 @@
 package com.example.cgroove.dto.post;
 
+import com.example.cgroove.dto.image.ImageVariants;
 import com.example.cgroove.entity.Post;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -16,7 +17,9 @@ public record PostResponse(
         String content,
         List<String> tags,
         List<String> images,
+        List<ImageVariants> imageVariants,
         Long viewCount,
+        Long uniqueViewers,
         Long likeCount,
         Boolean isLiked,
         Integer commentCount,
@@ -36,7 +39,9 @@ public record PostResponse(
                 post.getContent(),
                 post.getTags(),
                 post.getImages(),
+                ImageVariants.ofAll(post.getImages()),
                 post.getViewCount(),
+                0L,
                 post.getLikeCount(),
                 isLiked,
                 post.getComments().size(),
@@ -44,4 +49,45 @@ public record PostResponse(
                 post.getUpdatedAt()
         );
     }
-}
\ No newline at end of file
+
+    public static PostResponse from(PostSummary summary, List<String> tags, List<String> images, Boolean isLiked) {
+        return new PostResponse(
+                summary.postId(),
+                summary.authorId(),
+                summary.authorNickname(),
+                summary.authorProfileImage(),
+                summary.scope().name(),
+                summary.clubId(),
+                summary.clubName(),
+                summary.title(),
+                summary.content(),
+                tags,
+                images,
+                ImageVariants.ofAll(images),
+                summary.viewCount(),
+                0L,
+                summary.likeCount(),
+                isLiked,
+                summary.commentCount().intValue(),
+                summary.createdAt(),
+                summary.updatedAt()
+        );
+    }
+
+    // 버퍼에 쌓인 미반영 조회수를 더한 응답
+    public PostResponse withPendingViews(long pendingViews) {
+        if (pendingViews == 0) {
+            return this;
+        }
+        return new PostResponse(postId, authorId, authorNickname, authorProfileImage, scope, clubId, clubName,
+                title, content, tags, images, imageVariants, viewCount + pendingViews, uniqueViewers, likeCount, isLiked, commentCount,
+                createdAt, updatedAt);
+    }
+
+    // 고유 조회자 추정치를 채운 응답
+    public PostResponse withUniqueViewers(long uniqueViewers) {
+        return new PostResponse(postId, authorId, authorNickname, authorProfileImage, scope, clubId, clubName,
+                title, content, tags, images, imageVariants, viewCount, uniqueViewers, likeCount, isLiked, commentCount,
+                createdAt, updatedAt);
+    }
+}
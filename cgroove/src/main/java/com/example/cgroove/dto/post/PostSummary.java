@@ -0,0 +1,24 @@
+package com.example.cgroove.dto.post;
+
+import com.example.cgroove.enums.Scope;
+
+import java.time.LocalDateTime;
+
+// 목록 조회용 프로젝션 (댓글은 엔티티 대신 개수만 집계)
+public record PostSummary(
+        Long postId,
+        Long authorId,
+        String authorNickname,
+        String authorProfileImage,
+        Scope scope,
+        Long clubId,
+        String clubName,
+        String title,
+        String content,
+        Long viewCount,
+        Long likeCount,
+        Long commentCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,46 @@
+package com.example.cgroove.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 보관된 댓글 (comments 와 같은 컬럼 + 보관 시각). 게시글/행사와 함께 보관되거나 삭제된 댓글만 따로 보관
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "comments_archive",
+        indexes = {
+                @Index(name = "idx_comments_archive_post", columnList = "post_id"),
+                @Index(name = "idx_comments_archive_event", columnList = "event_id")
+        }
+)
+public class ArchivedComment {
+
+    @Id
+    private Long commentId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    private Long postId;
+
+    private Long eventId;
+
+    @Column(nullable = false, length = 500)
+    private String content;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private Boolean isDeleted;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,74 @@
+package com.example.cgroove.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 보관된 행사 (events 와 같은 컬럼 + 보관 시각, ColdArchive 가 JDBC 로 이동)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "events_archive",
+        indexes = {
+                @Index(name = "idx_events_archive_archived", columnList = "archived_at")
+        }
+)
+public class ArchivedEvent {
+
+    @Id
+    private Long eventId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String scope;
+
+    private Long clubId;
+
+    @Column(nullable = false)
+    private String type;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(nullable = false, length = 5000)
+    private String content;
+
+    private String locationName;
+    private String locationAddress;
+    private String locationLink;
+
+    @Column(nullable = false)
+    private Long capacity;
+
+    @Column(nullable = false)
+    private Long confirmedCount;
+
+    @Column(nullable = false)
+    private LocalDateTime startsAt;
+
+    @Column(nullable = false)
+    private LocalDateTime endsAt;
+
+    @Column(nullable = false)
+    private Long likeCount;
+
+    @Column(nullable = false)
+    private Long viewCount;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private Boolean isDeleted;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
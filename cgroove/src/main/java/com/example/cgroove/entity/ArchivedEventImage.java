@@ -0,0 +1,28 @@
+package com.example.cgroove.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 보관된 행사의 이미지 (event_images 는 키가 없어 보관용 키만 추가)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "event_images_archive",
+        indexes = {
+                @Index(name = "idx_event_images_archive_event", columnList = "event_id")
+        }
+)
+public class ArchivedEventImage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long archiveId;
+
+    @Column(nullable = false)
+    private Long eventId;
+
+    private String image;
+}
@@ -0,0 +1,43 @@
+package com.example.cgroove.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 보관된 행사의 신청 내역 (event_joins 와 같은 컬럼)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "event_joins_archive",
+        indexes = {
+                @Index(name = "idx_event_joins_archive_event", columnList = "event_id")
+        }
+)
+public class ArchivedEventJoin {
+
+    @Id
+    private Long eventJoinId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long eventId;
+
+    @Column(nullable = false)
+    private String status;
+
+    private LocalDateTime waitlistedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private Boolean isDeleted;
+}
@@ -0,0 +1,33 @@
+package com.example.cgroove.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 보관된 행사의 좋아요 (event_likes 와 같은 컬럼)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "event_likes_archive",
+        indexes = {
+                @Index(name = "idx_event_likes_archive_event", columnList = "event_id")
+        }
+)
+public class ArchivedEventLike {
+
+    @Id
+    private Long likeId;
+
+    @Column(nullable = false)
+    private Long eventId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,28 @@
+package com.example.cgroove.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 보관된 행사의 태그 (event_tags 는 키가 없어 보관용 키만 추가)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "event_tags_archive",
+        indexes = {
+                @Index(name = "idx_event_tags_archive_event", columnList = "event_id")
+        }
+)
+public class ArchivedEventTag {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long archiveId;
+
+    @Column(nullable = false)
+    private Long eventId;
+
+    private String tag;
+}
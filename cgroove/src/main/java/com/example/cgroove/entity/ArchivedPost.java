@@ -0,0 +1,55 @@
+package com.example.cgroove.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 보관된 게시글 (posts 와 같은 컬럼 + 보관 시각, ColdArchive 가 JDBC 로 이동)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "posts_archive",
+        indexes = {
+                @Index(name = "idx_posts_archive_archived", columnList = "archived_at")
+        }
+)
+public class ArchivedPost {
+
+    @Id
+    private Long postId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String scope;
+
+    private Long clubId;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(nullable = false, length = 5000)
+    private String content;
+
+    @Column(nullable = false)
+    private Long likeCount;
+
+    @Column(nullable = false)
+    private Long viewCount;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private Boolean isDeleted;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
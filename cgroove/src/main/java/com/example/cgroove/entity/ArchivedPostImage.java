@@ -0,0 +1,28 @@
+package com.example.cgroove.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 보관된 게시글의 이미지 (post_images 는 키가 없어 보관용 키만 추가)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "post_images_archive",
+        indexes = {
+                @Index(name = "idx_post_images_archive_post", columnList = "post_id")
+        }
+)
+public class ArchivedPostImage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long archiveId;
+
+    @Column(nullable = false)
+    private Long postId;
+
+    private String image;
+}
@@ -0,0 +1,33 @@
+package com.example.cgroove.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 보관된 게시글의 좋아요 (post_likes 와 같은 컬럼)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "post_likes_archive",
+        indexes = {
+                @Index(name = "idx_post_likes_archive_post", columnList = "post_id")
+        }
+)
+public class ArchivedPostLike {
+
+    @Id
+    private Long likeId;
+
+    @Column(nullable = false)
+    private Long postId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
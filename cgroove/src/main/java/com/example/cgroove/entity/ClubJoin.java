@@ -18,6 +18,10 @@ import lombok.*;
                         name = "unique_user_club",
                         columnNames = {"user_id", "club_id"}
                 )
+        },
+        indexes = {
+                // 사용자별 활동 클럽
+                @Index(name = "idx_club_joins_user_status", columnList = "user_id, status")
         }
 )
 public class ClubJoin extends BaseEntity{
@@ -52,7 +56,7 @@ public class ClubJoin extends BaseEntity{
 
     // READ
     public boolean hasManagementPermission() {
-        return this.role == ClubRole.LEADER || this.role == ClubRole.MANAGER;
+        return this.role != null && this.role.hasManagementPermission();
     }
 
     // UPDATE
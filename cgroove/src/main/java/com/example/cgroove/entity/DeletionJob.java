@@ -0,0 +1,97 @@
+package com.example.cgroove.entity;
+
+import com.example.cgroove.enums.CascadeStep;
+import com.example.cgroove.enums.DeletionJobStatus;
+import com.example.cgroove.enums.DeletionTarget;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 클럽 삭제/회원 탈퇴 후 연관 데이터 정리 작업. 청크마다 진행 위치를 같은 트랜잭션에 기록해 재시작 후 이어서 처리
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "deletion_jobs",
+        indexes = {
+                @Index(name = "idx_deletion_jobs_status", columnList = "status, job_id")
+        }
+)
+public class DeletionJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long jobId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DeletionTarget target;
+
+    @Column(nullable = false)
+    private Long targetId;
+
+    @Column(nullable = false)
+    private Long requestedBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DeletionJobStatus status;
+
+    // 진행 중인 단계 (완료되면 null)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30)
+    private CascadeStep step;
+
+    // 현재 단계에서 마지막으로 처리한 행 ID (ID 구간 청크의 시작점)
+    @Column(nullable = false)
+    private Long lastProcessedId;
+
+    @Column(nullable = false)
+    private Long processedRows;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime completedAt;
+
+    public static DeletionJob start(DeletionTarget target, Long targetId, Long requestedBy) {
+        DeletionJob job = new DeletionJob();
+        job.target = target;
+        job.targetId = targetId;
+        job.requestedBy = requestedBy;
+        job.status = DeletionJobStatus.RUNNING;
+        job.step = CascadeStep.first(target);
+        job.lastProcessedId = 0L;
+        job.processedRows = 0L;
+        job.createdAt = LocalDateTime.now();
+        job.updatedAt = job.createdAt;
+        return job;
+    }
+
+    public void advance(Long lastProcessedId, int rows) {
+        this.lastProcessedId = lastProcessedId;
+        this.processedRows += rows;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 다음 단계로 넘어가고, 남은 단계가 없으면 완료 처리
+    public void finishStep() {
+        this.step = step.next();
+        this.lastProcessedId = 0L;
+        this.updatedAt = LocalDateTime.now();
+        if (step == null) {
+            this.status = DeletionJobStatus.COMPLETED;
+            this.completedAt = updatedAt;
+        }
+    }
+
+    public boolean isRunning() {
+        return status == DeletionJobStatus.RUNNING;
+    }
+}
@@ -5,7 +5,6 @@ import com.example.cgroove.enums.EventType;
 import com.example.cgroove.enums.Scope;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.Formula;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
@@ -19,9 +18,19 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 
-@Table(name = "events")
+@Table(
+        name = "events",
+        indexes = {
+                // 목록 커서 조회 (is_deleted = false, createdAt/id 역순)
+                @Index(name = "idx_events_deleted_created", columnList = "is_deleted, created_at, event_id"),
+                // 공개 범위별 최신 행사
+                @Index(name = "idx_events_scope_created", columnList = "scope, is_deleted, created_at"),
+                // 다가오는 행사
+                @Index(name = "idx_events_starts_at", columnList = "starts_at")
+        }
+)
 @SQLRestriction("is_deleted = false")
-@SQLDelete(sql = "UPDATE events SET is_deleted = true WHERE event_id = ?")
+@SQLDelete(sql = "UPDATE events SET is_deleted = true, updated_at = CURRENT_TIMESTAMP WHERE event_id = ?")
 public class Event extends BaseEntity implements ImageHolder{
 
     // 행사 ID
@@ -88,8 +97,11 @@ public class Event extends BaseEntity implements ImageHolder{
     @Builder.Default
     private List<EventJoin> participants = new ArrayList<>();
 
-    @Formula("(SELECT count(*) FROM event_joins ej WHERE ej.event_id = event_id AND ej.status = 'CONFIRMED')")
-    private int participantCount;
+    // 확정 참가자 수 (event_joins 비정규화, 조건부 UPDATE 로만 증감)
+    // 엔티티에 남은 이전 값이 행사 수정 flush 로 덮어쓰지 않도록 UPDATE 대상에서 제외
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private Long confirmedCount = 0L;
 
     // 행사 일시 (시작, 종료 시간)
     @Column(nullable = false)
@@ -134,6 +146,7 @@ public class Event extends BaseEntity implements ImageHolder{
         this.capacity = capacity;
         this.startsAt = startsAt;
         this.endsAt = endsAt;
+        this.confirmedCount = 0L;
         this.likeCount = 0L;
         this.viewCount = 0L;
     }
@@ -165,15 +178,6 @@ public class Event extends BaseEntity implements ImageHolder{
     public void updateImages(List<String> images) {
         this.images = images;
     }
-    public void incrementLikeCount() {
-        this.likeCount++;
-    }
-    public void decrementLikeCount() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-        }
-    }
-
     // Convenience Methods for EventJoin
     public void addParticipant(User user, EventJoinStatus status) {
         EventJoin newEventJoin = EventJoin.builder()
@@ -4,6 +4,8 @@ import com.example.cgroove.enums.EventJoinStatus;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Getter
 @Builder
@@ -17,6 +19,9 @@ import lombok.*;
                         name = "unique_user_event",
                         columnNames = {"user_id", "event_id"}
                 )
+        },
+        indexes = {
+                @Index(name = "idx_event_joins_waitlist", columnList = "event_id, status, waitlisted_at")
         }
 )
 public class EventJoin extends BaseEntity{
@@ -36,6 +41,9 @@ public class EventJoin extends BaseEntity{
     @Column(nullable = false)
     private EventJoinStatus status;
 
+    // 대기 등록 시각 (WAITLISTED 일 때만 값이 있음, 승격 순서 기준)
+    private LocalDateTime waitlistedAt;
+
     // CREATE
     private EventJoin(User participant, Event event, EventJoinStatus status) {
         validateEventJoin(participant, event, status);
@@ -48,6 +56,7 @@ public class EventJoin extends BaseEntity{
     public void changeStatus(EventJoinStatus newStatus) {
         if (newStatus == null) throw new IllegalArgumentException("이벤트 신청 - 상태 미입력");
         this.status = newStatus;
+        this.waitlistedAt = newStatus == EventJoinStatus.WAITLISTED ? LocalDateTime.now() : null;
     }
 
     // Check Methods
@@ -0,0 +1,34 @@
+package com.example.cgroove.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 내용 주소(SHA-256) 이미지 파일의 참조 수 (ImageBlobRefs 가 JDBC 로 증감)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "image_blobs")
+public class ImageBlob {
+
+    // "{sha256 hex}.{확장자}"
+    @Id
+    @Column(length = 80)
+    private String blobKey;
+
+    @Column(nullable = false)
+    private Long refCount;
+
+    @Column(nullable = false)
+    private Long sizeBytes;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // 고아 파일 정리 시 스캔 도중 새로 참조된 blob 을 건너뛰기 위한 시각
+    @Column(nullable = false)
+    private LocalDateTime lastAcquiredAt;
+}
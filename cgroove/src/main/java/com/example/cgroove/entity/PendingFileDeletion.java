@@ -0,0 +1,29 @@
+package com.example.cgroove.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 커밋 후 삭제할 파일 (FileDeletionOutbox 가 트랜잭션 안에서 기록, FileDeletionWorker 가 처리)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "file_deletion_outbox")
+public class PendingFileDeletion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long deletionId;
+
+    @Column(nullable = false, length = 500)
+    private String filePath;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
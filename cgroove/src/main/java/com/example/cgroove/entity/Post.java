@@ -15,9 +15,19 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 
-@Table(name = "posts")
+@Table(
+        name = "posts",
+        indexes = {
+                // 목록 커서 조회 (is_deleted = false, createdAt/id 역순)
+                @Index(name = "idx_posts_deleted_created", columnList = "is_deleted, created_at, post_id"),
+                // 클럽별 최신 글 (내 동아리 소식)
+                @Index(name = "idx_posts_club_created", columnList = "club_id, is_deleted, created_at"),
+                // 공개 범위별 최신 글 (인기 게시글)
+                @Index(name = "idx_posts_scope_created", columnList = "scope, is_deleted, created_at")
+        }
+)
 @SQLRestriction("is_deleted = false")
-@SQLDelete(sql = "UPDATE posts SET is_deleted = true WHERE post_id = ?")
+@SQLDelete(sql = "UPDATE posts SET is_deleted = true, updated_at = CURRENT_TIMESTAMP WHERE post_id = ?")
 public class Post extends BaseEntity implements ImageHolder{
 
     // 게시물 ID
@@ -116,15 +126,6 @@ public class Post extends BaseEntity implements ImageHolder{
     public void updateImages(List<String> images) {
         this.images = images;
     }
-    public void incrementLikeCount() {
-        this.likeCount++;
-    }
-    public void decrementLikeCount() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-        }
-    }
-
     // Check Methods
     private void checkNullOrBlank(String value, String fieldName) {
         if (value == null || value.isBlank()) {
@@ -15,7 +15,13 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 
-@Table(name = "users")
+@Table(
+        name = "users",
+        indexes = {
+                // 닉네임 중복 확인
+                @Index(name = "idx_users_nickname", columnList = "nickname")
+        }
+)
 @SQLRestriction("is_deleted = false")
 @SQLDelete(sql = "UPDATE users SET is_deleted = true WHERE user_id = ?")
 public class User extends BaseEntity {
@@ -0,0 +1,40 @@
+package com.example.cgroove.entity;
+
+import com.example.cgroove.enums.ViewTarget;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 게시글/행사별 고유 조회자 HyperLogLog 레지스터 (ViewerSketches 가 JDBC 로 주기적으로 저장)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "viewer_sketches",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"target_type", "target_id"})
+        }
+)
+public class ViewerSketch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long sketchId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ViewTarget targetType;
+
+    @Column(nullable = false)
+    private Long targetId;
+
+    // 레지스터당 1바이트 (2^12 개)
+    @Column(nullable = false, length = 4096)
+    private byte[] registers;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
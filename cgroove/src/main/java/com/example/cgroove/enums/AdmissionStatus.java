@@ -0,0 +1,19 @@
+package com.example.cgroove.enums;
+
+public enum AdmissionStatus {
+    WAITING("대기 중"),
+    PROCESSING("처리 중"),
+    ADMITTED("신청 완료"),
+    WAITLISTED("대기자 등록"),
+    REJECTED("신청 실패");
+
+    private final String description;
+
+    AdmissionStatus(String description) {
+        this.description = description;
+    }
+
+    public String description() {
+        return description;
+    }
+}
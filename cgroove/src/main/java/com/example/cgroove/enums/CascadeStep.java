@@ -0,0 +1,43 @@
+package com.example.cgroove.enums;
+
+import java.util.Arrays;
+
+// 삭제 대상별로 연관 데이터를 정리하는 순서 (기존 일괄 삭제와 같은 순서)
+public enum CascadeStep {
+    CLUB_POSTS(DeletionTarget.CLUB, "클럽 게시글"),
+    CLUB_EVENTS(DeletionTarget.CLUB, "클럽 행사"),
+    CLUB_MEMBERS(DeletionTarget.CLUB, "클럽 가입 정보"),
+    CLUB_EVENT_JOINS(DeletionTarget.CLUB, "클럽 행사 신청"),
+    USER_POSTS(DeletionTarget.USER, "작성 게시글"),
+    USER_EVENTS(DeletionTarget.USER, "주최 행사"),
+    USER_CLUB_JOINS(DeletionTarget.USER, "클럽 가입 정보"),
+    USER_EVENT_JOINS(DeletionTarget.USER, "행사 신청");
+
+    private final DeletionTarget target;
+    private final String description;
+
+    CascadeStep(DeletionTarget target, String description) {
+        this.target = target;
+        this.description = description;
+    }
+
+    public String description() {
+        return description;
+    }
+
+    public static CascadeStep first(DeletionTarget target) {
+        return Arrays.stream(values())
+                .filter(step -> step.target == target)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    // 같은 대상의 다음 단계 (마지막이면 null)
+    public CascadeStep next() {
+        CascadeStep[] steps = values();
+        if (ordinal() + 1 < steps.length && steps[ordinal() + 1].target == target) {
+            return steps[ordinal() + 1];
+        }
+        return null;
+    }
+}
@@ -14,4 +14,8 @@ public enum ClubRole {
     public String description() {
         return description;
     }
+
+    public boolean hasManagementPermission() {
+        return this == LEADER || this == MANAGER;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.example.cgroove.enums;
+
+public enum DeletionJobStatus {
+    RUNNING("진행중"),
+    COMPLETED("완료");
+
+    private final String description;
+
+    DeletionJobStatus(String description) {
+        this.description = description;
+    }
+
+    public String description() {
+        return description;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.cgroove.enums;
+
+public enum DeletionTarget {
+    USER("회원"),
+    CLUB("클럽");
+
+    private final String description;
+
+    DeletionTarget(String description) {
+        this.description = description;
+    }
+
+    public String description() {
+        return description;
+    }
+}
@@ -2,6 +2,7 @@ package com.example.cgroove.enums;
 
 public enum EventJoinStatus {
     CONFIRMED("확인됨"),
+    WAITLISTED("대기 중"),
     CANCELED("취소됨"),
     REJECTED("거절됨");
 
@@ -0,0 +1,43 @@
+package com.example.cgroove.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 목록/상세 화면용 리사이즈 이미지. 원본 옆에 "{원본 파일 이름}_w{너비}.jpg" 로 저장 (리사이즈본 경로만으로 원본을 찾을 수 있음)
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+    SMALL(320),
+    MEDIUM(640),
+    LARGE(1280);
+
+    private static final Pattern VARIANT_PATH = Pattern.compile("(.+)_w(\\d{1,5})\\.jpg");
+
+    private final int width;
+
+    public String fileNameOf(String originalFileName) {
+        return originalFileName + "_w" + width + ".jpg";
+    }
+
+    public String pathOf(String originalPath) {
+        return fileNameOf(originalPath);
+    }
+
+    // 리사이즈본 경로면 원본 경로, 아니면 null
+    public static String originalPathOf(String variantPath) {
+        Matcher matcher = VARIANT_PATH.matcher(variantPath);
+        if (!matcher.matches()) {
+            return null;
+        }
+        int width = Integer.parseInt(matcher.group(2));
+        for (ImageVariant variant : values()) {
+            if (variant.width == width) {
+                return matcher.group(1);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.cgroove.enums;
+
+public enum ViewTarget {
+    POST("게시글"),
+    EVENT("행사");
+
+    private final String description;
+
+    ViewTarget(String description) {
+        this.description = description;
+    }
+
+    public String description() {
+        return description;
+    }
+}
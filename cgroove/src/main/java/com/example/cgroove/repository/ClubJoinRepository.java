@@ -1,10 +1,10 @@
 package com.example.cgroove.repository;
 
+import com.example.cgroove.dto.club.ClubMembership;
 import com.example.cgroove.entity.ClubJoin;
 import com.example.cgroove.enums.ClubJoinStatus;
 import com.example.cgroove.repository.custom.ClubJoinRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,14 +16,19 @@ import java.util.Optional;
 public interface ClubJoinRepository extends JpaRepository<ClubJoin, Long> , ClubJoinRepositoryCustom {
     Optional<ClubJoin> findByUser_UserIdAndClub_ClubId(Long userId, Long clubId);
 
-    @Query("SELECT cj.club.clubId FROM ClubJoin cj WHERE cj.user.userId = :userId AND cj.status = :status")
-    List<Long> findClubIdsByUserIdAndStatus(@Param("userId") Long userId, @Param("status") ClubJoinStatus status);
+    @Query("SELECT new com.example.cgroove.dto.club.ClubMembership(cj.club.clubId, cj.role) " +
+            "FROM ClubJoin cj WHERE cj.user.userId = :userId AND cj.status = :status")
+    List<ClubMembership> findMembershipsByUserIdAndStatus(@Param("userId") Long userId, @Param("status") ClubJoinStatus status);
 
-    @Modifying()
-    @Query("UPDATE ClubJoin cj SET cj.status = :status WHERE cj.user.userId = :userId")
-    void softDeleteByUserId(@Param("userId") Long userId, @Param("status") ClubJoinStatus status);
+    @Query("SELECT cj.user.userId FROM ClubJoin cj WHERE cj.club.clubId = :clubId AND cj.status = :status")
+    List<Long> findUserIdsByClubIdAndStatus(@Param("clubId") Long clubId, @Param("status") ClubJoinStatus status);
 
-    @Modifying()
-    @Query("UPDATE ClubJoin cj SET cj.status = :status WHERE cj.club.clubId = :clubId")
-    void softDeleteByClubId(@Param("clubId") Long clubId, @Param("status") ClubJoinStatus status);
+    long countByClub_ClubIdAndStatus(Long clubId, ClubJoinStatus status);
+
+    // 멤버 수가 기준을 넘는 클럽만 추림
+    @Query("SELECT cj.club.clubId FROM ClubJoin cj WHERE cj.club.clubId IN :clubIds AND cj.status = :status " +
+            "GROUP BY cj.club.clubId HAVING count(cj) > :threshold")
+    List<Long> findClubIdsWithMembersOver(@Param("clubIds") List<Long> clubIds,
+                                          @Param("status") ClubJoinStatus status,
+                                          @Param("threshold") long threshold);
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.example.cgroove.repository;
+
+import com.example.cgroove.entity.DeletionJob;
+import com.example.cgroove.enums.DeletionJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DeletionJobRepository extends JpaRepository<DeletionJob, Long> {
+
+    @Query("SELECT j.jobId FROM DeletionJob j WHERE j.status = :status ORDER BY j.jobId")
+    List<Long> findJobIdsByStatus(@Param("status") DeletionJobStatus status);
+}
@@ -3,12 +3,15 @@ package com.example.cgroove.repository;
 import com.example.cgroove.entity.EventJoin;
 import com.example.cgroove.enums.EventJoinStatus;
 import com.example.cgroove.repository.custom.EventJoinRepositoryCustom;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -17,13 +20,16 @@ public interface EventJoinRepository extends JpaRepository<EventJoin, Long> , Ev
 
     long countByEvent_EventIdAndStatus(Long eventId, EventJoinStatus status);
 
-    @Modifying()
-    @Query("UPDATE EventJoin cj SET cj.status = :status WHERE cj.participant.userId = :userId")
-    void softDeleteByUserId(@Param("userId") Long userId, @Param("status") EventJoinStatus status);
+    boolean existsByEvent_EventIdAndStatus(Long eventId, EventJoinStatus status);
 
-    @Modifying
-    @Query("update EventJoin ej set ej.status = :status where ej.event.club.clubId = :clubId")
-    void softDeleteByClubId(@Param("clubId") Long clubId, @Param("status") EventJoinStatus status);
+    // 대기자 명단 맨 앞 (동시 취소 시 같은 대기자를 중복 승격하지 않도록 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<EventJoin> findFirstByEvent_EventIdAndStatusOrderByWaitlistedAtAscEventJoinIdAsc(Long eventId, EventJoinStatus status);
+
+    @Query("SELECT count(ej) FROM EventJoin ej WHERE ej.event.eventId = :eventId AND ej.status = :status " +
+            "AND (ej.waitlistedAt < :waitlistedAt OR (ej.waitlistedAt = :waitlistedAt AND ej.eventJoinId < :eventJoinId))")
+    long countWaitlistAhead(@Param("eventId") Long eventId, @Param("status") EventJoinStatus status,
+                            @Param("waitlistedAt") LocalDateTime waitlistedAt, @Param("eventJoinId") Long eventJoinId);
 
     @Modifying
     @Query("update EventJoin ej set ej.status = :status where ej.event.eventId = :eventId")
@@ -2,31 +2,40 @@ package com.example.cgroove.repository;
 
 import com.example.cgroove.entity.Event;
 import com.example.cgroove.repository.custom.EventRepositoryCustom;
-import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long>, EventRepositoryCustom {
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select e from Event e where e.eventId = :eventId")
-    Optional<Event> findWithLockByEventId(@Param("eventId") Long eventId);
+    List<Event> findByStartsAtAfter(LocalDateTime now);
 
+    // 정원 미만일 때만 증가 (0 이면 마감)
     @Modifying
-    @Query("UPDATE Event e SET e.viewCount = e.viewCount + 1 WHERE e.eventId = :eventId")
-    void updateViewCount(@Param("eventId") Long eventId);
+    @Query("UPDATE Event e SET e.confirmedCount = e.confirmedCount + 1 " +
+            "WHERE e.eventId = :eventId AND e.confirmedCount < e.capacity")
+    int increaseConfirmedCount(@Param("eventId") Long eventId);
 
-    @Modifying()
-    @Query("UPDATE Event e SET e.isDeleted = true WHERE e.host.userId = :userId")
-    void softDeleteByUserId(@Param("userId") Long userId);
+    @Modifying
+    @Query("UPDATE Event e SET e.confirmedCount = e.confirmedCount - 1 " +
+            "WHERE e.eventId = :eventId AND e.confirmedCount > 0")
+    int decreaseConfirmedCount(@Param("eventId") Long eventId);
+
+    // 조건부 UPDATE 는 영속성 컨텍스트를 거치지 않으므로 증감 이후의 값은 DB 에서 다시 읽음
+    @Query("SELECT e.confirmedCount FROM Event e WHERE e.eventId = :eventId")
+    Long findConfirmedCount(@Param("eventId") Long eventId);
 
-    @Modifying()
-    @Query("UPDATE Event e SET e.isDeleted = true WHERE e.club.clubId = :clubId")
-    void softDeleteByClubId(@Param("clubId") Long clubId);
+    // event_joins 기준으로 확정 인원 재계산 (어긋난 행만 갱신)
+    @Modifying
+    @Query(value = "UPDATE events e SET confirmed_count = " +
+            "(SELECT count(*) FROM event_joins ej WHERE ej.event_id = e.event_id AND ej.status = 'CONFIRMED') " +
+            "WHERE e.confirmed_count <> " +
+            "(SELECT count(*) FROM event_joins ej WHERE ej.event_id = e.event_id AND ej.status = 'CONFIRMED')",
+            nativeQuery = true)
+    int rebuildConfirmedCounts();
 }
\ No newline at end of file
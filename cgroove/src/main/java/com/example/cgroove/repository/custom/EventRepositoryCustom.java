@@ -1,14 +1,21 @@
 package com.example.cgroove.repository.custom;
 
-import com.example.cgroove.entity.Event;
+import com.example.cgroove.dto.PageCursor;
+import com.example.cgroove.dto.event.EventSummary;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 
 public interface EventRepositoryCustom {
-    // 접근 가능한 모든 행사 조회
-    List<Event> findAllEvents(List<Long> myClubIds);
+    // 접근 가능한 행사 목록 조회 (커서 기반, 최신순)
+    List<EventSummary> findAllEvents(List<Long> myClubIds, PageCursor cursor, int limit);
 
     // 다가오는 행사 조회
-    List<Event> findUpcomingEvents(List<Long> myClubIds, Pageable pageable);
+    List<EventSummary> findUpcomingEvents(List<Long> myClubIds, Pageable pageable);
+
+    // 목록 행사의 태그 / 이미지 일괄 조회 (eventId -> 값 목록)
+    Map<Long, List<String>> findTagsByEventIds(List<Long> eventIds);
+
+    Map<Long, List<String>> findImagesByEventIds(List<Long> eventIds);
 }
@@ -1,17 +1,33 @@
 package com.example.cgroove.repository.custom;
 
-import com.example.cgroove.entity.Post;
+import com.example.cgroove.dto.PageCursor;
+import com.example.cgroove.dto.post.ClubPostRef;
+import com.example.cgroove.dto.post.HotPostSeed;
+import com.example.cgroove.dto.post.PostSummary;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public interface PostRepositoryCustom {
-    // 접근 가능한 모든 게시글 조회
-    List<Post> findAllPosts(List<Long> myClubIds);
+    // 접근 가능한 게시글 목록 조회 (커서 기반, 최신순)
+    List<PostSummary> findAllPosts(List<Long> myClubIds, PageCursor cursor, int limit);
 
     // [메인 페이지] 인기글 조회
-    List<Post> findHotPosts(Pageable pageable);
+    List<PostSummary> findHotPosts(Pageable pageable);
 
-    // [메인 페이지] 내 동아리 소식 조회
-    List<Post> findMyClubPosts(Long userId, Pageable pageable);
+    // [메인 페이지] 인기글 랭킹 재구성 - 기간 내 GLOBAL 게시글의 좋아요/조회/댓글 수 (SQL 1회)
+    List<HotPostSeed> findHotPostSeeds(LocalDateTime createdAfter);
+
+    // ID 목록으로 목록용 프로젝션 조회 (순서 보장 X)
+    List<PostSummary> findPostSummaries(List<Long> postIds);
+
+    // 목록 게시글의 태그 / 이미지 일괄 조회 (postId -> 값 목록)
+    Map<Long, List<String>> findTagsByPostIds(List<Long> postIds);
+
+    Map<Long, List<String>> findImagesByPostIds(List<Long> postIds);
+
+    // [메인 페이지] 내 동아리 소식 - 클럽별 최신 게시글 참조 조회
+    List<ClubPostRef> findClubPostRefs(List<Long> clubIds, int limit);
 }
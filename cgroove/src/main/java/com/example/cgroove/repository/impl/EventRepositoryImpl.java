@@ -1,16 +1,27 @@
 package com.example.cgroove.repository.impl;
 
-import com.example.cgroove.entity.Event;
+import com.example.cgroove.dto.PageCursor;
+import com.example.cgroove.dto.event.EventSummary;
 import com.example.cgroove.enums.Scope;
 import com.example.cgroove.repository.custom.EventRepositoryCustom;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.ListPath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+import static com.example.cgroove.entity.QComment.comment;
 import static com.example.cgroove.entity.QEvent.event;
 import static com.example.cgroove.entity.QUser.user;
 import static com.example.cgroove.entity.QClub.club;
@@ -21,25 +32,29 @@ public class EventRepositoryImpl implements EventRepositoryCustom {
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public List<Event> findAllEvents(List<Long> myClubIds) {
+    public List<EventSummary> findAllEvents(List<Long> myClubIds, PageCursor cursor, int limit) {
         return queryFactory
-                .selectFrom(event)
-                .join(event.host, user).fetchJoin()
-                .leftJoin(event.club, club).fetchJoin()
+                .select(eventSummary())
+                .from(event)
+                .join(event.host, user)
+                .leftJoin(event.club, club)
                 .where(
                         event.isDeleted.isFalse(),
-                        accessibleEventCondition(myClubIds)
+                        accessibleEventCondition(myClubIds),
+                        eventCursorCondition(cursor)
                 )
-                .orderBy(event.createdAt.desc())
+                .orderBy(event.createdAt.desc(), event.eventId.desc())
+                .limit(limit)
                 .fetch();
     }
 
     @Override
-    public List<Event> findUpcomingEvents(List<Long> myClubIds, Pageable pageable) {
+    public List<EventSummary> findUpcomingEvents(List<Long> myClubIds, Pageable pageable) {
         return queryFactory
-                .selectFrom(event)
-                .join(event.host, user).fetchJoin()
-                .leftJoin(event.club, club).fetchJoin()
+                .select(eventSummary())
+                .from(event)
+                .join(event.host, user)
+                .leftJoin(event.club, club)
                 .where(
                         event.startsAt.gt(LocalDateTime.now()),
                         event.isDeleted.isFalse(),
@@ -51,6 +66,76 @@ public class EventRepositoryImpl implements EventRepositoryCustom {
                 .fetch();
     }
 
+    @Override
+    public Map<Long, List<String>> findTagsByEventIds(List<Long> eventIds) {
+        return findValuesByEventIds(event.tags, eventIds);
+    }
+
+    @Override
+    public Map<Long, List<String>> findImagesByEventIds(List<Long> eventIds) {
+        return findValuesByEventIds(event.images, eventIds);
+    }
+
+    // 목록 컬럼 + 댓글 수 서브쿼리 (Comment 엔티티는 로딩하지 않음)
+    private ConstructorExpression<EventSummary> eventSummary() {
+        return Projections.constructor(EventSummary.class,
+                event.eventId,
+                user.userId,
+                user.nickname,
+                user.profileImage,
+                event.scope,
+                club.clubId,
+                club.clubName,
+                event.type,
+                event.title,
+                event.content,
+                event.locationName,
+                event.locationAddress,
+                event.locationLink,
+                event.capacity,
+                event.confirmedCount,
+                event.startsAt,
+                event.endsAt,
+                event.viewCount,
+                event.likeCount,
+                JPAExpressions.select(comment.count())
+                        .from(comment)
+                        .where(
+                                comment.event.eventId.eq(event.eventId),
+                                comment.isDeleted.isFalse()
+                        ),
+                event.createdAt,
+                event.updatedAt
+        );
+    }
+
+    // 컬렉션 테이블을 한 번에 조회해 eventId 별로 묶음
+    private Map<Long, List<String>> findValuesByEventIds(ListPath<String, StringPath> collection, List<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Map.of();
+        }
+        StringPath item = Expressions.stringPath("item");
+        List<Tuple> rows = queryFactory
+                .select(event.eventId, item)
+                .from(event)
+                .join(collection, item)
+                .where(event.eventId.in(eventIds))
+                .fetch();
+        return rows.stream().collect(Collectors.groupingBy(
+                row -> row.get(event.eventId),
+                Collectors.mapping(row -> row.get(item), Collectors.toList())
+        ));
+    }
+
+    // (createdAt, id) 가 커서보다 앞선 행만 조회
+    private BooleanExpression eventCursorCondition(PageCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return event.createdAt.lt(cursor.createdAt())
+                .or(event.createdAt.eq(cursor.createdAt()).and(event.eventId.lt(cursor.id())));
+    }
+
     private BooleanExpression accessibleEventCondition(List<Long> myClubIds) {
         BooleanExpression isGlobal = event.scope.eq(Scope.GLOBAL);
 
@@ -1,21 +1,33 @@
 package com.example.cgroove.repository.impl;
 
-import com.example.cgroove.entity.Post;
-import com.example.cgroove.enums.ClubJoinStatus;
+import com.example.cgroove.dto.PageCursor;
+import com.example.cgroove.dto.post.ClubPostRef;
+import com.example.cgroove.dto.post.HotPostSeed;
+import com.example.cgroove.dto.post.PostSummary;
 import com.example.cgroove.enums.Scope;
 import com.example.cgroove.repository.custom.PostRepositoryCustom;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.ListPath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+import static com.example.cgroove.entity.QComment.comment;
 import static com.example.cgroove.entity.QPost.post;
 import static com.example.cgroove.entity.QClub.club;
 import static com.example.cgroove.entity.QUser.user;
-import static com.example.cgroove.entity.QClubJoin.clubJoin;
 
 @RequiredArgsConstructor
 public class PostRepositoryImpl implements PostRepositoryCustom {
@@ -23,26 +35,30 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public List<Post> findAllPosts(List<Long> myClubIds) {
+    public List<PostSummary> findAllPosts(List<Long> myClubIds, PageCursor cursor, int limit) {
         return queryFactory
-                .selectFrom(post)
-                .join(post.author, user).fetchJoin()
-                .leftJoin(post.club, club).fetchJoin()
+                .select(postSummary())
+                .from(post)
+                .join(post.author, user)
+                .leftJoin(post.club, club)
                 .where(
                         post.isDeleted.isFalse(),
-                        accessiblePostCondition(myClubIds)
+                        accessiblePostCondition(myClubIds),
+                        postCursorCondition(cursor)
                 )
-                .orderBy(post.createdAt.desc())
+                .orderBy(post.createdAt.desc(), post.postId.desc())
+                .limit(limit)
                 .fetch();
     }
 
     @Override
-    public List<Post> findHotPosts(Pageable pageable) {
+    public List<PostSummary> findHotPosts(Pageable pageable) {
         LocalDateTime oneWeekAgo = LocalDateTime.now().minusDays(14);
         return queryFactory
-                .selectFrom(post)
-                .join(post.author, user).fetchJoin()
-                .leftJoin(post.club, club).fetchJoin()
+                .select(postSummary())
+                .from(post)
+                .join(post.author, user)
+                .leftJoin(post.club, club)
                 .where(
                         post.createdAt.gt(oneWeekAgo),
                         post.isDeleted.isFalse(),
@@ -55,24 +71,123 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
     }
 
     @Override
-    public List<Post> findMyClubPosts(Long userId, Pageable pageable) {
+    public List<HotPostSeed> findHotPostSeeds(LocalDateTime createdAfter) {
         return queryFactory
-                .selectFrom(post)
-                .join(post.club, club).fetchJoin()
-                .join(post.author, user).fetchJoin()
-                .join(club.members, clubJoin)
+                .select(Projections.constructor(HotPostSeed.class,
+                        post.postId,
+                        post.createdAt,
+                        post.likeCount,
+                        post.viewCount,
+                        commentCount()))
+                .from(post)
                 .where(
-                        clubJoin.user.userId.eq(userId),
-                        clubJoin.status.eq(ClubJoinStatus.ACTIVE),
+                        post.createdAt.gt(createdAfter),
+                        post.isDeleted.isFalse(),
+                        post.scope.eq(Scope.GLOBAL)
+                )
+                .fetch();
+    }
+
+    @Override
+    public List<PostSummary> findPostSummaries(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .select(postSummary())
+                .from(post)
+                .join(post.author, user)
+                .leftJoin(post.club, club)
+                .where(
+                        post.postId.in(postIds),
                         post.isDeleted.isFalse()
                 )
-                .orderBy(post.createdAt.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
                 .fetch();
     }
 
-    private BooleanExpression accessiblePostCondition(List<Long> myClubIds) {
+    @Override
+    public Map<Long, List<String>> findTagsByPostIds(List<Long> postIds) {
+        return findValuesByPostIds(post.tags, postIds);
+    }
+
+    @Override
+    public Map<Long, List<String>> findImagesByPostIds(List<Long> postIds) {
+        return findValuesByPostIds(post.images, postIds);
+    }
+
+    @Override
+    public List<ClubPostRef> findClubPostRefs(List<Long> clubIds, int limit) {
+        return queryFactory
+                .select(Projections.constructor(ClubPostRef.class, post.postId, post.club.clubId, post.createdAt))
+                .from(post)
+                .where(
+                        post.club.clubId.in(clubIds),
+                        post.isDeleted.isFalse()
+                )
+                .orderBy(post.createdAt.desc(), post.postId.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 목록 컬럼 + 댓글 수 서브쿼리 (Comment 엔티티는 로딩하지 않음)
+    private ConstructorExpression<PostSummary> postSummary() {
+        return Projections.constructor(PostSummary.class,
+                post.postId,
+                user.userId,
+                user.nickname,
+                user.profileImage,
+                post.scope,
+                club.clubId,
+                club.clubName,
+                post.title,
+                post.content,
+                post.viewCount,
+                post.likeCount,
+                commentCount(),
+                post.createdAt,
+                post.updatedAt
+        );
+    }
+
+    // 삭제되지 않은 댓글 수 (상관 서브쿼리)
+    private JPQLQuery<Long> commentCount() {
+        return JPAExpressions.select(comment.count())
+                .from(comment)
+                .where(
+                        comment.post.postId.eq(post.postId),
+                        comment.isDeleted.isFalse()
+                );
+    }
+
+    // 컬렉션 테이블을 한 번에 조회해 postId 별로 묶음
+    private Map<Long, List<String>> findValuesByPostIds(ListPath<String, StringPath> collection, List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        StringPath item = Expressions.stringPath("item");
+        List<Tuple> rows = queryFactory
+                .select(post.postId, item)
+                .from(post)
+                .join(collection, item)
+                .where(post.postId.in(postIds))
+                .fetch();
+        return rows.stream().collect(Collectors.groupingBy(
+                row -> row.get(post.postId),
+                Collectors.mapping(row -> row.get(item), Collectors.toList())
+        ));
+    }
+
+    // (createdAt, id) 가 커서보다 앞선 행만 조회
+    private BooleanExpression postCursorCondition(PageCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return post.createdAt.lt(cursor.createdAt())
+                .or(post.createdAt.eq(cursor.createdAt()).and(post.postId.lt(cursor.id())));
+    }
+
+    // 전체 공개 + 내 클럽 공개 글 (FeedPredicateBenchmark 에서 직접 호출)
+    static BooleanExpression accessiblePostCondition(List<Long> myClubIds) {
         BooleanExpression isGlobal = post.scope.eq(Scope.GLOBAL);
 
         if (myClubIds == null || myClubIds.isEmpty()) {
@@ -1,7 +1,5 @@
 package com.example.cgroove.security;
 
-import com.example.cgroove.entity.User;
-import com.example.cgroove.repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,7 +22,7 @@ import java.io.IOException;
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(
@@ -48,8 +46,10 @@ public class JwtFilter extends OncePerRequestFilter {
         try {
             String token = resolveToken(request);
 
-            if (token != null && jwtUtil.validateToken(token) && jwtUtil.isAccessToken(token)) {
-                authenticateUser(token, request);
+            if (token != null) {
+                jwtUtil.verify(token)
+                        .filter(VerifiedToken::isAccessToken)
+                        .ifPresent(verified -> authenticateUser(verified.userId(), request));
             }
 
         } catch (Exception e) {
@@ -68,20 +68,10 @@ public class JwtFilter extends OncePerRequestFilter {
         return null;
     }
 
-    private void authenticateUser(String token, HttpServletRequest request) {
-        Long userId = jwtUtil.getUserId(token);
-
-        User user = userRepository.findById(userId)
+    private void authenticateUser(Long userId, HttpServletRequest request) {
+        UserDetail userDetails = principalCache.get(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
 
-        UserDetail userDetails = new UserDetail(
-                user.getUserId(),
-                user.getEmail(),
-                user.getNickname(),
-                user.getProfileImage(),
-                user.getPassword()
-        );
-
         UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(
                         userDetails,
@@ -95,6 +85,6 @@ public class JwtFilter extends OncePerRequestFilter {
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        log.debug("사용자 인증 완료: userId={}, email={}", userId, user.getEmail());
+        log.debug("사용자 인증 완료: userId={}, email={}", userId, userDetails.getEmail());
     }
 }
\ No newline at end of file
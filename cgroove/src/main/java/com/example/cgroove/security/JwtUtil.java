@@ -1,24 +1,45 @@
 package com.example.cgroove.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 public class JwtUtil {
-    @Value("${jwt.secret}")
-    private String jwtSecret;
-    private Key key;
+    // exp 가 없는 토큰의 캐시 유지 시간
+    private static final Duration NO_EXPIRY_TTL = Duration.ofHours(1);
 
-    @PostConstruct
-    public void init() {
+    private final Key key;
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtUtil(@Value("${jwt.secret}") String jwtSecret,
+                   @Value("${jwt.cache.max-size:10000}") long cacheMaxSize) {
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        // 0 이하이면 캐시 없이 매번 검증
+        this.verifiedTokens = cacheMaxSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(cacheMaxSize)
+                        .expireAfter(new UntilTokenExpiry())
+                        .build()
+                : null;
     }
 
     public String generateAccessToken(Long userId) {
@@ -43,38 +64,77 @@ public class JwtUtil {
                 .compact();
     }
 
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (JwtException e) {
-            return false;
+    // 한 번의 파싱으로 서명 / 만료 / 클레임 확인 (검증된 토큰은 exp 까지 해시 키로 캐시)
+    public Optional<VerifiedToken> verify(String token) {
+        if (verifiedTokens == null) {
+            return parse(token);
         }
+        return Optional.ofNullable(verifiedTokens.get(hash(token), ignored -> parse(token).orElse(null)));
+    }
+
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
     }
 
     public Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     public Long getUserId(String token) {
-        return Long.valueOf(getClaims(token).getSubject());
+        return verify(token)
+                .map(VerifiedToken::userId)
+                .orElseThrow(() -> new JwtException("유효하지 않은 토큰입니다"));
     }
 
     public boolean isAccessToken(String token) {
-        String type = (String) getClaims(token).get("type");
-        return "ACCESS".equals(type);
+        return verify(token).map(VerifiedToken::isAccessToken).orElse(false);
     }
 
     public boolean isRefreshToken(String token) {
-        String type = (String) getClaims(token).get("type");
-        return "REFRESH".equals(type);
+        return verify(token).map(VerifiedToken::isRefreshToken).orElse(false);
     }
-}
 
+    private Optional<VerifiedToken> parse(String token) {
+        try {
+            Claims claims = getClaims(token);
+            Date expiration = claims.getExpiration();
+            return Optional.of(new VerifiedToken(
+                    Long.valueOf(claims.getSubject()),
+                    claims.get("type", String.class),
+                    expiration != null ? expiration.toInstant() : null
+            ));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    // 원본 토큰을 메모리에 두지 않도록 SHA-256 해시를 키로 사용
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+            if (token.expiresAt() == null) {
+                return NO_EXPIRY_TTL.toNanos();
+            }
+            return Math.max(0L, Duration.between(Instant.now(), token.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
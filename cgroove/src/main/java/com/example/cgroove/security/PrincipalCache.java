@@ -0,0 +1,64 @@
+package com.example.cgroove.security;
+
+import com.example.cgroove.entity.User;
+import com.example.cgroove.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// 인증 주체(UserDetail) 캐시 (JwtFilter 에서 요청마다 users 를 조회하지 않도록 userId 기준으로 보관)
+@Component
+public class PrincipalCache {
+    private final UserRepository userRepository;
+    private final Cache<Long, UserDetail> principals;
+
+    public PrincipalCache(UserRepository userRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${security.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${security.principal-cache.ttl:5m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        // cache.gets{result=hit|miss}, cache.evictions 등을 Prometheus 로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "principals");
+    }
+
+    public Optional<UserDetail> get(Long userId) {
+        return Optional.ofNullable(principals.get(userId,
+                id -> userRepository.findById(id).map(PrincipalCache::toUserDetail).orElse(null)));
+    }
+
+    // 사용자 정보 변경 시 즉시 + 커밋 이후 한 번 더 제거 (커밋 전 다른 요청이 이전 값을 다시 적재하는 경우 대비)
+    public void invalidate(Long userId) {
+        principals.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    principals.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    private static UserDetail toUserDetail(User user) {
+        return new UserDetail(
+                user.getUserId(),
+                user.getEmail(),
+                user.getNickname(),
+                user.getProfileImage(),
+                user.getPassword()
+        );
+    }
+}
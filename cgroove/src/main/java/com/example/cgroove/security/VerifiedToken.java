@@ -0,0 +1,18 @@
+package com.example.cgroove.security;
+
+import java.time.Instant;
+
+// 서명 / 만료 검증을 마친 토큰 정보 (한 번 파싱한 결과를 재사용)
+public record VerifiedToken(
+        Long userId,
+        String type,
+        Instant expiresAt
+) {
+    public boolean isAccessToken() {
+        return "ACCESS".equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return "REFRESH".equals(type);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.enums.DeletionJobStatus;
+import com.example.cgroove.repository.DeletionJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 진행 중인 삭제 작업을 청크 단위로 처리. 서버가 재시작돼도 기록된 단계/위치부터 이어서 진행
+// 청크가 실패하면 그 청크만 롤백되고 다음 주기에 같은 위치부터 재시도
+// 한 주기에 처리할 청크 수를 제한해 큰 클럽 삭제도 스케줄러 스레드를 오래 붙잡지 않음 (남은 청크는 다음 주기에)
+@Slf4j
+@Component
+public class CascadeDeleteWorker {
+    private final DeletionJobRepository deletionJobRepository;
+    private final CascadeDeleter cascadeDeleter;
+    private final long chunkPauseMs;
+    private final int maxChunksPerPoll;
+
+    public CascadeDeleteWorker(DeletionJobRepository deletionJobRepository,
+                               CascadeDeleter cascadeDeleter,
+                               @Value("${cascade-delete.chunk-pause-ms:20}") long chunkPauseMs,
+                               @Value("${cascade-delete.max-chunks-per-poll:20}") int maxChunksPerPoll) {
+        this.deletionJobRepository = deletionJobRepository;
+        this.cascadeDeleter = cascadeDeleter;
+        this.chunkPauseMs = chunkPauseMs;
+        this.maxChunksPerPoll = maxChunksPerPoll;
+    }
+
+    @Scheduled(fixedDelayString = "${cascade-delete.poll-interval-ms:1000}")
+    public synchronized void drain() {
+        int budget = maxChunksPerPoll;
+        for (Long jobId : deletionJobRepository.findJobIdsByStatus(DeletionJobStatus.RUNNING)) {
+            if (budget <= 0) {
+                return;
+            }
+            try {
+                boolean remaining = true;
+                while (remaining && budget > 0) {
+                    remaining = cascadeDeleter.runChunk(jobId);
+                    budget--;
+                    // 청크 사이에 잠깐 쉬어 다른 요청의 잠금 대기를 줄임
+                    if (remaining && budget > 0 && chunkPauseMs > 0) {
+                        Thread.sleep(chunkPauseMs);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Cascade delete job {} failed, will resume on next poll - {}", jobId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.entity.DeletionJob;
+import com.example.cgroove.enums.CascadeStep;
+import com.example.cgroove.enums.ClubJoinStatus;
+import com.example.cgroove.enums.EventJoinStatus;
+import com.example.cgroove.repository.DeletionJobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// 삭제 작업의 한 청크(ID 구간)를 짧은 트랜잭션 하나로 처리하고, 진행 위치도 같은 트랜잭션에 기록
+// 큰 클럽/오래된 회원도 한 번에 잡는 잠금은 청크 크기만큼으로 제한됨
+@Component
+public class CascadeDeleter {
+    private static final Map<CascadeStep, ChunkSql> STEP_SQL = new EnumMap<>(CascadeStep.class);
+    // 취소되는 확정 신청의 행사 (좌석 인계 대상). 구간 안의 행을 잠가 동시 상태 변경과 겹치지 않게 함
+    private static final String CONFIRMED_EVENT_IDS_SQL = "SELECT event_id FROM event_joins WHERE user_id = ? AND event_join_id > ? AND event_join_id <= ? AND status = '" + EventJoinStatus.CONFIRMED.name() + "' FOR UPDATE";
+
+    static {
+        for (CascadeStep step : CascadeStep.values()) {
+            STEP_SQL.put(step, sqlOf(step));
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DeletionJobRepository deletionJobRepository;
+    private final EventJoinService eventJoinService;
+    private final ClubTimeline clubTimeline;
+    private final ClubMembershipCache membershipCache;
+    private final HotPostRanking hotPostRanking;
+    private final int chunkSize;
+
+    // idsSql: (대상 ID, 마지막 처리 ID, 청크 크기) -> 다음 청크의 행 ID
+    // updateSql: (변경 시각, 대상 ID, 구간 시작(제외), 구간 끝(포함)). 변경 시각은 updated_at 에 기록 (보관 유예 기간 기준)
+    private record ChunkSql(String idsSql, String updateSql) {
+    }
+
+    public CascadeDeleter(JdbcTemplate jdbcTemplate,
+                          DeletionJobRepository deletionJobRepository,
+                          EventJoinService eventJoinService,
+                          ClubTimeline clubTimeline,
+                          ClubMembershipCache membershipCache,
+                          HotPostRanking hotPostRanking,
+                          @Value("${cascade-delete.chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.deletionJobRepository = deletionJobRepository;
+        this.eventJoinService = eventJoinService;
+        this.clubTimeline = clubTimeline;
+        this.membershipCache = membershipCache;
+        this.hotPostRanking = hotPostRanking;
+        this.chunkSize = chunkSize;
+    }
+
+    // 남은 작업이 있으면 true
+    @Transactional
+    public boolean runChunk(Long jobId) {
+        DeletionJob job = deletionJobRepository.findById(jobId).orElse(null);
+        if (job == null || !job.isRunning()) {
+            return false;
+        }
+
+        CascadeStep step = job.getStep();
+        ChunkSql sql = STEP_SQL.get(step);
+        Long targetId = job.getTargetId();
+        List<Long> ids = jdbcTemplate.queryForList(sql.idsSql(), Long.class, targetId, job.getLastProcessedId(), chunkSize);
+        if (!ids.isEmpty()) {
+            Long from = job.getLastProcessedId();
+            Long to = ids.getLast();
+            List<Long> seatEventIds = step == CascadeStep.USER_EVENT_JOINS
+                    ? jdbcTemplate.queryForList(CONFIRMED_EVENT_IDS_SQL, Long.class, targetId, from, to)
+                    : List.of();
+            int rows = jdbcTemplate.update(sql.updateSql(), Timestamp.valueOf(LocalDateTime.now()), targetId, from, to);
+            if (!seatEventIds.isEmpty()) {
+                eventJoinService.handOverSeats(seatEventIds);
+            }
+            if (step == CascadeStep.USER_POSTS || step == CascadeStep.CLUB_POSTS) {
+                removeFromFeeds(ids);
+            }
+            job.advance(to, rows);
+        }
+
+        // 청크가 덜 찼으면 이 단계의 남은 행이 없음
+        if (ids.size() < chunkSize) {
+            afterStep(step, targetId);
+            job.finishStep();
+        }
+        return job.isRunning();
+    }
+
+    // 가입 정보 정리가 끝난 뒤 캐시 반영 (도중에 다시 적재된 값도 지워지도록 단계 완료 시점에 처리)
+    private void afterStep(CascadeStep step, Long targetId) {
+        switch (step) {
+            case CLUB_MEMBERS -> {
+                clubTimeline.dropClub(targetId);
+                membershipCache.evictClub(targetId);
+            }
+            case USER_CLUB_JOINS -> {
+                clubTimeline.invalidate(targetId);
+                membershipCache.invalidate(targetId);
+            }
+            default -> {
+            }
+        }
+    }
+
+    // 구간의 게시글은 모두 삭제 상태가 되므로 인기글 랭킹/다른 회원의 클럽 타임라인에서도 빼냄 (롤백되면 그대로 둠)
+    private void removeFromFeeds(List<Long> postIds) {
+        Runnable remove = () -> postIds.forEach(postId -> {
+            hotPostRanking.remove(postId);
+            clubTimeline.removePost(postId);
+        });
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remove.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remove.run();
+            }
+        });
+    }
+
+    private static ChunkSql sqlOf(CascadeStep step) {
+        return switch (step) {
+            case CLUB_POSTS -> softDelete("posts", "post_id", "club_id");
+            case CLUB_EVENTS -> softDelete("events", "event_id", "club_id");
+            case CLUB_MEMBERS -> changeStatus("club_joins", "club_join_id", "club_id", ClubJoinStatus.CANCELED.name());
+            case CLUB_EVENT_JOINS -> new ChunkSql(
+                    "SELECT ej.event_join_id FROM event_joins ej JOIN events e ON e.event_id = ej.event_id " +
+                            "WHERE e.club_id = ? AND ej.event_join_id > ? ORDER BY ej.event_join_id LIMIT ?",
+                    "UPDATE event_joins SET status = '" + EventJoinStatus.CANCELED.name() + "', updated_at = ? " +
+                            "WHERE event_id IN (SELECT event_id FROM events WHERE club_id = ?) " +
+                            "AND event_join_id > ? AND event_join_id <= ? AND status <> '" + EventJoinStatus.CANCELED.name() + "'");
+            case USER_POSTS -> softDelete("posts", "post_id", "user_id");
+            case USER_EVENTS -> softDelete("events", "event_id", "user_id");
+            case USER_CLUB_JOINS -> changeStatus("club_joins", "club_join_id", "user_id", ClubJoinStatus.LEFT.name());
+            case USER_EVENT_JOINS -> changeStatus("event_joins", "event_join_id", "user_id", EventJoinStatus.CANCELED.name());
+        };
+    }
+
+    private static ChunkSql softDelete(String table, String idColumn, String ownerColumn) {
+        return new ChunkSql(idsSql(table, idColumn, ownerColumn),
+                "UPDATE " + table + " SET is_deleted = true, updated_at = ? WHERE " + ownerColumn + " = ? AND " + idColumn + " > ? AND " +
+                        idColumn + " <= ? AND is_deleted = false");
+    }
+
+    private static ChunkSql changeStatus(String table, String idColumn, String ownerColumn, String status) {
+        return new ChunkSql(idsSql(table, idColumn, ownerColumn),
+                "UPDATE " + table + " SET status = '" + status + "', updated_at = ? WHERE " + ownerColumn + " = ? AND " + idColumn + " > ? AND " +
+                        idColumn + " <= ? AND status <> '" + status + "'");
+    }
+
+    private static String idsSql(String table, String idColumn, String ownerColumn) {
+        return "SELECT " + idColumn + " FROM " + table + " WHERE " + ownerColumn + " = ? AND " + idColumn + " > ? ORDER BY " + idColumn + " LIMIT ?";
+    }
+}
@@ -2,7 +2,6 @@ package com.example.cgroove.service;
 
 import com.example.cgroove.entity.Club;
 import com.example.cgroove.entity.ClubJoin;
-import com.example.cgroove.enums.ClubJoinStatus;
 import com.example.cgroove.enums.ClubRole;
 import com.example.cgroove.exception.AuthException;
 import com.example.cgroove.exception.NotFoundException;
@@ -20,19 +19,23 @@ import java.util.List;
 public class ClubAuthService {
     private final ClubRepository clubRepository;
     private final ClubJoinRepository clubJoinRepository;
+    private final ClubMembershipCache membershipCache;
 
+    // 권한 확인은 활동 중인 가입 정보 캐시로 처리
     public void validateClubAuthority(Long userId, Long clubId) {
-        ClubJoin clubJoin = findClubJoin(userId, clubId);
+        boolean permitted = membershipCache.roleOf(userId, clubId)
+                .map(ClubRole::hasManagementPermission)
+                .orElse(false);
 
-        if (!clubJoin.hasManagementPermission()) {
+        if (!permitted) {
             throw new AuthException("클럽 권한이 없습니다");
         }
     }
 
     public void validateLeaderAuthority(Long userId, Long clubId) {
-        ClubJoin clubJoin = findClubJoin(userId, clubId);
+        ClubRole role = membershipCache.roleOf(userId, clubId).orElse(null);
 
-        if (clubJoin == null || clubJoin.getRole() != ClubRole.LEADER) {
+        if (role != ClubRole.LEADER) {
             throw new AuthException("클럽 리더만 가능합니다");
         }
     }
@@ -48,6 +51,6 @@ public class ClubAuthService {
     }
 
     public List<Long> findUserClubIds(Long userId) {
-        return clubJoinRepository.findClubIdsByUserIdAndStatus(userId, ClubJoinStatus.ACTIVE);
+        return membershipCache.clubIdsOf(userId);
     }
 }
\ No newline at end of file
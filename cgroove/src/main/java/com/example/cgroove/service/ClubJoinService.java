@@ -24,6 +24,8 @@ public class ClubJoinService {
     private final ClubJoinRepository clubJoinRepository;
     private final UserRepository userRepository;
     private final ClubAuthService clubAuthService;
+    private final ClubTimeline clubTimeline;
+    private final ClubMembershipCache membershipCache;
 
     // 일반 사용자용
     @Transactional
@@ -79,6 +81,8 @@ public class ClubJoinService {
         }
 
         clubJoin.changeStatus(ClubJoinStatus.LEFT);
+        clubTimeline.removeClub(userId, clubId);
+        membershipCache.leave(userId, clubId);
     }
 
     public List<ClubJoinResponse> getMyClubs(Long userId) {
@@ -102,6 +106,8 @@ public class ClubJoinService {
         }
 
         clubJoin.changeStatus(ClubJoinStatus.ACTIVE);
+        clubTimeline.invalidate(applicantId);
+        membershipCache.join(applicantId, clubId, clubJoin.getRole());
     }
 
     @Transactional
@@ -132,6 +138,8 @@ public class ClubJoinService {
         }
 
         clubJoin.changeStatus(ClubJoinStatus.LEFT);
+        clubTimeline.removeClub(targetUserId, clubId);
+        membershipCache.leave(targetUserId, clubId);
     }
 
     @Transactional
@@ -147,6 +155,7 @@ public class ClubJoinService {
         }
 
         clubJoin.changeRole(newRole);
+        membershipCache.join(targetUserId, clubId, newRole);
     }
 
     // 조회용
@@ -164,13 +173,4 @@ public class ClubJoinService {
         return clubJoinRepository.findClubMembers(clubId, ClubJoinStatus.PENDING)
                 .stream().map(ClubJoinResponse::from).toList();
     }
-
-    @Transactional
-    public void softDeleteByUserId(Long userId) {
-        clubJoinRepository.softDeleteByUserId(userId, ClubJoinStatus.LEFT);
-    }
-    @Transactional
-    public void softDeleteByClubId(Long clubId) {
-        clubJoinRepository.softDeleteByClubId(clubId, ClubJoinStatus.CANCELED);
-    }
 }
\ No newline at end of file
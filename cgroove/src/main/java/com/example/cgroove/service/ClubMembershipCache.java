@@ -0,0 +1,110 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.dto.club.ClubMembership;
+import com.example.cgroove.enums.ClubJoinStatus;
+import com.example.cgroove.enums.ClubRole;
+import com.example.cgroove.repository.ClubJoinRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+// 사용자별 활동 중인 클럽 + 역할 캐시 (피드 접근 확인, 관리자 권한 확인을 DB 조회 없이 처리)
+@Component
+public class ClubMembershipCache {
+    private final ClubJoinRepository clubJoinRepository;
+    private final Cache<Long, Map<Long, ClubRole>> memberships;
+
+    public ClubMembershipCache(ClubJoinRepository clubJoinRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${club.membership-cache.max-size:10000}") long maxSize,
+                               @Value("${club.membership-cache.ttl:10m}") Duration ttl) {
+        this.clubJoinRepository = clubJoinRepository;
+        this.memberships = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, memberships, "club_memberships");
+    }
+
+    public Optional<ClubRole> roleOf(Long userId, Long clubId) {
+        return Optional.ofNullable(membershipsOf(userId).get(clubId));
+    }
+
+    public List<Long> clubIdsOf(Long userId) {
+        return List.copyOf(membershipsOf(userId).keySet());
+    }
+
+    // 승인, 역할 변경, 클럽 생성 시 (캐시에 올라온 사용자만 갱신, 없으면 다음 조회 때 적재)
+    public void join(Long userId, Long clubId, ClubRole role) {
+        afterCommit(() -> memberships.asMap().computeIfPresent(userId, (id, clubs) -> {
+            Map<Long, ClubRole> updated = new HashMap<>(clubs);
+            updated.put(clubId, role);
+            return Map.copyOf(updated);
+        }));
+    }
+
+    // 탈퇴, 추방 시
+    public void leave(Long userId, Long clubId) {
+        afterCommit(() -> memberships.asMap().computeIfPresent(userId, (id, clubs) -> without(clubs, clubId)));
+    }
+
+    // 클럽 삭제 시 모든 사용자에게서 제거
+    public void evictClub(Long clubId) {
+        afterCommit(() -> memberships.asMap().replaceAll((id, clubs) -> without(clubs, clubId)));
+    }
+
+    // 회원 탈퇴 등 여러 가입 정보가 한 번에 바뀌는 경우
+    public void invalidate(Long userId) {
+        memberships.invalidate(userId);
+        afterCommit(() -> memberships.invalidate(userId));
+    }
+
+    private Map<Long, ClubRole> membershipsOf(Long userId) {
+        if (userId == null) {
+            return Map.of();
+        }
+        return memberships.get(userId, this::load);
+    }
+
+    private Map<Long, ClubRole> load(Long userId) {
+        return clubJoinRepository.findMembershipsByUserIdAndStatus(userId, ClubJoinStatus.ACTIVE).stream()
+                .collect(Collectors.toUnmodifiableMap(ClubMembership::clubId, ClubMembership::role));
+    }
+
+    private static Map<Long, ClubRole> without(Map<Long, ClubRole> clubs, Long clubId) {
+        if (!clubs.containsKey(clubId)) {
+            return clubs;
+        }
+        Map<Long, ClubRole> updated = new HashMap<>(clubs);
+        updated.remove(clubId);
+        return Map.copyOf(updated);
+    }
+
+    // 롤백된 변경이 캐시에 남지 않도록 커밋 이후 반영
+    // 커밋 전에 적재된 값에도 같은 변경이 덮어써지므로 동시 조회와 경합해도 최종 상태가 맞음
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -3,15 +3,16 @@ package com.example.cgroove.service;
 import com.example.cgroove.dto.club.ClubCreateRequest;
 import com.example.cgroove.dto.club.ClubResponse;
 import com.example.cgroove.dto.club.ClubUpdateRequest;
+import com.example.cgroove.dto.deletion.DeletionJobResponse;
 import com.example.cgroove.entity.Club;
 import com.example.cgroove.entity.User;
 import com.example.cgroove.enums.ClubJoinStatus;
 import com.example.cgroove.enums.ClubRole;
+import com.example.cgroove.enums.DeletionTarget;
 import com.example.cgroove.enums.ImageType;
 import com.example.cgroove.exception.NotFoundException;
 import com.example.cgroove.repository.ClubRepository;
 import com.example.cgroove.repository.UserRepository;
-import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,12 +27,9 @@ public class ClubService {
     private final ClubRepository clubRepository;
     private final UserRepository userRepository;
     private final ClubAuthService clubAuthService;
-    private final ClubJoinService clubJoinService;
-    private final EventJoinService eventJoinService;
-    private final PostService postService;
-    private final EventService eventService;
     private final FileStorageService fileStorageService;
-    private final EntityManager em;
+    private final ClubMembershipCache membershipCache;
+    private final DeletionJobService deletionJobService;
 
     @Transactional
     public ClubResponse createClub(Long userId, ClubCreateRequest request, MultipartFile clubImage) {
@@ -54,7 +52,9 @@ public class ClubService {
                 .build();
 
         club.addMember(user, ClubRole.LEADER, ClubJoinStatus.ACTIVE);
-        return ClubResponse.from(clubRepository.save(club));
+        Club savedClub = clubRepository.save(club);
+        membershipCache.join(userId, savedClub.getClubId(), ClubRole.LEADER);
+        return ClubResponse.from(savedClub);
     }
 
     public ClubResponse getClub(Long clubId) {
@@ -99,8 +99,9 @@ public class ClubService {
         return ClubResponse.from(clubRepository.save(club));
     }
 
+    // 클럽만 바로 삭제하고, 게시글/행사/가입/신청 정리는 청크 단위 작업으로 넘김 (CascadeDeleteWorker)
     @Transactional
-    public void deleteClub(Long userId, Long clubId) {
+    public DeletionJobResponse deleteClub(Long userId, Long clubId) {
         clubAuthService.validateLeaderAuthority(userId, clubId);
         Club club = clubAuthService.findByClubId(clubId);
 
@@ -108,14 +109,8 @@ public class ClubService {
             fileStorageService.deleteFile(club.getClubImage());
         }
 
-        postService.softDeleteByClubId(clubId);
-        eventService.softDeleteByClubId(clubId);
-        clubJoinService.softDeleteByClubId(clubId);
-        eventJoinService.softDeleteByClubId(clubId);
-
         club.delete();
-
-        em.flush();
-        em.clear();
+        membershipCache.evictClub(clubId);
+        return deletionJobService.start(DeletionTarget.CLUB, clubId, userId);
     }
 }
@@ -0,0 +1,178 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.dto.post.ClubPostRef;
+import com.example.cgroove.entity.Post;
+import com.example.cgroove.enums.ClubJoinStatus;
+import com.example.cgroove.enums.Scope;
+import com.example.cgroove.repository.ClubJoinRepository;
+import com.example.cgroove.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+// [내 동아리 소식] 사용자별 타임라인 (작성 시 멤버에게 배포, 대형 클럽은 읽을 때 조회)
+@Slf4j
+@Component
+public class ClubTimeline {
+    static final int TIMELINE_SIZE = 100;
+    private static final Duration IDLE_TTL = Duration.ofHours(1);
+    private static final Comparator<ClubPostRef> NEWEST_FIRST = Comparator
+            .comparing(ClubPostRef::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(ClubPostRef::postId, Comparator.reverseOrder());
+
+    private final PostRepository postRepository;
+    private final ClubJoinRepository clubJoinRepository;
+    private final long fanOutThreshold;
+
+    private final ConcurrentMap<Long, UserTimeline> timelines = new ConcurrentHashMap<>();
+    private final Set<Long> largeClubIds = ConcurrentHashMap.newKeySet();
+
+    public ClubTimeline(PostRepository postRepository,
+                        ClubJoinRepository clubJoinRepository,
+                        @Value("${timeline.fan-out-threshold:300}") long fanOutThreshold) {
+        this.postRepository = postRepository;
+        this.clubJoinRepository = clubJoinRepository;
+        this.fanOutThreshold = fanOutThreshold;
+    }
+
+    // 새 클럽 글을 메모리에 올라온 멤버 타임라인 앞에 추가 (나머지는 첫 조회 때 재구성)
+    public void publish(Post post) {
+        if (post.getScope() != Scope.CLUB || post.getClub() == null) {
+            return;
+        }
+
+        Long clubId = post.getClub().getClubId();
+        if (clubJoinRepository.countByClub_ClubIdAndStatus(clubId, ClubJoinStatus.ACTIVE) > fanOutThreshold) {
+            largeClubIds.add(clubId);
+            return;
+        }
+        largeClubIds.remove(clubId);
+
+        LocalDateTime createdAt = post.getCreatedAt() != null ? post.getCreatedAt() : LocalDateTime.now();
+        ClubPostRef ref = new ClubPostRef(post.getPostId(), clubId, createdAt);
+        for (Long memberId : clubJoinRepository.findUserIdsByClubIdAndStatus(clubId, ClubJoinStatus.ACTIVE)) {
+            UserTimeline timeline = timelines.get(memberId);
+            if (timeline != null) {
+                timeline.push(ref);
+            }
+        }
+    }
+
+    // 최신 글 ID (타임라인 + 대형 클럽 직접 조회 병합)
+    public List<Long> recentPostIds(Long userId, List<Long> clubIds, int limit) {
+        if (clubIds.isEmpty()) {
+            return List.of();
+        }
+
+        UserTimeline timeline = timelines.get(userId);
+        if (timeline == null) {
+            timeline = materialize(clubIds);
+            UserTimeline existing = timelines.putIfAbsent(userId, timeline);
+            timeline = existing != null ? existing : timeline;
+        }
+        timeline.touch();
+
+        Set<Long> joinedClubIds = new HashSet<>(clubIds);
+        List<Long> largeJoined = clubIds.stream().filter(largeClubIds::contains).toList();
+
+        Stream<ClubPostRef> refs = timeline.snapshot().stream()
+                .filter(ref -> joinedClubIds.contains(ref.clubId()) && !largeClubIds.contains(ref.clubId()));
+        if (!largeJoined.isEmpty()) {
+            refs = Stream.concat(refs, postRepository.findClubPostRefs(largeJoined, limit).stream());
+        }
+
+        return refs.sorted(NEWEST_FIRST)
+                .map(ClubPostRef::postId)
+                .distinct()
+                .limit(limit)
+                .toList();
+    }
+
+    public void removePost(Long postId) {
+        timelines.values().forEach(timeline -> timeline.removeIf(ref -> ref.postId().equals(postId)));
+    }
+
+    // 탈퇴/추방 시 해당 클럽 글 제거
+    public void removeClub(Long userId, Long clubId) {
+        UserTimeline timeline = timelines.get(userId);
+        if (timeline != null) {
+            timeline.removeIf(ref -> ref.clubId().equals(clubId));
+        }
+    }
+
+    public void dropClub(Long clubId) {
+        largeClubIds.remove(clubId);
+        timelines.values().forEach(timeline -> timeline.removeIf(ref -> ref.clubId().equals(clubId)));
+    }
+
+    // 가입 승인 등으로 구독 클럽이 바뀌면 다음 조회 때 재구성
+    public void invalidate(Long userId) {
+        timelines.remove(userId);
+    }
+
+    @Scheduled(fixedDelay = 600_000)
+    public void evictIdle() {
+        Instant threshold = Instant.now().minus(IDLE_TTL);
+        timelines.values().removeIf(timeline -> timeline.lastAccess.isBefore(threshold));
+    }
+
+    private UserTimeline materialize(List<Long> clubIds) {
+        List<Long> large = clubJoinRepository.findClubIdsWithMembersOver(clubIds, ClubJoinStatus.ACTIVE, fanOutThreshold);
+        clubIds.forEach(clubId -> {
+            if (large.contains(clubId)) {
+                largeClubIds.add(clubId);
+            } else {
+                largeClubIds.remove(clubId);
+            }
+        });
+
+        List<Long> smallClubIds = clubIds.stream().filter(clubId -> !large.contains(clubId)).toList();
+        List<ClubPostRef> refs = smallClubIds.isEmpty()
+                ? List.of()
+                : postRepository.findClubPostRefs(smallClubIds, TIMELINE_SIZE);
+        return new UserTimeline(refs);
+    }
+
+    private static final class UserTimeline {
+        private final Deque<ClubPostRef> entries;
+        private volatile Instant lastAccess = Instant.now();
+
+        private UserTimeline(List<ClubPostRef> newestFirst) {
+            this.entries = new ArrayDeque<>(newestFirst);
+        }
+
+        private synchronized void push(ClubPostRef ref) {
+            entries.addFirst(ref);
+            while (entries.size() > TIMELINE_SIZE) {
+                entries.removeLast();
+            }
+        }
+
+        private synchronized void removeIf(Predicate<ClubPostRef> filter) {
+            entries.removeIf(filter);
+        }
+
+        private synchronized List<ClubPostRef> snapshot() {
+            return List.copyOf(entries);
+        }
+
+        private void touch() {
+            lastAccess = Instant.now();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.exception.InvalidRequestException;
+import com.example.cgroove.exception.NotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// 삭제된 행과 오래전에 끝난 행사를 같은 컬럼의 *_archive 테이블로 옮기고 되돌림
+// 게시글/행사는 태그/이미지/좋아요/댓글(/신청)까지 한 묶음으로 옮겨 FK 와 like_count 정합성을 유지
+@Component
+@RequiredArgsConstructor
+public class ColdArchive {
+    private static final String POST_COLUMNS = "post_id, user_id, scope, club_id, title, content, like_count, view_count, created_at, updated_at, is_deleted";
+    private static final String EVENT_COLUMNS = "event_id, user_id, scope, club_id, type, title, content, location_name, location_address, location_link, " +
+            "capacity, confirmed_count, starts_at, ends_at, like_count, view_count, created_at, updated_at, is_deleted";
+    private static final String COMMENT_COLUMNS = "comment_id, user_id, post_id, event_id, content, created_at, updated_at, is_deleted";
+    private static final String EVENT_JOIN_COLUMNS = "event_join_id, user_id, event_id, status, waitlisted_at, created_at, updated_at, is_deleted";
+    // 삭제 후 유예 기간이 지난 행. 삭제 시각은 updated_at (엔티티 삭제는 auditing, 일괄 삭제는 CascadeDeleter 가 기록)
+    private static final String DELETED_BEFORE = "is_deleted = true AND updated_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // stamped: 보관 테이블에 archived_at 컬럼이 있는지
+    private record ArchiveTable(String name, String keyColumn, String columns, boolean stamped) {
+    }
+
+    public record Batch(long lastId, int archived) {
+    }
+
+    public enum Kind {
+        POST(new ArchiveTable("posts", "post_id", POST_COLUMNS, true), List.of(
+                new ArchiveTable("post_tags", "post_id", "post_id, tag", false),
+                new ArchiveTable("post_images", "post_id", "post_id, image", false),
+                new ArchiveTable("post_likes", "post_id", "like_id, post_id, user_id, created_at", false),
+                new ArchiveTable("comments", "post_id", COMMENT_COLUMNS, true)),
+                DELETED_BEFORE, "보관된 게시글을 찾을 수 없습니다"),
+        EVENT(new ArchiveTable("events", "event_id", EVENT_COLUMNS, true), List.of(
+                new ArchiveTable("event_tags", "event_id", "event_id, tag", false),
+                new ArchiveTable("event_images", "event_id", "event_id, image", false),
+                new ArchiveTable("event_likes", "event_id", "like_id, event_id, user_id, created_at", false),
+                new ArchiveTable("event_joins", "event_id", EVENT_JOIN_COLUMNS, false),
+                new ArchiveTable("comments", "event_id", COMMENT_COLUMNS, true)),
+                "((" + DELETED_BEFORE + ") OR ends_at < ?)", "보관된 행사를 찾을 수 없습니다"),
+        // 게시글/행사는 남아 있고 댓글만 삭제된 경우
+        COMMENT(new ArchiveTable("comments", "comment_id", COMMENT_COLUMNS, true), List.of(),
+                DELETED_BEFORE, "보관된 댓글을 찾을 수 없습니다");
+
+        private final ArchiveTable root;
+        private final List<ArchiveTable> children;
+        private final String candidatesSql;
+        private final String notFoundMessage;
+
+        Kind(ArchiveTable root, List<ArchiveTable> children, String condition, String notFoundMessage) {
+            this.root = root;
+            this.children = children;
+            this.candidatesSql = "SELECT " + root.keyColumn() + " FROM " + root.name() + " WHERE " + root.keyColumn() + " > ? AND " +
+                    condition + " ORDER BY " + root.keyColumn() + " LIMIT ? FOR UPDATE";
+            this.notFoundMessage = notFoundMessage;
+        }
+    }
+
+    // afterId 이후의 보관 대상을 최대 limit 개 옮김. 행사는 삭제 유예가 지났거나 종료 후 보관 기간이 지난 것
+    @Transactional
+    public Batch archiveBatch(Kind kind, long afterId, LocalDateTime deletedBefore, LocalDateTime endedBefore, int limit) {
+        List<Object> args = new ArrayList<>(List.of(afterId, Timestamp.valueOf(deletedBefore)));
+        if (kind == Kind.EVENT) {
+            args.add(Timestamp.valueOf(endedBefore));
+        }
+        args.add(limit);
+        List<Long> ids = jdbcTemplate.queryForList(kind.candidatesSql, Long.class, args.toArray());
+        if (ids.isEmpty()) {
+            return new Batch(-1, 0);
+        }
+
+        Timestamp archivedAt = Timestamp.valueOf(LocalDateTime.now());
+        copy(kind.root, ids, archivedAt, false);
+        kind.children.forEach(table -> copy(table, ids, archivedAt, false));
+        kind.children.forEach(table -> remove(table, ids, false));
+        remove(kind.root, ids, false);
+        return new Batch(ids.getLast(), ids.size());
+    }
+
+    // 보관된 게시글/행사를 태그/이미지/좋아요/댓글과 함께 원래 테이블로 되돌림 (삭제 여부는 보관 당시 그대로)
+    @Transactional
+    public void restore(Kind kind, Long id) {
+        if (kind == Kind.COMMENT) {
+            throw new InvalidRequestException("댓글은 게시글/행사와 함께 복원됩니다");
+        }
+        List<Long> ids = List.of(id);
+        Long archived = jdbcTemplate.queryForObject("SELECT count(*) FROM " + kind.root.name() + "_archive WHERE " +
+                kind.root.keyColumn() + " = ?", Long.class, id);
+        if (archived == null || archived == 0) {
+            throw new NotFoundException(kind.notFoundMessage);
+        }
+
+        copy(kind.root, ids, null, true);
+        kind.children.forEach(table -> copy(table, ids, null, true));
+        kind.children.forEach(table -> remove(table, ids, true));
+        remove(kind.root, ids, true);
+    }
+
+    private void copy(ArchiveTable table, List<Long> ids, Timestamp archivedAt, boolean fromArchive) {
+        String sql;
+        List<Object> args = new ArrayList<>();
+        if (fromArchive) {
+            sql = "INSERT INTO " + table.name() + " (" + table.columns() + ") SELECT " + table.columns() +
+                    " FROM " + table.name() + "_archive WHERE " + table.keyColumn() + " IN (" + placeholders(ids) + ")";
+        } else if (table.stamped()) {
+            sql = "INSERT INTO " + table.name() + "_archive (" + table.columns() + ", archived_at) SELECT " + table.columns() +
+                    ", ? FROM " + table.name() + " WHERE " + table.keyColumn() + " IN (" + placeholders(ids) + ")";
+            args.add(archivedAt);
+        } else {
+            sql = "INSERT INTO " + table.name() + "_archive (" + table.columns() + ") SELECT " + table.columns() +
+                    " FROM " + table.name() + " WHERE " + table.keyColumn() + " IN (" + placeholders(ids) + ")";
+        }
+        args.addAll(ids);
+        jdbcTemplate.update(sql, args.toArray());
+    }
+
+    private void remove(ArchiveTable table, List<Long> ids, boolean fromArchive) {
+        String name = fromArchive ? table.name() + "_archive" : table.name();
+        jdbcTemplate.update("DELETE FROM " + name + " WHERE " + table.keyColumn() + " IN (" + placeholders(ids) + ")", ids.toArray());
+    }
+
+    private static String placeholders(List<Long> ids) {
+        return String.join(", ", Collections.nCopies(ids.size(), "?"));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.cgroove.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+// 삭제된 게시글/행사/댓글과 종료 후 보관 기간이 지난 행사를 보관 테이블로 옮겨 운영 테이블(와 인덱스) 크기를 일정하게 유지
+// 묶음마다 별도 트랜잭션이라 중간에 멈춰도 다음 실행에서 남은 행부터 이어짐
+@Slf4j
+@Component
+public class ColdArchiveJob {
+    private final ColdArchive coldArchive;
+    private final Duration deletedGracePeriod;
+    private final Duration eventRetention;
+    private final int batchSize;
+    private final Map<ColdArchive.Kind, Counter> archivedCounters = new EnumMap<>(ColdArchive.Kind.class);
+
+    public ColdArchiveJob(ColdArchive coldArchive,
+                          MeterRegistry meterRegistry,
+                          @Value("${archive.deleted-grace-period:30d}") Duration deletedGracePeriod,
+                          @Value("${archive.event-retention:365d}") Duration eventRetention,
+                          @Value("${archive.batch-size:200}") int batchSize) {
+        this.coldArchive = coldArchive;
+        this.deletedGracePeriod = deletedGracePeriod;
+        this.eventRetention = eventRetention;
+        this.batchSize = batchSize;
+        for (ColdArchive.Kind kind : ColdArchive.Kind.values()) {
+            archivedCounters.put(kind, Counter.builder("archive.rows.archived")
+                    .description("보관 테이블로 옮긴 행 수 (게시글/행사는 딸린 행 제외)")
+                    .tag("kind", kind.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    // 게시글/행사를 먼저 옮겨 딸린 댓글이 같은 묶음으로 가도록 하고, 남은 삭제 댓글은 마지막에 따로 옮김
+    @Scheduled(cron = "${archive.cron:0 0 5 * * *}")
+    public synchronized void archive() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime deletedBefore = now.minus(deletedGracePeriod);
+        LocalDateTime endedBefore = now.minus(eventRetention);
+        for (ColdArchive.Kind kind : ColdArchive.Kind.values()) {
+            long total = 0;
+            long lastId = 0;
+            ColdArchive.Batch batch;
+            do {
+                batch = coldArchive.archiveBatch(kind, lastId, deletedBefore, endedBefore, batchSize);
+                lastId = batch.lastId();
+                total += batch.archived();
+                archivedCounters.get(kind).increment(batch.archived());
+            } while (batch.archived() == batchSize);
+            if (total > 0) {
+                log.info("Archived {} {} rows", total, kind);
+            }
+        }
+    }
+}
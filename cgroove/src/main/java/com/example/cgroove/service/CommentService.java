@@ -28,6 +28,7 @@ public class CommentService {
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final EventRepository eventRepository;
+    private final HotPostRanking hotPostRanking;
 
     @Transactional
     public CommentResponse createComment(Long userId, CommentRequest request) {
@@ -55,6 +56,9 @@ public class CommentService {
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
+        if (post != null) {
+            hotPostRanking.recordComment(post);
+        }
         return CommentResponse.from(savedComment, userId);
     }
 
@@ -0,0 +1,40 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// events.confirmed_count 를 event_joins 기준으로 보정
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConfirmedCountRepairJob {
+    private final EventRepository eventRepository;
+    private final EventCapacityLedger capacityLedger;
+
+    @Scheduled(cron = "${event.confirmed-count.repair-cron:0 0 4 * * *}")
+    @Transactional
+    public void repair() {
+        int repaired = eventRepository.rebuildConfirmedCounts();
+        if (repaired > 0) {
+            log.warn("확정 인원 카운터 보정: {}개 행사", repaired);
+            capacityLedger.warmUp();
+        }
+    }
+
+    // 서버 기동 시 카운터를 먼저 보정한 뒤 장부 적재 (어긋난 카운터로 적재되면 다음 보정 전까지 정원 초과 신청을 받음)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void repairAndWarmUp() {
+        int repaired = eventRepository.rebuildConfirmedCounts();
+        if (repaired > 0) {
+            log.warn("기동 시 확정 인원 카운터 보정: {}개 행사", repaired);
+        }
+        capacityLedger.warmUp();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.dto.deletion.DeletionJobResponse;
+import com.example.cgroove.entity.DeletionJob;
+import com.example.cgroove.enums.DeletionTarget;
+import com.example.cgroove.exception.AccessDeniedException;
+import com.example.cgroove.exception.NotFoundException;
+import com.example.cgroove.repository.DeletionJobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DeletionJobService {
+    private final DeletionJobRepository deletionJobRepository;
+
+    // 루트 삭제와 같은 트랜잭션에서 작업을 등록 (롤백되면 작업도 남지 않음)
+    @Transactional
+    public DeletionJobResponse start(DeletionTarget target, Long targetId, Long requestedBy) {
+        return DeletionJobResponse.from(deletionJobRepository.save(DeletionJob.start(target, targetId, requestedBy)));
+    }
+
+    // 클럽 삭제 작업만 조회 대상 (회원 탈퇴 작업은 요청한 회원이 이미 인증할 수 없음)
+    public DeletionJobResponse getJob(Long userId, Long jobId) {
+        DeletionJob job = deletionJobRepository.findById(jobId)
+                .orElseThrow(() -> new NotFoundException("삭제 작업을 찾을 수 없습니다"));
+        if (!job.getRequestedBy().equals(userId)) {
+            throw new AccessDeniedException("권한이 없습니다");
+        }
+        return DeletionJobResponse.from(job);
+    }
+}
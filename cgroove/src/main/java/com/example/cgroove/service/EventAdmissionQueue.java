@@ -0,0 +1,233 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.dto.eventJoin.AdmissionTicketResponse;
+import com.example.cgroove.dto.eventJoin.EventJoinResponse;
+import com.example.cgroove.enums.AdmissionStatus;
+import com.example.cgroove.enums.EventJoinStatus;
+import com.example.cgroove.exception.AccessDeniedException;
+import com.example.cgroove.exception.ConflictException;
+import com.example.cgroove.exception.InvalidRequestException;
+import com.example.cgroove.exception.NotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 인기 행사 오픈 시 신청 요청을 대기열에 받아두고 행사별로 일정 속도로 처리
+@Slf4j
+@Component
+public class EventAdmissionQueue {
+    private static final long TICK_MILLIS = 100;
+    private static final Duration TICKET_TTL = Duration.ofMinutes(10);
+
+    private final EventJoinService eventJoinService;
+    private final int admissionsPerTick;
+    private final int maxWaitingPerEvent;
+    private final Semaphore inFlight;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final ConcurrentMap<Long, EventLine> lines = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Ticket> tickets = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, String> activeTokens = new ConcurrentHashMap<>(); // "eventId:userId" -> token
+
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicInteger nextLine = new AtomicInteger(); // 다음 틱에 먼저 처리할 대기열 위치
+    private final Counter admittedCounter;
+    private final Counter waitlistedCounter;
+    private final Counter rejectedCounter;
+
+    public EventAdmissionQueue(EventJoinService eventJoinService,
+                               MeterRegistry meterRegistry,
+                               @Value("${event.admission.drain-per-second:50}") int drainPerSecond,
+                               @Value("${event.admission.max-in-flight:4}") int maxInFlight,
+                               @Value("${event.admission.max-waiting-per-event:10000}") int maxWaitingPerEvent) {
+        this.eventJoinService = eventJoinService;
+        this.admissionsPerTick = (int) Math.max(1, drainPerSecond * TICK_MILLIS / 1000);
+        this.maxWaitingPerEvent = maxWaitingPerEvent;
+        this.inFlight = new Semaphore(maxInFlight);
+
+        Gauge.builder("event.admission.queue.depth", depth, AtomicInteger::get)
+                .description("입장 대기 중인 행사 신청 수")
+                .register(meterRegistry);
+        this.admittedCounter = Counter.builder("event.admission.drained")
+                .description("대기열에서 처리된 행사 신청 수")
+                .tag("result", "admitted")
+                .register(meterRegistry);
+        this.waitlistedCounter = Counter.builder("event.admission.drained")
+                .description("대기열에서 처리된 행사 신청 수")
+                .tag("result", "waitlisted")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("event.admission.drained")
+                .description("대기열에서 처리된 행사 신청 수")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+    }
+
+    // 대기열 등록 (같은 행사에 대기 중인 신청이 있으면 기존 토큰 반환, 행사별 대기 인원 한도 초과 시 거절)
+    public AdmissionTicketResponse enqueue(Long userId, Long eventId) {
+        String token = activeTokens.computeIfAbsent(eventId + ":" + userId, key -> {
+            Ticket ticket = new Ticket(UUID.randomUUID().toString(), key, userId, eventId);
+            lines.compute(eventId, (id, line) -> {
+                EventLine target = line != null ? line : new EventLine();
+                if (target.issued.get() - target.dispatched.get() >= maxWaitingPerEvent) {
+                    throw new ConflictException("신청 대기 인원이 많습니다. 잠시 후 다시 시도해 주세요.");
+                }
+                ticket.sequence = target.issued.incrementAndGet();
+                target.waiting.add(ticket);
+                return target;
+            });
+            tickets.put(ticket.token, ticket);
+            depth.incrementAndGet();
+            return ticket.token;
+        });
+        return toResponse(tickets.get(token));
+    }
+
+    public AdmissionTicketResponse getTicket(Long userId, Long eventId, String token) {
+        Ticket ticket = tickets.get(token);
+        if (ticket == null || !ticket.eventId.equals(eventId)) {
+            throw new NotFoundException("대기열 정보를 찾을 수 없습니다");
+        }
+        if (!ticket.userId.equals(userId)) {
+            throw new AccessDeniedException("본인의 대기열 정보만 조회할 수 있습니다");
+        }
+        return toResponse(ticket);
+    }
+
+    // 행사별로 틱당 정해진 수만큼, 동시 처리 한도 안에서 가상 스레드에 넘긴다
+    // 행사마다 한 건씩 번갈아 넘기고, 처리 한도가 차면 다음 틱은 차례를 받지 못한 행사부터 시작 (앞쪽 행사의 독점 방지)
+    @Scheduled(fixedDelay = TICK_MILLIS)
+    public void drain() {
+        List<EventLine> snapshot = new ArrayList<>(lines.values());
+        int size = snapshot.size();
+        if (size == 0) {
+            return;
+        }
+        int start = Math.floorMod(nextLine.get(), size);
+        int[] dispatchedThisTick = new int[size];
+        boolean progressed = true;
+        while (progressed) {
+            progressed = false;
+            for (int offset = 0; offset < size; offset++) {
+                int index = (start + offset) % size;
+                EventLine line = snapshot.get(index);
+                if (dispatchedThisTick[index] >= admissionsPerTick || line.waiting.isEmpty()) {
+                    continue;
+                }
+                if (!inFlight.tryAcquire()) {
+                    return;
+                }
+                Ticket ticket = line.waiting.poll();
+                if (ticket == null) {
+                    inFlight.release();
+                    continue;
+                }
+                depth.decrementAndGet();
+                line.dispatched.incrementAndGet();
+                ticket.status = AdmissionStatus.PROCESSING;
+                executor.execute(() -> admit(ticket));
+                dispatchedThisTick[index]++;
+                nextLine.set(index + 1);
+                progressed = true;
+            }
+        }
+    }
+
+    // 처리가 끝난 티켓과 빈 대기열 정리
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        Instant threshold = Instant.now().minus(TICKET_TTL);
+        tickets.values().removeIf(ticket -> ticket.completedAt != null && ticket.completedAt.isBefore(threshold));
+        lines.keySet().forEach(eventId ->
+                lines.computeIfPresent(eventId, (id, line) -> line.waiting.isEmpty() ? null : line));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void admit(Ticket ticket) {
+        try {
+            EventJoinResponse result = eventJoinService.applyEvent(ticket.userId, ticket.eventId);
+            if (EventJoinStatus.WAITLISTED.name().equals(result.status())) {
+                ticket.complete(AdmissionStatus.WAITLISTED, result, "정원이 마감되어 대기자 명단에 등록되었습니다");
+                waitlistedCounter.increment();
+            } else {
+                ticket.complete(AdmissionStatus.ADMITTED, result, "행사 신청 성공");
+                admittedCounter.increment();
+            }
+        } catch (ConflictException | NotFoundException | InvalidRequestException e) {
+            ticket.complete(AdmissionStatus.REJECTED, null, e.getMessage());
+            rejectedCounter.increment();
+        } catch (RuntimeException e) {
+            log.error("대기열 신청 처리 실패: eventId={}, userId={}", ticket.eventId, ticket.userId, e);
+            ticket.complete(AdmissionStatus.REJECTED, null, "신청 처리 중 오류가 발생했습니다");
+            rejectedCounter.increment();
+        } finally {
+            activeTokens.remove(ticket.key, ticket.token);
+            inFlight.release();
+        }
+    }
+
+    private AdmissionTicketResponse toResponse(Ticket ticket) {
+        long position = 0;
+        if (ticket.status == AdmissionStatus.WAITING) {
+            EventLine line = lines.get(ticket.eventId);
+            position = line == null ? 0 : Math.max(ticket.sequence - line.dispatched.get(), 1);
+        }
+        return new AdmissionTicketResponse(ticket.token, ticket.eventId, ticket.status.name(),
+                position, ticket.result, ticket.message);
+    }
+
+    private static final class EventLine {
+        private final Queue<Ticket> waiting = new ConcurrentLinkedQueue<>();
+        private final AtomicLong issued = new AtomicLong();
+        private final AtomicLong dispatched = new AtomicLong();
+    }
+
+    private static final class Ticket {
+        private final String token;
+        private final String key;
+        private final Long userId;
+        private final Long eventId;
+        private volatile long sequence;
+        private volatile AdmissionStatus status = AdmissionStatus.WAITING;
+        private volatile EventJoinResponse result;
+        private volatile String message;
+        private volatile Instant completedAt;
+
+        private Ticket(String token, String key, Long userId, Long eventId) {
+            this.token = token;
+            this.key = key;
+            this.userId = userId;
+            this.eventId = eventId;
+        }
+
+        private void complete(AdmissionStatus status, EventJoinResponse result, String message) {
+            this.result = result;
+            this.message = message;
+            this.completedAt = Instant.now();
+            this.status = status;
+        }
+    }
+}
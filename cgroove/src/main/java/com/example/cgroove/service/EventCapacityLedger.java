@@ -0,0 +1,171 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.entity.Event;
+import com.example.cgroove.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 행사별 잔여 좌석 장부 (DB 조건부 UPDATE 전에 마감 요청을 메모리에서 거른다)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventCapacityLedger {
+    private final EventRepository eventRepository;
+
+    private final ConcurrentMap<Long, Seats> ledger = new ConcurrentHashMap<>();
+
+    // 다가오는 행사의 좌석 현황을 DB 기준으로 맞춘다 (기동 시/카운터 보정 후 ConfirmedCountRepairJob 에서 호출)
+    public void warmUp() {
+        List<Event> events = eventRepository.findByStartsAtAfter(LocalDateTime.now());
+        events.forEach(event -> seatsOf(event).reset(event.getCapacity(), event.getConfirmedCount()));
+        log.info("선착순 장부 초기화 완료: {}개 행사", events.size());
+    }
+
+    // 좌석 선점 (트랜잭션 롤백 시 자동 반환)
+    public boolean tryReserve(Event event) {
+        Seats seats = seatsOf(event);
+        if (!seats.tryAcquire()) {
+            return false;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    seats.settle(status == STATUS_COMMITTED);
+                }
+            });
+        } else {
+            seats.settle(true);
+        }
+        return true;
+    }
+
+    // 확정 좌석 반환 (취소/거절, 커밋 이후 반영)
+    public void release(Long eventId) {
+        afterCommit(() -> {
+            Seats seats = ledger.get(eventId);
+            if (seats != null) {
+                seats.release();
+            }
+        });
+    }
+
+    // 정원 변경 등으로 DB 기준 재동기화 (커밋 이후 반영)
+    public void reconcile(Long eventId) {
+        afterCommit(() -> {
+            Seats seats = ledger.get(eventId);
+            if (seats != null) {
+                eventRepository.findById(eventId)
+                        .ifPresent(event -> seats.reset(event.getCapacity(), event.getConfirmedCount()));
+            }
+        });
+    }
+
+    // DB 에서 마감이 확인된 경우 장부도 마감 처리 (롤백으로 반환된 좌석 이후에 반영)
+    public void exhaust(Long eventId) {
+        afterCompletion(() -> {
+            Seats seats = ledger.get(eventId);
+            if (seats != null) {
+                seats.exhaust();
+            }
+        });
+    }
+
+    public void evict(Long eventId) {
+        afterCommit(() -> ledger.remove(eventId));
+    }
+
+    public long remainingSeats(Long eventId) {
+        Seats seats = ledger.get(eventId);
+        return seats == null ? -1 : seats.remaining();
+    }
+
+    private Seats seatsOf(Event event) {
+        return ledger.computeIfAbsent(event.getEventId(),
+                id -> new Seats(event.getCapacity(), event.getConfirmedCount()));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void afterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    static final class Seats {
+        private volatile long capacity;
+        private final AtomicLong taken;                    // 확정 + 커밋 대기 좌석
+        private final AtomicLong pending = new AtomicLong(); // 커밋 대기 좌석
+
+        Seats(long capacity, long confirmed) {
+            this.capacity = capacity;
+            this.taken = new AtomicLong(confirmed);
+        }
+
+        boolean tryAcquire() {
+            while (true) {
+                long current = taken.get();
+                if (current >= capacity) {
+                    return false;
+                }
+                if (taken.compareAndSet(current, current + 1)) {
+                    pending.incrementAndGet();
+                    return true;
+                }
+            }
+        }
+
+        void settle(boolean committed) {
+            pending.decrementAndGet();
+            if (!committed) {
+                release();
+            }
+        }
+
+        void release() {
+            taken.updateAndGet(current -> current > 0 ? current - 1 : 0);
+        }
+
+        void reset(long capacity, long confirmed) {
+            this.capacity = capacity;
+            taken.set(confirmed + pending.get());
+        }
+
+        void exhaust() {
+            taken.accumulateAndGet(capacity, Math::max);
+        }
+
+        long remaining() {
+            return Math.max(capacity - taken.get(), 0);
+        }
+    }
+}
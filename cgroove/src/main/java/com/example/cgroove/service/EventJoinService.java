@@ -14,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -23,6 +24,7 @@ public class EventJoinService {
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
     private final EventJoinRepository eventJoinRepository;
+    private final EventCapacityLedger capacityLedger;
 
     @Transactional
     public EventJoinResponse applyEvent(Long userId, Long eventId) {
@@ -34,19 +36,29 @@ public class EventJoinService {
             if (existingJoin.getStatus() == EventJoinStatus.CONFIRMED) {
                 throw new ConflictException("이미 신청이 완료된 행사입니다.");
             }
+            if (existingJoin.getStatus() == EventJoinStatus.WAITLISTED) {
+                throw new ConflictException("이미 대기 중인 행사입니다.");
+            }
         }
 
-        Event event = eventRepository.findWithLockByEventId(eventId)
+        Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new NotFoundException("행사를 찾을 수 없습니다"));
 
-        long currentCount = eventJoinRepository.countByEvent_EventIdAndStatus(eventId, EventJoinStatus.CONFIRMED);
-        if (currentCount >= event.getCapacity()) {
-            throw new ConflictException("선착순 마감되었습니다.");
+        // 정원이 찼으면 거절 대신 대기자 명단에 등록
+        // 빈 좌석이 있어도 먼저 대기 중인 신청자가 있으면 좌석은 대기자 명단 맨 앞에 넘기고 새 신청자는 대기
+        EventJoinStatus status = EventJoinStatus.WAITLISTED;
+        if (reserveSeat(event)) {
+            EventJoin head = waitlistHead(eventId);
+            if (head == null) {
+                status = EventJoinStatus.CONFIRMED;
+            } else {
+                head.changeStatus(EventJoinStatus.CONFIRMED);
+            }
         }
 
         if (existingJoin != null) {
-            existingJoin.changeStatus(EventJoinStatus.CONFIRMED);
-            return EventJoinResponse.from(existingJoin);
+            existingJoin.changeStatus(status);
+            return toResponse(existingJoin);
         }
 
         User user = userRepository.findById(userId)
@@ -55,10 +67,11 @@ public class EventJoinService {
         EventJoin newJoin = EventJoin.builder()
                 .participant(user)
                 .event(event)
-                .status(EventJoinStatus.CONFIRMED)
+                .status(status)
+                .waitlistedAt(status == EventJoinStatus.WAITLISTED ? LocalDateTime.now() : null)
                 .build();
 
-        return EventJoinResponse.from(eventJoinRepository.save(newJoin));
+        return toResponse(eventJoinRepository.save(newJoin));
     }
 
     @Transactional
@@ -66,11 +79,16 @@ public class EventJoinService {
         EventJoin join = eventJoinRepository.findByParticipant_UserIdAndEvent_EventId(userId, eventId)
                 .orElseThrow(() -> new NotFoundException("신청 내역이 없습니다"));
 
+        if (join.getStatus() == EventJoinStatus.WAITLISTED) {
+            join.changeStatus(EventJoinStatus.CANCELED);
+            return;
+        }
         if (join.getStatus() != EventJoinStatus.CONFIRMED) {
             throw new InvalidRequestException("취소할 수 없는 상태입니다");
         }
 
         join.changeStatus(EventJoinStatus.CANCELED);
+        handOverSeat(eventId);
     }
 
     @Transactional
@@ -90,11 +108,27 @@ public class EventJoinService {
         }
 
         targetJoin.changeStatus(EventJoinStatus.REJECTED);
+        handOverSeat(eventId);
+    }
+
+    // 정원 증가 시 늘어난 좌석만큼 대기자 승격
+    @Transactional
+    public void fillFromWaitlist(Long eventId) {
+        while (eventRepository.increaseConfirmedCount(eventId) > 0) {
+            EventJoin head = eventJoinRepository
+                    .findFirstByEvent_EventIdAndStatusOrderByWaitlistedAtAscEventJoinIdAsc(eventId, EventJoinStatus.WAITLISTED)
+                    .orElse(null);
+            if (head == null) {
+                eventRepository.decreaseConfirmedCount(eventId);
+                return;
+            }
+            head.changeStatus(EventJoinStatus.CONFIRMED);
+        }
     }
 
     public EventJoinResponse getJoinStatus(Long userId, Long eventId) {
         return eventJoinRepository.findByParticipant_UserIdAndEvent_EventId(userId, eventId)
-                .map(EventJoinResponse::from)
+                .map(this::toResponse)
                 .orElseThrow(() -> new NotFoundException("신청 이력이 없습니다"));
     }
 
@@ -117,11 +151,56 @@ public class EventJoinService {
                 .stream().map(EventJoinResponse::from).toList();
     }
 
-    public void softDeleteByUserId(Long userId) {
-        eventJoinRepository.softDeleteByUserId(userId, EventJoinStatus.CANCELED);
+    // 회원 탈퇴 정리 작업에서 확정 신청이 취소된 행사의 좌석을 대기자에게 넘기거나 반환
+    @Transactional
+    public void handOverSeats(List<Long> eventIds) {
+        eventIds.forEach(this::handOverSeat);
     }
 
-    public void softDeleteByClubId(Long clubId) {
-        eventJoinRepository.softDeleteByClubId(clubId, EventJoinStatus.CANCELED);
+    private boolean reserveSeat(Event event) {
+        if (!capacityLedger.tryReserve(event)) {
+            return false;
+        }
+
+        // 정원 확인과 증가를 한 문장으로 처리 (행 잠금 조회 없음)
+        if (eventRepository.increaseConfirmedCount(event.getEventId()) == 0) {
+            capacityLedger.exhaust(event.getEventId());
+            return false;
+        }
+        return true;
+    }
+
+    // 대기자 명단 맨 앞 (대기자가 없는 대부분의 신청은 잠금 조회 없이 존재 여부만 확인)
+    private EventJoin waitlistHead(Long eventId) {
+        if (!eventJoinRepository.existsByEvent_EventIdAndStatus(eventId, EventJoinStatus.WAITLISTED)) {
+            return null;
+        }
+        return eventJoinRepository
+                .findFirstByEvent_EventIdAndStatusOrderByWaitlistedAtAscEventJoinIdAsc(eventId, EventJoinStatus.WAITLISTED)
+                .orElse(null);
+    }
+
+    // 빈 좌석을 대기자 명단 맨 앞 신청자에게 넘기고, 대기자가 없으면 좌석 반환
+    private void handOverSeat(Long eventId) {
+        EventJoin head = eventJoinRepository
+                .findFirstByEvent_EventIdAndStatusOrderByWaitlistedAtAscEventJoinIdAsc(eventId, EventJoinStatus.WAITLISTED)
+                .orElse(null);
+        if (head != null) {
+            head.changeStatus(EventJoinStatus.CONFIRMED);
+            return;
+        }
+
+        eventRepository.decreaseConfirmedCount(eventId);
+        capacityLedger.release(eventId);
+    }
+
+    private EventJoinResponse toResponse(EventJoin join) {
+        if (join.getStatus() != EventJoinStatus.WAITLISTED) {
+            return EventJoinResponse.from(join);
+        }
+
+        long ahead = eventJoinRepository.countWaitlistAhead(join.getEvent().getEventId(),
+                EventJoinStatus.WAITLISTED, join.getWaitlistedAt(), join.getEventJoinId());
+        return EventJoinResponse.from(join, ahead + 1);
     }
 }
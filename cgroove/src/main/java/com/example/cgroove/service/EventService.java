@@ -1,7 +1,10 @@
 package com.example.cgroove.service;
 
+import com.example.cgroove.dto.CursorPage;
+import com.example.cgroove.dto.PageCursor;
 import com.example.cgroove.dto.event.EventCreateRequest;
 import com.example.cgroove.dto.event.EventResponse;
+import com.example.cgroove.dto.event.EventSummary;
 import com.example.cgroove.dto.event.EventUpdateRequest;
 import com.example.cgroove.entity.Club;
 import com.example.cgroove.entity.Event;
@@ -9,10 +12,10 @@ import com.example.cgroove.entity.User;
 import com.example.cgroove.enums.EventJoinStatus;
 import com.example.cgroove.enums.EventType;
 import com.example.cgroove.enums.Scope;
+import com.example.cgroove.enums.ViewTarget;
 import com.example.cgroove.exception.InvalidRequestException;
 import com.example.cgroove.exception.NotFoundException;
 import com.example.cgroove.repository.EventJoinRepository;
-import com.example.cgroove.repository.EventLikeRepository;
 import com.example.cgroove.repository.EventRepository;
 import com.example.cgroove.repository.UserRepository;
 import jakarta.persistence.EntityManager;
@@ -22,8 +25,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 @Service
@@ -33,9 +37,13 @@ public class EventService {
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
     private final EventJoinRepository eventJoinRepository;
-    private final EventLikeRepository eventLikeRepository;
+    private final LikedSetCache likedSetCache;
     private final ClubAuthService clubAuthService;
     private final FileStorageService fileStorageService;
+    private final EventCapacityLedger capacityLedger;
+    private final EventJoinService eventJoinService;
+    private final ViewCountBuffer viewCountBuffer;
+    private final ViewerSketches viewerSketches;
     private final EntityManager em;
 
     @Transactional
@@ -79,42 +87,52 @@ public class EventService {
         return EventResponse.from(eventRepository.save(event), false);
     }
 
-    @Transactional
     public EventResponse getEvent(Long eventId, Long userId) {
         Event event = getActiveEvent(eventId);
-        eventRepository.updateViewCount(eventId);
+        viewCountBuffer.increaseEventView(eventId);
+        viewerSketches.recordView(ViewTarget.EVENT, eventId, userId);
 
-        boolean isLiked = userId != null && eventLikeRepository.existsByEventEventIdAndUserUserId(eventId, userId);
+        boolean isLiked = likedSetCache.isLiked(LikeEngine.Target.EVENT, userId, eventId);
 
-        return EventResponse.from(event, isLiked);
+        return EventResponse.from(event, isLiked)
+                .withPendingViews(viewCountBuffer.pendingEventViews(eventId))
+                .withUniqueViewers(viewerSketches.uniqueViewers(ViewTarget.EVENT, eventId));
     }
-    public List<EventResponse> getEvents(Long userId) {
+    public CursorPage<EventResponse> getEvents(Long userId, String cursor, Integer size) {
+        int pageSize = CursorPage.sizeOf(size);
         List<Long> myClubIds = clubAuthService.findUserClubIds(userId);
-        List<Event> events = eventRepository.findAllEvents(myClubIds);
-        return convertToResponses(events, userId);
+        List<EventSummary> events = eventRepository.findAllEvents(myClubIds, PageCursor.decode(cursor), pageSize + 1);
+        return CursorPage.slice(events, pageSize,
+                event -> new PageCursor(event.createdAt(), event.eventId()),
+                page -> convertToResponses(page, userId));
     }
     public List<EventResponse> getUpcomingEvents(Long userId) {
         List<Long> myClubIds = clubAuthService.findUserClubIds(userId);
         Pageable pageable = PageRequest.of(0, 10);
 
-        List<Event> events = eventRepository.findUpcomingEvents(myClubIds, pageable);
+        List<EventSummary> events = eventRepository.findUpcomingEvents(myClubIds, pageable);
         return convertToResponses(events, userId);
     }
-    private List<EventResponse> convertToResponses(List<Event> events, Long userId) {
+    // 목록 크기와 무관하게 좋아요 / 태그 / 이미지를 한 번씩만 조회
+    private List<EventResponse> convertToResponses(List<EventSummary> events, Long userId) {
         if (events.isEmpty()) {
             return List.of();
         }
 
-        Set<Long> likedEventIds = new HashSet<>();
-        if (userId != null) {
-            List<Long> eventIds = events.stream().map(Event::getEventId).toList();
-            likedEventIds = eventLikeRepository.findLikedEventIds(eventIds, userId);
-        }
+        List<Long> eventIds = events.stream().map(EventSummary::eventId).toList();
 
-        Set<Long> finalLikedEventIds = likedEventIds;
+        Set<Long> likedEventIds = likedSetCache.likedAmong(LikeEngine.Target.EVENT, userId, eventIds);
+        Map<Long, List<String>> tagsByEventId = eventRepository.findTagsByEventIds(eventIds);
+        Map<Long, List<String>> imagesByEventId = eventRepository.findImagesByEventIds(eventIds);
+        Map<Long, Long> uniqueViewersByEventId = viewerSketches.uniqueViewers(ViewTarget.EVENT, eventIds);
 
         return events.stream()
-                .map(event -> EventResponse.from(event, finalLikedEventIds.contains(event.getEventId())))
+                .map(event -> EventResponse.from(event,
+                        tagsByEventId.getOrDefault(event.eventId(), List.of()),
+                        imagesByEventId.getOrDefault(event.eventId(), List.of()),
+                        likedEventIds.contains(event.eventId()))
+                        .withPendingViews(viewCountBuffer.pendingEventViews(event.eventId()))
+                        .withUniqueViewers(uniqueViewersByEventId.getOrDefault(event.eventId(), 0L)))
                 .toList();
     }
 
@@ -122,6 +140,7 @@ public class EventService {
     public EventResponse updateEvent(Long userId, Long eventId, EventUpdateRequest request) {
         Event event = getActiveEvent(eventId);
         checkHost(userId, event);
+        Long previousCapacity = event.getCapacity();
 
         event.updateEvent(
                 request.getTitle(), request.getContent(), request.getTags(),
@@ -129,11 +148,21 @@ public class EventService {
                 request.getLocationLink(), request.getCapacity(),
                 request.getStartsAt(), request.getEndsAt()
         );
+        Long confirmedCount = event.getConfirmedCount();
+        if (!Objects.equals(previousCapacity, event.getCapacity())) {
+            if (previousCapacity != null && event.getCapacity() > previousCapacity) {
+                // 늘어난 정원이 먼저 DB 에 반영되어야 조건부 증가가 새 정원 기준으로 비교됨
+                em.flush();
+                eventJoinService.fillFromWaitlist(eventId);
+                confirmedCount = eventRepository.findConfirmedCount(eventId);
+            }
+            capacityLedger.reconcile(eventId);
+        }
 
         fileStorageService.processImageUpdate(event, request.getNewImagePaths(), request.getKeepImages());
-        boolean isLiked = eventLikeRepository.existsByEventEventIdAndUserUserId(eventId, userId);
+        boolean isLiked = likedSetCache.isLiked(LikeEngine.Target.EVENT, userId, eventId);
 
-        return EventResponse.from(event, isLiked);
+        return EventResponse.from(event, isLiked).withCurrentParticipants(confirmedCount);
     }
 
     @Transactional
@@ -149,6 +178,7 @@ public class EventService {
 
         eventJoinRepository.softDeleteByEventId(eventId, EventJoinStatus.CANCELED);
         event.delete();
+        capacityLedger.evict(eventId);
 
         em.flush();
         em.clear();
@@ -163,9 +193,4 @@ public class EventService {
             throw new InvalidRequestException("권한이 없습니다");
         }
     }
-
-    public void softDeleteByUserId(Long userId) {
-        eventRepository.softDeleteByUserId(userId);
-    }
-    public void softDeleteByClubId(Long clubId) { eventRepository.softDeleteByClubId(clubId); }
 }
\ No newline at end of file
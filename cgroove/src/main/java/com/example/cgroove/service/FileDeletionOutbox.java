@@ -0,0 +1,43 @@
+package com.example.cgroove.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 파일 삭제 요청 기록. 호출한 트랜잭션에 참여하므로 롤백되면 삭제 요청도 함께 사라짐
+@Component
+@RequiredArgsConstructor
+public class FileDeletionOutbox {
+    private static final String INSERT_SQL = "INSERT INTO file_deletion_outbox (file_path, attempts, created_at) VALUES (?, 0, ?)";
+    private static final String PENDING_SQL = "SELECT deletion_id, file_path, attempts FROM file_deletion_outbox WHERE deletion_id > ? ORDER BY deletion_id LIMIT ?";
+    private static final String COMPLETE_SQL = "DELETE FROM file_deletion_outbox WHERE deletion_id = ?";
+    private static final String RETRY_SQL = "UPDATE file_deletion_outbox SET attempts = attempts + 1 WHERE deletion_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Pending(long deletionId, String filePath, int attempts) {
+    }
+
+    public void enqueue(String filePath) {
+        jdbcTemplate.update(INSERT_SQL, filePath, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    // afterId 이후의 요청을 순서대로 조회 (한 주기 안에서 실패한 요청을 다시 집지 않도록)
+    public List<Pending> pending(long afterId, int limit) {
+        return jdbcTemplate.query(PENDING_SQL,
+                (rs, rowNum) -> new Pending(rs.getLong("deletion_id"), rs.getString("file_path"), rs.getInt("attempts")),
+                afterId, limit);
+    }
+
+    public void complete(long deletionId) {
+        jdbcTemplate.update(COMPLETE_SQL, deletionId);
+    }
+
+    public void retryLater(long deletionId) {
+        jdbcTemplate.update(RETRY_SQL, deletionId);
+    }
+}
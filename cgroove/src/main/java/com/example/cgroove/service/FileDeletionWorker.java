@@ -0,0 +1,58 @@
+package com.example.cgroove.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+
+// 커밋된 파일 삭제 요청을 주기적으로 처리. 실패하면 다음 주기에 재시도하고, 한도를 넘으면 고아 파일 정리에 맡김
+@Slf4j
+@Component
+public class FileDeletionWorker {
+    private final FileDeletionOutbox fileDeletionOutbox;
+    private final FileStorageService fileStorageService;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    public FileDeletionWorker(FileDeletionOutbox fileDeletionOutbox,
+                              FileStorageService fileStorageService,
+                              @Value("${file.outbox.batch-size:100}") int batchSize,
+                              @Value("${file.outbox.max-attempts:5}") int maxAttempts) {
+        this.fileDeletionOutbox = fileDeletionOutbox;
+        this.fileStorageService = fileStorageService;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Scheduled(fixedDelayString = "${file.outbox.poll-interval-ms:5000}")
+    public synchronized void drain() {
+        long lastId = 0;
+        List<FileDeletionOutbox.Pending> batch;
+        do {
+            batch = fileDeletionOutbox.pending(lastId, batchSize);
+            for (FileDeletionOutbox.Pending pending : batch) {
+                process(pending);
+                lastId = pending.deletionId();
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    private void process(FileDeletionOutbox.Pending pending) {
+        try {
+            // blob 은 참조 해제와 함께 요청 행이 이미 지워지므로 complete 는 이전 방식 경로만 해당
+            fileStorageService.deleteStoredFile(pending.filePath(), pending.deletionId());
+            fileDeletionOutbox.complete(pending.deletionId());
+        } catch (IOException | RuntimeException e) {
+            if (pending.attempts() + 1 >= maxAttempts) {
+                log.error("Giving up file deletion after {} attempts: {} - {}", maxAttempts, pending.filePath(), e.getMessage());
+                fileDeletionOutbox.complete(pending.deletionId());
+                return;
+            }
+            log.warn("File deletion failed, will retry: {} - {}", pending.filePath(), e.getMessage());
+            fileDeletionOutbox.retryLater(pending.deletionId());
+        }
+    }
+}
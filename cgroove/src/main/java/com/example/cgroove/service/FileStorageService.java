@@ -3,26 +3,62 @@ package com.example.cgroove.service;
 import com.example.cgroove.config.FileProperties;
 import com.example.cgroove.entity.ImageHolder;
 import com.example.cgroove.enums.ImageType;
+import com.example.cgroove.enums.ImageVariant;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
 
+// 이미지는 내용의 SHA-256 을 이름으로 하는 blob 으로 저장 ({uploadDir}/blobs/ab/cd/abcd...e3.jpg)
+// 같은 내용은 한 번만 저장하고 image_blobs 의 참조 수가 0 이 될 때 파일 삭제
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FileStorageService {
+    private static final long TRANSFER_CHUNK = 1L << 20;
+    private static final String UPLOAD_PREFIX = "/uploads/";
+    private static final String STAGING_DIR = ".staging";
+    private static final Pattern BLOB_KEY = Pattern.compile("[0-9a-f]{64}(\\.[a-z0-9]{1,5})?");
+    private static final Pattern EXTENSION = Pattern.compile("[a-z0-9]{1,5}");
+    private static final int LOCK_STRIPES = 64;
+
     private final FileProperties fileProperties;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final ImageBlobRefs imageBlobRefs;
+    private final FileDeletionOutbox fileDeletionOutbox;
+
+    // 같은 blob 의 참조 증감과 파일 생성/삭제를 직렬화 (단일 인스턴스 기준)
+    private final Object[] blobLocks = newLocks();
+
+    // 업로드 스트림을 임시 파일에 쓰면서 해시를 계산한 결과
+    private record StagedBlob(Path temp, String blobKey, long size) {
+    }
 
     public String saveImage(MultipartFile file, ImageType type) {
         if (file == null || file.isEmpty()) {
@@ -34,88 +70,349 @@ public class FileStorageService {
         }
 
         try {
-            // Null 체크 및 로깅
-            if (fileProperties == null) {
-                log.error("FileProperties is null");
-                throw new IllegalStateException("FileProperties가 초기화되지 않았습니다");
+            String result = commit(stage(file));
+            log.info("Image saved successfully: {} ({})", result, file.getOriginalFilename());
+            return result;
+
+        } catch (IOException e) {
+            log.error("Failed to save {} image: {}", type.getTypeName(), e.getMessage(), e);
+            throw new RuntimeException(type.getTypeName() + " 이미지 저장 실패: " + e.getMessage(), e);
+        }
+    }
+
+    // 여러 장을 가상 스레드에서 동시에 기록. 한 장이라도 실패하면 이미 기록한 파일까지 지우고 예외 (all-or-nothing)
+    public List<String> saveImages(List<MultipartFile> files, ImageType type) {
+        if (files == null || files.isEmpty()) {
+            return new ArrayList<>();
+        }
+        for (MultipartFile file : files) {
+            if (file == null || file.isEmpty()) {
+                throw new IllegalArgumentException(type.getTypeName() + " 이미지 파일이 없습니다");
             }
+        }
+        if (files.size() == 1) {
+            return new ArrayList<>(List.of(saveImage(files.get(0), type)));
+        }
 
-            String uploadDir = fileProperties.getUploadDir();
-            if (uploadDir == null || uploadDir.isBlank()) {
-                log.error("Upload directory is null or blank. baseDir: {}", fileProperties.getBaseDir());
-                throw new IllegalStateException("업로드 디렉토리가 설정되지 않았습니다");
+        List<Future<StagedBlob>> writes = new ArrayList<>(files.size());
+        // close() 가 모든 작업 종료를 기다리므로 정리 시점에 기록 중인 파일이 남지 않음
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (MultipartFile file : files) {
+                writes.add(executor.submit(() -> stage(file)));
             }
+        }
 
-            String typeDir = type.getDirectory();
-            if (typeDir == null || typeDir.isBlank()) {
-                log.error("Type directory is null or blank for type: {}", type);
-                throw new IllegalStateException("이미지 타입 디렉토리가 설정되지 않았습니다");
+        List<StagedBlob> staged = new ArrayList<>(files.size());
+        Throwable failure = null;
+        for (Future<StagedBlob> write : writes) {
+            try {
+                staged.add(write.get());
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (failure == null) {
+                    failure = e;
+                }
             }
+        }
 
-            log.info("Saving image - uploadDir: {}, typeDir: {}, filename: {}",
-                    uploadDir, typeDir, file.getOriginalFilename());
+        // 모든 파트가 기록된 뒤에만 blob 으로 등록. 등록 중 실패하면 등록분의 참조를 되돌림
+        List<String> result = new ArrayList<>(staged.size());
+        if (failure == null) {
+            try {
+                for (StagedBlob blob : staged) {
+                    result.add(commit(blob));
+                }
+            } catch (IOException | RuntimeException e) {
+                failure = e;
+                result.forEach(this::discard);
+            }
+        }
 
-            String filename = generateFileName(file.getOriginalFilename());
+        if (failure != null) {
+            for (StagedBlob blob : staged) {
+                deleteQuietly(blob.temp());
+            }
+            log.error("Failed to save {} images ({} parts): {}", type.getTypeName(), files.size(), failure.getMessage(), failure);
+            throw new RuntimeException(type.getTypeName() + " 이미지 저장 실패: " + failure.getMessage(), failure);
+        }
 
-            Path uploadPath = Paths.get(uploadDir, typeDir);
-            log.info("Upload path: {}", uploadPath.toAbsolutePath());
+        log.info("{} {} images saved", files.size(), type.getTypeName());
+        return result;
+    }
 
-            if (!Files.exists(uploadPath)) {
-                log.info("Creating directory: {}", uploadPath.toAbsolutePath());
-                Files.createDirectories(uploadPath);
-            }
+    // 삭제 요청만 기록하고 실제 삭제는 커밋 후 FileDeletionWorker 가 처리 (롤백되면 파일 유지)
+    public void deleteFile(String filePath) {
+        if (filePath == null || filePath.isBlank()) {
+            return;
+        }
+        fileDeletionOutbox.enqueue(filePath);
+        log.info("File deletion scheduled: {}", filePath);
+    }
 
-            Path filePath = uploadPath.resolve(filename);
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+    // 삭제 요청(outbox) 처리. blob 은 참조 해제와 요청 행 삭제를 한 트랜잭션으로 처리 (재시도해도 한 번만 해제)
+    // 이전 방식 경로는 삭제가 멱등이므로 요청 행은 호출한 쪽에서 정리
+    void deleteStoredFile(String filePath, long deletionId) throws IOException {
+        String blobKey = blobKeyOf(filePath);
+        if (blobKey != null) {
+            releaseBlob(blobKey, deletionId);
+            return;
+        }
+        deleteStoredFile(filePath);
+    }
 
-            String result = String.format("/uploads/%s/%s", typeDir, filename);
-            log.info("Image saved successfully: {}", result);
+    // blob 이면 참조 해제, 이전 방식 경로면 바로 삭제
+    void deleteStoredFile(String filePath) throws IOException {
+        String blobKey = blobKeyOf(filePath);
+        if (blobKey != null) {
+            releaseBlob(blobKey, null);
+            return;
+        }
 
-            return result;
+        Path actualPath = resolveStoredPath(filePath);
+        log.info("Deleting file: {} -> {}", filePath, actualPath.toAbsolutePath());
 
-        } catch (IOException e) {
-            log.error("Failed to save {} image: {}", type.getTypeName(), e.getMessage(), e);
-            throw new RuntimeException(type.getTypeName() + " 이미지 저장 실패: " + e.getMessage(), e);
+        if (Files.exists(actualPath)) {
+            Files.delete(actualPath);
+            log.info("File deleted successfully: {}", filePath);
+        } else {
+            log.warn("File not found for deletion: {}", actualPath.toAbsolutePath());
         }
+        deleteVariants(actualPath);
     }
 
-    public void deleteFile(String filePath) {
-        if (filePath == null || filePath.isBlank()) {
-            return;
+    // 엔티티에 저장된 경로를 실제 파일 경로로 변환
+    // "/uploads/users/xxx.jpg" 형태인 경우 실제 파일 경로: {uploadDir}/users/xxx.jpg
+    Path resolveStoredPath(String filePath) {
+        Path actualPath;
+        if (filePath.startsWith(UPLOAD_PREFIX)) {
+            actualPath = Paths.get(fileProperties.getUploadDir(), filePath.substring(UPLOAD_PREFIX.length()));
+        } else if (filePath.startsWith("/")) {
+            actualPath = Paths.get(fileProperties.getUploadDir(), filePath.substring(1));
+        } else {
+            actualPath = Paths.get(fileProperties.getUploadDir(), filePath);
         }
+        return actualPath.toAbsolutePath().normalize();
+    }
+
+    Path uploadRoot() {
+        return Paths.get(fileProperties.getUploadDir()).toAbsolutePath().normalize();
+    }
+
+    // 어디서도 참조하지 않는 파일 회수. blob 은 since 이후 새로 참조된 적이 없을 때만 참조 기록과 함께 삭제
+    // 회수한 바이트 수 반환 (건너뛰었거나 이미 없으면 -1)
+    long reclaimOrphan(Path file, LocalDateTime since) throws IOException {
+        String name = file.getFileName().toString();
+        if (isBlobKey(name) && file.equals(blobPath(name).toAbsolutePath().normalize())) {
+            synchronized (lockFor(name)) {
+                if (!imageBlobRefs.forgetIfIdleSince(name, since)) {
+                    return -1;
+                }
+                return deleteMeasured(file);
+            }
+        }
+        return deleteMeasured(file);
+    }
 
+    private long deleteMeasured(Path file) throws IOException {
         try {
-            // filePath가 "/uploads/users/xxx.jpg" 형태인 경우
-            // 실제 파일 경로: {uploadDir}/users/xxx.jpg
-            Path actualPath;
-            if (filePath.startsWith("/uploads/")) {
-                String relativePath = filePath.substring("/uploads/".length());
-                actualPath = Paths.get(fileProperties.getUploadDir(), relativePath);
-            } else if (filePath.startsWith("/")) {
-                actualPath = Paths.get(fileProperties.getUploadDir(), filePath.substring(1));
-            } else {
-                actualPath = Paths.get(fileProperties.getUploadDir(), filePath);
+            long size = Files.size(file);
+            return Files.deleteIfExists(file) ? size : -1;
+        } catch (NoSuchFileException e) {
+            return -1;
+        }
+    }
+
+    // 아직 엔티티에 연결되지 않은 업로드 되돌리기
+    private void discard(String filePath) {
+        try {
+            deleteStoredFile(filePath);
+        } catch (IOException e) {
+            log.warn("Failed to discard file: {} - {}", filePath, e.getMessage());
+        }
+    }
+
+    // 마지막 참조가 사라질 때만 파일 삭제. 참조 기록이 없는 blob 은 바로 삭제
+    // 참조 감소가 커밋된 뒤 파일 삭제가 실패하면 참조 기록 없는 파일로 남아 고아 파일 정리에서 회수
+    private void releaseBlob(String blobKey, Long deletionId) throws IOException {
+        synchronized (lockFor(blobKey)) {
+            long remaining = deletionId == null
+                    ? imageBlobRefs.release(blobKey)
+                    : imageBlobRefs.release(blobKey, deletionId);
+            if (remaining == ImageBlobRefs.ALREADY_RELEASED) {
+                log.info("Blob release already applied, skipped: {}", blobKey);
+                return;
             }
+            if (remaining > 0) {
+                log.info("Blob still referenced ({}): {}", remaining, blobKey);
+                return;
+            }
+            Path blobPath = blobPath(blobKey);
+            Files.deleteIfExists(blobPath);
+            deleteVariants(blobPath);
+            log.info("Blob deleted: {}", blobKey);
+        }
+    }
 
-            log.info("Deleting file: {} -> {}", filePath, actualPath.toAbsolutePath());
+    private void deleteVariants(Path original) throws IOException {
+        String fileName = original.getFileName().toString();
+        for (ImageVariant variant : ImageVariant.values()) {
+            Files.deleteIfExists(original.resolveSibling(variant.fileNameOf(fileName)));
+        }
+    }
 
-            if (Files.exists(actualPath)) {
-                Files.delete(actualPath);
-                log.info("File deleted successfully: {}", filePath);
-            } else {
-                log.warn("File not found for deletion: {}", actualPath.toAbsolutePath());
+    // 멀티파트 스트림을 FileChannel.transferFrom 으로 임시 파일에 기록하면서 같은 스트림에서 SHA-256 계산
+    private StagedBlob stage(MultipartFile file) throws IOException {
+        Path stagingDir = blobRoot().resolve(STAGING_DIR);
+        Files.createDirectories(stagingDir);
+        Path temp = stagingDir.resolve(UUID.randomUUID() + ".part");
+
+        MessageDigest digest = sha256();
+        long size = 0;
+        try (InputStream input = new DigestInputStream(file.getInputStream(), digest);
+             ReadableByteChannel source = Channels.newChannel(input);
+             FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long transferred;
+            while ((transferred = channel.transferFrom(source, size, TRANSFER_CHUNK)) > 0) {
+                size += transferred;
             }
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(temp);
+            throw e;
+        }
 
-        } catch (IOException e) {
-            log.error("Failed to delete file: {} - {}", filePath, e.getMessage(), e);
+        String blobKey = HexFormat.of().formatHex(digest.digest()) + extensionOf(file.getOriginalFilename());
+        return new StagedBlob(temp, blobKey, size);
+    }
+
+    // 처음 보는 내용이면 임시 파일을 blob 위치로 옮기고, 이미 있으면 임시 파일을 버리고 참조 수만 증가
+    private String commit(StagedBlob blob) throws IOException {
+        Path target = blobPath(blob.blobKey());
+        boolean created = false;
+        try {
+            synchronized (lockFor(blob.blobKey())) {
+                if (Files.notExists(target)) {
+                    Files.createDirectories(target.getParent());
+                    Files.move(blob.temp(), target, StandardCopyOption.ATOMIC_MOVE);
+                    created = true;
+                }
+                try {
+                    imageBlobRefs.acquire(blob.blobKey(), blob.size());
+                } catch (RuntimeException e) {
+                    if (created) {
+                        deleteQuietly(target);
+                    }
+                    throw e;
+                }
+            }
+        } finally {
+            deleteQuietly(blob.temp());
+        }
+
+        if (created) {
+            imageVariantGenerator.submit(target);
+        } else {
+            log.info("Duplicate image content, reusing blob: {}", blob.blobKey());
+            // 이전 리사이즈가 큐 초과/실패로 끝났으면 다시 시도 (가장 마지막에 쓰는 SMALL 로 완료 여부 판단)
+            if (Files.notExists(target.resolveSibling(ImageVariant.SMALL.fileNameOf(blob.blobKey())))) {
+                imageVariantGenerator.submit(target);
+            }
+        }
+        return UPLOAD_PREFIX + blobDir() + "/" + shardOf(blob.blobKey()) + "/" + blob.blobKey();
+    }
+
+    // 내용 해시로 저장된 파일 이름인지 ("{sha256 hex}.{확장자}")
+    static boolean isBlobKey(String fileName) {
+        return BLOB_KEY.matcher(fileName).matches();
+    }
+
+    private Path blobRoot() {
+        // Null 체크 및 로깅
+        if (fileProperties == null) {
+            log.error("FileProperties is null");
+            throw new IllegalStateException("FileProperties가 초기화되지 않았습니다");
+        }
+
+        String uploadDir = fileProperties.getUploadDir();
+        if (uploadDir == null || uploadDir.isBlank()) {
+            log.error("Upload directory is null or blank. baseDir: {}", fileProperties.getBaseDir());
+            throw new IllegalStateException("업로드 디렉토리가 설정되지 않았습니다");
+        }
+        return Paths.get(uploadDir, blobDir());
+    }
+
+    private String blobDir() {
+        String blobDir = fileProperties.getBlobDir();
+        if (blobDir == null || blobDir.isBlank()) {
+            log.error("Blob directory is null or blank");
+            throw new IllegalStateException("이미지 저장 디렉토리가 설정되지 않았습니다");
         }
+        return blobDir;
     }
 
-    private String generateFileName(String originalFilename) {
-        String uuid = UUID.randomUUID().toString();
-        return uuid + "_" + originalFilename;
+    private Path blobPath(String blobKey) {
+        return blobRoot().resolve(shardOf(blobKey)).resolve(blobKey);
     }
 
+    // 해시 앞 4자리로 2단계 분산 (디렉토리당 파일 수 제한)
+    private String shardOf(String blobKey) {
+        return blobKey.substring(0, 2) + "/" + blobKey.substring(2, 4);
+    }
+
+    // "/uploads/blobs/ab/cd/{key}" 형태일 때만 blob 키 반환 (경로 조작 방지를 위해 형식 검증)
+    private String blobKeyOf(String filePath) {
+        String prefix = UPLOAD_PREFIX + fileProperties.getBlobDir() + "/";
+        if (!filePath.startsWith(prefix)) {
+            return null;
+        }
+        String blobKey = filePath.substring(filePath.lastIndexOf('/') + 1);
+        if (!BLOB_KEY.matcher(blobKey).matches() || !filePath.equals(prefix + shardOf(blobKey) + "/" + blobKey)) {
+            return null;
+        }
+        return blobKey;
+    }
+
+    private String extensionOf(String originalFilename) {
+        if (originalFilename == null) {
+            return "";
+        }
+        int dot = originalFilename.lastIndexOf('.');
+        String extension = dot < 0 ? "" : originalFilename.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return EXTENSION.matcher(extension).matches() ? "." + extension : "";
+    }
+
+    private Object lockFor(String blobKey) {
+        return blobLocks[Math.floorMod(blobKey.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static Object[] newLocks() {
+        Object[] locks = new Object[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다", e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to clean up file: {} - {}", path, e.getMessage());
+        }
+    }
+
+    // 유지 목록은 현재 이미지 중에서만 인정 (다른 글의 blob 경로를 끼워 넣어 참조 수가 어긋나는 것 방지)
     void processImageUpdate(ImageHolder entity, List<String> newImages, List<String> keepImages) {
         if (keepImages == null) {
             if (newImages != null && !newImages.isEmpty()) {
@@ -126,23 +423,16 @@ public class FileStorageService {
             return;
         }
 
-        List<String> currentImages = entity.getImages();
         List<String> finalImages = new ArrayList<>();
-
-        if (keepImages.isEmpty()) {
-            for (String imagePath : currentImages) {
-                this.deleteFile(imagePath);
+        List<String> imagesToDelete = new ArrayList<>(entity.getImages());
+        for (String keepImage : keepImages) {
+            if (imagesToDelete.remove(keepImage)) {
+                finalImages.add(keepImage);
             }
-        } else {
-            finalImages.addAll(keepImages);
-
-            List<String> imagesToDelete = currentImages.stream()
-                    .filter(img -> !keepImages.contains(img))
-                    .collect(Collectors.toList());
+        }
 
-            for (String imagePath : imagesToDelete) {
-                this.deleteFile(imagePath);
-            }
+        for (String imagePath : imagesToDelete) {
+            this.deleteFile(imagePath);
         }
 
         if (newImages != null && !newImages.isEmpty()) {
@@ -150,4 +440,4 @@ public class FileStorageService {
         }
         entity.updateImages(finalImages);
     }
-}
\ No newline at end of file
+}
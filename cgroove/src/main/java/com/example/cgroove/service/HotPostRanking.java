@@ -0,0 +1,199 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.dto.post.HotPostSeed;
+import com.example.cgroove.entity.Post;
+import com.example.cgroove.enums.Scope;
+import com.example.cgroove.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// [Hot Groove] 최근 14일 GLOBAL 게시글의 시간 감쇠 점수 랭킹 (메모리 유지, 이벤트마다 증분 갱신)
+// 점수는 기준 시각(epoch) 대비 e^(λ(t - epoch)) 배로 가산하므로, 모든 글이 같은 비율로 감쇠하는 동안 순위가 유지된다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotPostRanking {
+    static final Duration WINDOW = Duration.ofDays(14);
+    static final double CREATE_WEIGHT = 1.0;
+    static final double LIKE_WEIGHT = 3.0;
+    static final double COMMENT_WEIGHT = 2.0;
+    static final double VIEW_WEIGHT = 0.2;
+
+    private static final double HALF_LIFE_SECONDS = Duration.ofDays(1).toSeconds();
+    private static final double DECAY_RATE = Math.log(2) / HALF_LIFE_SECONDS;
+    private static final double MIN_SCORE = 1e-3;
+    private static final int CAPACITY = 500;
+
+    private final PostRepository postRepository;
+
+    private final ConcurrentMap<Long, Candidate> candidates = new ConcurrentHashMap<>();
+    private final ReadWriteLock rebaseLock = new ReentrantReadWriteLock();
+    private volatile Instant epoch = Instant.now();
+    private volatile boolean ready = false;
+
+    // 서버 기동 시 DB 기준으로 랭킹 재구성 (이벤트 발생 시각을 모르므로 작성 시각 기준으로 근사)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        Instant now = Instant.now();
+        List<HotPostSeed> posts = postRepository.findHotPostSeeds(toLocal(now.minus(WINDOW)));
+
+        rebaseLock.writeLock().lock();
+        try {
+            candidates.clear();
+            epoch = now;
+            for (HotPostSeed post : posts) {
+                double weight = CREATE_WEIGHT
+                        + post.likeCount() * LIKE_WEIGHT
+                        + post.commentCount() * COMMENT_WEIGHT
+                        + post.viewCount() * VIEW_WEIGHT;
+                candidates.put(post.postId(),
+                        new Candidate(post.createdAt(), weight * growth(toInstant(post.createdAt()))));
+            }
+            trimToCapacity();
+            ready = true;
+        } finally {
+            rebaseLock.writeLock().unlock();
+        }
+        log.info("Hot Groove 랭킹 초기화 완료: {}개 게시글", candidates.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void recordCreated(Post post) {
+        record(post, CREATE_WEIGHT, Instant.now());
+    }
+
+    // 좋아요는 게시글을 조회하지 않으므로 이미 후보에 있는 글만 갱신 (범위/기간 밖 글은 원래 후보가 아님)
+    public void recordLike(Long postId) {
+        adjust(postId, LIKE_WEIGHT, Instant.now());
+    }
+
+    public void recordUnlike(Long postId) {
+        adjust(postId, -LIKE_WEIGHT, Instant.now());
+    }
+
+    public void recordComment(Post post) {
+        record(post, COMMENT_WEIGHT, Instant.now());
+    }
+
+    public void recordView(Post post) {
+        record(post, VIEW_WEIGHT, Instant.now());
+    }
+
+    public void remove(Long postId) {
+        candidates.remove(postId);
+    }
+
+    // 점수 상위 게시글 ID (점수 내림차순)
+    public List<Long> topPostIds(int limit) {
+        LocalDateTime threshold = toLocal(Instant.now().minus(WINDOW));
+        return candidates.entrySet().stream()
+                .filter(entry -> entry.getValue().createdAt().isAfter(threshold))
+                .sorted(Map.Entry.<Long, Candidate>comparingByValue(
+                        Comparator.comparingDouble(Candidate::score)).reversed())
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    // 기준 시각을 현재로 옮기며 전체 점수를 감쇠시키고, 기간이 지났거나 점수가 미미한 글은 제외
+    @Scheduled(fixedDelay = 600_000)
+    public void redecay() {
+        redecay(Instant.now());
+    }
+
+    void redecay(Instant now) {
+        rebaseLock.writeLock().lock();
+        try {
+            double factor = Math.exp(-DECAY_RATE * Duration.between(epoch, now).toSeconds());
+            LocalDateTime threshold = toLocal(now.minus(WINDOW));
+            candidates.replaceAll((id, candidate) -> candidate.scaled(factor));
+            candidates.values().removeIf(candidate ->
+                    candidate.score() < MIN_SCORE || !candidate.createdAt().isAfter(threshold));
+            epoch = now;
+        } finally {
+            rebaseLock.writeLock().unlock();
+        }
+    }
+
+    void record(Post post, double weight, Instant now) {
+        if (post.getScope() != Scope.GLOBAL) {
+            return;
+        }
+        LocalDateTime createdAt = post.getCreatedAt() != null ? post.getCreatedAt() : toLocal(now);
+        if (!createdAt.isAfter(toLocal(now.minus(WINDOW)))) {
+            return;
+        }
+
+        rebaseLock.readLock().lock();
+        try {
+            double delta = weight * growth(now);
+            candidates.merge(post.getPostId(),
+                    new Candidate(createdAt, Math.max(delta, 0)),
+                    (current, ignored) -> current.plus(delta));
+            trimToCapacity();
+        } finally {
+            rebaseLock.readLock().unlock();
+        }
+    }
+
+    void adjust(Long postId, double weight, Instant now) {
+        rebaseLock.readLock().lock();
+        try {
+            double delta = weight * growth(now);
+            candidates.computeIfPresent(postId, (id, current) -> current.plus(delta));
+        } finally {
+            rebaseLock.readLock().unlock();
+        }
+    }
+
+    private double growth(Instant at) {
+        return Math.exp(DECAY_RATE * Duration.between(epoch, at).toSeconds());
+    }
+
+    private void trimToCapacity() {
+        while (candidates.size() > CAPACITY) {
+            candidates.entrySet().stream()
+                    .min(Map.Entry.comparingByValue(Comparator.comparingDouble(Candidate::score)))
+                    .ifPresent(lowest -> candidates.remove(lowest.getKey(), lowest.getValue()));
+        }
+    }
+
+    private static LocalDateTime toLocal(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    record Candidate(LocalDateTime createdAt, double score) {
+        Candidate plus(double delta) {
+            return new Candidate(createdAt, Math.max(score + delta, 0));
+        }
+
+        Candidate scaled(double factor) {
+            return new Candidate(createdAt, score * factor);
+        }
+    }
+}
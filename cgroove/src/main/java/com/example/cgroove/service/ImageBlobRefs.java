@@ -0,0 +1,80 @@
+package com.example.cgroove.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 이미지 blob 참조 수 증감. FileStorageService 가 blob 잠금을 쥔 채 파일 이동/삭제와 묶어 호출하므로
+// 잠금을 놓기 전에 커밋되도록 항상 별도 트랜잭션에서 실행
+@Component
+@RequiredArgsConstructor
+public class ImageBlobRefs {
+    // 삭제 요청이 이미 처리되어 참조 수를 건드리지 않음
+    public static final long ALREADY_RELEASED = -2;
+
+    private static final String ACQUIRE_SQL = "INSERT INTO image_blobs (blob_key, ref_count, size_bytes, created_at, last_acquired_at) VALUES (?, 1, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, last_acquired_at = VALUES(last_acquired_at)";
+    private static final String LAST_ACQUIRED_SQL = "SELECT last_acquired_at FROM image_blobs WHERE blob_key = ? FOR UPDATE";
+    private static final String LOCK_SQL = "SELECT ref_count FROM image_blobs WHERE blob_key = ? FOR UPDATE";
+    private static final String DECREMENT_SQL = "UPDATE image_blobs SET ref_count = ref_count - 1 WHERE blob_key = ?";
+    private static final String DELETE_SQL = "DELETE FROM image_blobs WHERE blob_key = ?";
+    private static final String CONSUME_DELETION_SQL = "DELETE FROM file_deletion_outbox WHERE deletion_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void acquire(String blobKey, long sizeBytes) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(ACQUIRE_SQL, blobKey, sizeBytes, now, now);
+    }
+
+    // 남은 참조 수 반환 (0 이면 행도 삭제). 참조 기록이 없는 blob 이면 -1
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long release(String blobKey) {
+        return decrement(blobKey);
+    }
+
+    // 삭제 요청(file_deletion_outbox) 처리용. 요청 행 삭제와 참조 감소를 한 트랜잭션으로 커밋해
+    // 이후 단계가 실패해 같은 요청을 다시 처리해도 참조 수는 한 번만 줄어듦 (요청 행이 없으면 ALREADY_RELEASED)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long release(String blobKey, long deletionId) {
+        if (jdbcTemplate.update(CONSUME_DELETION_SQL, deletionId) == 0) {
+            return ALREADY_RELEASED;
+        }
+        return decrement(blobKey);
+    }
+
+    private long decrement(String blobKey) {
+        List<Long> counts = jdbcTemplate.queryForList(LOCK_SQL, Long.class, blobKey);
+        if (counts.isEmpty()) {
+            return -1;
+        }
+        long refCount = counts.getFirst();
+        if (refCount <= 1) {
+            jdbcTemplate.update(DELETE_SQL, blobKey);
+            return 0;
+        }
+        jdbcTemplate.update(DECREMENT_SQL, blobKey);
+        return refCount - 1;
+    }
+
+    // 고아 blob 회수 전 확인. since 이후 새로 참조된 적이 없으면 남은 참조 기록을 지우고 true
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean forgetIfIdleSince(String blobKey, LocalDateTime since) {
+        List<Timestamp> acquiredAt = jdbcTemplate.queryForList(LAST_ACQUIRED_SQL, Timestamp.class, blobKey);
+        if (acquiredAt.isEmpty()) {
+            return true;
+        }
+        if (!acquiredAt.getFirst().toLocalDateTime().isBefore(since)) {
+            return false;
+        }
+        jdbcTemplate.update(DELETE_SQL, blobKey);
+        return true;
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.enums.ImageVariant;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 업로드된 이미지의 리사이즈본(320/640/1280)을 백그라운드에서 생성.
+// 큐가 가득 차면 버리고 원본으로 대체되므로 업로드 요청은 리사이즈를 기다리지 않음
+@Slf4j
+@Component
+public class ImageVariantGenerator {
+    // 디코딩 전에 크기를 확인해 과도하게 큰 이미지(압축 폭탄)는 건너뜀
+    private static final long MAX_PIXELS = 40_000_000L;
+    private static final List<ImageVariant> LARGEST_FIRST = Arrays.stream(ImageVariant.values())
+            .sorted(Comparator.comparingInt(ImageVariant::getWidth).reversed())
+            .toList();
+
+    private final float jpegQuality;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejectedCounter;
+
+    public ImageVariantGenerator(MeterRegistry meterRegistry,
+                                 @Value("${image-variant.workers:2}") int workers,
+                                 @Value("${image-variant.queue-capacity:256}") int queueCapacity,
+                                 @Value("${image-variant.jpeg-quality:0.8}") float jpegQuality) {
+        this.jpegQuality = jpegQuality;
+        // 리사이즈는 CPU 작업이라 가상 스레드 대신 고정 크기 플랫폼 스레드 사용
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("image-variant-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("image.variant.queue.depth", executor.getQueue(), BlockingQueue::size)
+                .description("리사이즈 대기 중인 이미지 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("image.variant.rejected")
+                .description("큐가 가득 차 리사이즈를 건너뛴 이미지 수")
+                .register(meterRegistry);
+    }
+
+    public void submit(Path original) {
+        try {
+            executor.execute(() -> generate(original));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Image variant queue full, skipped: {}", original.getFileName());
+        }
+    }
+
+    // 한 번 디코딩한 뒤 큰 크기부터 차례로 줄여 가며 저장
+    void generate(Path original) {
+        try {
+            BufferedImage source = read(original);
+            if (source == null) {
+                return;
+            }
+            BufferedImage current = toRgb(source);
+            for (ImageVariant variant : LARGEST_FIRST) {
+                current = downscale(current, Math.min(variant.getWidth(), source.getWidth()));
+                writeJpeg(current, original.resolveSibling(variant.fileNameOf(original.getFileName().toString())));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to generate image variants for {}: {}", original.getFileName(), e.getMessage());
+        }
+    }
+
+    private BufferedImage read(Path original) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+                    log.warn("Image too large for variants: {}", original.getFileName());
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // JPEG 은 알파 채널이 없으므로 흰 배경 RGB 로 변환
+    private BufferedImage toRgb(BufferedImage source) {
+        if (source.getType() == BufferedImage.TYPE_INT_RGB) {
+            return source;
+        }
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, source.getWidth(), source.getHeight());
+            g.drawImage(source, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return rgb;
+    }
+
+    // 한 번에 크게 줄이면 계단 현상이 생겨 절반씩 단계적으로 축소
+    private BufferedImage downscale(BufferedImage image, int targetWidth) {
+        BufferedImage current = image;
+        while (current.getWidth() > targetWidth) {
+            int width = Math.max(targetWidth, current.getWidth() / 2);
+            int height = Math.max(1, (int) Math.round((double) image.getHeight() * width / image.getWidth()));
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        }
+        return current;
+    }
+
+    // 임시 파일에 쓴 뒤 이동해서 반쯤 쓰인 파일이 서빙되지 않게 함
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        } finally {
+            writer.dispose();
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
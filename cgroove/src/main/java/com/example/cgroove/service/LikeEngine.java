@@ -0,0 +1,84 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.exception.NotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 게시글/행사 좋아요 토글 공통 처리 (BaseLike 테이블을 엔티티 조회 없이 SQL 로 직접 변경)
+// 대상 행을 먼저 잠그고 좋아요 행 변경과 like_count 증감을 같은 트랜잭션에서 처리해 like_count 가 좋아요 행 수와 항상 일치
+@Component
+@RequiredArgsConstructor
+public class LikeEngine {
+    private final JdbcTemplate jdbcTemplate;
+    private final LikedSetCache likedSetCache;
+
+    public enum Target {
+        POST("posts", "post_id", "post_likes", "게시글을 찾을 수 없습니다"),
+        EVENT("events", "event_id", "event_likes", "행사를 찾을 수 없습니다");
+
+        private final String lockSql;
+        private final String deleteSql;
+        private final String insertSql;
+        private final String updateSql;
+        private final String likedIdsSql;
+        private final String notFoundMessage;
+
+        Target(String table, String idColumn, String likeTable, String notFoundMessage) {
+            this.lockSql = "SELECT like_count FROM " + table + " WHERE " + idColumn + " = ? AND is_deleted = false FOR UPDATE";
+            this.deleteSql = "DELETE FROM " + likeTable + " WHERE " + idColumn + " = ? AND user_id = ?";
+            // (대상, 사용자) 유니크 제약 위반만 중복 요청으로 처리 (IGNORE 는 FK 등 다른 오류까지 삼키므로 사용하지 않음)
+            this.insertSql = "INSERT INTO " + likeTable + " (" + idColumn + ", user_id, created_at) VALUES (?, ?, ?)";
+            this.updateSql = "UPDATE " + table + " SET like_count = GREATEST(like_count + ?, 0) WHERE " + idColumn + " = ?";
+            this.likedIdsSql = "SELECT " + idColumn + " FROM " + likeTable + " WHERE user_id = ?";
+            this.notFoundMessage = notFoundMessage;
+        }
+
+        String likedIdsSql() {
+            return likedIdsSql;
+        }
+    }
+
+    // changed: 실제로 좋아요 행이 추가/삭제되었는지 (중복 요청이면 false)
+    public record Result(boolean liked, boolean changed, long likeCount) {
+    }
+
+    // 좋아요가 있으면 취소, 없으면 추가
+    @Transactional
+    public Result toggle(Target target, Long targetId, Long userId) {
+        long likeCount = lockLikeCount(target, targetId);
+
+        if (jdbcTemplate.update(target.deleteSql, targetId, userId) > 0) {
+            likedSetCache.recordToggle(target, userId, targetId, false);
+            return new Result(false, true, applyDelta(target, targetId, likeCount, -1));
+        }
+        try {
+            jdbcTemplate.update(target.insertSql, targetId, userId, Timestamp.valueOf(LocalDateTime.now()));
+        } catch (DuplicateKeyException e) {
+            // 같은 요청이 중복으로 들어와 이미 좋아요 행이 있음 (한 행만 남음)
+            return new Result(true, false, likeCount);
+        }
+        likedSetCache.recordToggle(target, userId, targetId, true);
+        return new Result(true, true, applyDelta(target, targetId, likeCount, 1));
+    }
+
+    // 같은 대상의 토글은 이 잠금으로 직렬화 (좋아요 행 INSERT 의 FK 공유 잠금과 카운터 UPDATE 간 교착 방지)
+    private long lockLikeCount(Target target, Long targetId) {
+        List<Long> counts = jdbcTemplate.queryForList(target.lockSql, Long.class, targetId);
+        if (counts.isEmpty()) {
+            throw new NotFoundException(target.notFoundMessage);
+        }
+        return counts.getFirst();
+    }
+
+    private long applyDelta(Target target, Long targetId, long likeCount, int delta) {
+        jdbcTemplate.update(target.updateSql, delta, targetId);
+        return Math.max(likeCount + delta, 0);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.cgroove.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 사용자별 좋아요한 게시글/행사 ID 비트맵 캐시 (목록/상세의 isLiked 를 쿼리 없이 판단)
+// 처음 조회할 때 사용자의 좋아요 ID 를 한 번에 적재하고, 이후에는 좋아요 토글 시 커밋 이후 갱신
+@Component
+public class LikedSetCache {
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<Key, LongBitmap> likedSets;
+
+    public LikedSetCache(JdbcTemplate jdbcTemplate,
+                         MeterRegistry meterRegistry,
+                         @Value("${like-cache.memory-budget:64MB}") DataSize memoryBudget) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 비트맵 크기 합이 예산을 넘으면 오래 쓰이지 않은 사용자부터 제거
+        this.likedSets = Caffeine.newBuilder()
+                .maximumWeight(memoryBudget.toBytes())
+                .weigher((Key key, LongBitmap bitmap) -> (int) Math.min(bitmap.sizeInBytes(), Integer.MAX_VALUE))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, likedSets, "liked_sets");
+    }
+
+    public boolean isLiked(LikeEngine.Target target, Long userId, Long targetId) {
+        return userId != null && likedSet(target, userId).contains(targetId);
+    }
+
+    // 한 페이지의 isLiked 를 비트 검사로 판단
+    public Set<Long> likedAmong(LikeEngine.Target target, Long userId, List<Long> targetIds) {
+        Set<Long> liked = new HashSet<>();
+        if (userId == null || targetIds.isEmpty()) {
+            return liked;
+        }
+        LongBitmap bitmap = likedSet(target, userId);
+        for (Long targetId : targetIds) {
+            if (bitmap.contains(targetId)) {
+                liked.add(targetId);
+            }
+        }
+        return liked;
+    }
+
+    // 캐시에 올라온 사용자만 갱신 (없으면 다음 조회 때 DB 에서 적재)
+    // 커밋 전에 시작된 적재와 겹쳐도 적재가 끝난 값에 이어서 반영되므로 최종 상태가 맞음
+    public void recordToggle(LikeEngine.Target target, Long userId, Long targetId, boolean liked) {
+        Runnable apply = () -> likedSets.asMap().computeIfPresent(new Key(target, userId), (key, bitmap) -> {
+            if (liked) {
+                bitmap.add(targetId);
+            } else {
+                bitmap.remove(targetId);
+            }
+            return bitmap;
+        });
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply.run();
+            }
+        });
+    }
+
+    private LongBitmap likedSet(LikeEngine.Target target, Long userId) {
+        return likedSets.get(new Key(target, userId), this::load);
+    }
+
+    private LongBitmap load(Key key) {
+        LongBitmap bitmap = new LongBitmap();
+        jdbcTemplate.query(key.target().likedIdsSql(), rs -> {
+            bitmap.add(rs.getLong(1));
+        }, key.userId());
+        return bitmap;
+    }
+
+    private record Key(LikeEngine.Target target, Long userId) {
+    }
+}
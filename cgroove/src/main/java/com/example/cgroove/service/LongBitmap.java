@@ -0,0 +1,201 @@
+package com.example.cgroove.service;
+
+import java.util.Arrays;
+
+// roaring 방식의 long 집합 (상위 48비트로 구간을 나누고, 구간마다 하위 16비트를 배열 또는 비트맵으로 보관)
+// 구간 내 값이 4096개 이하면 정렬된 char 배열(값당 2바이트), 넘으면 8KB 비트맵으로 전환
+// 동시 접근은 인스턴스 단위 synchronized 로 보호 (사용자별 집합이라 경합이 거의 없음)
+final class LongBitmap {
+    static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1 << 10;
+    private static final int OBJECT_OVERHEAD = 16;
+
+    private long[] keys = new long[0];
+    private Container[] containers = new Container[0];
+    private int size = 0;
+
+    synchronized boolean contains(long value) {
+        int index = indexOf(value >>> 16);
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    synchronized boolean add(long value) {
+        long key = value >>> 16;
+        int index = indexOf(key);
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, key, new ArrayContainer());
+        }
+        Container container = containers[index];
+        if (container.contains((char) value)) {
+            return false;
+        }
+        containers[index] = container.add((char) value);
+        return true;
+    }
+
+    synchronized boolean remove(long value) {
+        int index = indexOf(value >>> 16);
+        if (index < 0 || !containers[index].contains((char) value)) {
+            return false;
+        }
+        Container container = containers[index].remove((char) value);
+        if (container.cardinality() == 0) {
+            removeContainer(index);
+        } else {
+            containers[index] = container;
+        }
+        return true;
+    }
+
+    synchronized long cardinality() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += containers[i].cardinality();
+        }
+        return total;
+    }
+
+    // 캐시 메모리 예산 계산용 대략적인 점유 바이트
+    synchronized long sizeInBytes() {
+        long bytes = OBJECT_OVERHEAD * 3L + keys.length * 8L + containers.length * 8L;
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].sizeInBytes();
+        }
+        return bytes;
+    }
+
+    private int indexOf(long key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private void insertContainer(int index, long key, Container container) {
+        if (size == keys.length) {
+            int capacity = Math.max(4, size * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        size--;
+        containers[size] = null;
+    }
+
+    private interface Container {
+        boolean contains(char low);
+
+        // 변경 후 컨테이너 (배열 <-> 비트맵 전환 시 새 인스턴스)
+        Container add(char low);
+
+        Container remove(char low);
+
+        int cardinality();
+
+        long sizeInBytes();
+    }
+
+    private static final class ArrayContainer implements Container {
+        private char[] values = new char[4];
+        private int cardinality = 0;
+
+        @Override
+        public boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        @Override
+        public Container add(char low) {
+            if (cardinality == ARRAY_MAX) {
+                return toBitmap().add(low);
+            }
+            int index = -Arrays.binarySearch(values, 0, cardinality, low) - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, values.length * 2));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = low;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char low) {
+            int index = Arrays.binarySearch(values, 0, cardinality, low);
+            System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+            cardinality--;
+            return this;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return OBJECT_OVERHEAD * 2L + values.length * 2L;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    private static final class BitmapContainer implements Container {
+        private final long[] words = new long[BITMAP_WORDS];
+        private int cardinality = 0;
+
+        @Override
+        public boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        public Container add(char low) {
+            words[low >>> 6] |= 1L << low;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char low) {
+            words[low >>> 6] &= ~(1L << low);
+            cardinality--;
+            return cardinality > ARRAY_MAX ? this : toArray();
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return OBJECT_OVERHEAD * 2L + BITMAP_WORDS * 8L;
+        }
+
+        private ArrayContainer toArray() {
+            ArrayContainer array = new ArrayContainer();
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    array.add((char) (i * 64 + Long.numberOfTrailingZeros(word)));
+                    word &= word - 1;
+                }
+            }
+            return array;
+        }
+    }
+}
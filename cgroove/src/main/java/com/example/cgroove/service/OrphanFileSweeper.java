@@ -0,0 +1,151 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.enums.ImageVariant;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+// 업로드 디렉토리를 훑어 게시글/행사(보관분 포함)/사용자/클럽 어디에서도 참조하지 않는 파일을 묶음 단위로 회수
+// (롤백된 트랜잭션의 업로드, 삭제 재시도 한도를 넘긴 파일, 중단된 업로드의 임시 파일 등)
+@Slf4j
+@Component
+public class OrphanFileSweeper {
+    private static final String REFERENCED_PATHS_SQL = """
+            SELECT image FROM post_images WHERE image IS NOT NULL
+            UNION ALL SELECT image FROM event_images WHERE image IS NOT NULL
+            UNION ALL SELECT profile_image FROM users WHERE profile_image IS NOT NULL
+            UNION ALL SELECT club_image FROM clubs WHERE club_image IS NOT NULL
+            UNION ALL SELECT image FROM post_images_archive WHERE image IS NOT NULL
+            UNION ALL SELECT image FROM event_images_archive WHERE image IS NOT NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FileStorageService fileStorageService;
+    private final Duration gracePeriod;
+    private final int batchSize;
+    private final Counter reclaimedBytes;
+    private final Counter reclaimedFiles;
+
+    public OrphanFileSweeper(JdbcTemplate jdbcTemplate,
+                             FileStorageService fileStorageService,
+                             MeterRegistry meterRegistry,
+                             @Value("${file.sweeper.grace-period:1h}") Duration gracePeriod,
+                             @Value("${file.sweeper.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fileStorageService = fileStorageService;
+        this.gracePeriod = gracePeriod;
+        this.batchSize = batchSize;
+        this.reclaimedBytes = Counter.builder("file.orphan.reclaimed.bytes")
+                .description("고아 파일 정리로 회수한 용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.reclaimedFiles = Counter.builder("file.orphan.reclaimed.files")
+                .description("고아 파일 정리로 삭제한 파일 수")
+                .register(meterRegistry);
+    }
+
+    // 유예 기간보다 최근 파일은 아직 엔티티 저장 전인 업로드일 수 있어 건너뜀
+    @Scheduled(cron = "${file.sweeper.cron:0 30 4 * * *}")
+    public synchronized void sweep() {
+        LocalDateTime since = LocalDateTime.now().minus(gracePeriod);
+        Instant cutoff = Instant.now().minus(gracePeriod);
+        Path root = fileStorageService.uploadRoot();
+        if (Files.notExists(root)) {
+            return;
+        }
+
+        Set<Path> referenced = referencedPaths();
+        long files = 0;
+        long bytes = 0;
+        List<Path> batch = new ArrayList<>(batchSize);
+        try (Stream<Path> walk = Files.walk(root)) {
+            Iterator<Path> iterator = walk.filter(Files::isRegularFile).iterator();
+            while (iterator.hasNext()) {
+                Path file = iterator.next().toAbsolutePath().normalize();
+                if (referenced.contains(file) || !isOlderThan(file, cutoff)) {
+                    continue;
+                }
+                batch.add(file);
+                if (batch.size() == batchSize) {
+                    long[] result = reclaim(batch, since);
+                    files += result[0];
+                    bytes += result[1];
+                    batch.clear();
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.error("Orphan file sweep aborted: {}", e.getMessage(), e);
+        }
+        long[] result = reclaim(batch, since);
+        files += result[0];
+        bytes += result[1];
+
+        log.info("Orphan file sweep finished: {} files, {} bytes reclaimed ({} referenced paths)", files, bytes, referenced.size());
+    }
+
+    // 참조 경로와 그 리사이즈본 경로를 실제 파일 경로로 모음
+    private Set<Path> referencedPaths() {
+        Set<Path> referenced = new HashSet<>();
+        jdbcTemplate.query(REFERENCED_PATHS_SQL, rs -> {
+            String filePath = rs.getString(1);
+            if (filePath.isBlank()) {
+                return;
+            }
+            Path path = fileStorageService.resolveStoredPath(filePath);
+            referenced.add(path);
+            String fileName = path.getFileName().toString();
+            for (ImageVariant variant : ImageVariant.values()) {
+                referenced.add(path.resolveSibling(variant.fileNameOf(fileName)));
+            }
+        });
+        return referenced;
+    }
+
+    private long[] reclaim(List<Path> batch, LocalDateTime since) {
+        long files = 0;
+        long bytes = 0;
+        for (Path file : batch) {
+            try {
+                long reclaimed = fileStorageService.reclaimOrphan(file, since);
+                if (reclaimed >= 0) {
+                    files++;
+                    bytes += reclaimed;
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to reclaim orphan file: {} - {}", file, e.getMessage());
+            }
+        }
+        reclaimedFiles.increment(files);
+        reclaimedBytes.increment(bytes);
+        if (files > 0) {
+            log.info("Reclaimed {} orphan files ({} bytes)", files, bytes);
+        }
+        return new long[]{files, bytes};
+    }
+
+    private boolean isOlderThan(Path file, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -1,35 +1,49 @@
 package com.example.cgroove.service;
 
+import com.example.cgroove.dto.CursorPage;
+import com.example.cgroove.dto.PageCursor;
 import com.example.cgroove.dto.post.PostCreateRequest;
 import com.example.cgroove.dto.post.PostResponse;
+import com.example.cgroove.dto.post.PostSummary;
 import com.example.cgroove.dto.post.PostUpdateRequest;
 import com.example.cgroove.entity.Club;
 import com.example.cgroove.entity.Post;
 import com.example.cgroove.entity.User;
 import com.example.cgroove.enums.Scope;
+import com.example.cgroove.enums.ViewTarget;
 import com.example.cgroove.exception.AccessDeniedException;
 import com.example.cgroove.exception.InvalidRequestException;
 import com.example.cgroove.exception.NotFoundException;
 import com.example.cgroove.repository.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostService {
+    private static final int HOT_POST_LIMIT = 10;
+    private static final int MY_CLUB_POST_LIMIT = 10;
+
     private final PostRepository postRepository;
     private final UserRepository userRepository;
-    private final PostLikeRepository postLikeRepository;
+    private final LikedSetCache likedSetCache;
     private final ClubAuthService clubAuthService;
     private final FileStorageService fileStorageService;
+    private final HotPostRanking hotPostRanking;
+    private final ClubTimeline clubTimeline;
+    private final ViewCountBuffer viewCountBuffer;
+    private final ViewerSketches viewerSketches;
 
     @Transactional
     public PostResponse createPost(Long userId, PostCreateRequest request) {
@@ -62,48 +76,86 @@ public class PostService {
                 .images(request.getImages())
                 .build();
 
-        return PostResponse.from(postRepository.save(post), false);
+        Post savedPost = postRepository.save(post);
+        hotPostRanking.recordCreated(savedPost);
+        clubTimeline.publish(savedPost);
+        return PostResponse.from(savedPost, false);
     }
 
-    @Transactional
     public PostResponse getPost(Long postId, Long userId) {
         Post post = getActivePost(postId);
-        postRepository.updateViewCount(postId);
+        viewCountBuffer.increasePostView(postId);
+        viewerSketches.recordView(ViewTarget.POST, postId, userId);
+        hotPostRanking.recordView(post);
 
-        boolean isLiked = userId != null && postLikeRepository.existsByPostPostIdAndUserUserId(postId, userId);
+        boolean isLiked = likedSetCache.isLiked(LikeEngine.Target.POST, userId, postId);
 
-        return PostResponse.from(post, isLiked);
+        return PostResponse.from(post, isLiked)
+                .withPendingViews(viewCountBuffer.pendingPostViews(postId))
+                .withUniqueViewers(viewerSketches.uniqueViewers(ViewTarget.POST, postId));
     }
-    public List<PostResponse> getPosts(Long userId) {
+    public CursorPage<PostResponse> getPosts(Long userId, String cursor, Integer size) {
+        int pageSize = CursorPage.sizeOf(size);
         List<Long> myClubIds = clubAuthService.findUserClubIds(userId);
-        List<Post> posts = postRepository.findAllPosts(myClubIds);
-        return convertToResponses(posts, userId);
+        List<PostSummary> posts = postRepository.findAllPosts(myClubIds, PageCursor.decode(cursor), pageSize + 1);
+        return CursorPage.slice(posts, pageSize,
+                post -> new PageCursor(post.createdAt(), post.postId()),
+                page -> convertToResponses(page, userId));
     }
     public List<PostResponse> getHotPosts(Long userId) {
-        Pageable pageable = PageRequest.of(0, 10);
+        if (!hotPostRanking.isReady()) {
+            List<PostSummary> posts = postRepository.findHotPosts(PageRequest.of(0, HOT_POST_LIMIT));
+            return convertToResponses(posts, userId);
+        }
 
-        List<Post> posts = postRepository.findHotPosts(pageable);
-        return convertToResponses(posts, userId);
+        // 랭킹에 남아 있는 삭제 글을 감안해 여유 있게 조회 후 순위대로 정렬
+        List<Long> rankedIds = hotPostRanking.topPostIds(HOT_POST_LIMIT * 2);
+        return convertToResponses(findAllInOrder(rankedIds, HOT_POST_LIMIT, hotPostRanking::remove), userId);
     }
     public List<PostResponse> getMyClubPosts(Long userId) {
-        Pageable pageable = PageRequest.of(0, 10);
-        List<Post> posts = postRepository.findMyClubPosts(userId, pageable);
-        return convertToResponses(posts, userId);
+        List<Long> myClubIds = clubAuthService.findUserClubIds(userId);
+        // 타임라인에 남아 있는 삭제 글을 감안해 여유 있게 조회
+        List<Long> postIds = clubTimeline.recentPostIds(userId, myClubIds, MY_CLUB_POST_LIMIT * 2);
+        return convertToResponses(findAllInOrder(postIds, MY_CLUB_POST_LIMIT, clubTimeline::removePost), userId);
+    }
+    // ID 목록 순서를 유지한 채 조회 (삭제되었거나 없는 글은 제외하고 onMissing 으로 넘겨 목록에서 정리)
+    private List<PostSummary> findAllInOrder(List<Long> postIds, int limit, Consumer<Long> onMissing) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostSummary> postsById = postRepository.findPostSummaries(postIds).stream()
+                .collect(Collectors.toMap(PostSummary::postId, Function.identity()));
+        List<PostSummary> posts = new ArrayList<>(limit);
+        for (Long postId : postIds) {
+            PostSummary post = postsById.get(postId);
+            if (post == null) {
+                onMissing.accept(postId);
+            } else if (posts.size() < limit) {
+                posts.add(post);
+            }
+        }
+        return posts;
     }
-    private List<PostResponse> convertToResponses(List<Post> posts, Long userId) {
+    // 목록 크기와 무관하게 좋아요 / 태그 / 이미지를 한 번씩만 조회
+    private List<PostResponse> convertToResponses(List<PostSummary> posts, Long userId) {
         if (posts.isEmpty()) {
             return List.of();
         }
 
-        List<Long> postIds = posts.stream().map(Post::getPostId).toList();
+        List<Long> postIds = posts.stream().map(PostSummary::postId).toList();
 
-        Set<Long> likedPostIds = userId != null
-                ? postLikeRepository.findLikedPostIds(postIds, userId) : new HashSet<>();
-
-        Set<Long> finalLikedPostIds = likedPostIds;
+        Set<Long> likedPostIds = likedSetCache.likedAmong(LikeEngine.Target.POST, userId, postIds);
+        Map<Long, List<String>> tagsByPostId = postRepository.findTagsByPostIds(postIds);
+        Map<Long, List<String>> imagesByPostId = postRepository.findImagesByPostIds(postIds);
+        Map<Long, Long> uniqueViewersByPostId = viewerSketches.uniqueViewers(ViewTarget.POST, postIds);
 
         return posts.stream()
-                .map(post -> PostResponse.from(post, finalLikedPostIds.contains(post.getPostId())))
+                .map(post -> PostResponse.from(post,
+                        tagsByPostId.getOrDefault(post.postId(), List.of()),
+                        imagesByPostId.getOrDefault(post.postId(), List.of()),
+                        likedPostIds.contains(post.postId()))
+                        .withPendingViews(viewCountBuffer.pendingPostViews(post.postId()))
+                        .withUniqueViewers(uniqueViewersByPostId.getOrDefault(post.postId(), 0L)))
                 .toList();
     }
 
@@ -114,7 +166,7 @@ public class PostService {
 
         post.updatePost(request.getTitle(), request.getContent(), request.getTags());
         fileStorageService.processImageUpdate(post, request.getNewImagePaths(), request.getKeepImages());
-        boolean isLiked = postLikeRepository.existsByPostPostIdAndUserUserId(postId, userId);
+        boolean isLiked = likedSetCache.isLiked(LikeEngine.Target.POST, userId, postId);
 
         return PostResponse.from(post, isLiked);
     }
@@ -124,6 +176,8 @@ public class PostService {
         Post post = getActivePost(postId);
         checkAuthor(userId, post);
         post.delete();
+        hotPostRanking.remove(postId);
+        clubTimeline.removePost(postId);
     }
 
     private Post getActivePost(Long postId) {
@@ -135,13 +189,4 @@ public class PostService {
             throw new AccessDeniedException("권한이 없습니다");
         }
     }
-
-    @Transactional
-    public void softDeleteByUserId(Long userId) {
-        postRepository.softDeleteByUserId(userId);
-    }
-    @Transactional
-    public void softDeleteByClubId(Long clubId) {
-        postRepository.softDeleteByClubId(clubId);
-    }
 }
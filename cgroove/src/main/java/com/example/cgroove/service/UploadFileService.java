@@ -0,0 +1,110 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.config.FileProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
+
+// 업로드 파일 조회. 작은 파일은 내용까지 메모리 캐시(W-TinyLFU)에 두고, 매 요청 stat 으로 변경 여부 확인
+@Service
+public class UploadFileService {
+    private final FileProperties fileProperties;
+    private final long maxCachedFileSize;
+    private final Cache<Path, CachedContent> contents;
+
+    // content 는 캐시 대상(작은 파일)일 때만 채워짐
+    public record StoredFile(Path path, long size, long lastModified, String etag, MediaType contentType,
+                             boolean immutable, byte[] content) {
+    }
+
+    private record CachedContent(long size, long lastModified, byte[] bytes) {
+    }
+
+    public UploadFileService(FileProperties fileProperties,
+                             MeterRegistry meterRegistry,
+                             @Value("${upload-cache.memory-budget:32MB}") DataSize memoryBudget,
+                             @Value("${upload-cache.max-file-size:256KB}") DataSize maxCachedFileSize) {
+        this.fileProperties = fileProperties;
+        this.maxCachedFileSize = maxCachedFileSize.toBytes();
+        this.contents = Caffeine.newBuilder()
+                .maximumWeight(memoryBudget.toBytes())
+                .weigher((Path path, CachedContent content) -> content.bytes().length)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, contents, "upload_files");
+    }
+
+    // 업로드 디렉토리 밖이나 숨김 경로(.staging 등)는 없는 파일로 취급
+    public Optional<StoredFile> find(String relativePath) {
+        if (relativePath == null || relativePath.isBlank()) {
+            return Optional.empty();
+        }
+        Path root = Paths.get(fileProperties.getUploadDir()).toAbsolutePath().normalize();
+        Path file = root.resolve(relativePath).normalize();
+        if (!file.startsWith(root) || isHidden(root.relativize(file))) {
+            return Optional.empty();
+        }
+
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+        if (!attributes.isRegularFile()) {
+            return Optional.empty();
+        }
+
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String fileName = file.getFileName().toString();
+        // blob 은 이름이 곧 내용 해시라 그대로 강한 ETag 로 사용
+        boolean blob = FileStorageService.isBlobKey(fileName);
+        String etag = blob
+                ? "\"" + fileName.substring(0, 64) + "\""
+                : "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModified) + "\"";
+        MediaType contentType = MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        byte[] content = size <= maxCachedFileSize ? cachedContent(file, size, lastModified) : null;
+        return Optional.of(new StoredFile(file, size, lastModified, etag, contentType, blob, content));
+    }
+
+    private byte[] cachedContent(Path file, long size, long lastModified) {
+        CachedContent cached = contents.getIfPresent(file);
+        if (cached != null && cached.size() == size && cached.lastModified() == lastModified) {
+            return cached.bytes();
+        }
+        try {
+            byte[] bytes = Files.readAllBytes(file);
+            if (bytes.length != size) {
+                return null;
+            }
+            contents.put(file, new CachedContent(size, lastModified, bytes));
+            return bytes;
+        } catch (IOException e) {
+            // 읽는 도중 바뀌거나 지워졌으면 캐시 없이 파일에서 직접 전송
+            return null;
+        }
+    }
+
+    private boolean isHidden(Path relative) {
+        for (Path segment : relative) {
+            if (segment.toString().startsWith(".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
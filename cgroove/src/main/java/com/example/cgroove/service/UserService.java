@@ -7,12 +7,13 @@ import com.example.cgroove.entity.User;
 import com.example.cgroove.exception.ConflictException;
 import com.example.cgroove.exception.NotFoundException;
 import com.example.cgroove.repository.UserRepository;
-import jakarta.persistence.EntityManager;
+import com.example.cgroove.security.PrincipalCache;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import com.example.cgroove.enums.DeletionTarget;
 import com.example.cgroove.enums.ImageType;
 
 @Service
@@ -21,11 +22,9 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final FileStorageService fileStorageService;
-    private final PostService postService;
-    private final EventService eventService;
-    private final ClubJoinService clubJoinService;
-    private final EventJoinService eventJoinService;
-    private final EntityManager em;
+    private final PrincipalCache principalCache;
+    private final ClubMembershipCache membershipCache;
+    private final DeletionJobService deletionJobService;
 
     @Transactional
     public UserResponse createUser(String email, String password, String nickname, String profileImage) {
@@ -68,6 +67,7 @@ public class UserService {
         user.updateUser(
                 request.getNickname(),
                 newProfileImage);
+        principalCache.invalidate(userId);
 
         return UserResponse.from(userRepository.save(user));
     }
@@ -78,6 +78,7 @@ public class UserService {
 
         user.updatePassword(
                 passwordEncoder.encode(request.getPassword()));
+        principalCache.invalidate(userId);
 
         User savedUser = userRepository.save(user);
         return UserResponse.from(savedUser);
@@ -91,11 +92,14 @@ public class UserService {
             fileStorageService.deleteFile(user.getProfileImage());
             user.deleteImage();
         }
+        principalCache.invalidate(userId);
 
         User savedUser = userRepository.save(user);
         return UserResponse.from(savedUser);
     }
 
+    // 회원만 바로 탈퇴 처리하고, 작성 글/행사/가입/신청 정리는 청크 단위 작업으로 넘김 (CascadeDeleteWorker)
+    // 탈퇴한 회원은 더 이상 인증할 수 없으므로 작업 진행 상황은 응답하지 않음 (서버 내부에서만 추적)
     @Transactional
     public void deleteUser(Long userId) {
         User user = findByUserId(userId);
@@ -104,14 +108,10 @@ public class UserService {
             fileStorageService.deleteFile(user.getProfileImage());
         }
 
-        postService.softDeleteByUserId(userId);
-        eventService.softDeleteByUserId(userId);
-        clubJoinService.softDeleteByUserId(userId);
-        eventJoinService.softDeleteByUserId(userId);
         user.delete();
-
-        em.flush();
-        em.clear();
+        principalCache.invalidate(userId);
+        membershipCache.invalidate(userId);
+        deletionJobService.start(DeletionTarget.USER, userId, userId);
     }
 
     public boolean matchesPassword(User user, String rawPassword) {
@@ -0,0 +1,162 @@
+package com.example.cgroove.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 상세 조회수 write-behind 버퍼 (조회마다 UPDATE 대신 id 별 LongAdder 에 누적 후 주기적으로 일괄 반영)
+@Slf4j
+@Component
+public class ViewCountBuffer {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counters postViews = new Counters("posts", "UPDATE posts SET view_count = view_count + ? WHERE post_id = ?");
+    private final Counters eventViews = new Counters("events", "UPDATE events SET view_count = view_count + ? WHERE event_id = ?");
+
+    public ViewCountBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void increasePostView(Long postId) {
+        postViews.increase(postId);
+    }
+
+    public void increaseEventView(Long eventId) {
+        eventViews.increase(eventId);
+    }
+
+    // 아직 DB 에 반영되지 않은 조회수 (응답의 viewCount 에 더해서 노출)
+    public long pendingPostViews(Long postId) {
+        return postViews.pending(postId);
+    }
+
+    public long pendingEventViews(Long eventId) {
+        return eventViews.pending(eventId);
+    }
+
+    @Scheduled(fixedDelayString = "${view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        flush(postViews);
+        flush(eventViews);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        log.info("종료 전 조회수 버퍼 반영 완료");
+    }
+
+    private void flush(Counters counters) {
+        // id 순으로 정렬해 다른 트랜잭션과 행 잠금 순서를 맞춤
+        Map<Long, Long> deltas = new TreeMap<>();
+        counters.entries.forEach((id, entry) -> {
+            long delta = entry.pending();
+            if (delta > 0) {
+                deltas.put(id, delta);
+            } else {
+                counters.evict(id, entry);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = deltas.entrySet().stream()
+                .map(delta -> new Object[]{delta.getValue(), delta.getKey()})
+                .toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(counters.sql, args));
+        } catch (DataAccessException | TransactionException e) {
+            // 반영 실패 시 누적분을 유지하고 다음 주기에 재시도
+            log.warn("조회수 반영 실패 ({}, {}건): {}", counters.table, deltas.size(), e.getMessage());
+            return;
+        }
+        deltas.forEach((id, delta) -> counters.entries.get(id).flushed += delta);
+    }
+
+    private static final class Counters {
+        private final String table;
+        private final String sql;
+        private final ConcurrentMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+        private Counters(String table, String sql) {
+            this.table = table;
+            this.sql = sql;
+        }
+
+        private void increase(Long id) {
+            add(id, 1L);
+        }
+
+        // 정리 표시가 붙은 항목에 더했으면 evict 가 읽지 못했을 수 있으므로 남은 증가분을 직접 새 항목으로 옮김
+        private void add(Long id, long views) {
+            Entry entry = entries.computeIfAbsent(id, key -> new Entry());
+            entry.views.add(views);
+            if (entry.retired) {
+                moveLeftover(id, entry);
+            }
+        }
+
+        private long pending(Long id) {
+            Entry entry = entries.get(id);
+            return entry != null ? entry.pending() : 0L;
+        }
+
+        // 한 주기 동안 조회가 없던 id 정리
+        // 정리 표시 이후에 누적분을 다시 읽으므로, 표시 전에 들어온 증가분은 여기서, 이후 증가분은 increase 쪽에서 옮김
+        private void evict(Long id, Entry entry) {
+            entry.retired = true;
+            entries.remove(id, entry);
+            moveLeftover(id, entry);
+        }
+
+        private void moveLeftover(Long id, Entry entry) {
+            long leftover = entry.claimLeftover();
+            if (leftover > 0) {
+                add(id, leftover);
+            }
+        }
+    }
+
+    // 누적 조회수와 DB 반영분을 따로 두어 반영 중 들어온 증가분을 잃지 않음 (flushed 는 flush 스레드만 갱신)
+    // 정리된 항목의 남은 증가분은 evict 와 increase 가 함께 옮길 수 있으므로 moved 를 CAS 로 선점해 한 번만 옮김
+    private static final class Entry {
+        private final LongAdder views = new LongAdder();
+        private final AtomicLong moved = new AtomicLong();
+        private volatile long flushed;
+        private volatile boolean retired;
+
+        private long pending() {
+            return views.sum() - flushed - moved.get();
+        }
+
+        private long claimLeftover() {
+            while (true) {
+                long claimed = moved.get();
+                long leftover = views.sum() - flushed - claimed;
+                if (leftover <= 0) {
+                    return 0L;
+                }
+                if (moved.compareAndSet(claimed, claimed + leftover)) {
+                    return leftover;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.enums.ViewTarget;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 게시글/행사별 고유 조회자 수 (HyperLogLog 스케치를 메모리에 두고 바뀐 것만 주기적으로 저장)
+// 새로고침이 반복돼도 같은 조회자는 한 번만 집계되고, 조회마다 DB 쓰기가 없음
+@Slf4j
+@Component
+public class ViewerSketches {
+    private static final String UPSERT_SQL = "INSERT INTO viewer_sketches (target_type, target_id, registers, updated_at) " +
+            "VALUES (?, ?, ?, ?) ON DUPLICATE KEY UPDATE registers = VALUES(registers), updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadingCache<Key, Sketch> sketches;
+
+    public ViewerSketches(JdbcTemplate jdbcTemplate,
+                          @Value("${viewer-sketch.max-size:20000}") long maxSize,
+                          @Value("${viewer-sketch.idle-ttl:1h}") Duration idleTtl) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 밀려나는 스케치는 제거와 같은 시점에 저장 (그 사이 같은 항목 조회는 저장이 끝날 때까지 대기)
+        this.sketches = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(idleTtl)
+                .evictionListener((Key key, Sketch sketch, RemovalCause cause) -> {
+                    if (key != null && sketch != null && sketch.dirty) {
+                        persist(Map.of(key, sketch));
+                    }
+                })
+                .build(new SketchLoader());
+    }
+
+    public void recordView(ViewTarget target, Long targetId, Long userId) {
+        if (userId == null) {
+            return;
+        }
+        sketches.get(new Key(target, targetId)).offer(HyperLogLog.hash("user:" + userId));
+    }
+
+    public long uniqueViewers(ViewTarget target, Long targetId) {
+        return sketches.get(new Key(target, targetId)).hll.estimate();
+    }
+
+    // 목록 한 페이지의 추정치 (캐시에 없는 항목은 한 번의 IN 조회로 적재)
+    public Map<Long, Long> uniqueViewers(ViewTarget target, List<Long> targetIds) {
+        List<Key> keys = targetIds.stream().map(id -> new Key(target, id)).toList();
+        Map<Long, Long> estimates = new HashMap<>();
+        sketches.getAll(keys).forEach((key, sketch) -> estimates.put(key.targetId(), sketch.hll.estimate()));
+        return estimates;
+    }
+
+    @Scheduled(fixedDelayString = "${viewer-sketch.flush-interval-ms:60000}")
+    public synchronized void flush() {
+        Map<Key, Sketch> dirty = sketches.asMap().entrySet().stream()
+                .filter(entry -> entry.getValue().dirty)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        if (!dirty.isEmpty()) {
+            persist(dirty);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        log.info("종료 전 고유 조회자 스케치 저장 완료");
+    }
+
+    private void persist(Map<Key, Sketch> dirty) {
+        // 스냅샷 전에 표시를 지워, 저장 중 들어온 조회는 다음 주기에 다시 저장되도록 함
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = dirty.entrySet().stream()
+                .map(entry -> {
+                    entry.getValue().dirty = false;
+                    return new Object[]{entry.getKey().target().name(), entry.getKey().targetId(),
+                            entry.getValue().hll.toBytes(), now};
+                })
+                .toList();
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+        } catch (DataAccessException e) {
+            dirty.values().forEach(sketch -> sketch.dirty = true);
+            log.warn("고유 조회자 스케치 저장 실패, 다음 주기에 재시도: {}건", dirty.size(), e);
+        }
+    }
+
+    private Map<Key, Sketch> load(ViewTarget target, Collection<Long> targetIds) {
+        String placeholders = targetIds.stream().map(id -> "?").collect(Collectors.joining(", "));
+        Object[] args = new Object[targetIds.size() + 1];
+        args[0] = target.name();
+        int index = 1;
+        for (Long targetId : targetIds) {
+            args[index++] = targetId;
+        }
+
+        Map<Key, Sketch> loaded = new HashMap<>();
+        jdbcTemplate.query("SELECT target_id, registers FROM viewer_sketches WHERE target_type = ? AND target_id IN (" + placeholders + ")",
+                rs -> {
+                    loaded.put(new Key(target, rs.getLong(1)), new Sketch(HyperLogLog.fromBytes(rs.getBytes(2))));
+                }, args);
+        for (Long targetId : targetIds) {
+            loaded.computeIfAbsent(new Key(target, targetId), key -> new Sketch(new HyperLogLog()));
+        }
+        return loaded;
+    }
+
+    private class SketchLoader implements CacheLoader<Key, Sketch> {
+        @Override
+        public Sketch load(Key key) {
+            return ViewerSketches.this.load(key.target(), List.of(key.targetId())).get(key);
+        }
+
+        @Override
+        public Map<Key, Sketch> loadAll(Set<? extends Key> keys) {
+            Map<Key, Sketch> loaded = new HashMap<>();
+            keys.stream()
+                    .collect(Collectors.groupingBy(Key::target, Collectors.mapping(Key::targetId, Collectors.toSet())))
+                    .forEach((target, targetIds) -> loaded.putAll(ViewerSketches.this.load(target, targetIds)));
+            return loaded;
+        }
+    }
+
+    private record Key(ViewTarget target, Long targetId) {
+    }
+
+    private static final class Sketch {
+        private final HyperLogLog hll;
+        private volatile boolean dirty = false;
+
+        private Sketch(HyperLogLog hll) {
+            this.hll = hll;
+        }
+
+        private void offer(long hash) {
+            if (hll.offer(hash)) {
+                dirty = true;
+            }
+        }
+    }
+}
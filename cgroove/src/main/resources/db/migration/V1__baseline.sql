@@ -0,0 +1,167 @@
+-- 기준 스키마 (Flyway 도입 전 ddl-auto: update 로 관리하던 시점의 엔티티 매핑과 동일)
+-- 기존 DB 는 spring.flyway.baseline-on-migrate 로 V1 을 건너뛰고 V2 부터 적용
+
+CREATE TABLE users (
+    user_id       BIGINT       NOT NULL AUTO_INCREMENT,
+    email         VARCHAR(100) NOT NULL,
+    password      VARCHAR(255) NOT NULL,
+    nickname      VARCHAR(50)  NOT NULL,
+    profile_image TEXT,
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6),
+    is_deleted    BOOLEAN      NOT NULL,
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE clubs (
+    club_id       BIGINT        NOT NULL AUTO_INCREMENT,
+    club_name     VARCHAR(100)  NOT NULL,
+    intro         VARCHAR(255),
+    description   VARCHAR(1000),
+    location_name VARCHAR(255),
+    club_type     VARCHAR(20)   NOT NULL,
+    club_image    TEXT,
+    created_at    DATETIME(6)   NOT NULL,
+    updated_at    DATETIME(6),
+    is_deleted    BOOLEAN       NOT NULL,
+    PRIMARY KEY (club_id),
+    CONSTRAINT uk_clubs_club_name UNIQUE (club_name)
+);
+
+CREATE TABLE club_tags (
+    club_id BIGINT NOT NULL,
+    tag     VARCHAR(255),
+    CONSTRAINT fk_club_tags_club FOREIGN KEY (club_id) REFERENCES clubs (club_id)
+);
+
+CREATE TABLE club_joins (
+    club_join_id BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id      BIGINT       NOT NULL,
+    club_id      BIGINT       NOT NULL,
+    role         VARCHAR(255) NOT NULL,
+    status       VARCHAR(50)  NOT NULL,
+    created_at   DATETIME(6)  NOT NULL,
+    updated_at   DATETIME(6),
+    is_deleted   BOOLEAN      NOT NULL,
+    PRIMARY KEY (club_join_id),
+    CONSTRAINT unique_user_club UNIQUE (user_id, club_id),
+    CONSTRAINT fk_club_joins_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT fk_club_joins_club FOREIGN KEY (club_id) REFERENCES clubs (club_id)
+);
+
+CREATE TABLE posts (
+    post_id    BIGINT        NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT        NOT NULL,
+    scope      VARCHAR(255)  NOT NULL,
+    club_id    BIGINT,
+    title      VARCHAR(200)  NOT NULL,
+    content    VARCHAR(5000) NOT NULL,
+    like_count BIGINT        NOT NULL,
+    view_count BIGINT        NOT NULL,
+    created_at DATETIME(6)   NOT NULL,
+    updated_at DATETIME(6),
+    is_deleted BOOLEAN       NOT NULL,
+    PRIMARY KEY (post_id),
+    CONSTRAINT fk_posts_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT fk_posts_club FOREIGN KEY (club_id) REFERENCES clubs (club_id)
+);
+
+CREATE TABLE post_tags (
+    post_id BIGINT NOT NULL,
+    tag     VARCHAR(255),
+    CONSTRAINT fk_post_tags_post FOREIGN KEY (post_id) REFERENCES posts (post_id)
+);
+
+CREATE TABLE post_images (
+    post_id BIGINT NOT NULL,
+    image   VARCHAR(255),
+    CONSTRAINT fk_post_images_post FOREIGN KEY (post_id) REFERENCES posts (post_id)
+);
+
+CREATE TABLE post_likes (
+    like_id    BIGINT      NOT NULL AUTO_INCREMENT,
+    post_id    BIGINT      NOT NULL,
+    user_id    BIGINT      NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (like_id),
+    CONSTRAINT uk_post_likes_post_user UNIQUE (post_id, user_id),
+    CONSTRAINT fk_post_likes_post FOREIGN KEY (post_id) REFERENCES posts (post_id),
+    CONSTRAINT fk_post_likes_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+);
+
+CREATE TABLE events (
+    event_id         BIGINT        NOT NULL AUTO_INCREMENT,
+    user_id          BIGINT        NOT NULL,
+    scope            VARCHAR(255)  NOT NULL,
+    club_id          BIGINT,
+    type             VARCHAR(255)  NOT NULL,
+    title            VARCHAR(200)  NOT NULL,
+    content          VARCHAR(5000) NOT NULL,
+    location_name    VARCHAR(255),
+    location_address VARCHAR(255),
+    location_link    VARCHAR(255),
+    capacity         BIGINT        NOT NULL,
+    starts_at        DATETIME(6)   NOT NULL,
+    ends_at          DATETIME(6)   NOT NULL,
+    like_count       BIGINT        NOT NULL,
+    view_count       BIGINT        NOT NULL,
+    created_at       DATETIME(6)   NOT NULL,
+    updated_at       DATETIME(6),
+    is_deleted       BOOLEAN       NOT NULL,
+    PRIMARY KEY (event_id),
+    CONSTRAINT fk_events_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT fk_events_club FOREIGN KEY (club_id) REFERENCES clubs (club_id)
+);
+
+CREATE TABLE event_tags (
+    event_id BIGINT NOT NULL,
+    tag      VARCHAR(255),
+    CONSTRAINT fk_event_tags_event FOREIGN KEY (event_id) REFERENCES events (event_id)
+);
+
+CREATE TABLE event_images (
+    event_id BIGINT NOT NULL,
+    image    VARCHAR(255),
+    CONSTRAINT fk_event_images_event FOREIGN KEY (event_id) REFERENCES events (event_id)
+);
+
+CREATE TABLE event_likes (
+    like_id    BIGINT      NOT NULL AUTO_INCREMENT,
+    event_id   BIGINT      NOT NULL,
+    user_id    BIGINT      NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (like_id),
+    CONSTRAINT uk_event_likes_event_user UNIQUE (event_id, user_id),
+    CONSTRAINT fk_event_likes_event FOREIGN KEY (event_id) REFERENCES events (event_id),
+    CONSTRAINT fk_event_likes_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+);
+
+CREATE TABLE event_joins (
+    event_join_id BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id       BIGINT       NOT NULL,
+    event_id      BIGINT       NOT NULL,
+    status        VARCHAR(255) NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6),
+    is_deleted    BOOLEAN      NOT NULL,
+    PRIMARY KEY (event_join_id),
+    CONSTRAINT unique_user_event UNIQUE (user_id, event_id),
+    CONSTRAINT fk_event_joins_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT fk_event_joins_event FOREIGN KEY (event_id) REFERENCES events (event_id)
+);
+
+CREATE TABLE comments (
+    comment_id BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT       NOT NULL,
+    post_id    BIGINT,
+    event_id   BIGINT,
+    content    VARCHAR(500) NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    updated_at DATETIME(6),
+    is_deleted BOOLEAN      NOT NULL,
+    PRIMARY KEY (comment_id),
+    CONSTRAINT fk_comments_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT fk_comments_post FOREIGN KEY (post_id) REFERENCES posts (post_id),
+    CONSTRAINT fk_comments_event FOREIGN KEY (event_id) REFERENCES events (event_id)
+);
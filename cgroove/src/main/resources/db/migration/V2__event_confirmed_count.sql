@@ -0,0 +1,5 @@
+-- 확정 참가자 수 비정규화 (이전에는 조회마다 event_joins 를 세던 값)
+ALTER TABLE events ADD COLUMN confirmed_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE events e SET confirmed_count =
+    (SELECT count(*) FROM event_joins ej WHERE ej.event_id = e.event_id AND ej.status = 'CONFIRMED');
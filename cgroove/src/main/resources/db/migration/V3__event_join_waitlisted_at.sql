@@ -0,0 +1,4 @@
+-- 대기자 승격 순서 기준. 기존 대기자는 마지막 상태 변경 시각(없으면 신청 시각) 순으로 채움
+ALTER TABLE event_joins ADD COLUMN waitlisted_at DATETIME(6);
+
+UPDATE event_joins SET waitlisted_at = COALESCE(updated_at, created_at) WHERE status = 'WAITLISTED';
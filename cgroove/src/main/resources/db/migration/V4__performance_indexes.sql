@@ -0,0 +1,25 @@
+-- 목록/참여 조회용 인덱스
+-- countByEvent_EventIdAndStatus 의 (event_id, status) 는 idx_event_joins_waitlist 앞부분으로 처리되어 따로 만들지 않음
+
+-- 목록 커서 조회 (is_deleted = false, createdAt/id 역순)
+CREATE INDEX idx_posts_deleted_created ON posts (is_deleted, created_at, post_id);
+CREATE INDEX idx_events_deleted_created ON events (is_deleted, created_at, event_id);
+
+-- 클럽별 최신 글 (내 동아리 소식)
+CREATE INDEX idx_posts_club_created ON posts (club_id, is_deleted, created_at);
+
+-- 공개 범위별 최신 글/행사 (인기 게시글 랭킹 재구성)
+CREATE INDEX idx_posts_scope_created ON posts (scope, is_deleted, created_at);
+CREATE INDEX idx_events_scope_created ON events (scope, is_deleted, created_at);
+
+-- 다가오는 행사 (findByStartsAtAfter, 좌석 장부 적재)
+CREATE INDEX idx_events_starts_at ON events (starts_at);
+
+-- 대기자 명단 맨 앞 / 상태별 신청 수
+CREATE INDEX idx_event_joins_waitlist ON event_joins (event_id, status, waitlisted_at);
+
+-- 사용자별 활동 클럽 (findMembershipsByUserIdAndStatus)
+CREATE INDEX idx_club_joins_user_status ON club_joins (user_id, status);
+
+-- 닉네임 중복 확인 (existsByNickname)
+CREATE INDEX idx_users_nickname ON users (nickname);
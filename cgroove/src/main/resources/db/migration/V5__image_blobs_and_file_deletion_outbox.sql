@@ -0,0 +1,19 @@
+-- 이미지 내용 해시 저장소 참조 수 / 커밋 이후 파일 삭제 예약
+-- 기존 이미지는 blobs 경로가 아니므로 참조 수 대상이 아님 (채울 데이터 없음)
+
+CREATE TABLE image_blobs (
+    blob_key         VARCHAR(80) NOT NULL,
+    ref_count        BIGINT      NOT NULL,
+    size_bytes       BIGINT      NOT NULL,
+    created_at       DATETIME(6) NOT NULL,
+    last_acquired_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (blob_key)
+);
+
+CREATE TABLE file_deletion_outbox (
+    deletion_id BIGINT       NOT NULL AUTO_INCREMENT,
+    file_path   VARCHAR(500) NOT NULL,
+    attempts    INT          NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (deletion_id)
+);
@@ -0,0 +1,11 @@
+-- 고유 조회자 HyperLogLog 스케치 (기존 조회수는 view_count 에 그대로 두고 이후 조회부터 기록)
+
+CREATE TABLE viewer_sketches (
+    sketch_id   BIGINT          NOT NULL AUTO_INCREMENT,
+    target_type VARCHAR(10)     NOT NULL,
+    target_id   BIGINT          NOT NULL,
+    registers   VARBINARY(4096) NOT NULL,
+    updated_at  DATETIME(6)     NOT NULL,
+    PRIMARY KEY (sketch_id),
+    CONSTRAINT uk_viewer_sketches_target UNIQUE (target_type, target_id)
+);
@@ -0,0 +1,18 @@
+-- 클럽 삭제/회원 탈퇴 연관 데이터 정리 작업
+
+CREATE TABLE deletion_jobs (
+    job_id            BIGINT      NOT NULL AUTO_INCREMENT,
+    target            VARCHAR(20) NOT NULL,
+    target_id         BIGINT      NOT NULL,
+    requested_by      BIGINT      NOT NULL,
+    status            VARCHAR(20) NOT NULL,
+    step              VARCHAR(30),
+    last_processed_id BIGINT      NOT NULL,
+    processed_rows    BIGINT      NOT NULL,
+    created_at        DATETIME(6) NOT NULL,
+    updated_at        DATETIME(6) NOT NULL,
+    completed_at      DATETIME(6),
+    PRIMARY KEY (job_id)
+);
+
+CREATE INDEX idx_deletion_jobs_status ON deletion_jobs (status, job_id);
@@ -0,0 +1,131 @@
+-- 보관 테이블 (원본과 같은 ID, FK 없음)
+
+CREATE TABLE posts_archive (
+    post_id     BIGINT        NOT NULL,
+    user_id     BIGINT        NOT NULL,
+    scope       VARCHAR(255)  NOT NULL,
+    club_id     BIGINT,
+    title       VARCHAR(200)  NOT NULL,
+    content     VARCHAR(5000) NOT NULL,
+    like_count  BIGINT        NOT NULL,
+    view_count  BIGINT        NOT NULL,
+    created_at  DATETIME(6)   NOT NULL,
+    updated_at  DATETIME(6),
+    is_deleted  BOOLEAN       NOT NULL,
+    archived_at DATETIME(6)   NOT NULL,
+    PRIMARY KEY (post_id)
+);
+
+CREATE INDEX idx_posts_archive_archived ON posts_archive (archived_at);
+
+CREATE TABLE post_tags_archive (
+    archive_id BIGINT       NOT NULL AUTO_INCREMENT,
+    post_id    BIGINT       NOT NULL,
+    tag        VARCHAR(255),
+    PRIMARY KEY (archive_id)
+);
+
+CREATE INDEX idx_post_tags_archive_post ON post_tags_archive (post_id);
+
+CREATE TABLE post_images_archive (
+    archive_id BIGINT       NOT NULL AUTO_INCREMENT,
+    post_id    BIGINT       NOT NULL,
+    image      VARCHAR(255),
+    PRIMARY KEY (archive_id)
+);
+
+CREATE INDEX idx_post_images_archive_post ON post_images_archive (post_id);
+
+CREATE TABLE post_likes_archive (
+    like_id    BIGINT      NOT NULL,
+    post_id    BIGINT      NOT NULL,
+    user_id    BIGINT      NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (like_id)
+);
+
+CREATE INDEX idx_post_likes_archive_post ON post_likes_archive (post_id);
+
+CREATE TABLE events_archive (
+    event_id         BIGINT        NOT NULL,
+    user_id          BIGINT        NOT NULL,
+    scope            VARCHAR(255)  NOT NULL,
+    club_id          BIGINT,
+    type             VARCHAR(255)  NOT NULL,
+    title            VARCHAR(200)  NOT NULL,
+    content          VARCHAR(5000) NOT NULL,
+    location_name    VARCHAR(255),
+    location_address VARCHAR(255),
+    location_link    VARCHAR(255),
+    capacity         BIGINT        NOT NULL,
+    confirmed_count  BIGINT        NOT NULL,
+    starts_at        DATETIME(6)   NOT NULL,
+    ends_at          DATETIME(6)   NOT NULL,
+    like_count       BIGINT        NOT NULL,
+    view_count       BIGINT        NOT NULL,
+    created_at       DATETIME(6)   NOT NULL,
+    updated_at       DATETIME(6),
+    is_deleted       BOOLEAN       NOT NULL,
+    archived_at      DATETIME(6)   NOT NULL,
+    PRIMARY KEY (event_id)
+);
+
+CREATE INDEX idx_events_archive_archived ON events_archive (archived_at);
+
+CREATE TABLE event_tags_archive (
+    archive_id BIGINT       NOT NULL AUTO_INCREMENT,
+    event_id   BIGINT       NOT NULL,
+    tag        VARCHAR(255),
+    PRIMARY KEY (archive_id)
+);
+
+CREATE INDEX idx_event_tags_archive_event ON event_tags_archive (event_id);
+
+CREATE TABLE event_images_archive (
+    archive_id BIGINT       NOT NULL AUTO_INCREMENT,
+    event_id   BIGINT       NOT NULL,
+    image      VARCHAR(255),
+    PRIMARY KEY (archive_id)
+);
+
+CREATE INDEX idx_event_images_archive_event ON event_images_archive (event_id);
+
+CREATE TABLE event_likes_archive (
+    like_id    BIGINT      NOT NULL,
+    event_id   BIGINT      NOT NULL,
+    user_id    BIGINT      NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (like_id)
+);
+
+CREATE INDEX idx_event_likes_archive_event ON event_likes_archive (event_id);
+
+CREATE TABLE event_joins_archive (
+    event_join_id BIGINT       NOT NULL,
+    user_id       BIGINT       NOT NULL,
+    event_id      BIGINT       NOT NULL,
+    status        VARCHAR(255) NOT NULL,
+    waitlisted_at DATETIME(6),
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6),
+    is_deleted    BOOLEAN      NOT NULL,
+    PRIMARY KEY (event_join_id)
+);
+
+CREATE INDEX idx_event_joins_archive_event ON event_joins_archive (event_id);
+
+CREATE TABLE comments_archive (
+    comment_id  BIGINT       NOT NULL,
+    user_id     BIGINT       NOT NULL,
+    post_id     BIGINT,
+    event_id    BIGINT,
+    content     VARCHAR(500) NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    updated_at  DATETIME(6),
+    is_deleted  BOOLEAN      NOT NULL,
+    archived_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (comment_id)
+);
+
+CREATE INDEX idx_comments_archive_post ON comments_archive (post_id);
+CREATE INDEX idx_comments_archive_event ON comments_archive (event_id);
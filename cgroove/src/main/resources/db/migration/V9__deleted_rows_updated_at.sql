@@ -0,0 +1,4 @@
+-- 보관 유예 기간은 삭제 시각(updated_at) 기준. 이전 일괄 soft delete 로 updated_at 이 비어 있던 삭제 행은 지금부터 유예 기간을 시작
+UPDATE posts SET updated_at = CURRENT_TIMESTAMP WHERE is_deleted = true AND updated_at IS NULL;
+UPDATE events SET updated_at = CURRENT_TIMESTAMP WHERE is_deleted = true AND updated_at IS NULL;
+UPDATE comments SET updated_at = CURRENT_TIMESTAMP WHERE is_deleted = true AND updated_at IS NULL;
@@ -0,0 +1,106 @@
+package com.example.cgroove.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class QueryBudgetInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryBudgetInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new QueryBudgetInterceptor(meterRegistry, 20, 5);
+    }
+
+    @Test
+    @DisplayName("요청당 SQL 실행 수를 엔드포인트 패턴별로 기록")
+    void afterCompletion_RecordsPerEndpoint() {
+        // given
+        MockHttpServletRequest request = request("GET", "/posts/{postId}");
+        interceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+        QueryCounter.record("select p.post_id from posts p where p.post_id=?");
+        QueryCounter.record("select u.user_id from users u where u.user_id=?");
+        QueryCounter.record("select c.comment_id from comments c where c.post_id=?");
+
+        // when
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), new Object(), null);
+
+        // then
+        DistributionSummary summary = meterRegistry.get("http.server.requests.queries")
+                .tag("method", "GET").tag("uri", "/posts/{postId}").summary();
+        assertThat(summary.count()).isEqualTo(1L);
+        assertThat(summary.totalAmount()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("N+1 - 같은 형태 SQL 반복 횟수 집계 (IN 목록 길이, 공백 차이 무시)")
+    void record_GroupsSameShape() {
+        // given
+        QueryCounter.start("GET /posts");
+        QueryCounter.record("select u.nickname from users u where u.user_id=?");
+        QueryCounter.record("select u.nickname\n  from users u where u.user_id=?");
+        QueryCounter.record("select u.nickname from users u where u.user_id=?");
+        QueryCounter.record("select t.tag from post_tags t where t.post_id in (?, ?)");
+        QueryCounter.record("select t.tag from post_tags t where t.post_id in (?,?,?)");
+
+        // when
+        QueryCounter.Scope scope = QueryCounter.stop();
+
+        // then
+        assertThat(scope.total()).isEqualTo(5);
+        Map.Entry<String, Integer> repeated = scope.mostRepeated().orElseThrow();
+        assertThat(repeated.getKey()).isEqualTo("select u.nickname from users u where u.user_id=?");
+        assertThat(repeated.getValue()).isEqualTo(3);
+        assertThat(scope.summary()).contains("2x select t.tag from post_tags t where t.post_id in (?, ...)");
+    }
+
+    @Test
+    @DisplayName("중첩 범위 - 요청 범위가 닫히면 바깥(테스트) 범위에 요청별 결과가 남음")
+    void stop_NestedScope() {
+        // given
+        QueryCounter.start("test");
+        QueryCounter.record("insert into users values (?)");
+        MockHttpServletRequest request = request("GET", "/events");
+        interceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+        QueryCounter.record("select e.event_id from events e");
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), new Object(), null);
+
+        // when
+        QueryCounter.Scope outer = QueryCounter.stop();
+
+        // then
+        assertThat(outer.total()).isEqualTo(2);
+        assertThat(outer.completed()).hasSize(1);
+        assertThat(outer.completed().getFirst().name()).isEqualTo("GET /events");
+        assertThat(outer.completed().getFirst().total()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("열린 범위가 없는 스레드의 실행은 무시")
+    void record_WithoutScope_Ignored() {
+        // when
+        QueryCounter.record("select 1");
+
+        // then
+        assertThrows(IllegalStateException.class, QueryCounter::stop);
+    }
+
+    private MockHttpServletRequest request(String method, String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, pattern);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        return request;
+    }
+}
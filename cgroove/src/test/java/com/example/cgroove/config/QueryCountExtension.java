@@ -0,0 +1,41 @@
+package com.example.cgroove.config;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 테스트 스레드에 집계 범위를 열고, 그 안에서 QueryBudgetInterceptor 가 닫은 요청별 실행 수를 @MaxQueries 와 비교
+// MockMvc 는 요청을 테스트 스레드에서 처리하므로 p6spy 리스너 기록이 그대로 잡힘
+public class QueryCountExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        QueryCounter.start(context.getDisplayName());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        QueryCounter.Scope scope = QueryCounter.stop();
+        MaxQueries maxQueries = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), MaxQueries.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), MaxQueries.class))
+                .orElse(null);
+        if (maxQueries == null) {
+            return;
+        }
+        if (scope.completed().isEmpty()) {
+            throw new AssertionError("SQL 실행 수를 검사할 요청이 없습니다: " + scope.name());
+        }
+
+        List<QueryCounter.Scope> exceeded = scope.completed().stream()
+                .filter(request -> request.total() > maxQueries.value())
+                .toList();
+        if (!exceeded.isEmpty()) {
+            throw new AssertionError("요청당 SQL 실행 수 한도(" + maxQueries.value() + ") 초과\n"
+                    + exceeded.stream().map(QueryCounter.Scope::summary).collect(Collectors.joining("\n")));
+        }
+    }
+}
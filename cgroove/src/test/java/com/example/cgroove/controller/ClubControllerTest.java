@@ -5,6 +5,8 @@ import com.example.cgroove.config.WebConfig;
 import com.example.cgroove.dto.club.ClubCreateRequest;
 import com.example.cgroove.dto.club.ClubResponse;
 import com.example.cgroove.dto.club.ClubUpdateRequest;
+import com.example.cgroove.dto.deletion.DeletionJobResponse;
+import com.example.cgroove.dto.image.ImageVariants;
 import com.example.cgroove.enums.ClubType;
 import com.example.cgroove.enums.ImageType;
 import com.example.cgroove.security.JwtFilter;
@@ -34,6 +36,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -68,7 +71,7 @@ class ClubControllerTest {
     private ClubResponse createMockResponse() {
         return new ClubResponse(
                 1L, "Club Name", "Intro", "Desc", "Seoul",
-                ClubType.CLUB, "img.jpg", List.of("tag"),
+                ClubType.CLUB, "img.jpg", ImageVariants.of("img.jpg"), List.of("tag"),
                 10L, LocalDateTime.now()
         );
     }
@@ -79,16 +82,14 @@ class ClubControllerTest {
     void createClub_Success() throws Exception {
         MockMultipartFile image = new MockMultipartFile("clubImage", "test.jpg", "image/jpeg", "data".getBytes());
         given(fileStorageService.saveImage(any(), eq(ImageType.CLUB))).willReturn("path/img.jpg");
-        given(clubService.createClub(any(), any(ClubCreateRequest.class))).willReturn(createMockResponse());
+        given(clubService.createClub(any(), any(ClubCreateRequest.class), any())).willReturn(createMockResponse());
+        MockMultipartFile request = new MockMultipartFile("request", "", "application/json",
+                ("{\"clubName\":\"Club Name\",\"intro\":\"Intro\",\"locationName\":\"Seoul\"," +
+                        "\"description\":\"Desc\",\"clubType\":\"CLUB\",\"tags\":[\"tag1\",\"tag2\"]}").getBytes());
 
         mockMvc.perform(multipart("/clubs")
                         .file(image)
-                        .param("clubName", "Club Name")
-                        .param("intro", "Intro")
-                        .param("locationName", "Seoul")
-                        .param("description", "Desc")
-                        .param("clubType", "CLUB")
-                        .param("tags", "tag1", "tag2")
+                        .file(request)
                         .with(csrf()))
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.message").value("클럽 생성 성공"));
@@ -110,15 +111,14 @@ class ClubControllerTest {
     @WithCustomMockUser
     void updateClub_Success() throws Exception {
         MockMultipartFile image = new MockMultipartFile("clubImage", "new.jpg", "image/jpeg", "data".getBytes());
-        given(clubService.updateClub(any(), eq(1L), any(ClubUpdateRequest.class))).willReturn(createMockResponse());
+        given(clubService.updateClub(any(), eq(1L), any(ClubUpdateRequest.class), any())).willReturn(createMockResponse());
+        MockMultipartFile request = new MockMultipartFile("request", "", "application/json",
+                ("{\"clubName\":\"Updated Name\",\"intro\":\"Updated Intro\",\"locationName\":\"Busan\"," +
+                        "\"description\":\"Updated Desc\",\"clubType\":\"" + ClubType.CLUB + "\"}").getBytes());
 
         mockMvc.perform(multipart(HttpMethod.PATCH, "/clubs/{clubId}", 1L)
                         .file(image)
-                        .param("clubName", "Updated Name")
-                        .param("intro", "Updated Intro")
-                        .param("locationName", "Busan")
-                        .param("description", "Updated Desc")
-                        .param("clubType", ClubType.CLUB.toString())
+                        .file(request)
                         .with(csrf()))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("클럽 수정 성공"));
@@ -140,9 +140,15 @@ class ClubControllerTest {
     @DisplayName("클럽 삭제 성공")
     @WithCustomMockUser
     void deleteClub_Success() throws Exception {
+        given(clubService.deleteClub(any(), eq(1L))).willReturn(new DeletionJobResponse(
+                5L, "CLUB", 1L, "RUNNING", "CLUB_POSTS", 0L, LocalDateTime.now(), LocalDateTime.now(), null));
+
         mockMvc.perform(delete("/clubs/{clubId}", 1L)
                         .with(csrf()))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/deletion-jobs/5"))
+                .andExpect(jsonPath("$.data.jobId").value(5L))
+                .andExpect(jsonPath("$.data.status").value("RUNNING"));
 
         verify(clubService).deleteClub(any(), eq(1L));
     }
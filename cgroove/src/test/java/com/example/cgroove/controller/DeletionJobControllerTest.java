@@ -0,0 +1,81 @@
+package com.example.cgroove.controller;
+
+import com.example.cgroove.config.FileProperties;
+import com.example.cgroove.config.WebConfig;
+import com.example.cgroove.dto.deletion.DeletionJobResponse;
+import com.example.cgroove.exception.AccessDeniedException;
+import com.example.cgroove.security.JwtFilter;
+import com.example.cgroove.security.JwtUtil;
+import com.example.cgroove.security.WithCustomMockUser;
+import com.example.cgroove.service.DeletionJobService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(
+        controllers = DeletionJobController.class,
+        excludeFilters = {
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = JwtFilter.class),
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = WebConfig.class)
+        }
+)
+@AutoConfigureMockMvc(addFilters = false)
+class DeletionJobControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private DeletionJobService deletionJobService;
+
+    @MockitoBean
+    private JwtUtil jwtUtil;
+
+    @MockitoBean
+    private JpaMetamodelMappingContext jpaMetamodelMappingContext;
+
+    @MockitoBean
+    private FileProperties fileProperties;
+
+    @Test
+    @DisplayName("삭제 작업 조회 성공 - 진행 단계와 처리 행 수 응답")
+    @WithCustomMockUser(userId = 1L)
+    void getJob_Success() throws Exception {
+        // given
+        given(deletionJobService.getJob(1L, 5L)).willReturn(new DeletionJobResponse(
+                5L, "CLUB", 10L, "RUNNING", "CLUB_EVENTS", 1200L, LocalDateTime.now(), LocalDateTime.now(), null));
+
+        // when & then
+        mockMvc.perform(get("/deletion-jobs/{jobId}", 5L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("삭제 작업 조회 성공"))
+                .andExpect(jsonPath("$.data.step").value("CLUB_EVENTS"))
+                .andExpect(jsonPath("$.data.processedRows").value(1200L));
+    }
+
+    @Test
+    @DisplayName("삭제 작업 조회 실패 - 요청자가 아니면 403")
+    @WithCustomMockUser(userId = 2L)
+    void getJob_NotRequester() throws Exception {
+        // given
+        given(deletionJobService.getJob(2L, 5L)).willThrow(new AccessDeniedException("권한이 없습니다"));
+
+        // when & then
+        mockMvc.perform(get("/deletion-jobs/{jobId}", 5L))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -2,9 +2,11 @@ package com.example.cgroove.controller;
 
 import com.example.cgroove.config.FileProperties;
 import com.example.cgroove.config.WebConfig;
+import com.example.cgroove.dto.CursorPage;
 import com.example.cgroove.dto.event.EventCreateRequest;
 import com.example.cgroove.dto.event.EventResponse;
 import com.example.cgroove.dto.event.EventUpdateRequest;
+import com.example.cgroove.dto.image.ImageVariants;
 import com.example.cgroove.dto.like.EventlikeResponse;
 import com.example.cgroove.enums.ImageType;
 import com.example.cgroove.security.JwtFilter;
@@ -72,10 +74,10 @@ class EventControllerTest {
     private EventResponse createMockResponse() {
         return new EventResponse(
                 1L, 1L, "Host", null, "GLOBAL", null, null,
-                "WORKSHOP", "Title", "Content", List.of("tag"), List.of("img.jpg"),
+                "WORKSHOP", "Title", "Content", List.of("tag"), List.of("img.jpg"), List.of(ImageVariants.of("img.jpg")),
                 "Loc", "Addr", "Link", 50L, 0L,
                 LocalDateTime.now(), LocalDateTime.now().plusHours(2),
-                0L, 0L, false, 3, LocalDateTime.now(), LocalDateTime.now()
+                0L, 0L, 0L, false, 3, LocalDateTime.now(), LocalDateTime.now()
         );
     }
 
@@ -84,7 +86,7 @@ class EventControllerTest {
     @WithCustomMockUser
     void createEvent_Success() throws Exception {
         MockMultipartFile image = new MockMultipartFile("images", "test.jpg", "image/jpeg", "data".getBytes());
-        given(fileStorageService.saveImage(any(), eq(ImageType.EVENT))).willReturn("path/img.jpg");
+        given(fileStorageService.saveImages(any(), eq(ImageType.EVENT))).willReturn(List.of("path/img.jpg"));
         given(eventService.createEvent(any(), any(EventCreateRequest.class))).willReturn(createMockResponse());
 
         mockMvc.perform(multipart("/events")
@@ -117,11 +119,12 @@ class EventControllerTest {
     @DisplayName("전체 행사 조회 성공")
     @WithCustomMockUser
     void getEvents_Success() throws Exception {
-        given(eventService.getEvents(any())).willReturn(List.of(createMockResponse()));
+        given(eventService.getEvents(any(), any(), any())).willReturn(CursorPage.of(List.of(createMockResponse()), "next-cursor"));
 
         mockMvc.perform(get("/events"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data[0].eventId").value(1L));
+                .andExpect(jsonPath("$.data.items[0].eventId").value(1L))
+                .andExpect(jsonPath("$.data.nextCursor").value("next-cursor"));
     }
 
     @Test
@@ -2,9 +2,11 @@ package com.example.cgroove.controller;
 
 import com.example.cgroove.config.FileProperties;
 import com.example.cgroove.config.WebConfig;
+import com.example.cgroove.dto.eventJoin.AdmissionTicketResponse;
 import com.example.cgroove.dto.eventJoin.EventJoinResponse;
 import com.example.cgroove.security.JwtFilter;
 import com.example.cgroove.security.WithCustomMockUser;
+import com.example.cgroove.service.EventAdmissionQueue;
 import com.example.cgroove.service.EventJoinService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -45,6 +47,9 @@ class EventJoinControllerTest {
     @MockitoBean
     private EventJoinService eventJoinService;
 
+    @MockitoBean
+    private EventAdmissionQueue admissionQueue;
+
     @MockitoBean
     private FileProperties fileProperties;
 
@@ -54,7 +59,7 @@ class EventJoinControllerTest {
     void setUp() {
         mockResponse = new EventJoinResponse(
                 1L, 1L, "Dancer", "test@email.com", "img.jpg",
-                100L, "CONFIRMED", LocalDateTime.now()
+                100L, "CONFIRMED", LocalDateTime.now(), null
         );
     }
 
@@ -73,6 +78,54 @@ class EventJoinControllerTest {
                 .andExpect(jsonPath("$.data.status").value("CONFIRMED"));
     }
 
+    @Test
+    @DisplayName("행사 신청 API - 정원 마감 시 대기자 명단 등록")
+    @WithCustomMockUser(userId = 1L)
+    void applyEvent_Waitlisted() throws Exception {
+        Long eventId = 100L;
+        EventJoinResponse waitlisted = new EventJoinResponse(
+                2L, 1L, "Dancer", "test@email.com", "img.jpg",
+                eventId, "WAITLISTED", LocalDateTime.now(), 3L
+        );
+        given(eventJoinService.applyEvent(any(), eq(eventId))).willReturn(waitlisted);
+
+        mockMvc.perform(post("/events/{eventId}/apply", eventId)
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.message").value("대기자 명단 등록 성공"))
+                .andExpect(jsonPath("$.data.waitlistPosition").value(3L));
+    }
+
+    @Test
+    @DisplayName("행사 신청 대기열 등록 API 성공")
+    @WithCustomMockUser(userId = 1L)
+    void enqueueApplication_Success() throws Exception {
+        Long eventId = 100L;
+        AdmissionTicketResponse ticket = new AdmissionTicketResponse("token-1", eventId, "WAITING", 3L, null, null);
+        given(admissionQueue.enqueue(any(), eq(eventId))).willReturn(ticket);
+
+        mockMvc.perform(post("/events/{eventId}/apply/queue", eventId)
+                        .with(csrf()))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.data.token").value("token-1"))
+                .andExpect(jsonPath("$.data.position").value(3L));
+    }
+
+    @Test
+    @DisplayName("행사 신청 대기 상태 조회 API 성공")
+    @WithCustomMockUser(userId = 1L)
+    void getQueueTicket_Success() throws Exception {
+        Long eventId = 100L;
+        AdmissionTicketResponse ticket = new AdmissionTicketResponse("token-1", eventId, "ADMITTED", 0L, mockResponse, "행사 신청 성공");
+        given(admissionQueue.getTicket(any(), eq(eventId), eq("token-1"))).willReturn(ticket);
+
+        mockMvc.perform(get("/events/{eventId}/apply/queue/{token}", eventId, "token-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("ADMITTED"))
+                .andExpect(jsonPath("$.data.result.status").value("CONFIRMED"));
+    }
+
     @Test
     @DisplayName("행사 신청 취소 API 성공")
     @WithCustomMockUser(userId = 1L)
@@ -2,6 +2,8 @@ package com.example.cgroove.controller;
 
 import com.example.cgroove.config.FileProperties;
 import com.example.cgroove.config.WebConfig;
+import com.example.cgroove.dto.CursorPage;
+import com.example.cgroove.dto.image.ImageVariants;
 import com.example.cgroove.dto.like.PostLikeResponse;
 import com.example.cgroove.dto.post.PostCreateRequest;
 import com.example.cgroove.dto.post.PostResponse;
@@ -73,8 +75,8 @@ class PostControllerTest {
     private PostResponse createMockResponse() {
         return new PostResponse(
                 1L, 1L, "User", null, "GLOBAL", null, null,
-                "Title", "Content", List.of("tag"), List.of("img.jpg"),
-                0L, 0L, false, 3, LocalDateTime.now(), LocalDateTime.now()
+                "Title", "Content", List.of("tag"), List.of("img.jpg"), List.of(ImageVariants.of("img.jpg")),
+                0L, 0L, 0L, false, 3, LocalDateTime.now(), LocalDateTime.now()
         );
     }
 
@@ -84,7 +86,7 @@ class PostControllerTest {
     void createPost_Success() throws Exception {
         // given
         MockMultipartFile image = new MockMultipartFile("images", "test.jpg", "image/jpeg", "data".getBytes());
-        given(fileStorageService.saveImage(any(), eq(ImageType.POST))).willReturn("path/img.jpg");
+        given(fileStorageService.saveImages(any(), eq(ImageType.POST))).willReturn(List.of("path/img.jpg"));
         given(postService.createPost(any(), any(PostCreateRequest.class))).willReturn(createMockResponse());
 
         // when & then
@@ -113,11 +115,12 @@ class PostControllerTest {
     @DisplayName("전체 게시글 조회 성공")
     @WithCustomMockUser
     void getPosts_Success() throws Exception {
-        given(postService.getPosts(any())).willReturn(List.of(createMockResponse()));
+        given(postService.getPosts(any(), any(), any())).willReturn(CursorPage.of(List.of(createMockResponse()), "next-cursor"));
 
         mockMvc.perform(get("/posts"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data[0].postId").value(1L));
+                .andExpect(jsonPath("$.data.items[0].postId").value(1L))
+                .andExpect(jsonPath("$.data.nextCursor").value("next-cursor"));
     }
 
     @Test
@@ -136,7 +139,7 @@ class PostControllerTest {
     void updatePost_Success() throws Exception {
         // given
         MockMultipartFile image = new MockMultipartFile("images", "new.jpg", "image/jpeg", "data".getBytes());
-        given(fileStorageService.saveImage(any(), eq(ImageType.POST))).willReturn("path/new.jpg");
+        given(fileStorageService.saveImages(any(), eq(ImageType.POST))).willReturn(List.of("path/new.jpg"));
         given(postService.updatePost(eq(1L), any(), any(PostUpdateRequest.class))).willReturn(createMockResponse());
 
         // when & then
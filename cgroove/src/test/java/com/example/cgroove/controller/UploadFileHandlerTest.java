@@ -0,0 +1,186 @@
+package com.example.cgroove.controller;
+
+import com.example.cgroove.config.FileProperties;
+import com.example.cgroove.service.UploadFileService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UploadFileHandlerTest {
+
+    private static final String HASH = "ab".repeat(32);
+
+    private UploadFileHandler uploadFileHandler;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        FileProperties fileProperties = new FileProperties();
+        fileProperties.setBaseDir(tempDir.toString());
+        // 16바이트 이하만 메모리 캐시 → 큰 파일은 FileChannel 전송 경로 사용
+        UploadFileService uploadFileService = new UploadFileService(fileProperties, new SimpleMeterRegistry(),
+                DataSize.ofKilobytes(1), DataSize.ofBytes(16));
+        uploadFileHandler = new UploadFileHandler(uploadFileService);
+
+        Files.createDirectories(tempDir.resolve("users"));
+        Files.writeString(tempDir.resolve("users/small.png"), "small");
+        Files.writeString(tempDir.resolve("users/large.jpg"), "0123456789abcdefghijklmnopqrstuvwxyz");
+        Path blobDir = Files.createDirectories(tempDir.resolve("blobs/ab/ab"));
+        Files.writeString(blobDir.resolve(HASH + ".jpg"), "blob");
+        Files.createDirectories(tempDir.resolve("blobs/.staging"));
+        Files.writeString(tempDir.resolve("blobs/.staging/partial.part"), "partial");
+    }
+
+    @Test
+    @DisplayName("파일 조회 - 본문과 캐시/검증 헤더 응답")
+    void serve_Success() throws IOException {
+        // when
+        MockHttpServletResponse response = serve(request("users/small.png"));
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("small");
+        assertThat(response.getContentType()).isEqualTo("image/png");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotBlank();
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("public, max-age=31536000");
+    }
+
+    @Test
+    @DisplayName("blob 조회 - 내용 해시를 강한 ETag 로 사용하고 immutable 캐시")
+    void serve_Blob() throws IOException {
+        // when
+        MockHttpServletResponse response = serve(request("blobs/ab/ab/" + HASH + ".jpg"));
+
+        // then
+        assertThat(response.getContentAsString()).isEqualTo("blob");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + HASH + "\"");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).endsWith("immutable");
+    }
+
+    @Test
+    @DisplayName("조건부 요청 - ETag 또는 수정 시각이 같으면 본문 없이 304")
+    void serve_NotModified() throws IOException {
+        // given
+        MockHttpServletRequest byEtag = request("blobs/ab/ab/" + HASH + ".jpg");
+        byEtag.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\", W/\"" + HASH + "\"");
+        MockHttpServletRequest byDate = request("users/small.png");
+        byDate.addHeader(HttpHeaders.IF_MODIFIED_SINCE, Files.getLastModifiedTime(tempDir.resolve("users/small.png")).toMillis());
+
+        // when
+        MockHttpServletResponse etagResponse = serve(byEtag);
+        MockHttpServletResponse dateResponse = serve(byDate);
+
+        // then
+        assertThat(etagResponse.getStatus()).isEqualTo(304);
+        assertThat(etagResponse.getContentAsByteArray()).isEmpty();
+        assertThat(dateResponse.getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    @DisplayName("Range 요청 - 요청 구간만 206 으로 전송")
+    void serve_Range() throws IOException {
+        // given
+        MockHttpServletRequest request = request("users/large.jpg");
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-15");
+
+        // when
+        MockHttpServletResponse response = serve(request);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 10-15/36");
+        assertThat(response.getContentAsString()).isEqualTo("abcdef");
+        assertThat(response.getContentLengthLong()).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("Range 요청 - 범위 밖이면 416, If-Range 가 다르면 전체 응답")
+    void serve_RangeEdgeCases() throws IOException {
+        // given
+        MockHttpServletRequest outOfRange = request("users/large.jpg");
+        outOfRange.addHeader(HttpHeaders.RANGE, "bytes=100-200");
+        MockHttpServletRequest staleIfRange = request("users/large.jpg");
+        staleIfRange.addHeader(HttpHeaders.RANGE, "bytes=0-3");
+        staleIfRange.addHeader(HttpHeaders.IF_RANGE, "\"stale\"");
+
+        // when
+        MockHttpServletResponse unsatisfiable = serve(outOfRange);
+        MockHttpServletResponse full = serve(staleIfRange);
+
+        // then
+        assertThat(unsatisfiable.getStatus()).isEqualTo(416);
+        assertThat(unsatisfiable.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */36");
+        assertThat(full.getStatus()).isEqualTo(200);
+        assertThat(full.getContentAsString()).hasSize(36);
+    }
+
+    @Test
+    @DisplayName("리사이즈본 조회 - 아직 없으면 원본으로 대신 응답하고 매번 재검증")
+    void serve_MissingVariant_FallsBackToOriginal() throws IOException {
+        // when
+        MockHttpServletResponse fallback = serve(request("blobs/ab/ab/" + HASH + ".jpg_w320.jpg"));
+        Files.writeString(tempDir.resolve("blobs/ab/ab/" + HASH + ".jpg_w320.jpg"), "small");
+        MockHttpServletResponse generated = serve(request("blobs/ab/ab/" + HASH + ".jpg_w320.jpg"));
+
+        // then
+        assertThat(fallback.getStatus()).isEqualTo(200);
+        assertThat(fallback.getContentAsString()).isEqualTo("blob");
+        assertThat(fallback.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache");
+        assertThat(generated.getContentAsString()).isEqualTo("small");
+        assertThat(generated.getHeader(HttpHeaders.ETAG)).isNotEqualTo(fallback.getHeader(HttpHeaders.ETAG));
+        assertThat(serve(request("users/missing.jpg_w320.jpg")).getStatus()).isEqualTo(404);
+    }
+
+    @Test
+    @DisplayName("업로드 디렉토리 밖이나 임시 파일 경로 - 404")
+    void serve_Forbidden_NotFound() throws IOException {
+        assertThat(serve(request("../outside.txt")).getStatus()).isEqualTo(404);
+        assertThat(serve(request("users/..%2F..%2Foutside.txt")).getStatus()).isEqualTo(404);
+        assertThat(serve(request("blobs/.staging/partial.part")).getStatus()).isEqualTo(404);
+        assertThat(serve(request("users/missing.jpg")).getStatus()).isEqualTo(404);
+    }
+
+    @Test
+    @DisplayName("HEAD 요청 - 헤더만 응답")
+    void serve_Head() throws IOException {
+        // given
+        MockHttpServletRequest request = request("users/large.jpg");
+        request.setMethod("HEAD");
+
+        // when
+        MockHttpServletResponse response = serve(request);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentLengthLong()).isEqualTo(36L);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    private MockHttpServletRequest request(String relativePath) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/uploads/" + relativePath);
+        request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, relativePath);
+        return request;
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        uploadFileHandler.handleRequest(request, response);
+        return response;
+    }
+}
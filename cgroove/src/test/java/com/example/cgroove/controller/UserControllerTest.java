@@ -90,12 +90,14 @@ class UserControllerTest {
         given(fileStorageService.saveImage(any(), eq(ImageType.PROFILE))).willReturn("path/to/img.jpg");
 
         UserResponse response = new UserResponse(1L, "email", nickname, "path/to/img.jpg", null);
-        given(userService.updateUser(eq(1L), any(UserUpdateRequest.class))).willReturn(response);
+        given(userService.updateUser(eq(1L), any(UserUpdateRequest.class), any())).willReturn(response);
+        MockMultipartFile request = new MockMultipartFile("request", "", "application/json",
+                ("{\"nickname\":\"" + nickname + "\"}").getBytes());
 
         // when & then
         mockMvc.perform(multipart(HttpMethod.PATCH, "/users")
                         .file(image)
-                        .param("nickname", nickname)
+                        .file(request)
                         .with(csrf()))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data.nickname").value(nickname))
@@ -0,0 +1,110 @@
+package com.example.cgroove.integration;
+
+import com.example.cgroove.entity.Post;
+import com.example.cgroove.entity.User;
+import com.example.cgroove.enums.Scope;
+import com.example.cgroove.repository.PostRepository;
+import com.example.cgroove.repository.UserRepository;
+import com.example.cgroove.service.PostLikeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 트랜잭션마다 실제로 커밋되어야 하므로 클래스에 @Transactional 을 두지 않고 직접 정리
+@SpringBootTest
+@ActiveProfiles("test")
+class LikeConcurrencyIntegrationTest {
+
+    private static final int USERS = 16;
+
+    @Autowired
+    private PostLikeService postLikeService;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < USERS; i++) {
+            User user = userRepository.save(User.builder()
+                    .email("liker" + i + "@test.com")
+                    .password("password")
+                    .nickname("Liker" + i)
+                    .build());
+            userIds.add(user.getUserId());
+        }
+        postId = postRepository.save(Post.builder()
+                .author(userRepository.findById(userIds.getFirst()).orElseThrow())
+                .scope(Scope.GLOBAL)
+                .title("Hot Post")
+                .content("Content")
+                .build()).getPostId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM post_likes WHERE post_id = ?", postId);
+        jdbcTemplate.update("DELETE FROM posts WHERE post_id = ?", postId);
+        userIds.forEach(userId -> jdbcTemplate.update("DELETE FROM users WHERE user_id = ?", userId));
+    }
+
+    @Test
+    @DisplayName("동시 좋아요 토글 - like_count 가 post_likes 행 수와 일치")
+    void toggleLike_Concurrent_CountMatchesRows() throws InterruptedException {
+        // given (짝수 번째 사용자는 3번, 홀수 번째 사용자는 2번 토글 -> 절반만 좋아요 상태로 남음)
+        ExecutorService executor = Executors.newFixedThreadPool(USERS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(USERS);
+        AtomicInteger failures = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < USERS; i++) {
+            Long userId = userIds.get(i);
+            int toggles = i % 2 == 0 ? 3 : 2;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int t = 0; t < toggles; t++) {
+                        postLikeService.toggleLike(userId, postId);
+                    }
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // then
+        Long likeCount = jdbcTemplate.queryForObject("SELECT like_count FROM posts WHERE post_id = ?", Long.class, postId);
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post_likes WHERE post_id = ?", Long.class, postId);
+
+        assertThat(failures.get()).isZero();
+        assertThat(likeCount).isEqualTo(rows);
+        assertThat(rows).isEqualTo(USERS / 2L);
+    }
+}
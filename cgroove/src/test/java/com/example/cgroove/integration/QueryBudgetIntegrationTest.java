@@ -0,0 +1,102 @@
+package com.example.cgroove.integration;
+
+import com.example.cgroove.config.MaxQueries;
+import com.example.cgroove.entity.Comment;
+import com.example.cgroove.entity.Event;
+import com.example.cgroove.entity.Post;
+import com.example.cgroove.entity.User;
+import com.example.cgroove.enums.EventType;
+import com.example.cgroove.enums.Scope;
+import com.example.cgroove.repository.CommentRepository;
+import com.example.cgroove.repository.EventRepository;
+import com.example.cgroove.repository.PostRepository;
+import com.example.cgroove.repository.UserRepository;
+import com.example.cgroove.security.UserDetail;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 목록 크기만큼 SQL 이 늘어나는 회귀(N+1) 방지: 항목 수(12)보다 작은 한도로 검사
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+class QueryBudgetIntegrationTest {
+
+    private static final int ITEMS = 12;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private UserDetail userDetail;
+
+    @BeforeEach
+    void setUp() {
+        User author = userRepository.save(User.builder()
+                .email("budget@test.com")
+                .password("password")
+                .nickname("Budget")
+                .build());
+        for (int i = 0; i < ITEMS; i++) {
+            Post post = postRepository.save(Post.builder()
+                    .author(author).scope(Scope.GLOBAL).title("Post " + i).content("Content")
+                    .tags(List.of("tag" + i)).images(List.of("/uploads/posts/" + i + ".jpg")).build());
+            commentRepository.save(Comment.builder().user(author).post(post).content("댓글").build());
+            eventRepository.save(Event.builder()
+                    .host(author).scope(Scope.GLOBAL).type(EventType.JAM).title("Event " + i).content("Content")
+                    .tags(List.of("tag" + i)).capacity(10L)
+                    .startsAt(LocalDateTime.now().plusDays(1)).endsAt(LocalDateTime.now().plusDays(2))
+                    .build());
+        }
+        // 저장 쿼리가 요청 중 자동 flush 로 섞이지 않도록 미리 반영
+        em.flush();
+        em.clear();
+
+        userDetail = new UserDetail(author.getUserId(), author.getEmail(), author.getNickname(), null, author.getPassword());
+    }
+
+    @Test
+    @MaxQueries(8)
+    @DisplayName("게시글 목록 - 항목 수와 무관한 SQL 실행 수")
+    void getPosts_WithinQueryBudget() throws Exception {
+        // when & then
+        mockMvc.perform(get("/posts").with(user(userDetail)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(ITEMS));
+    }
+
+    @Test
+    @MaxQueries(8)
+    @DisplayName("행사 목록 - 항목 수와 무관한 SQL 실행 수")
+    void getEvents_WithinQueryBudget() throws Exception {
+        // when & then
+        mockMvc.perform(get("/events").with(user(userDetail)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(ITEMS));
+    }
+}
@@ -2,6 +2,7 @@ package com.example.cgroove.repository;
 
 import com.example.cgroove.config.JpaConfig;
 import com.example.cgroove.config.QueryDslConfig;
+import com.example.cgroove.dto.club.ClubMembership;
 import com.example.cgroove.entity.Club;
 import com.example.cgroove.entity.ClubJoin;
 import com.example.cgroove.entity.User;
@@ -84,4 +85,22 @@ class ClubJoinRepositoryTest {
         assertThat(members.get(0).getRole()).isEqualTo(ClubRole.LEADER);
         assertThat(members.get(1).getUser().getNickname()).isEqualTo("User2");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("활동 중인 가입 정보만 클럽 ID + 역할로 조회")
+    void findMembershipsByUserIdAndStatus_Success() {
+        // given
+        clubJoinRepository.save(ClubJoin.builder()
+                .user(user1).club(club1).role(ClubRole.MANAGER).status(ClubJoinStatus.ACTIVE).build());
+
+        clubJoinRepository.save(ClubJoin.builder()
+                .user(user1).club(club2).role(ClubRole.MEMBER).status(ClubJoinStatus.LEFT).build());
+
+        // when
+        List<ClubMembership> memberships = clubJoinRepository
+                .findMembershipsByUserIdAndStatus(user1.getUserId(), ClubJoinStatus.ACTIVE);
+
+        // then
+        assertThat(memberships).containsExactly(new ClubMembership(club1.getClubId(), ClubRole.MANAGER));
+    }
+}
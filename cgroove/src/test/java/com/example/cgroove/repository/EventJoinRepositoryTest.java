@@ -108,4 +108,30 @@ class EventJoinRepositoryTest {
         // then
         assertThat(count).isEqualTo(2);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("대기자 명단 - 먼저 등록한 순서대로 맨 앞 조회 및 앞선 대기자 수 계산")
+    void waitlistOrder() {
+        // given
+        LocalDateTime base = LocalDateTime.now();
+        User first = userRepository.save(new User("first@test.com", "pw", "First", null));
+        User second = userRepository.save(new User("second@test.com", "pw", "Second", null));
+        eventJoinRepository.save(EventJoin.builder()
+                .event(event1).participant(second).status(EventJoinStatus.WAITLISTED).waitlistedAt(base.plusSeconds(5)).build());
+        eventJoinRepository.save(EventJoin.builder()
+                .event(event1).participant(first).status(EventJoinStatus.WAITLISTED).waitlistedAt(base).build());
+        EventJoin last = eventJoinRepository.save(EventJoin.builder()
+                .event(event1).participant(participant).status(EventJoinStatus.WAITLISTED).waitlistedAt(base.plusSeconds(10)).build());
+
+        // when
+        EventJoin head = eventJoinRepository
+                .findFirstByEvent_EventIdAndStatusOrderByWaitlistedAtAscEventJoinIdAsc(event1.getEventId(), EventJoinStatus.WAITLISTED)
+                .orElseThrow();
+        long ahead = eventJoinRepository.countWaitlistAhead(event1.getEventId(), EventJoinStatus.WAITLISTED,
+                last.getWaitlistedAt(), last.getEventJoinId());
+
+        // then
+        assertThat(head.getParticipant().getNickname()).isEqualTo("First");
+        assertThat(ahead).isEqualTo(2);
+    }
+}
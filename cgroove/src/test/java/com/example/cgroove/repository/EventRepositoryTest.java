@@ -2,23 +2,31 @@ package com.example.cgroove.repository;
 
 import com.example.cgroove.config.JpaConfig;
 import com.example.cgroove.config.QueryDslConfig;
+import com.example.cgroove.dto.event.EventSummary;
 import com.example.cgroove.entity.Club;
+import com.example.cgroove.entity.Comment;
 import com.example.cgroove.entity.Event;
+import com.example.cgroove.entity.EventJoin;
 import com.example.cgroove.entity.User;
 import com.example.cgroove.enums.ClubType;
+import com.example.cgroove.enums.EventJoinStatus;
 import com.example.cgroove.enums.EventType;
 import com.example.cgroove.enums.Scope;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -35,6 +43,12 @@ class EventRepositoryTest {
     @Autowired
     private ClubRepository clubRepository;
 
+    @Autowired
+    private EventJoinRepository eventJoinRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
     private User host;
     private Club myClub;
 
@@ -58,12 +72,12 @@ class EventRepositoryTest {
                 .likeCount(10L).viewCount(10L).build());
 
         // when
-        List<Event> results = eventRepository.findUpcomingEvents(Collections.emptyList(), PageRequest.of(0, 10));
+        List<EventSummary> results = eventRepository.findUpcomingEvents(Collections.emptyList(), PageRequest.of(0, 10));
 
         // then
         assertThat(results).hasSize(1);
-        assertThat(results.getFirst().getTitle()).isEqualTo("Future Event");
-        assertThat(results.getFirst().getHost().getNickname()).isEqualTo("HostUser");
+        assertThat(results.getFirst().title()).isEqualTo("Future Event");
+        assertThat(results.getFirst().hostNickname()).isEqualTo("HostUser");
     }
 
     @Test
@@ -86,7 +100,7 @@ class EventRepositoryTest {
 
         // when
         List<Long> myClubIds = List.of(myClub.getClubId());
-        List<Event> results = eventRepository.findAllEvents(myClubIds);
+        List<EventSummary> results = eventRepository.findAllEvents(myClubIds, null, 20);
 
         // then
         assertThat(results).hasSize(2);
@@ -95,4 +109,112 @@ class EventRepositoryTest {
         assertThat(results).extracting("title")
                 .doesNotContain("Other Event");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("목록 조회 - 행사 수와 무관하게 SQL 3회, Comment 엔티티 미로딩")
+    void findAllEvents_StatementCount() {
+        // given
+        for (int i = 1; i <= 5; i++) {
+            Event event = eventRepository.save(Event.builder()
+                    .host(host).title("Event " + i).scope(Scope.GLOBAL).type(EventType.JAM).content("C")
+                    .tags(List.of("tag" + i)).images(List.of("img" + i + ".png", "poster" + i + ".png"))
+                    .capacity(10L).startsAt(LocalDateTime.now().plusDays(1)).endsAt(LocalDateTime.now().plusDays(2))
+                    .likeCount(0L).viewCount(0L).build());
+            entityManager.persist(Comment.builder().user(host).event(event).content("c").build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        List<EventSummary> events = eventRepository.findAllEvents(List.of(), null, 20);
+        List<Long> eventIds = events.stream().map(EventSummary::eventId).toList();
+        Map<Long, List<String>> tags = eventRepository.findTagsByEventIds(eventIds);
+        Map<Long, List<String>> images = eventRepository.findImagesByEventIds(eventIds);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(events).hasSize(5).allSatisfy(event -> assertThat(event.commentCount()).isEqualTo(1L));
+        assertThat(tags).hasSize(5);
+        assertThat(images.get(eventIds.getFirst())).containsExactlyInAnyOrder("img5.png", "poster5.png");
+    }
+
+    @Test
+    @DisplayName("확정 인원 조건부 증가 - 정원에 도달하면 더 이상 증가하지 않음")
+    void increaseConfirmedCount_StopsAtCapacity() {
+        // given
+        Event event = eventRepository.save(Event.builder()
+                .host(host).title("Small Event").scope(Scope.GLOBAL).type(EventType.JAM).content("Small")
+                .capacity(2L).startsAt(LocalDateTime.now().plusDays(1)).endsAt(LocalDateTime.now().plusDays(2))
+                .likeCount(0L).viewCount(0L).build());
+
+        // when
+        int first = eventRepository.increaseConfirmedCount(event.getEventId());
+        int second = eventRepository.increaseConfirmedCount(event.getEventId());
+        int third = eventRepository.increaseConfirmedCount(event.getEventId());
+        entityManager.clear();
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(1);
+        assertThat(third).isZero();
+        assertThat(eventRepository.findById(event.getEventId()).orElseThrow().getConfirmedCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("정원 증가 후 조건부 증가 - 늘어난 정원이 먼저 반영되고, 엔티티의 이전 확정 인원이 덮어쓰지 않음")
+    void increaseConfirmedCount_AfterCapacityRaised() {
+        // given
+        Event saved = eventRepository.save(Event.builder()
+                .host(host).title("Full Event").scope(Scope.GLOBAL).type(EventType.JAM).content("Full")
+                .capacity(1L).startsAt(LocalDateTime.now().plusDays(1)).endsAt(LocalDateTime.now().plusDays(2))
+                .confirmedCount(1L).likeCount(0L).viewCount(0L).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        Event event = eventRepository.findById(saved.getEventId()).orElseThrow();
+        event.updateEvent("Full Event", "Full", null, null, null, null, 2L, event.getStartsAt(), event.getEndsAt());
+
+        // when
+        int increased = eventRepository.increaseConfirmedCount(event.getEventId());
+        Long confirmedCount = eventRepository.findConfirmedCount(event.getEventId());
+        event.updateEvent("Renamed", "Full", null, null, null, null, 2L, event.getStartsAt(), event.getEndsAt());
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(increased).isEqualTo(1);
+        assertThat(confirmedCount).isEqualTo(2L);
+        assertThat(event.getConfirmedCount()).isEqualTo(1L);
+        Event reloaded = eventRepository.findById(event.getEventId()).orElseThrow();
+        assertThat(reloaded.getTitle()).isEqualTo("Renamed");
+        assertThat(reloaded.getConfirmedCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("확정 인원 재계산 - event_joins 기준으로 어긋난 카운터 보정")
+    void rebuildConfirmedCounts_RepairsDrift() {
+        // given
+        Event event = eventRepository.save(Event.builder()
+                .host(host).title("Drift Event").scope(Scope.GLOBAL).type(EventType.JAM).content("Drift")
+                .capacity(10L).startsAt(LocalDateTime.now().plusDays(1)).endsAt(LocalDateTime.now().plusDays(2))
+                .confirmedCount(5L).likeCount(0L).viewCount(0L).build());
+        User guest = userRepository.save(new User("guest@test.com", "pw", "Guest", null));
+        eventJoinRepository.save(EventJoin.builder().participant(guest).event(event).status(EventJoinStatus.CONFIRMED).build());
+        eventJoinRepository.save(EventJoin.builder().participant(host).event(event).status(EventJoinStatus.CANCELED).build());
+        entityManager.flush();
+
+        // when
+        int repaired = eventRepository.rebuildConfirmedCounts();
+        entityManager.clear();
+
+        // then
+        assertThat(repaired).isEqualTo(1);
+        assertThat(eventRepository.findById(event.getEventId()).orElseThrow().getConfirmedCount()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.cgroove.repository;
+
+import com.example.cgroove.config.JpaConfig;
+import com.example.cgroove.config.QueryDslConfig;
+import com.example.cgroove.dto.PageCursor;
+import com.example.cgroove.entity.Club;
+import com.example.cgroove.entity.ClubJoin;
+import com.example.cgroove.entity.Comment;
+import com.example.cgroove.entity.Event;
+import com.example.cgroove.entity.EventJoin;
+import com.example.cgroove.entity.Post;
+import com.example.cgroove.entity.User;
+import com.example.cgroove.enums.ClubJoinStatus;
+import com.example.cgroove.enums.ClubRole;
+import com.example.cgroove.enums.ClubType;
+import com.example.cgroove.enums.DeletionJobStatus;
+import com.example.cgroove.enums.EventJoinStatus;
+import com.example.cgroove.enums.EventType;
+import com.example.cgroove.enums.Scope;
+import jakarta.persistence.EntityManager;
+import org.flywaydb.core.Flyway;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 엔티티 대신 db/migration 스크립트로 만든 스키마 (H2 MySQL 모드)
+// ddl-auto: validate 로 띄워 엔티티 매핑과 마이그레이션 결과가 어긋나면 컨텍스트부터 실패
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.datasource.url=jdbc:h2:mem:migration;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.example.cgroove.repository.MigrationIndexTest$CapturedSql"
+})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({QueryDslConfig.class, JpaConfig.class})
+class MigrationIndexTest {
+
+    @Autowired private Flyway flyway;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private EntityManager em;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ClubRepository clubRepository;
+    @Autowired private ClubJoinRepository clubJoinRepository;
+    @Autowired private PostRepository postRepository;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private EventJoinRepository eventJoinRepository;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private DeletionJobRepository deletionJobRepository;
+
+    // Hibernate 가 실제로 보내는 SQL 을 모음 (EXPLAIN 대상)
+    public static class CapturedSql implements StatementInspector {
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    // 리포지토리 조회별 호출 (인자 값은 실행 계획과 무관)
+    private Map<String, Runnable> repositoryQueries() {
+        LocalDateTime now = LocalDateTime.now();
+        PageCursor cursor = new PageCursor(now, 100L);
+        List<Long> ids = List.of(1L, 2L, 3L);
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+
+        // PostRepository
+        queries.put("findHotPostSeeds", () -> postRepository.findHotPostSeeds(now.minusDays(7)));
+        queries.put("findAllPosts", () -> postRepository.findAllPosts(List.of(1L, 2L), cursor, 20));
+        queries.put("findHotPosts", () -> postRepository.findHotPosts(PageRequest.of(0, 10)));
+        queries.put("findPostSummaries", () -> postRepository.findPostSummaries(ids));
+        queries.put("findClubPostRefs", () -> postRepository.findClubPostRefs(List.of(1L, 2L), 50));
+        queries.put("findTagsByPostIds", () -> postRepository.findTagsByPostIds(ids));
+        queries.put("findImagesByPostIds", () -> postRepository.findImagesByPostIds(ids));
+
+        // EventRepository
+        queries.put("findByStartsAtAfter", () -> eventRepository.findByStartsAtAfter(now));
+        queries.put("findUpcomingEvents", () -> eventRepository.findUpcomingEvents(List.of(1L, 2L), PageRequest.of(0, 10)));
+        queries.put("findAllEvents", () -> eventRepository.findAllEvents(List.of(1L, 2L), cursor, 20));
+        queries.put("findTagsByEventIds", () -> eventRepository.findTagsByEventIds(ids));
+        queries.put("findImagesByEventIds", () -> eventRepository.findImagesByEventIds(ids));
+        queries.put("findConfirmedCount", () -> eventRepository.findConfirmedCount(1L));
+
+        // EventJoinRepository
+        queries.put("countByEvent_EventIdAndStatus",
+                () -> eventJoinRepository.countByEvent_EventIdAndStatus(1L, EventJoinStatus.CONFIRMED));
+        queries.put("existsByEvent_EventIdAndStatus",
+                () -> eventJoinRepository.existsByEvent_EventIdAndStatus(1L, EventJoinStatus.WAITLISTED));
+        queries.put("findFirstByEvent_EventIdAndStatusOrderByWaitlistedAt",
+                () -> eventJoinRepository.findFirstByEvent_EventIdAndStatusOrderByWaitlistedAtAscEventJoinIdAsc(1L, EventJoinStatus.WAITLISTED));
+        queries.put("countWaitlistAhead",
+                () -> eventJoinRepository.countWaitlistAhead(1L, EventJoinStatus.WAITLISTED, now, 100L));
+        queries.put("findByParticipant_UserIdAndEvent_EventId",
+                () -> eventJoinRepository.findByParticipant_UserIdAndEvent_EventId(1L, 1L));
+        queries.put("findParticipantsWithUser",
+                () -> eventJoinRepository.findParticipantsWithUser(1L, EventJoinStatus.CONFIRMED));
+        queries.put("findMyJoinedEvents",
+                () -> eventJoinRepository.findMyJoinedEvents(1L, EventJoinStatus.CONFIRMED));
+
+        // ClubJoinRepository
+        queries.put("findMembershipsByUserIdAndStatus",
+                () -> clubJoinRepository.findMembershipsByUserIdAndStatus(1L, ClubJoinStatus.ACTIVE));
+        queries.put("findUserIdsByClubIdAndStatus",
+                () -> clubJoinRepository.findUserIdsByClubIdAndStatus(1L, ClubJoinStatus.ACTIVE));
+        queries.put("countByClub_ClubIdAndStatus",
+                () -> clubJoinRepository.countByClub_ClubIdAndStatus(1L, ClubJoinStatus.ACTIVE));
+        queries.put("findClubIdsWithMembersOver",
+                () -> clubJoinRepository.findClubIdsWithMembersOver(List.of(1L, 2L), ClubJoinStatus.ACTIVE, 300));
+        queries.put("findByUser_UserIdAndClub_ClubId",
+                () -> clubJoinRepository.findByUser_UserIdAndClub_ClubId(1L, 1L));
+        queries.put("findMyClubJoins",
+                () -> clubJoinRepository.findMyClubJoins(1L, List.of(ClubJoinStatus.ACTIVE, ClubJoinStatus.PENDING)));
+        queries.put("findClubMembers", () -> clubJoinRepository.findClubMembers(1L, ClubJoinStatus.ACTIVE));
+
+        // CommentRepository
+        queries.put("findByPost_PostId", () -> commentRepository.findByPost_PostId(1L));
+        queries.put("findByEvent_EventId", () -> commentRepository.findByEvent_EventId(1L));
+
+        // UserRepository
+        queries.put("existsByEmail", () -> userRepository.existsByEmail("a@test.com"));
+        queries.put("findByEmail", () -> userRepository.findByEmail("a@test.com"));
+        queries.put("existsByNickname", () -> userRepository.existsByNickname("nick"));
+        queries.put("existsByNicknameAndUserIdNot", () -> userRepository.existsByNicknameAndUserIdNot("nick", 1L));
+
+        // DeletionJobRepository
+        queries.put("findJobIdsByStatus", () -> deletionJobRepository.findJobIdsByStatus(DeletionJobStatus.RUNNING));
+        return queries;
+    }
+
+    @Test
+    @DisplayName("마이그레이션 스키마 - 모든 버전 적용 후 엔티티 매핑 검증(validate) 통과")
+    void migrations_AppliedAndValidated() {
+        // when & then
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().current()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("마이그레이션 스키마 - 리포지토리가 실행하는 SQL 의 실행 계획에 전체 스캔 없음")
+    void explain_NoFullScan() {
+        // given
+        Map<String, Runnable> queries = repositoryQueries();
+
+        // when
+        List<String> fullScans = new ArrayList<>();
+        queries.forEach((name, query) -> {
+            List<String> statements = capture(query);
+            assertThat(statements).as(name).isNotEmpty();
+            statements.stream()
+                    .map(sql -> name + " -> " + explain(sql))
+                    .filter(plan -> plan.contains("tableScan"))
+                    .forEach(fullScans::add);
+        });
+
+        // then
+        assertThat(fullScans).isEmpty();
+    }
+
+    @Test
+    @DisplayName("마이그레이션 스키마 - 리포지토리 조회가 요청한 인덱스를 사용")
+    void explain_UsesPerformanceIndexes() {
+        // given
+        Map<String, Runnable> queries = repositoryQueries();
+
+        // when & then
+        assertThat(plansOf(queries.get("findByStartsAtAfter"))).containsIgnoringCase("idx_events_starts_at");
+        assertThat(plansOf(queries.get("countByEvent_EventIdAndStatus"))).containsIgnoringCase("idx_event_joins_waitlist");
+        assertThat(plansOf(queries.get("findMembershipsByUserIdAndStatus"))).containsIgnoringCase("idx_club_joins_user_status");
+        assertThat(plansOf(queries.get("existsByNickname"))).containsIgnoringCase("idx_users_nickname");
+    }
+
+    @Test
+    @DisplayName("마이그레이션 스키마 - 엔티티 저장/조회 (컬럼 매핑 일치)")
+    void entities_MatchMigratedSchema() {
+        // given
+        User user = userRepository.save(new User("migration@test.com", "pw", "Migrator", null));
+        Club club = clubRepository.save(Club.builder().clubName("Migration Club").clubType(ClubType.CREW)
+                .tags(List.of("hiphop")).build());
+        clubJoinRepository.save(ClubJoin.builder()
+                .user(user).club(club).role(ClubRole.LEADER).status(ClubJoinStatus.ACTIVE).build());
+        Post post = postRepository.save(Post.builder().author(user).title("Title").scope(Scope.GLOBAL).content("Content")
+                .tags(List.of("battle")).images(List.of("/uploads/posts/a.jpg")).build());
+        commentRepository.save(Comment.builder().user(user).post(post).content("댓글").build());
+        Event event = eventRepository.save(Event.builder()
+                .host(user).title("Event").scope(Scope.GLOBAL).type(EventType.JAM).content("Content")
+                .capacity(10L).startsAt(LocalDateTime.now().plusDays(1)).endsAt(LocalDateTime.now().plusDays(2))
+                .build());
+        eventJoinRepository.save(EventJoin.builder()
+                .event(event).participant(user).status(EventJoinStatus.CONFIRMED).build());
+        em.flush();
+        em.clear();
+
+        // when
+        Post found = postRepository.findById(post.getPostId()).orElseThrow();
+
+        // then
+        assertThat(found.getTags()).containsExactly("battle");
+        assertThat(found.getImages()).containsExactly("/uploads/posts/a.jpg");
+        assertThat(commentRepository.findByPost_PostId(post.getPostId())).hasSize(1);
+        assertThat(eventJoinRepository.countByEvent_EventIdAndStatus(event.getEventId(), EventJoinStatus.CONFIRMED)).isEqualTo(1L);
+        assertThat(clubJoinRepository.findMembershipsByUserIdAndStatus(user.getUserId(), ClubJoinStatus.ACTIVE)).hasSize(1);
+        assertThat(eventRepository.findByStartsAtAfter(LocalDateTime.now())).extracting(Event::getEventId)
+                .containsExactly(event.getEventId());
+    }
+
+    // 영속성 컨텍스트를 비운 뒤 호출해 캐시 없이 실제로 나가는 SELECT 만 모음
+    private List<String> capture(Runnable query) {
+        em.flush();
+        em.clear();
+        CapturedSql.STATEMENTS.clear();
+        query.run();
+        return CapturedSql.STATEMENTS.stream()
+                .filter(sql -> sql.stripLeading().regionMatches(true, 0, "select", 0, 6))
+                .toList();
+    }
+
+    private String plansOf(Runnable query) {
+        return capture(query).stream().map(this::explain).collect(Collectors.joining("\n"));
+    }
+
+    // 바인딩 값은 계획 수립 뒤에 쓰이므로 모두 null 로 채움
+    private String explain(String sql) {
+        Object[] args = new Object[(int) sql.chars().filter(c -> c == '?').count()];
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args));
+    }
+}
@@ -2,15 +2,23 @@ package com.example.cgroove.repository;
 
 import com.example.cgroove.config.JpaConfig;
 import com.example.cgroove.config.QueryDslConfig;
+import com.example.cgroove.dto.PageCursor;
+import com.example.cgroove.dto.post.ClubPostRef;
+import com.example.cgroove.dto.post.HotPostSeed;
+import com.example.cgroove.dto.post.PostSummary;
 import com.example.cgroove.entity.Club;
 import com.example.cgroove.entity.ClubJoin;
+import com.example.cgroove.entity.Comment;
 import com.example.cgroove.entity.Post;
 import com.example.cgroove.entity.User;
 import com.example.cgroove.enums.ClubJoinStatus;
 import com.example.cgroove.enums.ClubRole;
 import com.example.cgroove.enums.ClubType;
 import com.example.cgroove.enums.Scope;
+import com.example.cgroove.service.ViewCountBuffer;
 import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,9 +26,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -33,6 +44,8 @@ class PostRepositoryTest {
     @Autowired private ClubRepository clubRepository;
     @Autowired private ClubJoinRepository clubJoinRepository;
     @Autowired private EntityManager em;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PlatformTransactionManager transactionManager;
 
     private User author;
     private User viewer;
@@ -67,7 +80,7 @@ class PostRepositoryTest {
 
         // when
         List<Long> myClubIds = List.of(myClub.getClubId());
-        List<Post> results = postRepository.findAllPosts(myClubIds);
+        List<PostSummary> results = postRepository.findAllPosts(myClubIds, null, 20);
 
         // then
         assertThat(results).hasSize(2);
@@ -75,6 +88,28 @@ class PostRepositoryTest {
                 .containsExactlyInAnyOrder("Global Post", "My Club Post");
     }
 
+    @Test
+    @DisplayName("QueryDSL - 전체 게시글 커서 조회 (createdAt, id 역순으로 이어서 조회)")
+    void findAllPosts_Cursor() {
+        // given
+        for (int i = 1; i <= 3; i++) {
+            postRepository.save(Post.builder().author(author).title("Post " + i).scope(Scope.GLOBAL).content("C")
+                    .likeCount(0L).viewCount(0L).build());
+        }
+        em.flush();
+        em.clear();
+
+        // when
+        List<PostSummary> firstPage = postRepository.findAllPosts(List.of(), null, 2);
+        PostSummary last = firstPage.getLast();
+        List<PostSummary> secondPage = postRepository.findAllPosts(List.of(),
+                new PageCursor(last.createdAt(), last.postId()), 2);
+
+        // then
+        assertThat(firstPage).extracting("title").containsExactly("Post 3", "Post 2");
+        assertThat(secondPage).extracting("title").containsExactly("Post 1");
+    }
+
     @Test
     @DisplayName("QueryDSL - 핫 게시글 조회 (기간, 좋아요 순, GLOBAL 체크)")
     void findHotPosts_FilterAndSort() {
@@ -92,45 +127,134 @@ class PostRepositoryTest {
         em.clear();
 
         // when
-        List<Post> results = postRepository.findHotPosts(PageRequest.of(0, 10));
+        List<PostSummary> results = postRepository.findHotPosts(PageRequest.of(0, 10));
 
         // then
         assertThat(results).hasSize(2);
-        assertThat(results.get(0).getTitle()).isEqualTo("Hot Global");
-        assertThat(results.get(1).getTitle()).isEqualTo("Cool Global");
+        assertThat(results.get(0).title()).isEqualTo("Hot Global");
+        assertThat(results.get(1).title()).isEqualTo("Cool Global");
     }
 
     @Test
-    @DisplayName("QueryDSL - 내 동아리 소식 조회 (ACTIVE 멤버만, Fetch Join)")
-    void findMyClubPosts_Success() {
+    @DisplayName("QueryDSL - 내 동아리 소식 타임라인 재구성 (지정 클럽 글 ID만, 최신순)")
+    void findClubPostRefs_Success() {
         // given
-        postRepository.save(Post.builder().author(author).title("Club Post 1").scope(Scope.CLUB).club(myClub).content("C")
+        Post first = postRepository.save(Post.builder().author(author).title("Club Post 1").scope(Scope.CLUB).club(myClub).content("C")
+                .likeCount(10L).viewCount(10L).build());
+        Post second = postRepository.save(Post.builder().author(author).title("Club Post 2").scope(Scope.CLUB).club(myClub).content("C")
                 .likeCount(10L).viewCount(10L).build());
         postRepository.save(Post.builder().author(author).title("Other Post").scope(Scope.CLUB).club(otherClub).content("C")
                 .likeCount(10L).viewCount(10L).build());
+        Post deleted = Post.builder().author(author).title("Deleted").scope(Scope.CLUB).club(myClub).content("C")
+                .likeCount(10L).viewCount(10L).build();
+        deleted.delete();
+        postRepository.save(deleted);
+
+        // when
+        List<ClubPostRef> results = postRepository.findClubPostRefs(List.of(myClub.getClubId()), 10);
+
+        // then
+        assertThat(results).extracting(ClubPostRef::postId).containsExactly(second.getPostId(), first.getPostId());
+        assertThat(results).extracting(ClubPostRef::clubId).containsOnly(myClub.getClubId());
+    }
+
+    @Test
+    @DisplayName("멤버 수가 기준을 넘는 클럽만 조회")
+    void findClubIdsWithMembersOver() {
+        // when
+        List<Long> large = clubJoinRepository.findClubIdsWithMembersOver(
+                List.of(myClub.getClubId(), otherClub.getClubId()), ClubJoinStatus.ACTIVE, 0L);
+
+        // then
+        assertThat(large).containsExactly(myClub.getClubId());
+    }
+
+    @Test
+    @DisplayName("목록 조회 - 게시글 수와 무관하게 SQL 3회, Comment 엔티티 미로딩")
+    void findAllPosts_StatementCount() {
+        // given
+        for (int i = 1; i <= 5; i++) {
+            Post post = postRepository.save(Post.builder().author(author).title("Post " + i).scope(Scope.GLOBAL).content("C")
+                    .tags(List.of("tag" + i, "common")).images(List.of("img" + i + ".png"))
+                    .likeCount(0L).viewCount(0L).build());
+            em.persist(Comment.builder().user(viewer).post(post).content("c1").build());
+            em.persist(Comment.builder().user(viewer).post(post).content("c2").build());
+        }
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        List<PostSummary> posts = postRepository.findAllPosts(List.of(), null, 20);
+        List<Long> postIds = posts.stream().map(PostSummary::postId).toList();
+        Map<Long, List<String>> tags = postRepository.findTagsByPostIds(postIds);
+        Map<Long, List<String>> images = postRepository.findImagesByPostIds(postIds);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(posts).hasSize(5).allSatisfy(post -> assertThat(post.commentCount()).isEqualTo(2L));
+        assertThat(tags.get(postIds.getFirst())).containsExactlyInAnyOrder("tag5", "common");
+        assertThat(images).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("인기글 랭킹 재구성 - GLOBAL 게시글 반응 수를 SQL 1회로 조회 (삭제된 댓글 제외)")
+    void findHotPostSeeds_SingleStatement() {
+        // given
+        Post global = postRepository.save(Post.builder().author(author).title("Global").scope(Scope.GLOBAL).content("G")
+                .likeCount(4L).viewCount(7L).build());
+        postRepository.save(Post.builder().author(author).title("Club").scope(Scope.CLUB).club(myClub).content("C")
+                .likeCount(4L).viewCount(7L).build());
+        em.persist(Comment.builder().user(viewer).post(global).content("c1").build());
+        em.persist(Comment.builder().user(viewer).post(global).content("c2").build());
+        Comment deletedComment = Comment.builder().user(viewer).post(global).content("c3").build();
+        em.persist(deletedComment);
+        em.flush();
+        em.remove(deletedComment);
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
 
         // when
-        List<Post> results = postRepository.findMyClubPosts(viewer.getUserId(), PageRequest.of(0, 10));
+        List<HotPostSeed> seeds = postRepository.findHotPostSeeds(LocalDateTime.now().minusDays(14));
 
         // then
-        assertThat(results).hasSize(1);
-        assertThat(results.getFirst().getTitle()).isEqualTo("Club Post 1");
-        assertThat(results.getFirst().getClub().getClubName()).isEqualTo("MyClub");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(seeds).singleElement().satisfies(seed -> {
+            assertThat(seed.postId()).isEqualTo(global.getPostId());
+            assertThat(seed.likeCount()).isEqualTo(4L);
+            assertThat(seed.viewCount()).isEqualTo(7L);
+            assertThat(seed.commentCount()).isEqualTo(2L);
+        });
     }
 
     @Test
-    @DisplayName("조회수 증가 (JPA @Modifying)")
-    void updateViewCount() {
+    @DisplayName("조회수 버퍼 일괄 반영 (JDBC batch UPDATE)")
+    void flushViewCounts() {
         // given
         Post post = postRepository.save(Post.builder().author(author).title("View Test").scope(Scope.GLOBAL).content("C")
                 .likeCount(10L).viewCount(0L).build());
+        em.flush();
+
+        ViewCountBuffer viewCountBuffer = new ViewCountBuffer(jdbcTemplate, transactionManager);
+        for (int i = 0; i < 3; i++) {
+            viewCountBuffer.increasePostView(post.getPostId());
+        }
 
         // when
-        postRepository.updateViewCount(post.getPostId());
+        viewCountBuffer.flush();
         em.clear();
 
         // then
         Post updated = postRepository.findById(post.getPostId()).orElseThrow();
-        assertThat(updated.getViewCount()).isEqualTo(1L);
+        assertThat(updated.getViewCount()).isEqualTo(3L);
+        assertThat(viewCountBuffer.pendingPostViews(post.getPostId())).isZero();
     }
-}
\ No newline at end of file
+}
@@ -5,10 +5,11 @@ import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -19,9 +20,7 @@ class JwtUtilTest {
 
     @BeforeEach
     void setUp() {
-        jwtUtil = new JwtUtil();
-        ReflectionTestUtils.setField(jwtUtil, "jwtSecret", TEST_SECRET);
-        jwtUtil.init();
+        jwtUtil = new JwtUtil(TEST_SECRET, 100);
     }
 
     @Test
@@ -90,4 +89,67 @@ class JwtUtilTest {
         // then
         assertThat(isValid).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("단일 파싱 검증 - 사용자 ID / 토큰 유형 / 만료 시각 반환")
+    void verify_Success() {
+        // given
+        String token = jwtUtil.generateAccessToken(7L);
+
+        // when
+        Optional<VerifiedToken> verified = jwtUtil.verify(token);
+
+        // then
+        assertThat(verified).isPresent();
+        assertThat(verified.get().userId()).isEqualTo(7L);
+        assertThat(verified.get().isAccessToken()).isTrue();
+        assertThat(verified.get().expiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    @DisplayName("검증된 토큰은 캐시에서 같은 결과를 재사용")
+    void verify_CachedResult() {
+        // given
+        String token = jwtUtil.generateAccessToken(7L);
+        VerifiedToken first = jwtUtil.verify(token).orElseThrow();
+
+        // when
+        VerifiedToken second = jwtUtil.verify(token).orElseThrow();
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("위조 / 만료 토큰은 캐시하지 않고 매번 거부")
+    void verify_InvalidNotCached() {
+        // given
+        String expiredToken = Jwts.builder()
+                .setSubject("1")
+                .claim("type", "ACCESS")
+                .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(Keys.hmacShaKeyFor(TEST_SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        // when & then
+        assertThat(jwtUtil.verify(expiredToken)).isEmpty();
+        assertThat(jwtUtil.verify(expiredToken)).isEmpty();
+        assertThat(jwtUtil.isAccessToken(expiredToken)).isFalse();
+    }
+
+    @Test
+    @DisplayName("캐시 비활성화 시에도 동일하게 검증")
+    void verify_WithoutCache() {
+        // given
+        JwtUtil uncached = new JwtUtil(TEST_SECRET, 0);
+        String token = uncached.generateRefreshToken(3L);
+
+        // when
+        VerifiedToken verified = uncached.verify(token).orElseThrow();
+
+        // then
+        assertThat(verified.userId()).isEqualTo(3L);
+        assertThat(verified.isRefreshToken()).isTrue();
+        assertThat(uncached.verify(token).orElseThrow()).isNotSameAs(verified);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.cgroove.security;
+
+import com.example.cgroove.entity.User;
+import com.example.cgroove.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheTest {
+
+    private PrincipalCache principalCache;
+    private SimpleMeterRegistry meterRegistry;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache(userRepository, meterRegistry, 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("같은 사용자 반복 인증 - users 조회는 한 번만")
+    void get_CachedAfterFirstLoad() {
+        // given
+        Long userId = 1L;
+        given(userRepository.findById(userId)).willReturn(Optional.of(user(userId, "Nick")));
+
+        // when
+        UserDetail first = principalCache.get(userId).orElseThrow();
+        UserDetail second = principalCache.get(userId).orElseThrow();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getNickname()).isEqualTo("Nick");
+        verify(userRepository, times(1)).findById(userId);
+    }
+
+    @Test
+    @DisplayName("사용자 정보 변경 후 무효화 - 다음 요청에서 새 정보로 적재")
+    void invalidate_ReloadsUser() {
+        // given
+        Long userId = 1L;
+        given(userRepository.findById(userId))
+                .willReturn(Optional.of(user(userId, "OldNick")))
+                .willReturn(Optional.of(user(userId, "NewNick")));
+        principalCache.get(userId);
+
+        // when
+        principalCache.invalidate(userId);
+
+        // then
+        assertThat(principalCache.get(userId).orElseThrow().getNickname()).isEqualTo("NewNick");
+        verify(userRepository, times(2)).findById(userId);
+    }
+
+    @Test
+    @DisplayName("탈퇴 등으로 없는 사용자 - 빈 값 반환, 캐시하지 않음")
+    void get_MissingUserNotCached() {
+        // given
+        Long userId = 9L;
+        given(userRepository.findById(userId)).willReturn(Optional.empty());
+
+        // when
+        Optional<UserDetail> first = principalCache.get(userId);
+        Optional<UserDetail> second = principalCache.get(userId);
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        verify(userRepository, times(2)).findById(userId);
+    }
+
+    @Test
+    @DisplayName("적중 / 미적중 지표를 Micrometer 로 노출")
+    void metrics_HitAndMiss() {
+        // given
+        Long userId = 1L;
+        given(userRepository.findById(userId)).willReturn(Optional.of(user(userId, "Nick")));
+
+        // when
+        principalCache.get(userId);
+        principalCache.get(userId);
+        principalCache.get(userId);
+
+        // then
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "principals").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "principals").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.find("cache.evictions").tag("cache", "principals").meters()).isNotEmpty();
+    }
+
+    private User user(Long userId, String nickname) {
+        return User.builder()
+                .userId(userId)
+                .email("user" + userId + "@test.com")
+                .nickname(nickname)
+                .password("hash")
+                .build();
+    }
+}
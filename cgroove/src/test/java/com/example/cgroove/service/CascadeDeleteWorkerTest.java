@@ -0,0 +1,75 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.enums.DeletionJobStatus;
+import com.example.cgroove.repository.DeletionJobRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CascadeDeleteWorkerTest {
+
+    @Mock
+    private DeletionJobRepository deletionJobRepository;
+    @Mock
+    private CascadeDeleter cascadeDeleter;
+
+    @Test
+    @DisplayName("진행 중인 작업을 남은 청크가 없을 때까지 처리")
+    void drain_RunsChunksUntilDone() {
+        // given
+        CascadeDeleteWorker worker = new CascadeDeleteWorker(deletionJobRepository, cascadeDeleter, 0, 20);
+        given(deletionJobRepository.findJobIdsByStatus(DeletionJobStatus.RUNNING)).willReturn(List.of(1L, 2L));
+        given(cascadeDeleter.runChunk(1L)).willReturn(true, true, false);
+        given(cascadeDeleter.runChunk(2L)).willReturn(false);
+
+        // when
+        worker.drain();
+
+        // then
+        verify(cascadeDeleter, times(3)).runChunk(1L);
+        verify(cascadeDeleter).runChunk(2L);
+    }
+
+    @Test
+    @DisplayName("한 주기에 처리할 청크 수 제한 - 남은 청크는 다음 주기에 이어서 처리")
+    void drain_StopsAtChunkBudget() {
+        // given
+        CascadeDeleteWorker worker = new CascadeDeleteWorker(deletionJobRepository, cascadeDeleter, 0, 3);
+        given(deletionJobRepository.findJobIdsByStatus(DeletionJobStatus.RUNNING)).willReturn(List.of(1L, 2L));
+        given(cascadeDeleter.runChunk(1L)).willReturn(true);
+
+        // when
+        worker.drain();
+
+        // then
+        verify(cascadeDeleter, times(3)).runChunk(1L);
+        verify(cascadeDeleter, never()).runChunk(2L);
+    }
+
+    @Test
+    @DisplayName("청크 실패 - 다음 작업은 계속 처리하고 실패한 작업은 다음 주기에 재시도")
+    void drain_ChunkFailure_ContinuesWithOtherJobs() {
+        // given
+        CascadeDeleteWorker worker = new CascadeDeleteWorker(deletionJobRepository, cascadeDeleter, 0, 20);
+        given(deletionJobRepository.findJobIdsByStatus(DeletionJobStatus.RUNNING)).willReturn(List.of(1L, 2L));
+        given(cascadeDeleter.runChunk(1L)).willThrow(new IllegalStateException("lock wait timeout"));
+        given(cascadeDeleter.runChunk(2L)).willReturn(false);
+
+        // when
+        worker.drain();
+
+        // then
+        verify(cascadeDeleter).runChunk(1L);
+        verify(cascadeDeleter).runChunk(2L);
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.config.JpaConfig;
+import com.example.cgroove.config.QueryDslConfig;
+import com.example.cgroove.entity.Club;
+import com.example.cgroove.entity.ClubJoin;
+import com.example.cgroove.entity.DeletionJob;
+import com.example.cgroove.entity.Event;
+import com.example.cgroove.entity.EventJoin;
+import com.example.cgroove.entity.Post;
+import com.example.cgroove.entity.User;
+import com.example.cgroove.enums.CascadeStep;
+import com.example.cgroove.enums.ClubJoinStatus;
+import com.example.cgroove.enums.ClubRole;
+import com.example.cgroove.enums.ClubType;
+import com.example.cgroove.enums.DeletionJobStatus;
+import com.example.cgroove.enums.DeletionTarget;
+import com.example.cgroove.enums.EventJoinStatus;
+import com.example.cgroove.enums.EventType;
+import com.example.cgroove.enums.Scope;
+import com.example.cgroove.repository.ClubJoinRepository;
+import com.example.cgroove.repository.ClubRepository;
+import com.example.cgroove.repository.DeletionJobRepository;
+import com.example.cgroove.repository.EventJoinRepository;
+import com.example.cgroove.repository.EventRepository;
+import com.example.cgroove.repository.PostRepository;
+import com.example.cgroove.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@Import({QueryDslConfig.class, JpaConfig.class})
+class CascadeDeleterTest {
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private EntityManager em;
+    @Autowired private DeletionJobRepository deletionJobRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ClubRepository clubRepository;
+    @Autowired private ClubJoinRepository clubJoinRepository;
+    @Autowired private PostRepository postRepository;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private EventJoinRepository eventJoinRepository;
+
+    private EventJoinService eventJoinService;
+    private ClubTimeline clubTimeline;
+    private ClubMembershipCache membershipCache;
+    private HotPostRanking hotPostRanking;
+    private User leader;
+    private User member;
+    private Club club;
+    private Club otherClub;
+
+    @BeforeEach
+    void setUp() {
+        eventJoinService = mock(EventJoinService.class);
+        clubTimeline = mock(ClubTimeline.class);
+        membershipCache = mock(ClubMembershipCache.class);
+        hotPostRanking = mock(HotPostRanking.class);
+
+        leader = userRepository.save(new User("leader@test.com", "pw", "Leader", null));
+        member = userRepository.save(new User("member@test.com", "pw", "Member", null));
+        club = clubRepository.save(Club.builder().clubName("Crew").clubType(ClubType.CREW).build());
+        otherClub = clubRepository.save(Club.builder().clubName("Other").clubType(ClubType.CLUB).build());
+    }
+
+    @Test
+    @DisplayName("클럽 삭제 작업 - 청크 단위로 게시글/행사/가입/신청을 모두 정리하고 다른 클럽은 유지")
+    void runChunk_Club_CompletesAllSteps() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            savePost(member, club);
+        }
+        Post otherPost = savePost(member, otherClub);
+        Event event = saveEvent(leader, club);
+        clubJoinRepository.save(ClubJoin.builder().user(leader).club(club).role(ClubRole.LEADER).status(ClubJoinStatus.ACTIVE).build());
+        clubJoinRepository.save(ClubJoin.builder().user(member).club(club).role(ClubRole.MEMBER).status(ClubJoinStatus.ACTIVE).build());
+        eventJoinRepository.save(EventJoin.builder().event(event).participant(leader).status(EventJoinStatus.CONFIRMED).build());
+        eventJoinRepository.save(EventJoin.builder().event(event).participant(member).status(EventJoinStatus.CONFIRMED).build());
+        DeletionJob job = deletionJobRepository.save(DeletionJob.start(DeletionTarget.CLUB, club.getClubId(), leader.getUserId()));
+        em.flush();
+        Timestamp startedAt = Timestamp.valueOf(LocalDateTime.now());
+
+        // when
+        int chunks = runToEnd(cascadeDeleter(2), job.getJobId());
+
+        // then
+        assertThat(count("SELECT count(*) FROM posts WHERE club_id = ? AND is_deleted = false", club.getClubId())).isZero();
+        // 삭제 시각이 updated_at 에 남아야 보관 유예 기간이 삭제 시점부터 계산됨
+        assertThat(count("SELECT count(*) FROM posts WHERE club_id = ? AND updated_at < ?", club.getClubId(), startedAt)).isZero();
+        assertThat(count("SELECT count(*) FROM events WHERE club_id = ? AND updated_at < ?", club.getClubId(), startedAt)).isZero();
+        assertThat(count("SELECT count(*) FROM posts WHERE post_id = ? AND is_deleted = false", otherPost.getPostId())).isEqualTo(1);
+        assertThat(count("SELECT count(*) FROM events WHERE club_id = ? AND is_deleted = false", club.getClubId())).isZero();
+        assertThat(count("SELECT count(*) FROM club_joins WHERE club_id = ? AND status <> 'CANCELED'", club.getClubId())).isZero();
+        assertThat(count("SELECT count(*) FROM event_joins WHERE event_id = ? AND status <> 'CANCELED'", event.getEventId())).isZero();
+
+        assertThat(job.getStatus()).isEqualTo(DeletionJobStatus.COMPLETED);
+        assertThat(job.getStep()).isNull();
+        assertThat(job.getProcessedRows()).isEqualTo(8L);
+        assertThat(job.getCompletedAt()).isNotNull();
+        assertThat(chunks).isGreaterThan(4);
+        verify(clubTimeline).dropClub(club.getClubId());
+        verify(membershipCache).evictClub(club.getClubId());
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴 작업 - 중단 후 새 인스턴스가 기록된 위치부터 이어서 처리하고 확정 좌석은 인계")
+    void runChunk_User_ResumesFromRecordedPosition() {
+        // given
+        Post first = savePost(member, null);
+        Post second = savePost(member, null);
+        savePost(member, null);
+        Post leaderPost = savePost(leader, null);
+        Event event = saveEvent(leader, null);
+        clubJoinRepository.save(ClubJoin.builder().user(member).club(club).role(ClubRole.MEMBER).status(ClubJoinStatus.ACTIVE).build());
+        eventJoinRepository.save(EventJoin.builder().event(event).participant(member).status(EventJoinStatus.CONFIRMED).build());
+        DeletionJob job = deletionJobRepository.save(DeletionJob.start(DeletionTarget.USER, member.getUserId(), member.getUserId()));
+        em.flush();
+
+        // when - 첫 청크만 처리하고 재시작
+        assertThat(cascadeDeleter(2).runChunk(job.getJobId())).isTrue();
+        em.flush();
+        em.clear();
+
+        DeletionJob saved = deletionJobRepository.findById(job.getJobId()).orElseThrow();
+        assertThat(saved.getStep()).isEqualTo(CascadeStep.USER_POSTS);
+        assertThat(saved.getLastProcessedId()).isEqualTo(second.getPostId());
+        assertThat(count("SELECT count(*) FROM posts WHERE post_id IN (?, ?) AND is_deleted = true", first.getPostId(), second.getPostId())).isEqualTo(2);
+
+        runToEnd(cascadeDeleter(2), job.getJobId());
+
+        // then
+        DeletionJob completed = deletionJobRepository.findById(job.getJobId()).orElseThrow();
+        assertThat(completed.getStatus()).isEqualTo(DeletionJobStatus.COMPLETED);
+        assertThat(count("SELECT count(*) FROM posts WHERE user_id = ? AND is_deleted = false", member.getUserId())).isZero();
+        assertThat(count("SELECT count(*) FROM posts WHERE post_id = ? AND is_deleted = false", leaderPost.getPostId())).isEqualTo(1);
+        assertThat(count("SELECT count(*) FROM club_joins WHERE user_id = ? AND status = 'LEFT'", member.getUserId())).isEqualTo(1);
+        assertThat(count("SELECT count(*) FROM event_joins WHERE user_id = ? AND status = 'CANCELED'", member.getUserId())).isEqualTo(1);
+        verify(eventJoinService).handOverSeats(List.of(event.getEventId()));
+        verify(clubTimeline).invalidate(member.getUserId());
+        verify(membershipCache).invalidate(member.getUserId());
+    }
+
+    @Test
+    @DisplayName("게시글 단계 - 커밋 후 삭제된 게시글을 인기글 랭킹과 클럽 타임라인에서 제거")
+    void runChunk_Posts_RemovedFromFeedsAfterCommit() {
+        // given
+        Post first = savePost(member, club);
+        Post second = savePost(member, club);
+        Post otherPost = savePost(member, otherClub);
+        DeletionJob job = deletionJobRepository.save(DeletionJob.start(DeletionTarget.CLUB, club.getClubId(), leader.getUserId()));
+        em.flush();
+        List<TransactionSynchronization> registered = TransactionSynchronizationManager.getSynchronizations();
+
+        // when
+        cascadeDeleter(10).runChunk(job.getJobId());
+
+        // then - 커밋 전에는 반영하지 않음
+        verify(hotPostRanking, never()).remove(first.getPostId());
+        verify(clubTimeline, never()).removePost(first.getPostId());
+
+        // 이 청크가 등록한 커밋 후 작업만 실행
+        TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(synchronization -> !registered.contains(synchronization))
+                .forEach(TransactionSynchronization::afterCommit);
+        verify(hotPostRanking).remove(first.getPostId());
+        verify(hotPostRanking).remove(second.getPostId());
+        verify(clubTimeline).removePost(first.getPostId());
+        verify(clubTimeline).removePost(second.getPostId());
+        verify(hotPostRanking, never()).remove(otherPost.getPostId());
+        verify(clubTimeline, never()).removePost(otherPost.getPostId());
+    }
+
+    @Test
+    @DisplayName("완료된 작업 - 더 처리하지 않음")
+    void runChunk_Completed_NoOp() {
+        // given
+        DeletionJob job = deletionJobRepository.save(DeletionJob.start(DeletionTarget.CLUB, otherClub.getClubId(), leader.getUserId()));
+        runToEnd(cascadeDeleter(2), job.getJobId());
+
+        // when & then
+        assertThat(cascadeDeleter(2).runChunk(job.getJobId())).isFalse();
+        assertThat(job.getProcessedRows()).isZero();
+    }
+
+    private CascadeDeleter cascadeDeleter(int chunkSize) {
+        return new CascadeDeleter(jdbcTemplate, deletionJobRepository, eventJoinService, clubTimeline, membershipCache,
+                hotPostRanking, chunkSize);
+    }
+
+    private int runToEnd(CascadeDeleter cascadeDeleter, Long jobId) {
+        int chunks = 1;
+        while (cascadeDeleter.runChunk(jobId)) {
+            chunks++;
+        }
+        return chunks;
+    }
+
+    private Post savePost(User author, Club club) {
+        return postRepository.save(Post.builder().author(author).title("Post").content("C")
+                .scope(club != null ? Scope.CLUB : Scope.GLOBAL).club(club).build());
+    }
+
+    private Event saveEvent(User host, Club club) {
+        return eventRepository.save(Event.builder()
+                .host(host).title("Event").content("C").club(club)
+                .scope(club != null ? Scope.CLUB : Scope.GLOBAL).type(EventType.WORKSHOP)
+                .capacity(10L).startsAt(LocalDateTime.now().plusDays(1)).endsAt(LocalDateTime.now().plusDays(2))
+                .build());
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+}
@@ -1,8 +1,6 @@
 package com.example.cgroove.service;
 
 import com.example.cgroove.entity.Club;
-import com.example.cgroove.entity.ClubJoin;
-import com.example.cgroove.enums.ClubJoinStatus;
 import com.example.cgroove.enums.ClubRole;
 import com.example.cgroove.exception.AuthException;
 import com.example.cgroove.exception.NotFoundException;
@@ -35,16 +33,16 @@ class ClubAuthServiceTest {
     @Mock
     private ClubRepository clubRepository;
 
+    @Mock
+    private ClubMembershipCache membershipCache;
+
     @Test
     @DisplayName("관리자 권한 확인 성공 - 리더")
     void validateClubAuthority_Success_Leader() {
         // given
         Long userId = 1L;
         Long clubId = 10L;
-        ClubJoin join = ClubJoin.builder().role(ClubRole.LEADER).build();
-
-        given(clubJoinRepository.findByUser_UserIdAndClub_ClubId(userId, clubId))
-                .willReturn(Optional.of(join));
+        given(membershipCache.roleOf(userId, clubId)).willReturn(Optional.of(ClubRole.LEADER));
 
         // when & then
         assertDoesNotThrow(() -> clubAuthService.validateClubAuthority(userId, clubId));
@@ -56,10 +54,7 @@ class ClubAuthServiceTest {
         // given
         Long userId = 1L;
         Long clubId = 10L;
-        ClubJoin join = ClubJoin.builder().role(ClubRole.MANAGER).build();
-
-        given(clubJoinRepository.findByUser_UserIdAndClub_ClubId(userId, clubId))
-                .willReturn(Optional.of(join));
+        given(membershipCache.roleOf(userId, clubId)).willReturn(Optional.of(ClubRole.MANAGER));
 
         // when & then
         assertDoesNotThrow(() -> clubAuthService.validateClubAuthority(userId, clubId));
@@ -71,10 +66,19 @@ class ClubAuthServiceTest {
         // given
         Long userId = 1L;
         Long clubId = 10L;
-        ClubJoin join = ClubJoin.builder().role(ClubRole.MEMBER).build();
+        given(membershipCache.roleOf(userId, clubId)).willReturn(Optional.of(ClubRole.MEMBER));
 
-        given(clubJoinRepository.findByUser_UserIdAndClub_ClubId(userId, clubId))
-                .willReturn(Optional.of(join));
+        // when & then
+        assertThrows(AuthException.class, () -> clubAuthService.validateClubAuthority(userId, clubId));
+    }
+
+    @Test
+    @DisplayName("관리자 권한 확인 실패 - 활동 중인 멤버 아님")
+    void validateClubAuthority_Fail_NotMember() {
+        // given
+        Long userId = 1L;
+        Long clubId = 10L;
+        given(membershipCache.roleOf(userId, clubId)).willReturn(Optional.empty());
 
         // when & then
         assertThrows(AuthException.class, () -> clubAuthService.validateClubAuthority(userId, clubId));
@@ -86,10 +90,7 @@ class ClubAuthServiceTest {
         // given
         Long userId = 1L;
         Long clubId = 10L;
-        ClubJoin join = ClubJoin.builder().role(ClubRole.LEADER).build();
-
-        given(clubJoinRepository.findByUser_UserIdAndClub_ClubId(userId, clubId))
-                .willReturn(Optional.of(join));
+        given(membershipCache.roleOf(userId, clubId)).willReturn(Optional.of(ClubRole.LEADER));
 
         // when & then
         assertDoesNotThrow(() -> clubAuthService.validateLeaderAuthority(userId, clubId));
@@ -101,10 +102,7 @@ class ClubAuthServiceTest {
         // given
         Long userId = 1L;
         Long clubId = 10L;
-        ClubJoin join = ClubJoin.builder().role(ClubRole.MANAGER).build();
-
-        given(clubJoinRepository.findByUser_UserIdAndClub_ClubId(userId, clubId))
-                .willReturn(Optional.of(join));
+        given(membershipCache.roleOf(userId, clubId)).willReturn(Optional.of(ClubRole.MANAGER));
 
         // when & then
         assertThrows(AuthException.class, () -> clubAuthService.validateLeaderAuthority(userId, clubId));
@@ -116,10 +114,7 @@ class ClubAuthServiceTest {
         // given
         Long userId = 1L;
         Long clubId = 10L;
-        ClubJoin join = ClubJoin.builder().role(ClubRole.MEMBER).build();
-
-        given(clubJoinRepository.findByUser_UserIdAndClub_ClubId(userId, clubId))
-                .willReturn(Optional.of(join));
+        given(membershipCache.roleOf(userId, clubId)).willReturn(Optional.of(ClubRole.MEMBER));
 
         // when & then
         assertThrows(AuthException.class, () -> clubAuthService.validateLeaderAuthority(userId, clubId));
@@ -173,8 +168,7 @@ class ClubAuthServiceTest {
         Long userId = 1L;
         List<Long> clubIds = List.of(10L, 20L, 30L);
 
-        given(clubJoinRepository.findClubIdsByUserIdAndStatus(userId, ClubJoinStatus.ACTIVE))
-                .willReturn(clubIds);
+        given(membershipCache.clubIdsOf(userId)).willReturn(clubIds);
 
         // when
         List<Long> result = clubAuthService.findUserClubIds(userId);
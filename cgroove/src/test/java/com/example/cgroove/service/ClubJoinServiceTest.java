@@ -38,6 +38,10 @@ class ClubJoinServiceTest {
     private UserRepository userRepository;
     @Mock
     private ClubAuthService clubAuthService;
+    @Mock
+    private ClubTimeline clubTimeline;
+    @Mock
+    private ClubMembershipCache membershipCache;
 
     @Test
     @DisplayName("클럽 가입 신청 성공 - 신규 신청")
@@ -206,6 +210,8 @@ class ClubJoinServiceTest {
 
         // then
         assertThat(join.getStatus()).isEqualTo(ClubJoinStatus.LEFT);
+        verify(clubTimeline).removeClub(userId, clubId);
+        verify(membershipCache).leave(userId, clubId);
     }
 
     @Test
@@ -245,7 +251,7 @@ class ClubJoinServiceTest {
         Long managerId = 1L;
         Long clubId = 10L;
         Long applicantId = 2L;
-        ClubJoin applicantJoin = ClubJoin.builder().status(ClubJoinStatus.PENDING).build();
+        ClubJoin applicantJoin = ClubJoin.builder().status(ClubJoinStatus.PENDING).role(ClubRole.MEMBER).build();
 
         doNothing().when(clubAuthService).validateClubAuthority(managerId, clubId);
         given(clubAuthService.findClubJoin(applicantId, clubId)).willReturn(applicantJoin);
@@ -255,6 +261,8 @@ class ClubJoinServiceTest {
 
         // then
         assertThat(applicantJoin.getStatus()).isEqualTo(ClubJoinStatus.ACTIVE);
+        verify(clubTimeline).invalidate(applicantId);
+        verify(membershipCache).join(applicantId, clubId, ClubRole.MEMBER);
     }
 
     @Test
@@ -310,6 +318,7 @@ class ClubJoinServiceTest {
 
         // then
         assertThat(targetJoin.getStatus()).isEqualTo(ClubJoinStatus.LEFT);
+        verify(membershipCache).leave(targetId, clubId);
     }
 
     @Test
@@ -346,6 +355,7 @@ class ClubJoinServiceTest {
 
         // then
         assertThat(targetJoin.getRole()).isEqualTo(ClubRole.MANAGER);
+        verify(membershipCache).join(targetId, clubId, ClubRole.MANAGER);
     }
 
     @Test
@@ -471,30 +481,4 @@ class ClubJoinServiceTest {
                 clubJoinService.getPendingApplications(userId, clubId)
         );
     }
-
-    @Test
-    @DisplayName("유저 탈퇴 시 관련 클럽 가입 정보 Soft Delete")
-    void softDeleteByUserId() {
-        // given
-        Long userId = 1L;
-
-        // when
-        clubJoinService.softDeleteByUserId(userId);
-
-        // then
-        verify(clubJoinRepository).softDeleteByUserId(userId, ClubJoinStatus.LEFT);
-    }
-
-    @Test
-    @DisplayName("클럽 삭제 시 관련 가입 정보 Soft Delete")
-    void softDeleteByClubId() {
-        // given
-        Long clubId = 10L;
-
-        // when
-        clubJoinService.softDeleteByClubId(clubId);
-
-        // then
-        verify(clubJoinRepository).softDeleteByClubId(clubId, ClubJoinStatus.CANCELED);
-    }
 }
\ No newline at end of file
@@ -0,0 +1,134 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.dto.club.ClubMembership;
+import com.example.cgroove.enums.ClubJoinStatus;
+import com.example.cgroove.enums.ClubRole;
+import com.example.cgroove.repository.ClubJoinRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ClubMembershipCacheTest {
+
+    private ClubMembershipCache membershipCache;
+
+    @Mock
+    private ClubJoinRepository clubJoinRepository;
+
+    @BeforeEach
+    void setUp() {
+        membershipCache = new ClubMembershipCache(clubJoinRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 사용자 반복 권한 확인 - club_join 조회는 한 번만")
+    void roleOf_CachedAfterFirstLoad() {
+        // given
+        Long userId = 1L;
+        given(clubJoinRepository.findMembershipsByUserIdAndStatus(userId, ClubJoinStatus.ACTIVE))
+                .willReturn(List.of(new ClubMembership(10L, ClubRole.LEADER), new ClubMembership(20L, ClubRole.MEMBER)));
+
+        // when
+        membershipCache.roleOf(userId, 10L);
+        membershipCache.clubIdsOf(userId);
+
+        // then
+        assertThat(membershipCache.roleOf(userId, 10L)).contains(ClubRole.LEADER);
+        assertThat(membershipCache.roleOf(userId, 30L)).isEmpty();
+        assertThat(membershipCache.clubIdsOf(userId)).containsExactlyInAnyOrder(10L, 20L);
+        verify(clubJoinRepository, times(1)).findMembershipsByUserIdAndStatus(userId, ClubJoinStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("비로그인 사용자 - 조회 없이 빈 목록")
+    void clubIdsOf_Anonymous() {
+        // when
+        List<Long> result = membershipCache.clubIdsOf(null);
+
+        // then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(clubJoinRepository);
+    }
+
+    @Test
+    @DisplayName("승인, 역할 변경, 탈퇴 - 다시 조회하지 않고 캐시 갱신")
+    void joinAndLeave_UpdateInPlace() {
+        // given
+        Long userId = 1L;
+        given(clubJoinRepository.findMembershipsByUserIdAndStatus(userId, ClubJoinStatus.ACTIVE))
+                .willReturn(List.of(new ClubMembership(10L, ClubRole.MEMBER)));
+        membershipCache.clubIdsOf(userId);
+
+        // when
+        membershipCache.join(userId, 20L, ClubRole.MEMBER);
+        membershipCache.join(userId, 10L, ClubRole.MANAGER);
+        membershipCache.leave(userId, 20L);
+
+        // then
+        assertThat(membershipCache.roleOf(userId, 10L)).contains(ClubRole.MANAGER);
+        assertThat(membershipCache.clubIdsOf(userId)).containsExactly(10L);
+        verify(clubJoinRepository, times(1)).findMembershipsByUserIdAndStatus(userId, ClubJoinStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("클럽 삭제 - 모든 사용자 캐시에서 제거")
+    void evictClub_RemovesFromAllUsers() {
+        // given
+        given(clubJoinRepository.findMembershipsByUserIdAndStatus(1L, ClubJoinStatus.ACTIVE))
+                .willReturn(List.of(new ClubMembership(10L, ClubRole.LEADER), new ClubMembership(20L, ClubRole.MEMBER)));
+        given(clubJoinRepository.findMembershipsByUserIdAndStatus(2L, ClubJoinStatus.ACTIVE))
+                .willReturn(List.of(new ClubMembership(10L, ClubRole.MEMBER)));
+        membershipCache.clubIdsOf(1L);
+        membershipCache.clubIdsOf(2L);
+
+        // when
+        membershipCache.evictClub(10L);
+
+        // then
+        assertThat(membershipCache.clubIdsOf(1L)).containsExactly(20L);
+        assertThat(membershipCache.clubIdsOf(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 중 변경 - 커밋 이후에만 반영")
+    void join_AppliedAfterCommit() {
+        // given
+        Long userId = 1L;
+        given(clubJoinRepository.findMembershipsByUserIdAndStatus(userId, ClubJoinStatus.ACTIVE))
+                .willReturn(List.of(new ClubMembership(10L, ClubRole.MEMBER)));
+        membershipCache.clubIdsOf(userId);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        membershipCache.join(userId, 10L, ClubRole.MANAGER);
+
+        // then
+        assertThat(membershipCache.roleOf(userId, 10L)).contains(ClubRole.MEMBER);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(membershipCache.roleOf(userId, 10L)).contains(ClubRole.MANAGER);
+    }
+}
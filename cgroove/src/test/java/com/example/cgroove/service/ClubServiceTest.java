@@ -3,15 +3,16 @@ package com.example.cgroove.service;
 import com.example.cgroove.dto.club.ClubCreateRequest;
 import com.example.cgroove.dto.club.ClubResponse;
 import com.example.cgroove.dto.club.ClubUpdateRequest;
+import com.example.cgroove.dto.deletion.DeletionJobResponse;
 import com.example.cgroove.entity.Club;
 import com.example.cgroove.entity.User;
 import com.example.cgroove.enums.ClubJoinStatus;
 import com.example.cgroove.enums.ClubRole;
 import com.example.cgroove.enums.ClubType;
+import com.example.cgroove.enums.DeletionTarget;
 import com.example.cgroove.exception.AuthException;
 import com.example.cgroove.repository.ClubRepository;
 import com.example.cgroove.repository.UserRepository;
-import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +21,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -42,17 +44,11 @@ class ClubServiceTest {
     @Mock
     private ClubAuthService clubAuthService;
     @Mock
-    private ClubJoinService clubJoinService;
-    @Mock
-    private EventJoinService eventJoinService;
-    @Mock
-    private PostService postService;
-    @Mock
-    private EventService eventService;
-    @Mock
     private FileStorageService fileStorageService;
     @Mock
-    private EntityManager em;
+    private ClubMembershipCache membershipCache;
+    @Mock
+    private DeletionJobService deletionJobService;
 
     @Test
     @DisplayName("동아리 생성 성공 - 생성자가 리더로 등록됨")
@@ -66,7 +62,6 @@ class ClubServiceTest {
                 .description("Desc")
                 .locationName("Seoul")
                 .clubType(ClubType.CREW)
-                .clubImage(null)
                 .tags(List.of("hiphop"))
                 .build();
 
@@ -81,7 +76,7 @@ class ClubServiceTest {
         given(clubRepository.save(any(Club.class))).willReturn(savedClub);
 
         // when
-        ClubResponse response = clubService.createClub(userId, request);
+        ClubResponse response = clubService.createClub(userId, request, null);
 
         // then
         ArgumentCaptor<Club> clubCaptor = ArgumentCaptor.forClass(Club.class);
@@ -93,6 +88,7 @@ class ClubServiceTest {
         assertThat(capturedClub.getMembers().getFirst().getUser().getUserId()).isEqualTo(userId);
         assertThat(capturedClub.getMembers().getFirst().getRole()).isEqualTo(ClubRole.LEADER);
         assertThat(capturedClub.getMembers().getFirst().getStatus()).isEqualTo(ClubJoinStatus.ACTIVE);
+        verify(membershipCache).join(userId, 10L, ClubRole.LEADER);
     }
 
     @Test
@@ -114,7 +110,6 @@ class ClubServiceTest {
                 .description("Desc")
                 .locationName("Loc")
                 .clubType(ClubType.CLUB)
-                .clubImage(null)
                 .tags(List.of("tag"))
                 .build();
 
@@ -123,7 +118,7 @@ class ClubServiceTest {
         given(clubRepository.save(any(Club.class))).willReturn(club);
 
         // when
-        clubService.updateClub(userId, clubId, request);
+        clubService.updateClub(userId, clubId, request, null);
 
         // then
         verify(fileStorageService, never()).deleteFile(anyString());
@@ -144,7 +139,6 @@ class ClubServiceTest {
                 .description("Desc")
                 .locationName("Loc")
                 .clubType(ClubType.CLUB)
-                .clubImage(null)
                 .tags(null)
                 .build();
 
@@ -152,7 +146,7 @@ class ClubServiceTest {
 
         // when & then
         assertThrows(AuthException.class, () ->
-                clubService.updateClub(userId, clubId, request)
+                clubService.updateClub(userId, clubId, request, null)
         );
     }
 
@@ -177,27 +171,26 @@ class ClubServiceTest {
     }
 
     @Test
-    @DisplayName("동아리 삭제 성공 - 연관 데이터 모두 삭제됨")
+    @DisplayName("동아리 삭제 성공 - 클럽만 바로 삭제하고 연관 데이터 정리 작업 등록")
     void deleteClub_Success() {
         // given
         Long userId = 1L;
         Long clubId = 10L;
         Club club = spy(Club.builder().clubId(clubId).clubImage("image.jpg").build());
+        DeletionJobResponse job = new DeletionJobResponse(5L, "CLUB", clubId, "RUNNING", "CLUB_POSTS", 0L,
+                LocalDateTime.now(), LocalDateTime.now(), null);
 
         doNothing().when(clubAuthService).validateLeaderAuthority(userId, clubId);
         given(clubAuthService.findByClubId(clubId)).willReturn(club);
+        given(deletionJobService.start(DeletionTarget.CLUB, clubId, userId)).willReturn(job);
 
         // when
-        clubService.deleteClub(userId, clubId);
+        DeletionJobResponse response = clubService.deleteClub(userId, clubId);
 
         // then
+        assertThat(response.jobId()).isEqualTo(5L);
         verify(fileStorageService).deleteFile("image.jpg");
-        verify(postService).softDeleteByClubId(clubId);
-        verify(eventService).softDeleteByClubId(clubId);
-        verify(clubJoinService).softDeleteByClubId(clubId);
-        verify(eventJoinService).softDeleteByClubId(clubId);
-
         verify(club).delete();
-        verify(em).flush();
+        verify(membershipCache).evictClub(clubId);
     }
-}
\ No newline at end of file
+}
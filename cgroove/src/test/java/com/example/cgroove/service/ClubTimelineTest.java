@@ -0,0 +1,168 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.dto.post.ClubPostRef;
+import com.example.cgroove.entity.Club;
+import com.example.cgroove.entity.Post;
+import com.example.cgroove.enums.ClubJoinStatus;
+import com.example.cgroove.enums.Scope;
+import com.example.cgroove.repository.ClubJoinRepository;
+import com.example.cgroove.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClubTimelineTest {
+
+    private static final long FAN_OUT_THRESHOLD = 100L;
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private ClubTimeline clubTimeline;
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private ClubJoinRepository clubJoinRepository;
+
+    @BeforeEach
+    void setUp() {
+        clubTimeline = new ClubTimeline(postRepository, clubJoinRepository, FAN_OUT_THRESHOLD);
+    }
+
+    @Test
+    @DisplayName("첫 조회 시 DB 에서 타임라인 재구성, 이후 조회는 메모리에서 처리")
+    void recentPostIds_MaterializesOnce() {
+        // given
+        Long userId = 1L;
+        List<Long> clubIds = List.of(10L);
+        given(clubJoinRepository.findClubIdsWithMembersOver(clubIds, ClubJoinStatus.ACTIVE, FAN_OUT_THRESHOLD))
+                .willReturn(List.of());
+        given(postRepository.findClubPostRefs(clubIds, ClubTimeline.TIMELINE_SIZE))
+                .willReturn(List.of(ref(2L, 10L, 2), ref(1L, 10L, 1)));
+
+        // when
+        List<Long> first = clubTimeline.recentPostIds(userId, clubIds, 10);
+        List<Long> second = clubTimeline.recentPostIds(userId, clubIds, 10);
+
+        // then
+        assertThat(first).containsExactly(2L, 1L);
+        assertThat(second).containsExactly(2L, 1L);
+        verify(postRepository, times(1)).findClubPostRefs(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("새 클럽 글 작성 시 멤버 타임라인 앞에 추가")
+    void publish_FansOutToMembers() {
+        // given
+        Long userId = 1L;
+        List<Long> clubIds = List.of(10L);
+        given(clubJoinRepository.findClubIdsWithMembersOver(clubIds, ClubJoinStatus.ACTIVE, FAN_OUT_THRESHOLD))
+                .willReturn(List.of());
+        given(postRepository.findClubPostRefs(clubIds, ClubTimeline.TIMELINE_SIZE))
+                .willReturn(List.of(ref(1L, 10L, 1)));
+        clubTimeline.recentPostIds(userId, clubIds, 10);
+
+        given(clubJoinRepository.countByClub_ClubIdAndStatus(10L, ClubJoinStatus.ACTIVE)).willReturn(2L);
+        given(clubJoinRepository.findUserIdsByClubIdAndStatus(10L, ClubJoinStatus.ACTIVE)).willReturn(List.of(userId, 2L));
+
+        // when
+        clubTimeline.publish(clubPost(5L, 10L, 5));
+
+        // then
+        assertThat(clubTimeline.recentPostIds(userId, clubIds, 10)).containsExactly(5L, 1L);
+    }
+
+    @Test
+    @DisplayName("대형 클럽 글은 배포하지 않고 조회 시 직접 병합")
+    void publish_LargeClub_MergedOnRead() {
+        // given
+        Long userId = 1L;
+        List<Long> clubIds = List.of(10L, 20L);
+        given(clubJoinRepository.findClubIdsWithMembersOver(clubIds, ClubJoinStatus.ACTIVE, FAN_OUT_THRESHOLD))
+                .willReturn(List.of(20L));
+        given(postRepository.findClubPostRefs(List.of(10L), ClubTimeline.TIMELINE_SIZE))
+                .willReturn(List.of(ref(3L, 10L, 3), ref(1L, 10L, 1)));
+        given(postRepository.findClubPostRefs(List.of(20L), 10))
+                .willReturn(List.of(ref(4L, 20L, 4), ref(2L, 20L, 2)));
+
+        // when
+        List<Long> postIds = clubTimeline.recentPostIds(userId, clubIds, 10);
+
+        // then
+        assertThat(postIds).containsExactly(4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("멤버 수가 기준을 넘으면 작성 시 배포 생략")
+    void publish_SkipsFanOutOverThreshold() {
+        // given
+        given(clubJoinRepository.countByClub_ClubIdAndStatus(20L, ClubJoinStatus.ACTIVE))
+                .willReturn(FAN_OUT_THRESHOLD + 1);
+
+        // when
+        clubTimeline.publish(clubPost(5L, 20L, 5));
+
+        // then
+        verify(clubJoinRepository, never()).findUserIdsByClubIdAndStatus(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("전체 공개 글은 타임라인에 배포하지 않음")
+    void publish_IgnoresGlobalPost() {
+        // given
+        Post post = Post.builder().postId(5L).scope(Scope.GLOBAL).build();
+
+        // when
+        clubTimeline.publish(post);
+
+        // then
+        verifyNoInteractions(clubJoinRepository);
+    }
+
+    @Test
+    @DisplayName("클럽 탈퇴 / 글 삭제 시 타임라인에서 제거")
+    void removeClubAndPost() {
+        // given
+        Long userId = 1L;
+        List<Long> clubIds = List.of(10L, 20L);
+        given(clubJoinRepository.findClubIdsWithMembersOver(clubIds, ClubJoinStatus.ACTIVE, FAN_OUT_THRESHOLD))
+                .willReturn(List.of());
+        given(postRepository.findClubPostRefs(clubIds, ClubTimeline.TIMELINE_SIZE))
+                .willReturn(List.of(ref(3L, 20L, 3), ref(2L, 10L, 2), ref(1L, 10L, 1)));
+        clubTimeline.recentPostIds(userId, clubIds, 10);
+
+        // when
+        clubTimeline.removeClub(userId, 20L);
+        clubTimeline.removePost(1L);
+
+        // then
+        assertThat(clubTimeline.recentPostIds(userId, List.of(10L), 10)).containsExactly(2L);
+    }
+
+    private ClubPostRef ref(Long postId, Long clubId, int minutes) {
+        return new ClubPostRef(postId, clubId, BASE.plusMinutes(minutes));
+    }
+
+    private Post clubPost(Long postId, Long clubId, int minutes) {
+        Post post = Post.builder()
+                .postId(postId)
+                .scope(Scope.CLUB)
+                .club(Club.builder().clubId(clubId).build())
+                .build();
+        ReflectionTestUtils.setField(post, "createdAt", BASE.plusMinutes(minutes));
+        return post;
+    }
+}
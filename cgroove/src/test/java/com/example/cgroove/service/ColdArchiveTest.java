@@ -0,0 +1,183 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.config.JpaConfig;
+import com.example.cgroove.config.QueryDslConfig;
+import com.example.cgroove.entity.Comment;
+import com.example.cgroove.entity.Event;
+import com.example.cgroove.entity.EventJoin;
+import com.example.cgroove.entity.Post;
+import com.example.cgroove.entity.PostLike;
+import com.example.cgroove.entity.User;
+import com.example.cgroove.enums.EventJoinStatus;
+import com.example.cgroove.enums.EventType;
+import com.example.cgroove.enums.Scope;
+import com.example.cgroove.exception.InvalidRequestException;
+import com.example.cgroove.exception.NotFoundException;
+import com.example.cgroove.repository.CommentRepository;
+import com.example.cgroove.repository.EventJoinRepository;
+import com.example.cgroove.repository.EventRepository;
+import com.example.cgroove.repository.PostLikeRepository;
+import com.example.cgroove.repository.PostRepository;
+import com.example.cgroove.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest
+@Import({QueryDslConfig.class, JpaConfig.class})
+class ColdArchiveTest {
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private EntityManager em;
+    @Autowired private UserRepository userRepository;
+    @Autowired private PostRepository postRepository;
+    @Autowired private PostLikeRepository postLikeRepository;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private EventJoinRepository eventJoinRepository;
+
+    private ColdArchive coldArchive;
+    private User user;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        coldArchive = new ColdArchive(jdbcTemplate);
+        user = userRepository.save(new User("archive@test.com", "pw", "Archiver", null));
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글 보관 - 태그/이미지/좋아요/댓글까지 함께 옮기고 살아있는 글은 유지")
+    void archiveBatch_DeletedPost() {
+        // given
+        Post deleted = postRepository.save(Post.builder().author(user).title("Deleted").scope(Scope.GLOBAL).content("D")
+                .tags(List.of("hiphop", "battle")).images(List.of("/uploads/posts/a.jpg")).build());
+        postLikeRepository.save(PostLike.builder().post(deleted).user(user).build());
+        commentRepository.save(Comment.builder().user(user).post(deleted).content("댓글").build());
+        deleted.delete();
+        Post live = postRepository.save(Post.builder().author(user).title("Live").scope(Scope.GLOBAL).content("L").build());
+        em.flush();
+
+        // when
+        ColdArchive.Batch batch = coldArchive.archiveBatch(ColdArchive.Kind.POST, 0, now.plusMinutes(1), now, 10);
+
+        // then
+        assertThat(batch.archived()).isEqualTo(1);
+        assertThat(batch.lastId()).isEqualTo(deleted.getPostId());
+        assertThat(count("SELECT count(*) FROM posts WHERE post_id = ?", deleted.getPostId())).isZero();
+        assertThat(count("SELECT count(*) FROM posts WHERE post_id = ?", live.getPostId())).isEqualTo(1);
+        assertThat(count("SELECT count(*) FROM posts_archive WHERE post_id = ? AND archived_at IS NOT NULL", deleted.getPostId())).isEqualTo(1);
+        assertThat(count("SELECT count(*) FROM post_tags_archive WHERE post_id = ?", deleted.getPostId())).isEqualTo(2);
+        assertThat(count("SELECT count(*) FROM post_images_archive WHERE post_id = ?", deleted.getPostId())).isEqualTo(1);
+        assertThat(count("SELECT count(*) FROM post_likes_archive WHERE post_id = ?", deleted.getPostId())).isEqualTo(1);
+        assertThat(count("SELECT count(*) FROM comments_archive WHERE post_id = ?", deleted.getPostId())).isEqualTo(1);
+        assertThat(count("SELECT count(*) FROM post_tags WHERE post_id = ?", deleted.getPostId())).isZero();
+    }
+
+    @Test
+    @DisplayName("유예 기간 안에 삭제된 게시글 - 보관하지 않음")
+    void archiveBatch_WithinGracePeriod() {
+        // given
+        Post deleted = postRepository.save(Post.builder().author(user).title("Recent").scope(Scope.GLOBAL).content("R").build());
+        deleted.delete();
+        em.flush();
+
+        // when
+        ColdArchive.Batch batch = coldArchive.archiveBatch(ColdArchive.Kind.POST, 0, now.minusDays(30), now, 10);
+
+        // then
+        assertThat(batch.archived()).isZero();
+        assertThat(count("SELECT count(*) FROM posts WHERE post_id = ?", deleted.getPostId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보관된 게시글 복원 - 원래 ID 로 태그/좋아요/댓글과 함께 되돌림")
+    void restore_Post() {
+        // given
+        Post deleted = postRepository.save(Post.builder().author(user).title("Restore").scope(Scope.GLOBAL).content("R")
+                .tags(List.of("popping")).build());
+        postLikeRepository.save(PostLike.builder().post(deleted).user(user).build());
+        commentRepository.save(Comment.builder().user(user).post(deleted).content("댓글").build());
+        deleted.delete();
+        em.flush();
+        coldArchive.archiveBatch(ColdArchive.Kind.POST, 0, now.plusMinutes(1), now, 10);
+
+        // when
+        coldArchive.restore(ColdArchive.Kind.POST, deleted.getPostId());
+
+        // then
+        assertThat(count("SELECT count(*) FROM posts WHERE post_id = ? AND title = 'Restore'", deleted.getPostId())).isEqualTo(1);
+        assertThat(count("SELECT count(*) FROM post_tags WHERE post_id = ?", deleted.getPostId())).isEqualTo(1);
+        assertThat(count("SELECT count(*) FROM post_likes WHERE post_id = ?", deleted.getPostId())).isEqualTo(1);
+        assertThat(count("SELECT count(*) FROM comments WHERE post_id = ?", deleted.getPostId())).isEqualTo(1);
+        assertThat(count("SELECT count(*) FROM posts_archive WHERE post_id = ?", deleted.getPostId())).isZero();
+        assertThat(count("SELECT count(*) FROM comments_archive WHERE post_id = ?", deleted.getPostId())).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 후 보관 기간이 지난 행사 - 신청 내역과 함께 보관하고 다가오는 행사는 유지")
+    void archiveBatch_EndedEvent() {
+        // given
+        Event ended = saveEvent();
+        Event upcoming = saveEvent();
+        eventJoinRepository.save(EventJoin.builder().event(ended).participant(user).status(EventJoinStatus.CONFIRMED).build());
+        em.flush();
+        jdbcTemplate.update("UPDATE events SET starts_at = ?, ends_at = ? WHERE event_id = ?",
+                Timestamp.valueOf(now.minusDays(400)), Timestamp.valueOf(now.minusDays(399)), ended.getEventId());
+
+        // when
+        ColdArchive.Batch batch = coldArchive.archiveBatch(ColdArchive.Kind.EVENT, 0, now.minusDays(30), now.minusDays(365), 10);
+
+        // then
+        assertThat(batch.archived()).isEqualTo(1);
+        assertThat(count("SELECT count(*) FROM events_archive WHERE event_id = ?", ended.getEventId())).isEqualTo(1);
+        assertThat(count("SELECT count(*) FROM event_joins_archive WHERE event_id = ?", ended.getEventId())).isEqualTo(1);
+        assertThat(count("SELECT count(*) FROM event_joins WHERE event_id = ?", ended.getEventId())).isZero();
+        assertThat(count("SELECT count(*) FROM events WHERE event_id = ?", upcoming.getEventId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제된 댓글만 따로 보관 - 댓글 단독 복원은 불가, 없는 대상 복원은 예외")
+    void archiveBatch_DeletedComment() {
+        // given
+        Post post = postRepository.save(Post.builder().author(user).title("Post").scope(Scope.GLOBAL).content("P").build());
+        Comment deleted = commentRepository.save(Comment.builder().user(user).post(post).content("삭제").build());
+        Comment live = commentRepository.save(Comment.builder().user(user).post(post).content("유지").build());
+        deleted.delete();
+        em.flush();
+
+        // when
+        ColdArchive.Batch batch = coldArchive.archiveBatch(ColdArchive.Kind.COMMENT, 0, now.plusMinutes(1), now, 10);
+
+        // then
+        assertThat(batch.archived()).isEqualTo(1);
+        assertThat(count("SELECT count(*) FROM comments WHERE comment_id = ?", live.getCommentId())).isEqualTo(1);
+        assertThat(count("SELECT count(*) FROM comments_archive WHERE comment_id = ?", deleted.getCommentId())).isEqualTo(1);
+        assertThrows(InvalidRequestException.class, () -> coldArchive.restore(ColdArchive.Kind.COMMENT, deleted.getCommentId()));
+        assertThrows(NotFoundException.class, () -> coldArchive.restore(ColdArchive.Kind.POST, 9999L));
+    }
+
+    private Event saveEvent() {
+        return eventRepository.save(Event.builder()
+                .host(user).title("Event").content("C").scope(Scope.GLOBAL).type(EventType.JAM)
+                .capacity(10L).startsAt(now.plusDays(1)).endsAt(now.plusDays(2))
+                .build());
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+}
@@ -44,6 +44,8 @@ class CommentServiceTest {
     private PostRepository postRepository;
     @Mock
     private EventRepository eventRepository;
+    @Mock
+    private HotPostRanking hotPostRanking;
 
     @Test
     @DisplayName("댓글 생성 성공 - 게시글")
@@ -0,0 +1,68 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.repository.EventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ConfirmedCountRepairJobTest {
+
+    @InjectMocks
+    private ConfirmedCountRepairJob repairJob;
+
+    @Mock
+    private EventRepository eventRepository;
+    @Mock
+    private EventCapacityLedger capacityLedger;
+
+    @Test
+    @DisplayName("서버 기동 - 카운터 보정 후 장부 적재")
+    void repairAndWarmUp_RebuildsBeforeWarmUp() {
+        // given
+        given(eventRepository.rebuildConfirmedCounts()).willReturn(3);
+
+        // when
+        repairJob.repairAndWarmUp();
+
+        // then
+        InOrder inOrder = inOrder(eventRepository, capacityLedger);
+        inOrder.verify(eventRepository).rebuildConfirmedCounts();
+        inOrder.verify(capacityLedger).warmUp();
+    }
+
+    @Test
+    @DisplayName("서버 기동 - 보정할 카운터가 없어도 장부 적재")
+    void repairAndWarmUp_NothingToRepair_StillWarmsUp() {
+        // given
+        given(eventRepository.rebuildConfirmedCounts()).willReturn(0);
+
+        // when
+        repairJob.repairAndWarmUp();
+
+        // then
+        verify(capacityLedger).warmUp();
+    }
+
+    @Test
+    @DisplayName("정기 보정 - 어긋난 카운터가 없으면 장부 유지")
+    void repair_NothingToRepair_KeepsLedger() {
+        // given
+        given(eventRepository.rebuildConfirmedCounts()).willReturn(0);
+
+        // when
+        repairJob.repair();
+
+        // then
+        verify(capacityLedger, never()).warmUp();
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.dto.eventJoin.AdmissionTicketResponse;
+import com.example.cgroove.dto.eventJoin.EventJoinResponse;
+import com.example.cgroove.enums.AdmissionStatus;
+import com.example.cgroove.exception.AccessDeniedException;
+import com.example.cgroove.exception.ConflictException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EventAdmissionQueueTest {
+
+    @Mock
+    private EventJoinService eventJoinService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EventAdmissionQueue admissionQueue;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        admissionQueue = new EventAdmissionQueue(eventJoinService, meterRegistry, 10, 4, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        admissionQueue.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기열 등록 - 순번 발급 및 중복 등록 시 기존 토큰 반환")
+    void enqueue_IssuesPositionAndDeduplicates() {
+        // given
+        Long eventId = 100L;
+
+        // when
+        AdmissionTicketResponse first = admissionQueue.enqueue(1L, eventId);
+        AdmissionTicketResponse second = admissionQueue.enqueue(2L, eventId);
+        AdmissionTicketResponse duplicate = admissionQueue.enqueue(1L, eventId);
+
+        // then
+        assertThat(first.position()).isEqualTo(1L);
+        assertThat(second.position()).isEqualTo(2L);
+        assertThat(duplicate.token()).isEqualTo(first.token());
+        assertThat(meterRegistry.get("event.admission.queue.depth").gauge().value()).isEqualTo(2.0);
+        verify(eventJoinService, never()).applyEvent(1L, eventId);
+    }
+
+    @Test
+    @DisplayName("대기열 처리 - 틱당 처리량만큼 신청 후 결과 반영")
+    void drain_AdmitsAtConfiguredRate() throws InterruptedException {
+        // given
+        Long eventId = 100L;
+        EventJoinResponse joined = new EventJoinResponse(
+                1L, 1L, "Dancer", "test@email.com", null, eventId, "CONFIRMED", LocalDateTime.now(), null);
+        given(eventJoinService.applyEvent(1L, eventId)).willReturn(joined);
+
+        AdmissionTicketResponse first = admissionQueue.enqueue(1L, eventId);
+        AdmissionTicketResponse second = admissionQueue.enqueue(2L, eventId);
+
+        // when
+        admissionQueue.drain();
+
+        // then
+        AdmissionTicketResponse result = awaitCompletion(1L, eventId, first.token());
+        assertThat(result.status()).isEqualTo(AdmissionStatus.ADMITTED.name());
+        assertThat(result.result().eventJoinId()).isEqualTo(1L);
+        assertThat(admissionQueue.getTicket(2L, eventId, second.token()).position()).isEqualTo(1L);
+        assertThat(meterRegistry.get("event.admission.drained").tag("result", "admitted").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("대기열 처리 - 정원 마감으로 대기자 명단에 등록되면 대기자 등록 상태로 반영")
+    void drain_WaitlistedWhenFull() throws InterruptedException {
+        // given
+        Long eventId = 100L;
+        EventJoinResponse waitlisted = new EventJoinResponse(
+                1L, 1L, "Dancer", "test@email.com", null, eventId, "WAITLISTED", LocalDateTime.now(), 3L);
+        given(eventJoinService.applyEvent(1L, eventId)).willReturn(waitlisted);
+        AdmissionTicketResponse ticket = admissionQueue.enqueue(1L, eventId);
+
+        // when
+        admissionQueue.drain();
+
+        // then
+        AdmissionTicketResponse result = awaitCompletion(1L, eventId, ticket.token());
+        assertThat(result.status()).isEqualTo(AdmissionStatus.WAITLISTED.name());
+        assertThat(result.result().waitlistPosition()).isEqualTo(3L);
+        assertThat(meterRegistry.get("event.admission.drained").tag("result", "waitlisted").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("대기열 처리 - 마감 시 실패 사유 반영")
+    void drain_RejectedWhenFull() throws InterruptedException {
+        // given
+        Long eventId = 100L;
+        given(eventJoinService.applyEvent(1L, eventId)).willThrow(new ConflictException("선착순 마감되었습니다."));
+        AdmissionTicketResponse ticket = admissionQueue.enqueue(1L, eventId);
+
+        // when
+        admissionQueue.drain();
+
+        // then
+        AdmissionTicketResponse result = awaitCompletion(1L, eventId, ticket.token());
+        assertThat(result.status()).isEqualTo(AdmissionStatus.REJECTED.name());
+        assertThat(result.message()).isEqualTo("선착순 마감되었습니다.");
+    }
+
+    @Test
+    @DisplayName("대기열 처리 - 처리 한도가 찬 틱 이후에는 차례를 받지 못한 행사부터 처리")
+    void drain_RotatesAcrossEvents() throws InterruptedException {
+        // given
+        admissionQueue.shutdown();
+        meterRegistry = new SimpleMeterRegistry();
+        admissionQueue = new EventAdmissionQueue(eventJoinService, meterRegistry, 10, 1, 100);
+        List<Long> admittedUsers = Collections.synchronizedList(new ArrayList<>());
+        given(eventJoinService.applyEvent(anyLong(), anyLong())).willAnswer(invocation -> {
+            Long userId = invocation.getArgument(0);
+            admittedUsers.add(userId);
+            return new EventJoinResponse(userId, userId, "Dancer", "test@email.com", null,
+                    invocation.getArgument(1), "CONFIRMED", LocalDateTime.now(), null);
+        });
+
+        admissionQueue.enqueue(1L, 100L);
+        admissionQueue.enqueue(2L, 100L);
+        admissionQueue.enqueue(3L, 200L);
+
+        // when
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (admittedUsers.size() < 3 && System.currentTimeMillis() < deadline) {
+            admissionQueue.drain();
+            Thread.sleep(5);
+        }
+
+        // then
+        assertThat(admittedUsers).hasSize(3);
+        assertThat(admittedUsers.indexOf(3L)).isLessThan(2);
+    }
+
+    @Test
+    @DisplayName("대기열 등록 실패 - 행사별 대기 인원 한도 초과")
+    void enqueue_Fail_LineFull() {
+        // given
+        admissionQueue.shutdown();
+        meterRegistry = new SimpleMeterRegistry();
+        admissionQueue = new EventAdmissionQueue(eventJoinService, meterRegistry, 10, 4, 2);
+        admissionQueue.enqueue(1L, 100L);
+        admissionQueue.enqueue(2L, 100L);
+
+        // when & then
+        assertThrows(ConflictException.class, () -> admissionQueue.enqueue(3L, 100L));
+        assertThat(admissionQueue.enqueue(3L, 200L).position()).isEqualTo(1L);
+        assertThat(meterRegistry.get("event.admission.queue.depth").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("대기 상태 조회 실패 - 다른 사용자의 토큰")
+    void getTicket_Fail_NotOwner() {
+        // given
+        AdmissionTicketResponse ticket = admissionQueue.enqueue(1L, 100L);
+
+        // when & then
+        assertThrows(AccessDeniedException.class, () -> admissionQueue.getTicket(2L, 100L, ticket.token()));
+    }
+
+    private AdmissionTicketResponse awaitCompletion(Long userId, Long eventId, String token) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            AdmissionTicketResponse response = admissionQueue.getTicket(userId, eventId, token);
+            if (!response.status().equals(AdmissionStatus.WAITING.name())
+                    && !response.status().equals(AdmissionStatus.PROCESSING.name())) {
+                return response;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("대기열 처리 시간 초과");
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.entity.Event;
+import com.example.cgroove.repository.EventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class EventCapacityLedgerTest {
+
+    @InjectMocks
+    private EventCapacityLedger capacityLedger;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Test
+    @DisplayName("동시 신청 수천 건 - 정원을 초과해 좌석이 배정되지 않음")
+    void tryReserve_Concurrent_NoOverbooking() throws InterruptedException {
+        // given
+        Long eventId = 100L;
+        long capacity = 50L;
+        int applicants = 5000;
+        Event event = Event.builder().eventId(eventId).capacity(capacity).confirmedCount(0L).build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(applicants);
+        AtomicInteger admitted = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < applicants; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    if (capacityLedger.tryReserve(event)) {
+                        admitted.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // then
+        assertThat((long) admitted.get()).isEqualTo(capacity);
+        assertThat(capacityLedger.remainingSeats(eventId)).isZero();
+    }
+
+    @Test
+    @DisplayName("동시 신청/취소 혼합 - 확정 인원이 정원을 넘지 않음")
+    void tryReserve_ConcurrentWithRelease_NoOverbooking() throws InterruptedException {
+        // given
+        Long eventId = 200L;
+        long capacity = 30L;
+        int applicants = 4000;
+        Event event = Event.builder().eventId(eventId).capacity(capacity).confirmedCount(10L).build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(applicants);
+        AtomicInteger confirmed = new AtomicInteger(10);
+        AtomicInteger maxConfirmed = new AtomicInteger(10);
+
+        // when
+        for (int i = 0; i < applicants; i++) {
+            boolean cancelAfterJoin = i % 3 == 0;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    if (capacityLedger.tryReserve(event)) {
+                        int current = confirmed.incrementAndGet();
+                        maxConfirmed.accumulateAndGet(current, Math::max);
+                        if (cancelAfterJoin) {
+                            confirmed.decrementAndGet();
+                            capacityLedger.release(eventId);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // then
+        assertThat(maxConfirmed.get()).isLessThanOrEqualTo((int) capacity);
+        assertThat((long) confirmed.get()).isEqualTo(capacity - capacityLedger.remainingSeats(eventId));
+    }
+
+    @Test
+    @DisplayName("정원 증가 후 재동기화 - 늘어난 좌석만큼 추가 신청 가능")
+    void reconcile_CapacityIncreased() {
+        // given
+        Long eventId = 300L;
+        Event event = Event.builder().eventId(eventId).capacity(2L).confirmedCount(2L).build();
+        assertThat(capacityLedger.tryReserve(event)).isFalse();
+
+        Event updated = Event.builder().eventId(eventId).capacity(3L).confirmedCount(2L).build();
+        given(eventRepository.findById(eventId)).willReturn(Optional.of(updated));
+
+        // when
+        capacityLedger.reconcile(eventId);
+
+        // then
+        assertThat(capacityLedger.tryReserve(event)).isTrue();
+        assertThat(capacityLedger.tryReserve(event)).isFalse();
+    }
+
+    @Test
+    @DisplayName("DB 에서 마감 확인 시 장부도 마감 처리")
+    void exhaust_MarksLedgerFull() {
+        // given
+        Long eventId = 350L;
+        Event event = Event.builder().eventId(eventId).capacity(5L).confirmedCount(1L).build();
+        assertThat(capacityLedger.tryReserve(event)).isTrue();
+
+        // when
+        capacityLedger.exhaust(eventId);
+
+        // then
+        assertThat(capacityLedger.remainingSeats(eventId)).isZero();
+        assertThat(capacityLedger.tryReserve(event)).isFalse();
+    }
+
+    @Test
+    @DisplayName("서버 기동 시 다가오는 행사 좌석 현황 적재")
+    void warmUp_SeedsUpcomingEvents() {
+        // given
+        Event event = Event.builder().eventId(400L).capacity(10L).confirmedCount(7L).build();
+        given(eventRepository.findByStartsAtAfter(any(LocalDateTime.class))).willReturn(List.of(event));
+
+        // when
+        capacityLedger.warmUp();
+
+        // then
+        assertThat(capacityLedger.remainingSeats(400L)).isEqualTo(3L);
+    }
+}
@@ -18,6 +18,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,7 +26,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -41,6 +44,8 @@ class EventJoinServiceTest {
     private EventRepository eventRepository;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private EventCapacityLedger capacityLedger;
 
     @Test
     @DisplayName("행사 신청 성공 - 신규 신청")
@@ -53,10 +58,10 @@ class EventJoinServiceTest {
 
         given(eventJoinRepository.findByParticipant_UserIdAndEvent_EventId(userId, eventId))
                 .willReturn(Optional.empty());
-        given(eventRepository.findWithLockByEventId(eventId))
+        given(eventRepository.findById(eventId))
                 .willReturn(Optional.of(event));
-        given(eventJoinRepository.countByEvent_EventIdAndStatus(eventId, EventJoinStatus.CONFIRMED))
-                .willReturn(10L);
+        given(capacityLedger.tryReserve(event)).willReturn(true);
+        given(eventRepository.increaseConfirmedCount(eventId)).willReturn(1);
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
 
         EventJoin savedJoin = EventJoin.builder().participant(user).event(event).status(EventJoinStatus.CONFIRMED).build();
@@ -83,10 +88,10 @@ class EventJoinServiceTest {
 
         given(eventJoinRepository.findByParticipant_UserIdAndEvent_EventId(userId, eventId))
                 .willReturn(Optional.of(existingJoin));
-        given(eventRepository.findWithLockByEventId(eventId))
+        given(eventRepository.findById(eventId))
                 .willReturn(Optional.of(event));
-        given(eventJoinRepository.countByEvent_EventIdAndStatus(eventId, EventJoinStatus.CONFIRMED))
-                .willReturn(10L);
+        given(capacityLedger.tryReserve(event)).willReturn(true);
+        given(eventRepository.increaseConfirmedCount(eventId)).willReturn(1);
 
         // when
         EventJoinResponse response = eventJoinService.applyEvent(userId, eventId);
@@ -110,10 +115,10 @@ class EventJoinServiceTest {
 
         given(eventJoinRepository.findByParticipant_UserIdAndEvent_EventId(userId, eventId))
                 .willReturn(Optional.of(existingJoin));
-        given(eventRepository.findWithLockByEventId(eventId))
+        given(eventRepository.findById(eventId))
                 .willReturn(Optional.of(event));
-        given(eventJoinRepository.countByEvent_EventIdAndStatus(eventId, EventJoinStatus.CONFIRMED))
-                .willReturn(10L);
+        given(capacityLedger.tryReserve(event)).willReturn(true);
+        given(eventRepository.increaseConfirmedCount(eventId)).willReturn(1);
 
         // when
         EventJoinResponse response = eventJoinService.applyEvent(userId, eventId);
@@ -140,19 +145,101 @@ class EventJoinServiceTest {
     }
 
     @Test
-    @DisplayName("행사 신청 실패 - 정원 초과")
-    void applyEvent_Fail_FullCapacity() {
+    @DisplayName("행사 신청 - 정원 마감 시 대기자 명단 등록")
+    void applyEvent_Waitlisted_FullCapacity() {
+        // given
+        Long userId = 1L;
+        Long eventId = 100L;
+        User user = User.builder().userId(userId).build();
+        Event event = Event.builder().eventId(eventId).capacity(50L).build();
+
+        given(eventJoinRepository.findByParticipant_UserIdAndEvent_EventId(userId, eventId))
+                .willReturn(Optional.empty());
+        given(eventRepository.findById(eventId))
+                .willReturn(Optional.of(event));
+        given(capacityLedger.tryReserve(event)).willReturn(false);
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(eventJoinRepository.save(any(EventJoin.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(eventJoinRepository.countWaitlistAhead(eq(eventId), eq(EventJoinStatus.WAITLISTED), any(), any()))
+                .willReturn(2L);
+
+        // when
+        EventJoinResponse response = eventJoinService.applyEvent(userId, eventId);
+
+        // then
+        assertThat(response.status()).isEqualTo(EventJoinStatus.WAITLISTED.name());
+        assertThat(response.waitlistPosition()).isEqualTo(3L);
+        verify(eventRepository, never()).increaseConfirmedCount(eventId);
+    }
+
+    @Test
+    @DisplayName("행사 신청 - DB 조건부 증가에서 마감 확인 시 대기자 명단 등록")
+    void applyEvent_Waitlisted_FullCapacityInDatabase() {
+        // given
+        Long userId = 1L;
+        Long eventId = 100L;
+        User user = User.builder().userId(userId).build();
+        Event event = Event.builder().eventId(eventId).capacity(50L).build();
+
+        given(eventJoinRepository.findByParticipant_UserIdAndEvent_EventId(userId, eventId))
+                .willReturn(Optional.empty());
+        given(eventRepository.findById(eventId))
+                .willReturn(Optional.of(event));
+        given(capacityLedger.tryReserve(event)).willReturn(true);
+        given(eventRepository.increaseConfirmedCount(eventId)).willReturn(0);
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(eventJoinRepository.save(any(EventJoin.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        EventJoinResponse response = eventJoinService.applyEvent(userId, eventId);
+
+        // then
+        assertThat(response.status()).isEqualTo(EventJoinStatus.WAITLISTED.name());
+        assertThat(response.waitlistPosition()).isEqualTo(1L);
+        verify(capacityLedger).exhaust(eventId);
+    }
+
+    @Test
+    @DisplayName("행사 신청 - 빈 좌석이 있어도 대기자가 있으면 맨 앞 대기자 승격 후 대기자 명단 등록")
+    void applyEvent_Waitlisted_SeatGoesToWaitlistHead() {
         // given
         Long userId = 1L;
         Long eventId = 100L;
+        User user = User.builder().userId(userId).build();
         Event event = Event.builder().eventId(eventId).capacity(50L).build();
+        EventJoin waiting = EventJoin.builder().status(EventJoinStatus.WAITLISTED).waitlistedAt(LocalDateTime.now()).build();
 
         given(eventJoinRepository.findByParticipant_UserIdAndEvent_EventId(userId, eventId))
                 .willReturn(Optional.empty());
-        given(eventRepository.findWithLockByEventId(eventId))
+        given(eventRepository.findById(eventId))
                 .willReturn(Optional.of(event));
-        given(eventJoinRepository.countByEvent_EventIdAndStatus(eventId, EventJoinStatus.CONFIRMED))
-                .willReturn(50L);
+        given(capacityLedger.tryReserve(event)).willReturn(true);
+        given(eventRepository.increaseConfirmedCount(eventId)).willReturn(1);
+        given(eventJoinRepository.existsByEvent_EventIdAndStatus(eventId, EventJoinStatus.WAITLISTED)).willReturn(true);
+        given(eventJoinRepository.findFirstByEvent_EventIdAndStatusOrderByWaitlistedAtAscEventJoinIdAsc(eventId, EventJoinStatus.WAITLISTED))
+                .willReturn(Optional.of(waiting));
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(eventJoinRepository.save(any(EventJoin.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        EventJoinResponse response = eventJoinService.applyEvent(userId, eventId);
+
+        // then
+        assertThat(waiting.getStatus()).isEqualTo(EventJoinStatus.CONFIRMED);
+        assertThat(response.status()).isEqualTo(EventJoinStatus.WAITLISTED.name());
+        verify(eventRepository, times(1)).increaseConfirmedCount(eventId);
+    }
+
+    @Test
+    @DisplayName("행사 신청 실패 - 이미 대기 중")
+    void applyEvent_Fail_AlreadyWaitlisted() {
+        // given
+        Long userId = 1L;
+        Long eventId = 100L;
+        EventJoin existingJoin = EventJoin.builder().status(EventJoinStatus.WAITLISTED).build();
+
+        given(eventJoinRepository.findByParticipant_UserIdAndEvent_EventId(userId, eventId))
+                .willReturn(Optional.of(existingJoin));
 
         // when & then
         assertThrows(ConflictException.class, () -> eventJoinService.applyEvent(userId, eventId));
@@ -174,6 +261,73 @@ class EventJoinServiceTest {
 
         // then
         assertThat(join.getStatus()).isEqualTo(EventJoinStatus.CANCELED);
+        verify(eventRepository).decreaseConfirmedCount(eventId);
+        verify(capacityLedger).release(eventId);
+    }
+
+    @Test
+    @DisplayName("신청 취소 성공 - 대기자 명단 맨 앞 신청자 승격")
+    void cancelEventJoin_PromotesWaitlistHead() {
+        // given
+        Long userId = 1L;
+        Long eventId = 100L;
+        EventJoin join = EventJoin.builder().status(EventJoinStatus.CONFIRMED).build();
+        EventJoin waiting = EventJoin.builder().status(EventJoinStatus.WAITLISTED).waitlistedAt(LocalDateTime.now()).build();
+
+        given(eventJoinRepository.findByParticipant_UserIdAndEvent_EventId(userId, eventId))
+                .willReturn(Optional.of(join));
+        given(eventJoinRepository.findFirstByEvent_EventIdAndStatusOrderByWaitlistedAtAscEventJoinIdAsc(eventId, EventJoinStatus.WAITLISTED))
+                .willReturn(Optional.of(waiting));
+
+        // when
+        eventJoinService.cancelEventJoin(userId, eventId);
+
+        // then
+        assertThat(join.getStatus()).isEqualTo(EventJoinStatus.CANCELED);
+        assertThat(waiting.getStatus()).isEqualTo(EventJoinStatus.CONFIRMED);
+        assertThat(waiting.getWaitlistedAt()).isNull();
+        verify(eventRepository, never()).decreaseConfirmedCount(eventId);
+        verify(capacityLedger, never()).release(eventId);
+    }
+
+    @Test
+    @DisplayName("신청 취소 성공 - 대기 중인 신청은 좌석 변동 없이 취소")
+    void cancelEventJoin_Waitlisted() {
+        // given
+        Long userId = 1L;
+        Long eventId = 100L;
+        EventJoin join = EventJoin.builder().status(EventJoinStatus.WAITLISTED).waitlistedAt(LocalDateTime.now()).build();
+
+        given(eventJoinRepository.findByParticipant_UserIdAndEvent_EventId(userId, eventId))
+                .willReturn(Optional.of(join));
+
+        // when
+        eventJoinService.cancelEventJoin(userId, eventId);
+
+        // then
+        assertThat(join.getStatus()).isEqualTo(EventJoinStatus.CANCELED);
+        verify(eventRepository, never()).decreaseConfirmedCount(eventId);
+        verify(capacityLedger, never()).release(eventId);
+    }
+
+    @Test
+    @DisplayName("정원 증가 시 늘어난 좌석만큼 대기자 승격")
+    void fillFromWaitlist_PromotesUntilEmpty() {
+        // given
+        Long eventId = 100L;
+        EventJoin waiting = EventJoin.builder().status(EventJoinStatus.WAITLISTED).waitlistedAt(LocalDateTime.now()).build();
+
+        given(eventRepository.increaseConfirmedCount(eventId)).willReturn(1, 1, 0);
+        given(eventJoinRepository.findFirstByEvent_EventIdAndStatusOrderByWaitlistedAtAscEventJoinIdAsc(eventId, EventJoinStatus.WAITLISTED))
+                .willReturn(Optional.of(waiting), Optional.empty());
+
+        // when
+        eventJoinService.fillFromWaitlist(eventId);
+
+        // then
+        assertThat(waiting.getStatus()).isEqualTo(EventJoinStatus.CONFIRMED);
+        verify(eventRepository, times(2)).increaseConfirmedCount(eventId);
+        verify(eventRepository).decreaseConfirmedCount(eventId);
     }
 
     @Test
@@ -221,6 +375,8 @@ class EventJoinServiceTest {
 
         // then
         assertThat(targetJoin.getStatus()).isEqualTo(EventJoinStatus.REJECTED);
+        verify(eventRepository).decreaseConfirmedCount(eventId);
+        verify(capacityLedger).release(eventId);
     }
 
     @Test
@@ -357,30 +513,4 @@ class EventJoinServiceTest {
                 eventJoinService.getEventUsers(999L)
         );
     }
-
-    @Test
-    @DisplayName("유저 탈퇴 시 신청 내역 취소 처리")
-    void softDeleteByUserId() {
-        // given
-        Long userId = 1L;
-
-        // when
-        eventJoinService.softDeleteByUserId(userId);
-
-        // then
-        verify(eventJoinRepository).softDeleteByUserId(userId, EventJoinStatus.CANCELED);
-    }
-
-    @Test
-    @DisplayName("클럽 삭제 시 관련 행사 신청 내역 취소 처리")
-    void softDeleteByClubId() {
-        // given
-        Long clubId = 10L;
-
-        // when
-        eventJoinService.softDeleteByClubId(clubId);
-
-        // then
-        verify(eventJoinRepository).softDeleteByClubId(clubId, EventJoinStatus.CANCELED);
-    }
 }
\ No newline at end of file
@@ -1,12 +1,6 @@
 package com.example.cgroove.service;
 
 import com.example.cgroove.dto.like.EventlikeResponse;
-import com.example.cgroove.entity.Event;
-import com.example.cgroove.entity.EventLike;
-import com.example.cgroove.entity.User;
-import com.example.cgroove.repository.EventLikeRepository;
-import com.example.cgroove.repository.EventRepository;
-import com.example.cgroove.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,13 +8,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
-
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class EventLikeServiceTest {
@@ -29,11 +18,7 @@ class EventLikeServiceTest {
     private EventLikeService eventLikeService;
 
     @Mock
-    private EventRepository eventRepository;
-    @Mock
-    private EventLikeRepository eventLikeRepository;
-    @Mock
-    private UserRepository userRepository;
+    private LikeEngine likeEngine;
 
     @Test
     @DisplayName("좋아요 추가 성공")
@@ -41,12 +26,8 @@ class EventLikeServiceTest {
         // given
         Long userId = 1L;
         Long eventId = 100L;
-        User user = User.builder().userId(userId).build();
-        Event event = Event.builder().eventId(eventId).likeCount(0L).build();
-
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(eventRepository.findById(eventId)).willReturn(Optional.of(event));
-        given(eventLikeRepository.findByEventAndUser(event, user)).willReturn(Optional.empty());
+        given(likeEngine.toggle(LikeEngine.Target.EVENT, eventId, userId))
+                .willReturn(new LikeEngine.Result(true, true, 1L));
 
         // when
         EventlikeResponse response = eventLikeService.toggleLike(userId, eventId);
@@ -54,7 +35,6 @@ class EventLikeServiceTest {
         // then
         assertThat(response.isLiked()).isTrue();
         assertThat(response.likeCount()).isEqualTo(1L);
-        verify(eventLikeRepository, times(1)).save(any(EventLike.class));
     }
 
     @Test
@@ -63,13 +43,8 @@ class EventLikeServiceTest {
         // given
         Long userId = 1L;
         Long eventId = 100L;
-        User user = User.builder().userId(userId).build();
-        Event event = Event.builder().eventId(eventId).likeCount(1L).build();
-        EventLike existingLike = EventLike.builder().event(event).user(user).build();
-
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(eventRepository.findById(eventId)).willReturn(Optional.of(event));
-        given(eventLikeRepository.findByEventAndUser(event, user)).willReturn(Optional.of(existingLike));
+        given(likeEngine.toggle(LikeEngine.Target.EVENT, eventId, userId))
+                .willReturn(new LikeEngine.Result(false, true, 0L));
 
         // when
         EventlikeResponse response = eventLikeService.toggleLike(userId, eventId);
@@ -77,6 +52,5 @@ class EventLikeServiceTest {
         // then
         assertThat(response.isLiked()).isFalse();
         assertThat(response.likeCount()).isEqualTo(0L);
-        verify(eventLikeRepository, times(1)).delete(existingLike);
     }
-}
\ No newline at end of file
+}
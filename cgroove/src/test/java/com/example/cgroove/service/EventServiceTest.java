@@ -1,28 +1,33 @@
 package com.example.cgroove.service;
 
+import com.example.cgroove.dto.CursorPage;
+import com.example.cgroove.dto.PageCursor;
 import com.example.cgroove.dto.event.EventCreateRequest;
 import com.example.cgroove.dto.event.EventResponse;
+import com.example.cgroove.dto.event.EventSummary;
 import com.example.cgroove.dto.event.EventUpdateRequest;
 import com.example.cgroove.entity.Event;
 import com.example.cgroove.entity.User;
 import com.example.cgroove.enums.EventJoinStatus;
 import com.example.cgroove.enums.EventType;
 import com.example.cgroove.enums.Scope;
+import com.example.cgroove.enums.ViewTarget;
 import com.example.cgroove.exception.InvalidRequestException;
 import com.example.cgroove.repository.EventJoinRepository;
-import com.example.cgroove.repository.EventLikeRepository;
 import com.example.cgroove.repository.EventRepository;
 import com.example.cgroove.repository.UserRepository;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -43,7 +48,7 @@ class EventServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
-    private EventLikeRepository eventLikeRepository;
+    private LikedSetCache likedSetCache;
     @Mock
     private ClubAuthService clubAuthService;
     @Mock
@@ -51,6 +56,14 @@ class EventServiceTest {
     @Mock
     private EventJoinRepository eventJoinRepository;
     @Mock
+    private EventCapacityLedger capacityLedger;
+    @Mock
+    private EventJoinService eventJoinService;
+    @Mock
+    private ViewCountBuffer viewCountBuffer;
+    @Mock
+    private ViewerSketches viewerSketches;
+    @Mock
     private EntityManager entityManager;
 
     @Test
@@ -127,7 +140,8 @@ class EventServiceTest {
         Event event = Event.builder().eventId(eventId).scope(Scope.GLOBAL).type(EventType.BATTLE).host(host).build();
 
         given(eventRepository.findById(eventId)).willReturn(Optional.of(event));
-        given(eventLikeRepository.existsByEventEventIdAndUserUserId(eventId, userId)).willReturn(true);
+        given(likedSetCache.isLiked(LikeEngine.Target.EVENT, userId, eventId)).willReturn(true);
+        given(viewCountBuffer.pendingEventViews(eventId)).willReturn(2L);
 
         // when
         EventResponse response = eventService.getEvent(eventId, userId);
@@ -135,7 +149,9 @@ class EventServiceTest {
         // then
         assertThat(response.eventId()).isEqualTo(eventId);
         assertThat(response.isLiked()).isTrue();
-        verify(eventRepository, times(1)).updateViewCount(eventId);
+        assertThat(response.viewCount()).isEqualTo(2L);
+        verify(viewCountBuffer, times(1)).increaseEventView(eventId);
+        verify(viewerSketches).recordView(ViewTarget.EVENT, eventId, userId);
     }
 
     @Test
@@ -144,14 +160,13 @@ class EventServiceTest {
         // given
         Long userId = 1L;
         Long eventId = 100L;
-        User host = User.builder().userId(2L).build();
-        Event event = Event.builder().eventId(eventId).scope(Scope.GLOBAL).type(EventType.BATTLE).host(host).build();
+        EventSummary event = summary(eventId, LocalDateTime.now());
 
         List<Long> myClubIds = List.of(10L);
         given(clubAuthService.findUserClubIds(userId)).willReturn(myClubIds);
         given(eventRepository.findUpcomingEvents(eq(myClubIds), any()))
                 .willReturn(List.of(event));
-        given(eventLikeRepository.findLikedEventIds(any(), eq(userId)))
+        given(likedSetCache.likedAmong(eq(LikeEngine.Target.EVENT), eq(userId), any()))
                 .willReturn(Set.of(eventId));
 
         // when
@@ -167,26 +182,68 @@ class EventServiceTest {
     void getEvents_Success() {
         // given
         Long userId = 1L;
-        Event event1 = Event.builder().eventId(10L).host(User.builder().userId(2L).build())
-                .title("").content("").scope(Scope.GLOBAL).type(EventType.BATTLE).capacity(20L)
-                .startsAt(LocalDateTime.now()).endsAt(LocalDateTime.now().plusHours(1)).build();
-        Event event2 = Event.builder().eventId(20L).host(User.builder().userId(2L).build())
-                .title("").content("").scope(Scope.GLOBAL).type(EventType.BATTLE).capacity(20L)
-                .startsAt(LocalDateTime.now()).endsAt(LocalDateTime.now().plusHours(1)).build();
+        EventSummary event1 = summary(10L, LocalDateTime.now());
+        EventSummary event2 = summary(20L, LocalDateTime.now());
 
         List<Long> myClubIds = List.of(100L);
         given(clubAuthService.findUserClubIds(userId)).willReturn(myClubIds);
-        given(eventRepository.findAllEvents(myClubIds)).willReturn(List.of(event1, event2));
-        given(eventLikeRepository.findLikedEventIds(any(), eq(userId))).willReturn(Set.of(10L));
+        given(eventRepository.findAllEvents(myClubIds, null, CursorPage.DEFAULT_SIZE + 1)).willReturn(List.of(event1, event2));
+        given(likedSetCache.likedAmong(eq(LikeEngine.Target.EVENT), eq(userId), any())).willReturn(Set.of(10L));
 
         // when
-        List<EventResponse> responses = eventService.getEvents(userId);
+        CursorPage<EventResponse> page = eventService.getEvents(userId, null, null);
 
         // then
+        List<EventResponse> responses = page.items();
         assertThat(responses).hasSize(2);
         assertThat(responses.get(0).eventId()).isEqualTo(10L);
         assertThat(responses.get(0).isLiked()).isTrue();
         assertThat(responses.get(1).isLiked()).isFalse();
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("전체 행사 조회 - 태그 / 이미지 / 댓글 수를 일괄 조회 결과로 채움")
+    void getEvents_FillsTagsImagesAndCommentCount() {
+        // given
+        EventSummary event = summary(10L, LocalDateTime.now());
+
+        given(clubAuthService.findUserClubIds(null)).willReturn(List.of());
+        given(eventRepository.findAllEvents(List.of(), null, CursorPage.DEFAULT_SIZE + 1)).willReturn(List.of(event));
+        given(eventRepository.findTagsByEventIds(List.of(10L))).willReturn(Map.of(10L, List.of("battle")));
+        given(eventRepository.findImagesByEventIds(List.of(10L))).willReturn(Map.of(10L, List.of("a.png", "b.png")));
+
+        // when
+        CursorPage<EventResponse> page = eventService.getEvents(null, null, null);
+
+        // then
+        EventResponse response = page.items().getFirst();
+        assertThat(response.tags()).containsExactly("battle");
+        assertThat(response.images()).containsExactly("a.png", "b.png");
+        assertThat(response.commentCount()).isEqualTo(2);
+        assertThat(response.currentParticipants()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("전체 행사 조회 - 요청 크기보다 많으면 다음 페이지 커서 반환")
+    void getEvents_HasNextPage() {
+        // given
+        Long userId = 1L;
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        EventSummary event1 = summary(20L, createdAt);
+        EventSummary event2 = summary(10L, createdAt.minusMinutes(1));
+
+        given(clubAuthService.findUserClubIds(userId)).willReturn(List.of());
+        given(eventRepository.findAllEvents(List.of(), null, 2)).willReturn(List.of(event1, event2));
+
+        // when
+        CursorPage<EventResponse> page = eventService.getEvents(userId, null, 1);
+
+        // then
+        assertThat(page.items()).hasSize(1);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(PageCursor.decode(page.nextCursor())).isEqualTo(new PageCursor(createdAt, 20L));
     }
 
     @Test
@@ -203,6 +260,7 @@ class EventServiceTest {
                 .type(EventType.WORKSHOP)
                 .title("Old Title")
                 .content("Old Content")
+                .capacity(50L)
                 .build();
 
         Event event = spy(realEvent);
@@ -211,19 +269,26 @@ class EventServiceTest {
         given(event.getEventId()).willReturn(eventId);
 
         given(eventRepository.findById(eventId)).willReturn(Optional.of(event));
+        given(eventRepository.findConfirmedCount(eventId)).willReturn(3L);
 
         EventUpdateRequest request = new EventUpdateRequest(
                 "New Title", "New Content", null, null, null, null, null, null, 100L, null, null
         );
 
         // when
-        eventService.updateEvent(userId, eventId, request);
+        EventResponse response = eventService.updateEvent(userId, eventId, request);
 
         // then
+        assertThat(response.currentParticipants()).isEqualTo(3L);
         verify(event).updateEvent(
                 eq("New Title"), eq("New Content"), any(), any(), any(), any(), eq(100L), any(), any()
         );
         verify(fileStorageService).processImageUpdate(eq(event), any(), any());
+        InOrder inOrder = inOrder(entityManager, eventJoinService, eventRepository);
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(eventJoinService).fillFromWaitlist(eventId);
+        inOrder.verify(eventRepository).findConfirmedCount(eventId);
+        verify(capacityLedger).reconcile(eventId);
     }
 
     @Test
@@ -266,6 +331,7 @@ class EventServiceTest {
         // then
         verify(event).delete();
         verify(eventJoinRepository).softDeleteByEventId(eventId, EventJoinStatus.CANCELED);
+        verify(capacityLedger).evict(eventId);
         verify(entityManager).flush();
         verify(entityManager).clear();
     }
@@ -289,29 +355,9 @@ class EventServiceTest {
         );
     }
 
-    @Test
-    @DisplayName("유저 탈퇴 시 주최한 행사 Soft Delete")
-    void softDeleteByUserId() {
-        // given
-        Long userId = 1L;
-
-        // when
-        eventService.softDeleteByUserId(userId);
-
-        // then
-        verify(eventRepository).softDeleteByUserId(userId);
-    }
-
-    @Test
-    @DisplayName("클럽 삭제 시 연관된 행사 Soft Delete")
-    void softDeleteByClubId() {
-        // given
-        Long clubId = 10L;
-
-        // when
-        eventService.softDeleteByClubId(clubId);
-
-        // then
-        verify(eventRepository).softDeleteByClubId(clubId);
+    private EventSummary summary(Long eventId, LocalDateTime createdAt) {
+        return new EventSummary(eventId, 2L, "host", null, Scope.GLOBAL, null, null, EventType.BATTLE,
+                "title", "content", null, null, null, 20L, 5L,
+                LocalDateTime.now(), LocalDateTime.now().plusHours(1), 0L, 0L, 2L, createdAt, createdAt);
     }
-}
\ No newline at end of file
+}
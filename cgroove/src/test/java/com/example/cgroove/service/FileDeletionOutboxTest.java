@@ -0,0 +1,50 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.config.JpaConfig;
+import com.example.cgroove.config.QueryDslConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({QueryDslConfig.class, JpaConfig.class})
+class FileDeletionOutboxTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private FileDeletionOutbox fileDeletionOutbox;
+
+    @BeforeEach
+    void setUp() {
+        fileDeletionOutbox = new FileDeletionOutbox(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("삭제 요청 기록/재시도/완료")
+    void enqueueRetryComplete() {
+        // given
+        fileDeletionOutbox.enqueue("/uploads/a.jpg");
+        fileDeletionOutbox.enqueue("/uploads/b.jpg");
+        List<FileDeletionOutbox.Pending> pending = fileDeletionOutbox.pending(0L, 10);
+
+        // when
+        fileDeletionOutbox.retryLater(pending.get(0).deletionId());
+        fileDeletionOutbox.complete(pending.get(1).deletionId());
+
+        // then
+        assertThat(pending).extracting(FileDeletionOutbox.Pending::filePath).containsExactly("/uploads/a.jpg", "/uploads/b.jpg");
+        List<FileDeletionOutbox.Pending> remaining = fileDeletionOutbox.pending(0L, 10);
+        assertThat(remaining).hasSize(1);
+        assertThat(remaining.get(0).attempts()).isEqualTo(1);
+        assertThat(fileDeletionOutbox.pending(remaining.get(0).deletionId(), 10)).isEmpty();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.cgroove.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FileDeletionWorkerTest {
+
+    private FileDeletionWorker fileDeletionWorker;
+
+    @Mock
+    private FileDeletionOutbox fileDeletionOutbox;
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @BeforeEach
+    void setUp() {
+        fileDeletionWorker = new FileDeletionWorker(fileDeletionOutbox, fileStorageService, 2, 3);
+    }
+
+    @Test
+    @DisplayName("삭제 요청 처리 - 성공한 요청은 outbox 에서 제거하고 다음 묶음 조회")
+    void drain_Success() throws IOException {
+        // given
+        given(fileDeletionOutbox.pending(0L, 2)).willReturn(List.of(
+                new FileDeletionOutbox.Pending(1L, "/uploads/a.jpg", 0),
+                new FileDeletionOutbox.Pending(2L, "/uploads/b.jpg", 0)));
+        given(fileDeletionOutbox.pending(2L, 2)).willReturn(List.of(
+                new FileDeletionOutbox.Pending(3L, "/uploads/c.jpg", 0)));
+
+        // when
+        fileDeletionWorker.drain();
+
+        // then
+        verify(fileStorageService).deleteStoredFile("/uploads/c.jpg", 3L);
+        verify(fileDeletionOutbox).complete(1L);
+        verify(fileDeletionOutbox).complete(2L);
+        verify(fileDeletionOutbox).complete(3L);
+    }
+
+    @Test
+    @DisplayName("삭제 실패 - 한도 전에는 재시도로 남기고, 한도에 도달하면 포기")
+    void drain_Failure() throws IOException {
+        // given
+        given(fileDeletionOutbox.pending(eq(0L), anyInt())).willReturn(List.of(
+                new FileDeletionOutbox.Pending(1L, "/uploads/locked.jpg", 0),
+                new FileDeletionOutbox.Pending(2L, "/uploads/stuck.jpg", 2)));
+        given(fileDeletionOutbox.pending(eq(2L), anyInt())).willReturn(List.of());
+        willThrow(new IOException("busy")).given(fileStorageService).deleteStoredFile("/uploads/locked.jpg", 1L);
+        willThrow(new IOException("busy")).given(fileStorageService).deleteStoredFile("/uploads/stuck.jpg", 2L);
+
+        // when
+        fileDeletionWorker.drain();
+
+        // then
+        verify(fileDeletionOutbox).retryLater(1L);
+        verify(fileDeletionOutbox, never()).complete(1L);
+        verify(fileDeletionOutbox).complete(2L);
+    }
+}
@@ -10,16 +10,26 @@ import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class FileStorageServiceTest {
@@ -28,6 +38,12 @@ class FileStorageServiceTest {
 
     @Mock
     private FileProperties fileProperties;
+    @Mock
+    private ImageVariantGenerator imageVariantGenerator;
+    @Mock
+    private ImageBlobRefs imageBlobRefs;
+    @Mock
+    private FileDeletionOutbox fileDeletionOutbox;
 
     @TempDir
     Path tempDir;
@@ -35,7 +51,20 @@ class FileStorageServiceTest {
     @BeforeEach
     void setUp() {
         lenient().when(fileProperties.getUploadDir()).thenReturn(tempDir.toString());
-        fileStorageService = new FileStorageService(fileProperties);
+        lenient().when(fileProperties.getBlobDir()).thenReturn("blobs");
+        fileStorageService = new FileStorageService(fileProperties, imageVariantGenerator, imageBlobRefs, fileDeletionOutbox);
+    }
+
+    private static final String BLOB_PATH = "/uploads/blobs/[0-9a-f]{2}/[0-9a-f]{2}/[0-9a-f]{64}\\.(jpg|png)";
+
+    private List<Path> storedFiles() throws IOException {
+        Path blobRoot = tempDir.resolve("blobs");
+        if (Files.notExists(blobRoot)) {
+            return List.of();
+        }
+        try (Stream<Path> paths = Files.walk(blobRoot)) {
+            return paths.filter(Files::isRegularFile).toList();
+        }
     }
 
     static class FakeEntity implements com.example.cgroove.entity.ImageHolder {
@@ -55,7 +84,44 @@ class FileStorageServiceTest {
 
         String savedPath = fileStorageService.saveImage(file, ImageType.POST);
 
-        assertThat(savedPath).contains(filename);
+        assertThat(savedPath).matches(BLOB_PATH);
+        verify(imageBlobRefs).acquire(savedPath.substring(savedPath.lastIndexOf('/') + 1), 7L);
+    }
+
+    @Test
+    @DisplayName("같은 내용 재업로드 - 파일은 하나만 저장하고 참조 수만 증가")
+    void saveImage_Duplicate_Deduplicated() throws IOException {
+        // given
+        MockMultipartFile flyer = new MockMultipartFile("image", "flyer.png", "image/png", "same flyer".getBytes());
+        MockMultipartFile again = new MockMultipartFile("image", "copy.png", "image/png", "same flyer".getBytes());
+
+        // when
+        String first = fileStorageService.saveImage(flyer, ImageType.POST);
+        Path blob = tempDir.resolve(first.substring("/uploads/".length()));
+        Files.createFile(blob.resolveSibling(blob.getFileName() + "_w320.jpg"));
+        String second = fileStorageService.saveImage(again, ImageType.CLUB);
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(storedFiles()).hasSize(2);
+        verify(imageBlobRefs, times(2)).acquire(any(), anyLong());
+        verify(imageVariantGenerator, times(1)).submit(any());
+    }
+
+    @Test
+    @DisplayName("같은 내용 재업로드 - 이전 리사이즈가 끝나지 않았으면 다시 요청")
+    void saveImage_Duplicate_RetriesMissingVariants() throws IOException {
+        // given
+        MockMultipartFile flyer = new MockMultipartFile("image", "flyer.png", "image/png", "same flyer".getBytes());
+        MockMultipartFile again = new MockMultipartFile("image", "copy.png", "image/png", "same flyer".getBytes());
+
+        // when
+        String first = fileStorageService.saveImage(flyer, ImageType.POST);
+        fileStorageService.saveImage(again, ImageType.POST);
+
+        // then
+        Path blob = tempDir.resolve(first.substring("/uploads/".length()));
+        verify(imageVariantGenerator, times(2)).submit(blob);
     }
 
     @Test
@@ -82,7 +148,72 @@ class FileStorageServiceTest {
     }
 
     @Test
-    @DisplayName("이미지 업데이트 - 기존 이미지 삭제 및 새 목록 반영")
+    @DisplayName("여러 이미지 동시 저장 - 요청 순서대로 경로 반환")
+    void saveImages_Success() throws IOException {
+        // given
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            files.add(new MockMultipartFile("images", "img" + i + ".jpg", "image/jpeg", ("content" + i).getBytes()));
+        }
+
+        // when
+        List<String> savedPaths = fileStorageService.saveImages(files, ImageType.POST);
+
+        // then
+        assertThat(savedPaths).hasSize(10);
+        for (int i = 0; i < 10; i++) {
+            assertThat(savedPaths.get(i)).matches(BLOB_PATH);
+            Path saved = tempDir.resolve(savedPaths.get(i).substring("/uploads/".length()));
+            assertThat(Files.readString(saved)).isEqualTo("content" + i);
+            verify(imageVariantGenerator).submit(saved);
+        }
+    }
+
+    @Test
+    @DisplayName("여러 이미지 저장 실패 - 한 장이라도 실패하면 먼저 저장된 파일까지 삭제")
+    void saveImages_Fail_CleansUp() throws IOException {
+        // given
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            files.add(new MockMultipartFile("images", "img" + i + ".jpg", "image/jpeg", "content".getBytes()));
+        }
+        files.add(new MockMultipartFile("images", "broken.jpg", "image/jpeg", "content".getBytes()) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                throw new IOException("stream closed");
+            }
+        });
+
+        // when
+        assertThrows(RuntimeException.class, () -> fileStorageService.saveImages(files, ImageType.POST));
+
+        // then
+        verify(imageVariantGenerator, never()).submit(any());
+        assertThat(storedFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 이미지 저장 실패 - 빈 파일이 섞이면 아무것도 저장하지 않음")
+    void saveImages_Fail_EmptyPart() {
+        // given
+        List<MultipartFile> files = List.of(
+                new MockMultipartFile("images", "img.jpg", "image/jpeg", "content".getBytes()),
+                new MockMultipartFile("images", new byte[0]));
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> fileStorageService.saveImages(files, ImageType.POST));
+        assertThat(Files.exists(tempDir.resolve("blobs"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("여러 이미지 저장 - 이미지가 없으면 빈 목록")
+    void saveImages_NoImages() {
+        assertThat(fileStorageService.saveImages(null, ImageType.POST)).isEmpty();
+        assertThat(fileStorageService.saveImages(List.of(), ImageType.POST)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미지 업데이트 - 빠진 기존 이미지는 삭제 요청만 기록하고 새 목록 반영")
     void processImageUpdate_Success() throws IOException {
         // given - /uploads/posts/old.jpg 형식의 경로를 사용
         Path postsDir = tempDir.resolve("posts");
@@ -98,11 +229,65 @@ class FileStorageServiceTest {
         // when
         fileStorageService.processImageUpdate(entity, newImages, keepImages);
 
-        // then
-        assertThat(Files.exists(oldFile)).isFalse();
+        // then - 실제 삭제는 커밋 후 처리
+        verify(fileDeletionOutbox).enqueue(oldPath);
+        assertThat(Files.exists(oldFile)).isTrue();
         assertThat(entity.getImages()).isEmpty();
     }
 
+    @Test
+    @DisplayName("삭제 요청 재처리 - 이미 참조를 해제한 요청이면 blob 파일 유지")
+    void deleteStoredFile_DeletionRequestAlreadyApplied_KeepsBlob() throws IOException {
+        // given
+        String path = fileStorageService.saveImage(
+                new MockMultipartFile("image", "flyer.jpg", "image/jpeg", "flyer".getBytes()), ImageType.EVENT);
+        String blobKey = path.substring(path.lastIndexOf('/') + 1);
+        Path blob = tempDir.resolve(path.substring("/uploads/".length()));
+        given(imageBlobRefs.release(blobKey, 7L)).willReturn(ImageBlobRefs.ALREADY_RELEASED);
+
+        // when
+        fileStorageService.deleteStoredFile(path, 7L);
+
+        // then
+        assertThat(Files.exists(blob)).isTrue();
+        verify(imageBlobRefs, never()).release(blobKey);
+    }
+
+    @Test
+    @DisplayName("blob 삭제 - 다른 곳에서 참조 중이면 파일 유지, 마지막 참조가 사라지면 리사이즈본까지 삭제")
+    void deleteFile_Blob_RefCounted() throws IOException {
+        // given
+        String path = fileStorageService.saveImage(
+                new MockMultipartFile("image", "flyer.jpg", "image/jpeg", "flyer".getBytes()), ImageType.EVENT);
+        String blobKey = path.substring(path.lastIndexOf('/') + 1);
+        Path blob = tempDir.resolve(path.substring("/uploads/".length()));
+        Path variant = Files.createFile(blob.resolveSibling(blobKey + "_w320.jpg"));
+        given(imageBlobRefs.release(blobKey)).willReturn(1L, 0L);
+
+        // when & then
+        fileStorageService.deleteStoredFile(path);
+        assertThat(Files.exists(blob)).isTrue();
+
+        fileStorageService.deleteStoredFile(path);
+        assertThat(Files.exists(blob)).isFalse();
+        assertThat(Files.exists(variant)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미지 업데이트 - 현재 이미지에 없는 유지 경로는 무시")
+    void processImageUpdate_IgnoresForeignKeepPath() {
+        // given
+        String ownPath = "/uploads/blobs/aa/bb/own.jpg";
+        String foreignPath = "/uploads/blobs/cc/dd/other.jpg";
+        FakeEntity entity = new FakeEntity(List.of(ownPath));
+
+        // when
+        fileStorageService.processImageUpdate(entity, List.of(), List.of(ownPath, foreignPath));
+
+        // then
+        assertThat(entity.getImages()).containsExactly(ownPath);
+    }
+
     @Test
     @DisplayName("이미지 업데이트 - 유지 목록이 Null이면 기존 이미지 보존하고 새 이미지 추가")
     void processImageUpdate_NullKeepImages() {
@@ -142,9 +327,24 @@ class FileStorageServiceTest {
         assertThat(entity.getImages()).contains("new1.jpg", "new2.jpg");
     }
 
+    @Test
+    @DisplayName("파일 삭제 요청 - 트랜잭션 안에서는 기록만 하고 파일은 유지")
+    void deleteFile_Enqueued() throws IOException {
+        // given
+        Path usersDir = Files.createDirectories(tempDir.resolve("users"));
+        Path filePath = Files.createFile(usersDir.resolve("keep_until_commit.jpg"));
+
+        // when
+        fileStorageService.deleteFile("/uploads/users/keep_until_commit.jpg");
+
+        // then
+        verify(fileDeletionOutbox).enqueue("/uploads/users/keep_until_commit.jpg");
+        assertThat(Files.exists(filePath)).isTrue();
+    }
+
     @Test
     @DisplayName("파일 삭제 성공")
-    void deleteFile_Success() throws IOException {
+    void deleteStoredFile_Success() throws IOException {
         // given - /uploads/users/delete_me.jpg 형식의 경로를 전달하면
         // tempDir/users/delete_me.jpg 에서 파일을 삭제해야 함
         Path usersDir = tempDir.resolve("users");
@@ -155,20 +355,39 @@ class FileStorageServiceTest {
         assertThat(Files.exists(filePath)).isTrue();
 
         // when - /uploads/users/delete_me.jpg 형식으로 호출
-        fileStorageService.deleteFile("/uploads/users/delete_me.jpg");
+        fileStorageService.deleteStoredFile("/uploads/users/delete_me.jpg");
 
         // then
         assertThat(Files.exists(filePath)).isFalse();
     }
 
+    @Test
+    @DisplayName("파일 삭제 - 리사이즈 이미지도 함께 삭제")
+    void deleteStoredFile_WithVariants() throws IOException {
+        // given
+        Path postsDir = tempDir.resolve("posts");
+        Files.createDirectories(postsDir);
+        Path original = Files.createFile(postsDir.resolve("photo.png"));
+        Path small = Files.createFile(postsDir.resolve("photo.png_w320.jpg"));
+        Path large = Files.createFile(postsDir.resolve("photo.png_w1280.jpg"));
+
+        // when
+        fileStorageService.deleteStoredFile("/uploads/posts/photo.png");
+
+        // then
+        assertThat(Files.exists(original)).isFalse();
+        assertThat(Files.exists(small)).isFalse();
+        assertThat(Files.exists(large)).isFalse();
+    }
+
     @Test
     @DisplayName("파일 삭제 - 파일이 존재하지 않아도 에러 안 남")
-    void deleteFile_NotExists() {
+    void deleteStoredFile_NotExists() throws IOException {
         // given
         String nonExistentPath = "/path/to/nothing.jpg";
 
         // when & then
-        fileStorageService.deleteFile(nonExistentPath);
+        fileStorageService.deleteStoredFile(nonExistentPath);
     }
 
     @Test
@@ -177,5 +396,25 @@ class FileStorageServiceTest {
         // when & then
         fileStorageService.deleteFile(null);
         fileStorageService.deleteFile("");
+        verify(fileDeletionOutbox, never()).enqueue(any());
+    }
+
+    @Test
+    @DisplayName("고아 blob 회수 - 최근 다시 참조된 blob 은 건너뛰고 나머지는 용량만큼 회수")
+    void reclaimOrphan_Blob() throws IOException {
+        // given
+        String path = fileStorageService.saveImage(
+                new MockMultipartFile("image", "flyer.jpg", "image/jpeg", "flyer".getBytes()), ImageType.POST);
+        String blobKey = path.substring(path.lastIndexOf('/') + 1);
+        Path blob = fileStorageService.resolveStoredPath(path);
+        LocalDateTime since = LocalDateTime.now().minusHours(1);
+        given(imageBlobRefs.forgetIfIdleSince(blobKey, since)).willReturn(false, true);
+
+        // when & then
+        assertThat(fileStorageService.reclaimOrphan(blob, since)).isEqualTo(-1L);
+        assertThat(Files.exists(blob)).isTrue();
+
+        assertThat(fileStorageService.reclaimOrphan(blob, since)).isEqualTo(5L);
+        assertThat(Files.exists(blob)).isFalse();
     }
 }
\ No newline at end of file
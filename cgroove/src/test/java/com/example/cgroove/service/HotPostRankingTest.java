@@ -0,0 +1,151 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.dto.post.HotPostSeed;
+import com.example.cgroove.entity.Post;
+import com.example.cgroove.entity.User;
+import com.example.cgroove.enums.Scope;
+import com.example.cgroove.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class HotPostRankingTest {
+
+    @InjectMocks
+    private HotPostRanking hotPostRanking;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Test
+    @DisplayName("좋아요/댓글/조회 가중치 합산 순으로 정렬")
+    void record_RanksByWeightedScore() {
+        // given
+        Instant now = Instant.now();
+        Post liked = globalPost(1L, LocalDateTime.now().minusHours(1));
+        Post viewed = globalPost(2L, LocalDateTime.now().minusHours(1));
+        Post commented = globalPost(3L, LocalDateTime.now().minusHours(1));
+
+        // when
+        hotPostRanking.record(liked, HotPostRanking.LIKE_WEIGHT, now);
+        hotPostRanking.record(viewed, HotPostRanking.VIEW_WEIGHT, now);
+        hotPostRanking.record(commented, HotPostRanking.COMMENT_WEIGHT, now);
+
+        // then
+        assertThat(hotPostRanking.topPostIds(10)).containsExactly(1L, 3L, 2L);
+    }
+
+    @Test
+    @DisplayName("같은 가중치라도 최근 이벤트가 더 높은 점수")
+    void record_RecentEventsOutrankOlderOnes() {
+        // given
+        Instant now = Instant.now();
+        Post older = globalPost(1L, LocalDateTime.now().minusDays(3));
+        Post newer = globalPost(2L, LocalDateTime.now().minusDays(3));
+
+        // when
+        hotPostRanking.record(older, HotPostRanking.LIKE_WEIGHT * 2, now.minus(Duration.ofDays(2)));
+        hotPostRanking.record(newer, HotPostRanking.LIKE_WEIGHT, now);
+
+        // then
+        assertThat(hotPostRanking.topPostIds(10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("클럽 공개 글과 14일이 지난 글은 랭킹에서 제외")
+    void record_IgnoresClubAndExpiredPosts() {
+        // given
+        Instant now = Instant.now();
+        Post clubPost = Post.builder().postId(1L).scope(Scope.CLUB).build();
+        Post expired = globalPost(2L, LocalDateTime.now().minusDays(15));
+
+        // when
+        hotPostRanking.record(clubPost, HotPostRanking.LIKE_WEIGHT, now);
+        hotPostRanking.record(expired, HotPostRanking.LIKE_WEIGHT, now);
+
+        // then
+        assertThat(hotPostRanking.topPostIds(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("좋아요는 후보에 있는 글만 점수 반영")
+    void adjust_OnlyExistingCandidates() {
+        // given
+        Instant now = Instant.now();
+        Post created = globalPost(1L, LocalDateTime.now().minusHours(1));
+        Post other = globalPost(2L, LocalDateTime.now().minusHours(1));
+        hotPostRanking.record(created, HotPostRanking.CREATE_WEIGHT, now);
+        hotPostRanking.record(other, HotPostRanking.CREATE_WEIGHT, now);
+
+        // when
+        hotPostRanking.adjust(2L, HotPostRanking.LIKE_WEIGHT, now);
+        hotPostRanking.adjust(99L, HotPostRanking.LIKE_WEIGHT, now);
+
+        // then
+        assertThat(hotPostRanking.topPostIds(10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("재감쇠 후에도 순위 유지, 기간 지난 글 정리")
+    void redecay_KeepsOrderAndDropsExpired() {
+        // given
+        Instant now = Instant.now();
+        Post agingOut = globalPost(1L, LocalDateTime.now().minusDays(14).plusMinutes(30));
+        Post top = globalPost(2L, LocalDateTime.now().minusHours(2));
+        Post second = globalPost(3L, LocalDateTime.now().minusHours(2));
+        hotPostRanking.record(agingOut, HotPostRanking.LIKE_WEIGHT * 10, now);
+        hotPostRanking.record(top, HotPostRanking.LIKE_WEIGHT * 2, now);
+        hotPostRanking.record(second, HotPostRanking.LIKE_WEIGHT, now);
+
+        // when
+        hotPostRanking.redecay(now.plus(Duration.ofHours(1)));
+
+        // then
+        assertThat(hotPostRanking.topPostIds(10)).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("서버 기동 시 DB 기준 랭킹 재구성")
+    void rebuild_FromDatabase() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.now().minusHours(3);
+        HotPostSeed popular = new HotPostSeed(1L, createdAt, 30L, 0L, 0L);
+        HotPostSeed discussed = new HotPostSeed(2L, createdAt, 0L, 0L, 5L);
+        HotPostSeed quiet = new HotPostSeed(3L, createdAt, 0L, 0L, 0L);
+        given(postRepository.findHotPostSeeds(any(LocalDateTime.class)))
+                .willReturn(List.of(quiet, discussed, popular));
+
+        // when
+        hotPostRanking.rebuild();
+
+        // then
+        assertThat(hotPostRanking.isReady()).isTrue();
+        assertThat(hotPostRanking.topPostIds(10)).containsExactly(1L, 2L, 3L);
+    }
+
+    private Post globalPost(Long postId, LocalDateTime createdAt) {
+        Post post = Post.builder()
+                .postId(postId)
+                .author(User.builder().userId(1L).build())
+                .scope(Scope.GLOBAL)
+                .likeCount(0L)
+                .viewCount(0L)
+                .build();
+        ReflectionTestUtils.setField(post, "createdAt", createdAt);
+        return post;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.cgroove.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("같은 조회자 반복 - 한 명으로 집계")
+    void offer_DuplicatesCountedOnce() {
+        // given
+        HyperLogLog hll = new HyperLogLog();
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            hll.offer(HyperLogLog.hash("user:1"));
+        }
+
+        // then
+        assertThat(hll.estimate()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("고유 조회자 추정 - 소규모/대규모 모두 오차 3% 이내")
+    void estimate_WithinErrorBound() {
+        for (int distinct : new int[]{100, 5_000, 200_000}) {
+            // given
+            HyperLogLog hll = new HyperLogLog();
+
+            // when
+            for (int i = 0; i < distinct; i++) {
+                hll.offer(HyperLogLog.hash("user:" + i));
+                hll.offer(HyperLogLog.hash("user:" + i));
+            }
+
+            // then
+            assertThat((double) hll.estimate()).isCloseTo(distinct, within(distinct * 0.03));
+        }
+    }
+
+    @Test
+    @DisplayName("레지스터 저장 후 복원 - 같은 추정치")
+    void toBytes_RoundTrip() {
+        // given
+        HyperLogLog hll = new HyperLogLog();
+        for (int i = 0; i < 10_000; i++) {
+            hll.offer(HyperLogLog.hash("user:" + i));
+        }
+
+        // when
+        byte[] bytes = hll.toBytes();
+        HyperLogLog restored = HyperLogLog.fromBytes(bytes);
+
+        // then
+        assertThat(bytes).hasSize(HyperLogLog.REGISTERS);
+        assertThat(restored.estimate()).isEqualTo(hll.estimate());
+        assertThat(HyperLogLog.fromBytes(new byte[3]).estimate()).isZero();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.config.JpaConfig;
+import com.example.cgroove.config.QueryDslConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// upsert 문법(ON DUPLICATE KEY) 확인을 위해 MySQL 모드 H2 설정을 그대로 사용
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, JpaConfig.class})
+class ImageBlobRefsTest {
+
+    private static final String BLOB_KEY = "a".repeat(64) + ".jpg";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ImageBlobRefs imageBlobRefs;
+
+    @BeforeEach
+    void setUp() {
+        imageBlobRefs = new ImageBlobRefs(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("참조 증감 - 마지막 참조 해제 시 0 반환 및 행 삭제")
+    void acquireAndRelease() {
+        // given
+        imageBlobRefs.acquire(BLOB_KEY, 100L);
+        imageBlobRefs.acquire(BLOB_KEY, 100L);
+
+        // when & then
+        assertThat(imageBlobRefs.release(BLOB_KEY)).isEqualTo(1L);
+        assertThat(imageBlobRefs.release(BLOB_KEY)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM image_blobs WHERE blob_key = ?", Long.class, BLOB_KEY)).isZero();
+    }
+
+    @Test
+    @DisplayName("삭제 요청으로 해제 - 같은 요청을 다시 처리해도 참조 수는 한 번만 감소")
+    void release_WithDeletionRequest_Idempotent() {
+        // given
+        imageBlobRefs.acquire(BLOB_KEY, 100L);
+        imageBlobRefs.acquire(BLOB_KEY, 100L);
+        FileDeletionOutbox outbox = new FileDeletionOutbox(jdbcTemplate);
+        outbox.enqueue("/uploads/blobs/aa/aa/" + BLOB_KEY);
+        long deletionId = outbox.pending(0L, 10).getFirst().deletionId();
+
+        // when
+        long first = imageBlobRefs.release(BLOB_KEY, deletionId);
+        long retried = imageBlobRefs.release(BLOB_KEY, deletionId);
+
+        // then
+        assertThat(first).isEqualTo(1L);
+        assertThat(retried).isEqualTo(ImageBlobRefs.ALREADY_RELEASED);
+        assertThat(outbox.pending(0L, 10)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT ref_count FROM image_blobs WHERE blob_key = ?", Long.class, BLOB_KEY)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("참조 기록이 없는 blob 해제 - -1 반환")
+    void release_Untracked() {
+        assertThat(imageBlobRefs.release("b".repeat(64))).isEqualTo(-1L);
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.enums.ImageVariant;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageVariantGeneratorTest {
+
+    private ImageVariantGenerator generator;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        generator = new ImageVariantGenerator(new SimpleMeterRegistry(), 1, 4, 0.8f);
+    }
+
+    @AfterEach
+    void tearDown() {
+        generator.shutdown();
+    }
+
+    @Test
+    @DisplayName("리사이즈 생성 - 너비별 JPEG 를 원본 옆에 비율 유지하여 저장")
+    void generate_WritesVariants() throws IOException {
+        // given
+        Path original = writePng("photo.png", 2000, 1000);
+
+        // when
+        generator.generate(original);
+
+        // then
+        for (ImageVariant variant : ImageVariant.values()) {
+            BufferedImage image = ImageIO.read(tempDir.resolve("photo_w" + variant.getWidth() + ".jpg").toFile());
+            assertThat(image.getWidth()).isEqualTo(variant.getWidth());
+            assertThat(image.getHeight()).isEqualTo(variant.getWidth() / 2);
+        }
+    }
+
+    @Test
+    @DisplayName("작은 원본 - 확대하지 않고 원본 크기로 재인코딩")
+    void generate_SmallImage_NoUpscale() throws IOException {
+        // given
+        Path original = writePng("icon.png", 200, 100);
+
+        // when
+        generator.generate(original);
+
+        // then
+        BufferedImage large = ImageIO.read(tempDir.resolve("icon.png_w1280.jpg").toFile());
+        assertThat(large.getWidth()).isEqualTo(200);
+        assertThat(large.getHeight()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 파일 - 리사이즈 건너뜀")
+    void generate_NotAnImage_Skipped() throws IOException {
+        // given
+        Path original = Files.writeString(tempDir.resolve("fake.jpg"), "not an image");
+
+        // when
+        generator.generate(original);
+
+        // then
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files).containsExactly(original);
+        }
+    }
+
+    @Test
+    @DisplayName("리사이즈 경로 - 원본 파일 이름 뒤에 붙여 같은 디렉토리에 위치")
+    void variantPath() {
+        assertThat(ImageVariant.SMALL.pathOf("/uploads/posts/abc_photo.png")).isEqualTo("/uploads/posts/abc_photo.png_w320.jpg");
+        assertThat(ImageVariant.LARGE.pathOf("noext")).isEqualTo("noext_w1280.jpg");
+    }
+
+    @Test
+    @DisplayName("리사이즈 경로에서 원본 경로 복원 - 정의된 너비만 인정")
+    void originalPathOf() {
+        assertThat(ImageVariant.originalPathOf("posts/abc_photo.png_w320.jpg")).isEqualTo("posts/abc_photo.png");
+        assertThat(ImageVariant.originalPathOf("noext_w1280.jpg")).isEqualTo("noext");
+        assertThat(ImageVariant.originalPathOf("posts/abc_photo.png_w333.jpg")).isNull();
+        assertThat(ImageVariant.originalPathOf("posts/abc_photo.png")).isNull();
+    }
+
+    private Path writePng(String name, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < width; x += 10) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, 0xFF336699);
+            }
+        }
+        Path path = tempDir.resolve(name);
+        ImageIO.write(image, "png", path.toFile());
+        return path;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.cgroove.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LikeEngineTest {
+
+    @InjectMocks
+    private LikeEngine likeEngine;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private LikedSetCache likedSetCache;
+
+    @Test
+    @DisplayName("좋아요 중복 요청 - 유니크 제약 위반은 변경 없음으로 처리")
+    void toggle_DuplicateKey_Unchanged() {
+        // given
+        given(jdbcTemplate.queryForList(startsWith("SELECT like_count"), eq(Long.class), anyLong())).willReturn(List.of(5L));
+        given(jdbcTemplate.update(startsWith("DELETE"), anyLong(), anyLong())).willReturn(0);
+        given(jdbcTemplate.update(startsWith("INSERT"), anyLong(), anyLong(), any(Timestamp.class)))
+                .willThrow(new DuplicateKeyException("duplicate"));
+
+        // when
+        LikeEngine.Result result = likeEngine.toggle(LikeEngine.Target.POST, 1L, 2L);
+
+        // then
+        assertThat(result.liked()).isTrue();
+        assertThat(result.changed()).isFalse();
+        assertThat(result.likeCount()).isEqualTo(5L);
+        verify(jdbcTemplate, never()).update(startsWith("UPDATE"), anyInt(), anyLong());
+        verify(likedSetCache, never()).recordToggle(any(), anyLong(), anyLong(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("좋아요 실패 - 중복 외의 제약 위반은 그대로 전파")
+    void toggle_OtherIntegrityViolation_Propagates() {
+        // given
+        given(jdbcTemplate.queryForList(startsWith("SELECT like_count"), eq(Long.class), anyLong())).willReturn(List.of(5L));
+        given(jdbcTemplate.update(startsWith("DELETE"), anyLong(), anyLong())).willReturn(0);
+        given(jdbcTemplate.update(startsWith("INSERT"), anyLong(), anyLong(), any(Timestamp.class)))
+                .willThrow(new DataIntegrityViolationException("foreign key"));
+
+        // when & then
+        assertThrows(DataIntegrityViolationException.class, () -> likeEngine.toggle(LikeEngine.Target.POST, 1L, 2L));
+        verify(likedSetCache, never()).recordToggle(any(), anyLong(), anyLong(), anyBoolean());
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.cgroove.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.util.unit.DataSize;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class LikedSetCacheTest {
+
+    private LikedSetCache likedSetCache;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        likedSetCache = new LikedSetCache(jdbcTemplate, new SimpleMeterRegistry(), DataSize.ofMegabytes(1));
+    }
+
+    @Test
+    @DisplayName("한 페이지의 좋아요 여부 - 사용자당 한 번만 적재 후 비트 검사")
+    void likedAmong_LoadsOnce() throws Exception {
+        // given
+        Long userId = 1L;
+        givenLikedIds(userId, 10L, 30L);
+
+        // when
+        Set<Long> first = likedSetCache.likedAmong(LikeEngine.Target.POST, userId, List.of(10L, 20L, 30L));
+        boolean detail = likedSetCache.isLiked(LikeEngine.Target.POST, userId, 20L);
+
+        // then
+        assertThat(first).containsExactlyInAnyOrder(10L, 30L);
+        assertThat(detail).isFalse();
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowCallbackHandler.class), eq(userId));
+    }
+
+    @Test
+    @DisplayName("비로그인 사용자 - 조회 없이 false")
+    void isLiked_Anonymous() {
+        // when & then
+        assertThat(likedSetCache.isLiked(LikeEngine.Target.EVENT, null, 10L)).isFalse();
+        assertThat(likedSetCache.likedAmong(LikeEngine.Target.EVENT, null, List.of(10L))).isEmpty();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("좋아요 토글 - 적재된 비트맵을 다시 조회하지 않고 갱신")
+    void recordToggle_UpdatesLoadedSet() throws Exception {
+        // given
+        Long userId = 1L;
+        givenLikedIds(userId, 10L);
+        likedSetCache.isLiked(LikeEngine.Target.POST, userId, 10L);
+
+        // when
+        likedSetCache.recordToggle(LikeEngine.Target.POST, userId, 10L, false);
+        likedSetCache.recordToggle(LikeEngine.Target.POST, userId, 20L, true);
+
+        // then
+        assertThat(likedSetCache.isLiked(LikeEngine.Target.POST, userId, 10L)).isFalse();
+        assertThat(likedSetCache.isLiked(LikeEngine.Target.POST, userId, 20L)).isTrue();
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowCallbackHandler.class), eq(userId));
+    }
+
+    private void givenLikedIds(Long userId, long... likedIds) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        willAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (long likedId : likedIds) {
+                given(rs.getLong(1)).willReturn(likedId);
+                handler.processRow(rs);
+            }
+            return null;
+        }).given(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(userId));
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.cgroove.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongBitmapTest {
+
+    @Test
+    @DisplayName("추가 / 삭제 / 포함 여부 - 서로 다른 구간의 값")
+    void addRemoveContains() {
+        // given
+        LongBitmap bitmap = new LongBitmap();
+
+        // when
+        assertThat(bitmap.add(1L)).isTrue();
+        assertThat(bitmap.add(1L)).isFalse();
+        bitmap.add(70_000L);
+        bitmap.add(5_000_000_000L);
+
+        // then
+        assertThat(bitmap.contains(1L)).isTrue();
+        assertThat(bitmap.contains(70_000L)).isTrue();
+        assertThat(bitmap.contains(5_000_000_000L)).isTrue();
+        assertThat(bitmap.contains(2L)).isFalse();
+        assertThat(bitmap.cardinality()).isEqualTo(3);
+
+        assertThat(bitmap.remove(70_000L)).isTrue();
+        assertThat(bitmap.remove(70_000L)).isFalse();
+        assertThat(bitmap.contains(70_000L)).isFalse();
+        assertThat(bitmap.cardinality()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("구간 내 값이 많아지면 비트맵, 다시 줄면 배열로 전환 - 내용 유지")
+    void containerConversion_KeepsValues() {
+        // given
+        LongBitmap bitmap = new LongBitmap();
+        for (long id = 0; id < LongBitmap.ARRAY_MAX + 100; id++) {
+            bitmap.add(id * 2);
+        }
+        long bitmapBytes = bitmap.sizeInBytes();
+
+        // when
+        for (long id = 0; id < 200; id++) {
+            bitmap.remove(id * 2);
+        }
+
+        // then
+        assertThat(bitmap.cardinality()).isEqualTo(LongBitmap.ARRAY_MAX - 100);
+        assertThat(bitmap.contains(398L)).isFalse();
+        assertThat(bitmap.contains(400L)).isTrue();
+        assertThat(bitmap.contains(401L)).isFalse();
+        assertThat(bitmap.sizeInBytes()).isNotEqualTo(bitmapBytes);
+    }
+
+    @Test
+    @DisplayName("무작위 연산 결과가 HashSet 과 동일")
+    void randomOperations_MatchHashSet() {
+        // given
+        LongBitmap bitmap = new LongBitmap();
+        Set<Long> expected = new HashSet<>();
+        Random random = new Random(42);
+
+        // when
+        for (int i = 0; i < 50_000; i++) {
+            long value = random.nextInt(200_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(bitmap.remove(value)).isEqualTo(expected.remove(value));
+            } else {
+                assertThat(bitmap.add(value)).isEqualTo(expected.add(value));
+            }
+        }
+
+        // then
+        assertThat(bitmap.cardinality()).isEqualTo(expected.size());
+        for (long value = 0; value < 200_000; value++) {
+            assertThat(bitmap.contains(value)).isEqualTo(expected.contains(value));
+        }
+    }
+}
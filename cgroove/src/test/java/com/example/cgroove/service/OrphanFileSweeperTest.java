@@ -0,0 +1,109 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.config.FileProperties;
+import com.example.cgroove.config.JpaConfig;
+import com.example.cgroove.config.QueryDslConfig;
+import com.example.cgroove.entity.User;
+import com.example.cgroove.enums.ImageType;
+import com.example.cgroove.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// upsert 문법(ON DUPLICATE KEY) 확인을 위해 MySQL 모드 H2 설정을 그대로 사용
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, JpaConfig.class})
+class OrphanFileSweeperTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private UserRepository userRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private FileStorageService fileStorageService;
+    private SimpleMeterRegistry meterRegistry;
+    private OrphanFileSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        FileProperties fileProperties = new FileProperties();
+        fileProperties.setBaseDir(tempDir.toString());
+        fileStorageService = new FileStorageService(fileProperties, mock(ImageVariantGenerator.class),
+                new ImageBlobRefs(jdbcTemplate), new FileDeletionOutbox(jdbcTemplate));
+        meterRegistry = new SimpleMeterRegistry();
+        sweeper = new OrphanFileSweeper(jdbcTemplate, fileStorageService, meterRegistry, Duration.ofHours(1), 2);
+    }
+
+    @Test
+    @DisplayName("고아 파일 정리 - 참조 파일/리사이즈본/최근 파일은 유지하고 오래된 고아만 회수")
+    void sweep_ReclaimsOldOrphans() throws IOException {
+        // given
+        userRepository.save(User.builder()
+                .email("sweep@email.com")
+                .password("password")
+                .nickname("Sweeper")
+                .profileImage("/uploads/users/live.jpg")
+                .build());
+        Path users = Files.createDirectories(tempDir.resolve("users"));
+        Path live = aged(Files.writeString(users.resolve("live.jpg"), "live"));
+        Path liveVariant = aged(Files.writeString(users.resolve("live.jpg_w320.jpg"), "small"));
+        Path orphan = aged(Files.writeString(users.resolve("orphan.jpg"), "0123456789"));
+        Path orphanVariant = aged(Files.writeString(users.resolve("orphan.jpg_w640.jpg"), "01234"));
+        Path fresh = Files.writeString(users.resolve("fresh.jpg"), "fresh");
+
+        // when
+        sweeper.sweep();
+
+        // then
+        assertThat(live).exists();
+        assertThat(liveVariant).exists();
+        assertThat(fresh).exists();
+        assertThat(orphan).doesNotExist();
+        assertThat(orphanVariant).doesNotExist();
+        assertThat(meterRegistry.get("file.orphan.reclaimed.bytes").counter().count()).isEqualTo(15.0);
+        assertThat(meterRegistry.get("file.orphan.reclaimed.files").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("고아 파일 정리 - 파일이 오래됐어도 최근 중복 업로드로 다시 참조된 blob 은 유지")
+    void sweep_SkipsRecentlyAcquiredBlob() throws IOException {
+        // given - 오래전에 저장된 내용을 방금 다시 업로드 (엔티티 저장 전)
+        String path = fileStorageService.saveImage(
+                new MockMultipartFile("image", "flyer.jpg", "image/jpeg", "flyer".getBytes()), ImageType.POST);
+        Path blob = aged(fileStorageService.resolveStoredPath(path));
+
+        // when
+        sweeper.sweep();
+
+        // then
+        assertThat(blob).exists();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM image_blobs", Long.class)).isEqualTo(1L);
+    }
+
+    private Path aged(Path file) throws IOException {
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+        return file;
+    }
+}
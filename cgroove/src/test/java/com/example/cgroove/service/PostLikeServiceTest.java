@@ -1,12 +1,6 @@
 package com.example.cgroove.service;
 
 import com.example.cgroove.dto.like.PostLikeResponse;
-import com.example.cgroove.entity.Post;
-import com.example.cgroove.entity.PostLike;
-import com.example.cgroove.entity.User;
-import com.example.cgroove.repository.PostLikeRepository;
-import com.example.cgroove.repository.PostRepository;
-import com.example.cgroove.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,12 +8,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
-
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,11 +21,9 @@ class PostLikeServiceTest {
     private PostLikeService postLikeService;
 
     @Mock
-    private UserRepository userRepository;
-    @Mock
-    private PostRepository postRepository;
+    private LikeEngine likeEngine;
     @Mock
-    private PostLikeRepository postLikeRepository;
+    private HotPostRanking hotPostRanking;
 
     @Test
     @DisplayName("좋아요 추가 성공")
@@ -41,20 +31,16 @@ class PostLikeServiceTest {
         // given
         Long userId = 1L;
         Long postId = 100L;
-        User user = User.builder().userId(userId).build();
-        Post post = Post.builder().postId(postId).likeCount(0L).build();
-
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(postRepository.findById(postId)).willReturn(Optional.of(post));
-        given(postLikeRepository.findByPostAndUser(post, user)).willReturn(Optional.empty());
+        given(likeEngine.toggle(LikeEngine.Target.POST, postId, userId))
+                .willReturn(new LikeEngine.Result(true, true, 1L));
 
         // when
         PostLikeResponse response = postLikeService.toggleLike(userId, postId);
 
         // then
         assertThat(response.isLiked()).isTrue();
-        verify(postLikeRepository, times(1)).save(any(PostLike.class));
         assertThat(response.likeCount()).isEqualTo(1L);
+        verify(hotPostRanking).recordLike(postId);
     }
 
     @Test
@@ -63,20 +49,32 @@ class PostLikeServiceTest {
         // given
         Long userId = 1L;
         Long postId = 100L;
-        User user = User.builder().userId(userId).build();
-        Post post = Post.builder().postId(postId).likeCount(1L).build();
-        PostLike existingLike = PostLike.builder().post(post).user(user).build();
-
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(postRepository.findById(postId)).willReturn(Optional.of(post));
-        given(postLikeRepository.findByPostAndUser(post, user)).willReturn(Optional.of(existingLike));
+        given(likeEngine.toggle(LikeEngine.Target.POST, postId, userId))
+                .willReturn(new LikeEngine.Result(false, true, 0L));
 
         // when
         PostLikeResponse response = postLikeService.toggleLike(userId, postId);
 
         // then
         assertThat(response.isLiked()).isFalse();
-        verify(postLikeRepository, times(1)).delete(existingLike);
         assertThat(response.likeCount()).isEqualTo(0L);
+        verify(hotPostRanking).recordUnlike(postId);
+    }
+
+    @Test
+    @DisplayName("중복 요청 - 랭킹 점수 변화 없음")
+    void toggleLike_Duplicate() {
+        // given
+        Long userId = 1L;
+        Long postId = 100L;
+        given(likeEngine.toggle(LikeEngine.Target.POST, postId, userId))
+                .willReturn(new LikeEngine.Result(true, false, 1L));
+
+        // when
+        PostLikeResponse response = postLikeService.toggleLike(userId, postId);
+
+        // then
+        assertThat(response.isLiked()).isTrue();
+        verify(hotPostRanking, never()).recordLike(anyLong());
     }
-}
\ No newline at end of file
+}
@@ -2,15 +2,16 @@ package com.example.cgroove.service;
 
 import com.example.cgroove.dto.post.PostCreateRequest;
 import com.example.cgroove.dto.post.PostResponse;
+import com.example.cgroove.dto.post.PostSummary;
 import com.example.cgroove.dto.post.PostUpdateRequest;
 import com.example.cgroove.entity.Club;
 import com.example.cgroove.entity.Post;
 import com.example.cgroove.entity.User;
 import com.example.cgroove.enums.Scope;
+import com.example.cgroove.enums.ViewTarget;
 import com.example.cgroove.exception.AccessDeniedException;
 import com.example.cgroove.exception.InvalidRequestException;
 import com.example.cgroove.exception.NotFoundException;
-import com.example.cgroove.repository.PostLikeRepository;
 import com.example.cgroove.repository.PostRepository;
 import com.example.cgroove.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -22,9 +23,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -43,11 +47,19 @@ class PostServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
-    private PostLikeRepository postLikeRepository;
+    private LikedSetCache likedSetCache;
     @Mock
     private ClubAuthService clubAuthService;
     @Mock
     private FileStorageService fileStorageService;
+    @Mock
+    private HotPostRanking hotPostRanking;
+    @Mock
+    private ClubTimeline clubTimeline;
+    @Mock
+    private ViewCountBuffer viewCountBuffer;
+    @Mock
+    private ViewerSketches viewerSketches;
 
     @Test
     @DisplayName("게시글 생성 성공 - GLOBAL 범위")
@@ -282,7 +294,9 @@ class PostServiceTest {
                 .build();
 
         given(postRepository.findById(postId)).willReturn(Optional.of(post));
-        given(postLikeRepository.existsByPostPostIdAndUserUserId(postId, userId)).willReturn(false);
+        given(likedSetCache.isLiked(LikeEngine.Target.POST, userId, postId)).willReturn(false);
+        given(viewCountBuffer.pendingPostViews(postId)).willReturn(1L);
+        given(viewerSketches.uniqueViewers(ViewTarget.POST, postId)).willReturn(1L);
 
         // when
         PostResponse response = postService.getPost(postId, userId);
@@ -290,7 +304,10 @@ class PostServiceTest {
         // then
         assertThat(response.postId()).isEqualTo(postId);
         assertThat(response.isLiked()).isFalse();
-        verify(postRepository).updateViewCount(postId);
+        assertThat(response.viewCount()).isEqualTo(1L);
+        assertThat(response.uniqueViewers()).isEqualTo(1L);
+        verify(viewCountBuffer).increasePostView(postId);
+        verify(viewerSketches).recordView(ViewTarget.POST, postId, userId);
     }
 
     @Test
@@ -312,18 +329,12 @@ class PostServiceTest {
         // given
         Long userId = 1L;
         Long postId = 100L;
-        User user = User.builder().userId(userId).build();
-        Post post = Post.builder()
-                .postId(postId)
-                .title("Hot Post")
-                .author(user)
-                .scope(Scope.GLOBAL)
-                .likeCount(50L)
-                .build();
+        PostSummary post = summary(postId, "Hot Post", Scope.GLOBAL);
 
         Pageable pageable = PageRequest.of(0, 10);
+        given(hotPostRanking.isReady()).willReturn(false);
         given(postRepository.findHotPosts(pageable)).willReturn(List.of(post));
-        given(postLikeRepository.findLikedPostIds(List.of(postId), userId)).willReturn(Set.of(postId));
+        given(likedSetCache.likedAmong(LikeEngine.Target.POST, userId, List.of(postId))).willReturn(Set.of(postId));
 
         // when
         List<PostResponse> responses = postService.getHotPosts(userId);
@@ -334,19 +345,59 @@ class PostServiceTest {
         assertThat(responses.getFirst().isLiked()).isTrue();
     }
 
+    @Test
+    @DisplayName("Hot Groove 조회 성공 - 메모리 랭킹 순서 유지, 삭제된 글 제외")
+    void getHotPosts_FromRanking() {
+        // given
+        Long userId = 1L;
+        PostSummary first = summary(200L, "First", Scope.GLOBAL);
+        PostSummary second = summary(100L, "Second", Scope.GLOBAL);
+
+        given(hotPostRanking.isReady()).willReturn(true);
+        given(hotPostRanking.topPostIds(20)).willReturn(List.of(200L, 300L, 100L));
+        given(postRepository.findPostSummaries(List.of(200L, 300L, 100L))).willReturn(List.of(second, first));
+
+        // when
+        List<PostResponse> responses = postService.getHotPosts(userId);
+
+        // then
+        assertThat(responses).extracting(PostResponse::postId).containsExactly(200L, 100L);
+        verify(postRepository, never()).findHotPosts(any());
+        verify(hotPostRanking).remove(300L);
+    }
+
+    @Test
+    @DisplayName("목록 응답 - 태그 / 이미지 / 댓글 수를 일괄 조회 결과로 채움")
+    void getHotPosts_FillsTagsImagesAndCommentCount() {
+        // given
+        PostSummary post = summary(100L, "Hot Post", Scope.GLOBAL);
+
+        given(hotPostRanking.isReady()).willReturn(false);
+        given(postRepository.findHotPosts(any())).willReturn(List.of(post));
+        given(postRepository.findTagsByPostIds(List.of(100L))).willReturn(Map.of(100L, List.of("tag1", "tag2")));
+        given(postRepository.findImagesByPostIds(List.of(100L))).willReturn(Map.of());
+
+        // when
+        List<PostResponse> responses = postService.getHotPosts(null);
+
+        // then
+        PostResponse response = responses.getFirst();
+        assertThat(response.tags()).containsExactly("tag1", "tag2");
+        assertThat(response.images()).isEmpty();
+        assertThat(response.commentCount()).isEqualTo(3);
+        assertThat(response.isLiked()).isFalse();
+    }
+
     @Test
     @DisplayName("내 클럽 소식 조회 성공")
     void getMyClubPosts_Success() {
         // given
         Long userId = 1L;
-        Post post = Post.builder()
-                .postId(10L)
-                .author(User.builder().userId(2L).build())
-                .scope(Scope.CLUB)
-                .build();
+        PostSummary post = summary(10L, "Club Post", Scope.CLUB);
 
-        given(postRepository.findMyClubPosts(eq(userId), any(Pageable.class)))
-                .willReturn(List.of(post));
+        given(clubAuthService.findUserClubIds(userId)).willReturn(List.of(5L));
+        given(clubTimeline.recentPostIds(userId, List.of(5L), 20)).willReturn(List.of(10L));
+        given(postRepository.findPostSummaries(List.of(10L))).willReturn(List.of(post));
 
         // when
         List<PostResponse> responses = postService.getMyClubPosts(userId);
@@ -355,4 +406,54 @@ class PostServiceTest {
         assertThat(responses).hasSize(1);
         assertThat(responses.getFirst().postId()).isEqualTo(10L);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("내 클럽 소식 조회 - 타임라인 순서 유지, 삭제된 글 제외")
+    void getMyClubPosts_KeepsTimelineOrder() {
+        // given
+        Long userId = 1L;
+        PostSummary older = summary(10L, "Older", Scope.CLUB);
+        PostSummary newer = summary(30L, "Newer", Scope.CLUB);
+
+        given(clubAuthService.findUserClubIds(userId)).willReturn(List.of(5L, 6L));
+        given(clubTimeline.recentPostIds(userId, List.of(5L, 6L), 20)).willReturn(List.of(30L, 20L, 10L));
+        given(postRepository.findPostSummaries(List.of(30L, 20L, 10L))).willReturn(List.of(older, newer));
+
+        // when
+        List<PostResponse> responses = postService.getMyClubPosts(userId);
+
+        // then
+        assertThat(responses).extracting(PostResponse::postId).containsExactly(30L, 10L);
+        verify(clubTimeline).removePost(20L);
+    }
+
+    @Test
+    @DisplayName("내 클럽 소식 조회 - 삭제된 글이 섞여 있어도 10개를 채움")
+    void getMyClubPosts_FillsLimitPastStaleEntries() {
+        // given
+        Long userId = 1L;
+        List<Long> timelineIds = LongStream.rangeClosed(1, 20).boxed().toList();
+        List<PostSummary> live = timelineIds.stream()
+                .filter(postId -> postId % 4 != 0)
+                .map(postId -> summary(postId, "Post " + postId, Scope.CLUB))
+                .toList();
+
+        given(clubAuthService.findUserClubIds(userId)).willReturn(List.of(5L));
+        given(clubTimeline.recentPostIds(userId, List.of(5L), 20)).willReturn(timelineIds);
+        given(postRepository.findPostSummaries(timelineIds)).willReturn(live);
+
+        // when
+        List<PostResponse> responses = postService.getMyClubPosts(userId);
+
+        // then
+        assertThat(responses).extracting(PostResponse::postId)
+                .containsExactly(1L, 2L, 3L, 5L, 6L, 7L, 9L, 10L, 11L, 13L);
+        verify(clubTimeline).removePost(4L);
+        verify(clubTimeline).removePost(20L);
+    }
+
+    private PostSummary summary(Long postId, String title, Scope scope) {
+        return new PostSummary(postId, 2L, "author", null, scope, null, null, title, "content",
+                0L, 0L, 3L, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -4,10 +4,11 @@ import com.example.cgroove.dto.user.PasswordUpdateRequest;
 import com.example.cgroove.dto.user.UserResponse;
 import com.example.cgroove.dto.user.UserUpdateRequest;
 import com.example.cgroove.entity.User;
+import com.example.cgroove.enums.DeletionTarget;
 import com.example.cgroove.exception.ConflictException;
 import com.example.cgroove.exception.NotFoundException;
 import com.example.cgroove.repository.UserRepository;
-import jakarta.persistence.EntityManager;
+import com.example.cgroove.security.PrincipalCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -38,15 +39,11 @@ class UserServiceTest {
     @Mock
     private FileStorageService fileStorageService;
     @Mock
-    private PostService postService;
+    private PrincipalCache principalCache;
     @Mock
-    private EventService eventService;
+    private ClubMembershipCache membershipCache;
     @Mock
-    private ClubJoinService clubJoinService;
-    @Mock
-    private EventJoinService eventJoinService;
-    @Mock
-    private EntityManager em;
+    private DeletionJobService deletionJobService;
 
     @Test
     @DisplayName("회원가입 성공")
@@ -117,7 +114,7 @@ class UserServiceTest {
 
         MultipartFile mockFile = mock(MultipartFile.class);
         given(mockFile.isEmpty()).willReturn(false);
-        UserUpdateRequest request = new UserUpdateRequest("NewNick", mockFile);
+        UserUpdateRequest request = new UserUpdateRequest("NewNick");
 
         given(userRepository.existsByNicknameAndUserIdNot("NewNick", userId)).willReturn(false);
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
@@ -125,12 +122,13 @@ class UserServiceTest {
         given(fileStorageService.saveImage(any(), any())).willReturn("new.jpg");
 
         // when
-        UserResponse response = userService.updateUser(userId, request);
+        UserResponse response = userService.updateUser(userId, request, mockFile);
 
         // then
         verify(fileStorageService).deleteFile("old.jpg");
         assertThat(user.getNickname()).isEqualTo("NewNick");
         assertThat(user.getProfileImage()).isEqualTo("new.jpg");
+        verify(principalCache).invalidate(userId);
     }
 
     @Test
@@ -138,12 +136,12 @@ class UserServiceTest {
     void updateUser_Fail_DuplicateNickname() {
         // given
         Long userId = 1L;
-        UserUpdateRequest request = new UserUpdateRequest("DuplicateNick", null);
+        UserUpdateRequest request = new UserUpdateRequest("DuplicateNick");
 
         given(userRepository.existsByNicknameAndUserIdNot("DuplicateNick", userId)).willReturn(true);
 
         // when & then
-        assertThrows(ConflictException.class, () -> userService.updateUser(userId, request));
+        assertThrows(ConflictException.class, () -> userService.updateUser(userId, request, null));
     }
 
     @Test
@@ -163,10 +161,11 @@ class UserServiceTest {
 
         // then
         assertThat(user.getPassword()).isEqualTo("newHash");
+        verify(principalCache).invalidate(userId);
     }
 
     @Test
-    @DisplayName("회원 탈퇴 성공 - 연관 데이터 삭제 호출 확인")
+    @DisplayName("회원 탈퇴 성공 - 회원만 바로 삭제하고 연관 데이터 정리 작업 등록")
     void deleteUser_Success() {
         // given
         Long userId = 1L;
@@ -178,14 +177,11 @@ class UserServiceTest {
         userService.deleteUser(userId);
 
         // then
+        verify(deletionJobService).start(DeletionTarget.USER, userId, userId);
         verify(fileStorageService).deleteFile("profile.jpg");
-        verify(postService).softDeleteByUserId(userId);
-        verify(eventService).softDeleteByUserId(userId);
-        verify(clubJoinService).softDeleteByUserId(userId);
-        verify(eventJoinService).softDeleteByUserId(userId);
         verify(user).delete();
-        verify(em).flush();
-        verify(em).clear();
+        verify(principalCache).invalidate(userId);
+        verify(membershipCache).invalidate(userId);
     }
 
     @Test
@@ -0,0 +1,165 @@
+package com.example.cgroove.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCountBufferTest {
+
+    private ViewCountBuffer viewCountBuffer;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        viewCountBuffer = new ViewCountBuffer(jdbcTemplate, transactionManager);
+    }
+
+    @Test
+    @DisplayName("동시 조회 수천 건 - 누락 없이 누적")
+    void increase_Concurrent() throws InterruptedException {
+        // given
+        Long postId = 1L;
+        int views = 5000;
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch done = new CountDownLatch(views);
+
+        // when
+        for (int i = 0; i < views; i++) {
+            executor.submit(() -> {
+                viewCountBuffer.increasePostView(postId);
+                done.countDown();
+            });
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // then
+        assertThat(viewCountBuffer.pendingPostViews(postId)).isEqualTo(views);
+        assertThat(viewCountBuffer.pendingEventViews(postId)).isZero();
+    }
+
+    @Test
+    @DisplayName("주기 반영 - id 순으로 한 번의 batch UPDATE, 반영 후 미반영분 0")
+    @SuppressWarnings("unchecked")
+    void flush_BatchUpdate() {
+        // given
+        viewCountBuffer.increasePostView(20L);
+        viewCountBuffer.increasePostView(10L);
+        viewCountBuffer.increasePostView(20L);
+        viewCountBuffer.increaseEventView(5L);
+
+        // when
+        viewCountBuffer.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> postArgs = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE posts"), postArgs.capture());
+        assertThat(postArgs.getValue()).containsExactly(new Object[]{1L, 10L}, new Object[]{2L, 20L});
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE events"), anyList());
+
+        assertThat(viewCountBuffer.pendingPostViews(20L)).isZero();
+        assertThat(viewCountBuffer.pendingEventViews(5L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 실패 - 누적분을 유지하고 다음 주기에 합산해 재시도")
+    @SuppressWarnings("unchecked")
+    void flush_RetryAfterFailure() {
+        // given
+        viewCountBuffer.increasePostView(10L);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willThrow(new QueryTimeoutException("timeout"))
+                .willReturn(new int[]{1});
+
+        // when
+        viewCountBuffer.flush();
+        viewCountBuffer.increasePostView(10L);
+        viewCountBuffer.flush();
+
+        // then
+        assertThat(viewCountBuffer.pendingPostViews(10L)).isZero();
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), args.capture());
+        assertThat(args.getAllValues().getLast()).containsExactly(new Object[]{2L, 10L});
+    }
+
+    @Test
+    @DisplayName("조회와 반영/정리가 겹쳐도 - 정리되는 항목에 들어온 조회수까지 누락 없이 반영")
+    @SuppressWarnings("unchecked")
+    void flush_ConcurrentWithEviction() throws InterruptedException {
+        // given
+        int views = 20000;
+        Map<Long, Long> written = new ConcurrentHashMap<>();
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willAnswer(invocation -> {
+            List<Object[]> args = invocation.getArgument(1);
+            args.forEach(arg -> written.merge((Long) arg[1], (Long) arg[0], Long::sum));
+            return new int[args.size()];
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch done = new CountDownLatch(views);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                viewCountBuffer.flush();
+            }
+        });
+
+        // when
+        flusher.start();
+        for (int i = 0; i < views; i++) {
+            long postId = i % 4;
+            executor.submit(() -> {
+                viewCountBuffer.increasePostView(postId);
+                done.countDown();
+            });
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        running.set(false);
+        flusher.join();
+        viewCountBuffer.flush();
+
+        // then
+        assertThat(written.values().stream().mapToLong(Long::longValue).sum()).isEqualTo(views);
+        assertThat(written).containsOnlyKeys(0L, 1L, 2L, 3L);
+        assertThat(viewCountBuffer.pendingPostViews(0L)).isZero();
+    }
+
+    @Test
+    @DisplayName("조회가 없으면 UPDATE 를 보내지 않음")
+    void flush_NothingPending() {
+        // when
+        viewCountBuffer.flush();
+
+        // then
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
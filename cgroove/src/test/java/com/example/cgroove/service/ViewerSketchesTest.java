@@ -0,0 +1,71 @@
+package com.example.cgroove.service;
+
+import com.example.cgroove.config.JpaConfig;
+import com.example.cgroove.config.QueryDslConfig;
+import com.example.cgroove.enums.ViewTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// upsert 문법(ON DUPLICATE KEY) 확인을 위해 MySQL 모드 H2 설정을 그대로 사용
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, JpaConfig.class})
+class ViewerSketchesTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ViewerSketches viewerSketches;
+
+    @BeforeEach
+    void setUp() {
+        viewerSketches = new ViewerSketches(jdbcTemplate, 100, Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("새로고침 반복 - 고유 조회자는 사용자 수만큼만 증가")
+    void recordView_CountsDistinctUsers() {
+        // when
+        for (int i = 0; i < 5; i++) {
+            viewerSketches.recordView(ViewTarget.POST, 1L, 10L);
+            viewerSketches.recordView(ViewTarget.POST, 1L, 20L);
+        }
+        viewerSketches.recordView(ViewTarget.POST, 1L, null);
+
+        // then
+        assertThat(viewerSketches.uniqueViewers(ViewTarget.POST, 1L)).isEqualTo(2L);
+        assertThat(viewerSketches.uniqueViewers(ViewTarget.EVENT, 1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("주기 저장 후 재기동 - 저장된 스케치에서 이어서 집계")
+    void flush_PersistsAndReloads() {
+        // given
+        viewerSketches.recordView(ViewTarget.EVENT, 7L, 1L);
+        viewerSketches.recordView(ViewTarget.EVENT, 7L, 2L);
+        viewerSketches.flush();
+        viewerSketches.recordView(ViewTarget.EVENT, 7L, 3L);
+        viewerSketches.flush();
+
+        // when
+        ViewerSketches restarted = new ViewerSketches(jdbcTemplate, 100, Duration.ofHours(1));
+        restarted.recordView(ViewTarget.EVENT, 7L, 1L);
+        Map<Long, Long> estimates = restarted.uniqueViewers(ViewTarget.EVENT, List.of(7L, 8L));
+
+        // then
+        assertThat(estimates).containsEntry(7L, 3L).containsEntry(8L, 0L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM viewer_sketches", Long.class)).isEqualTo(1L);
+    }
+}